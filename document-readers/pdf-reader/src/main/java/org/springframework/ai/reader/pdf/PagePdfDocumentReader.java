@@ -16,17 +16,29 @@
 package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
 import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
@@ -56,12 +68,16 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	public static final String METADATA_FILE_NAME = "file_name";
 
-	private final PDDocument document;
-
 	private PdfDocumentReaderConfig config;
 
 	private String resourceFileName;
 
+	/** The PDF file, when the resource is file-backed. */
+	private File pdfFile;
+
+	/** The PDF content, when the resource isn't file-backed. */
+	private byte[] pdfContent;
+
 	public PagePdfDocumentReader(String resourceUrl) {
 		this(new DefaultResourceLoader().getResource(resourceUrl));
 	}
@@ -77,88 +93,260 @@ public class PagePdfDocumentReader implements DocumentReader {
 	public PagePdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 
 		try {
-
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
-
-			this.resourceFileName = pdfResource.getFilename();
 			this.config = config;
+			this.resourceFileName = pdfResource.getFilename();
+
+			if (pdfResource.isFile()) {
+				this.pdfFile = pdfResource.getFile();
+			}
+			else {
+				this.pdfContent = pdfResource.getContentAsByteArray();
+			}
 		}
 		catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Reads all page groups. The PDF document is opened for the read and closed before
+	 * returning.
+	 * @return the page group documents.
+	 */
 	@Override
 	public List<Document> get() {
+		try (PDDocument document = this.openDocument()) {
+			List<Document> readDocuments = new ArrayList<>();
+			this.documentIterator(document).forEachRemaining(readDocuments::add);
+			logger.info("Processing {} pages", document.getDocumentCatalog().getPages().getCount());
+			return readDocuments;
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-		List<Document> readDocuments = new ArrayList<>();
-		try {
-			var pdfTextStripper = new PDFLayoutTextStripperByArea();
-
-			int pageNumber = 0;
-			int pagesPerDocument = 0;
-			int startPageNumber = pageNumber;
+	/**
+	 * Streams the page groups as they are extracted. In the sequential mode every page is
+	 * extracted only when the downstream requests the document that contains it. The PDF
+	 * document is opened on subscription and closed when the stream completes, fails or
+	 * is cancelled.
+	 * @return the stream of page group documents.
+	 */
+	@Override
+	public Flux<Document> stream() {
+		return Flux.using(this::openDocument, document -> Flux.fromIterable(() -> this.documentIterator(document)),
+				this::closeDocument);
+	}
 
-			List<String> pageTextGroupList = new ArrayList<>();
+	private Iterator<Document> documentIterator(PDDocument document) {
+		try {
+			int totalPages = document.getDocumentCatalog().getPages().getCount();
+			if (this.config.parallelism > 1 && totalPages > 1) {
+				String[] pageTexts = this.extractPagesInParallel(totalPages);
+				return new PageGroupIterator(totalPages, pageNumber -> pageTexts[pageNumber]);
+			}
 
-			int totalPages = this.document.getDocumentCatalog().getPages().getCount();
+			var pdfTextStripper = new PDFLayoutTextStripperByArea();
 			int logFrequency = totalPages > 10 ? totalPages / 10 : 1; // if less than 10
 																		// pages, print
 																		// each iteration
-			int counter = 0;
-
-			for (PDPage page : this.document.getDocumentCatalog().getPages()) {
-				if (counter % logFrequency == 0 && counter / logFrequency < 10) {
-					logger.info("Processing PDF page: {}", (counter + 1));
+			return new PageGroupIterator(totalPages, pageNumber -> {
+				if (pageNumber % logFrequency == 0 && pageNumber / logFrequency < 10) {
+					logger.info("Processing PDF page: {}", (pageNumber + 1));
+				}
+				try {
+					return this.extractPage(pdfTextStripper, document.getPage(pageNumber), pageNumber);
+				}
+				catch (IOException e) {
+					throw new RuntimeException(e);
 				}
-				counter++;
+			});
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-				pagesPerDocument++;
+	/**
+	 * Groups the page texts into documents of {@code pagesPerDocument} pages, extracting
+	 * the pages only as the documents are requested.
+	 */
+	private class PageGroupIterator implements Iterator<Document> {
 
-				if (this.config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
-						&& pagesPerDocument >= this.config.pagesPerDocument) {
-					pagesPerDocument = 0;
+		private final int totalPages;
 
-					var aggregatedPageTextGroup = pageTextGroupList.stream().collect(Collectors.joining());
+		private final IntFunction<String> pageTexts;
+
+		private final List<String> pageTextGroupList = new ArrayList<>();
+
+		private int pageNumber = 0;
+
+		private int pagesPerDocument = 0;
+
+		private int startPageNumber = 0;
+
+		private boolean completed = false;
+
+		private Document next;
+
+		PageGroupIterator(int totalPages, IntFunction<String> pageTexts) {
+			this.totalPages = totalPages;
+			this.pageTexts = pageTexts;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null && !this.completed) {
+				this.next = this.advance();
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Document next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document document = this.next;
+			this.next = null;
+			return document;
+		}
+
+		private Document advance() {
+			while (this.pageNumber < this.totalPages) {
+				Document document = null;
+
+				this.pagesPerDocument++;
+
+				if (config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
+						&& this.pagesPerDocument >= config.pagesPerDocument) {
+					this.pagesPerDocument = 0;
+
+					var aggregatedPageTextGroup = this.pageTextGroupList.stream().collect(Collectors.joining());
 					if (StringUtils.hasText(aggregatedPageTextGroup)) {
-						readDocuments.add(toDocument(aggregatedPageTextGroup, startPageNumber, pageNumber));
+						document = toDocument(aggregatedPageTextGroup, this.startPageNumber, this.pageNumber);
 					}
-					pageTextGroupList.clear();
+					this.pageTextGroupList.clear();
 
-					startPageNumber = pageNumber + 1;
+					this.startPageNumber = this.pageNumber + 1;
 				}
-				int x0 = (int) page.getMediaBox().getLowerLeftX();
-				int xW = (int) page.getMediaBox().getWidth();
 
-				int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
-				int yW = (int) page.getMediaBox().getHeight()
-						- (this.config.pageTopMargin + this.config.pageBottomMargin);
+				String pageText = this.pageTexts.apply(this.pageNumber);
+				if (pageText != null) {
+					this.pageTextGroupList.add(pageText);
+				}
+				this.pageNumber++;
 
-				pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
-				pdfTextStripper.extractRegions(page);
-				var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+				if (document != null) {
+					return document;
+				}
+			}
 
-				if (StringUtils.hasText(pageText)) {
+			this.completed = true;
+			if (!CollectionUtils.isEmpty(this.pageTextGroupList)) {
+				return toDocument(this.pageTextGroupList.stream().collect(Collectors.joining()), this.startPageNumber,
+						this.pageNumber);
+			}
+			return null;
+		}
 
-					pageText = this.config.pageExtractedTextFormatter.format(pageText, pageNumber);
+	}
 
-					pageTextGroupList.add(pageText);
-				}
-				pageNumber++;
-				pdfTextStripper.removeRegion(PDF_PAGE_REGION);
+	/**
+	 * Splits the page range into contiguous slices, one per worker. PDFBox documents
+	 * aren't thread-safe, so every worker opens its own document and stripper.
+	 */
+	private String[] extractPagesInParallel(int totalPages) throws IOException {
+		String[] pageTexts = new String[totalPages];
+
+		int workers = Math.min(this.config.parallelism, totalPages);
+		int slice = (totalPages + workers - 1) / workers;
+
+		logger.info("Processing {} PDF pages with {} workers", totalPages, workers);
+
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try {
+			List<Future<?>> futures = new ArrayList<>(workers);
+			for (int from = 0; from < totalPages; from += slice) {
+				int fromPage = from;
+				int toPage = Math.min(from + slice, totalPages);
+				futures.add(executor.submit(() -> {
+					try (PDDocument workerDocument = this.openDocument()) {
+						var pdfTextStripper = new PDFLayoutTextStripperByArea();
+						for (int pageNumber = fromPage; pageNumber < toPage; pageNumber++) {
+							pageTexts[pageNumber] = this.extractPage(pdfTextStripper,
+									workerDocument.getPage(pageNumber), pageNumber);
+						}
+					}
+					return null;
+				}));
 			}
-			if (!CollectionUtils.isEmpty(pageTextGroupList)) {
-				readDocuments.add(toDocument(pageTextGroupList.stream().collect(Collectors.joining()), startPageNumber,
-						pageNumber));
+			for (Future<?> future : futures) {
+				future.get();
 			}
-			logger.info("Processing {} pages", totalPages);
-			return readDocuments;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while extracting the PDF pages", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		return pageTexts;
+	}
+
+	/**
+	 * @return the formatted page text, or null if the page has no text.
+	 */
+	private String extractPage(PDFLayoutTextStripperByArea pdfTextStripper, PDPage page, int pageNumber)
+			throws IOException {
+
+		int x0 = (int) page.getMediaBox().getLowerLeftX();
+		int xW = (int) page.getMediaBox().getWidth();
+
+		int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
+		int yW = (int) page.getMediaBox().getHeight() - (this.config.pageTopMargin + this.config.pageBottomMargin);
+
+		pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
+		pdfTextStripper.extractRegions(page);
+		var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+		pdfTextStripper.removeRegion(PDF_PAGE_REGION);
 
+		if (!StringUtils.hasText(pageText)) {
+			return null;
+		}
+		return this.config.pageExtractedTextFormatter.format(pageText, pageNumber);
+	}
+
+	/**
+	 * Parses a new document over the PDF file or content. Closing the document closes its
+	 * underlying source.
+	 */
+	private PDDocument openDocument() throws IOException {
+		RandomAccessRead source = (this.pdfFile != null) ? new RandomAccessReadBufferedFile(this.pdfFile)
+				: new RandomAccessReadBuffer(this.pdfContent);
+		try {
+			return new PDFParser(source).parse();
+		}
+		catch (IOException | RuntimeException e) {
+			source.close();
+			throw e;
+		}
+	}
+
+	private void closeDocument(PDDocument document) {
+		try {
+			document.close();
 		}
 		catch (IOException e) {
-			throw new RuntimeException(e);
+			logger.warn("Failed to close the PDF document", e);
 		}
 	}
 
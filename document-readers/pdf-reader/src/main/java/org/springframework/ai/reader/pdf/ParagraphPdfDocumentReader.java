@@ -16,21 +16,29 @@
 package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
 import org.springframework.ai.reader.pdf.config.ParagraphManager;
 import org.springframework.ai.reader.pdf.config.ParagraphManager.Paragraph;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
+import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByLine;
+import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByLine.Line;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.util.CollectionUtils;
@@ -69,6 +77,11 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	private String resourceFileName;
 
+	private PDFLayoutTextStripperByLine pageLayoutStripper;
+
+	/** Laid out pages by page index, when the page layout index is enabled. */
+	private final Map<Integer, List<Line>> pageLines = new HashMap<>();
+
 	/**
 	 * Constructs a ParagraphPdfDocumentReader using a resource URL.
 	 * @param resourceUrl The URL of the PDF resource.
@@ -126,33 +139,35 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	 */
 	@Override
 	public List<Document> get() {
+		logger.info("Start processing paragraphs from PDF");
+		List<Document> documents = this.paragraphDocuments().collect(Collectors.toCollection(ArrayList::new));
+		logger.info("End processing paragraphs from PDF");
+		return documents;
+	}
 
-		var paragraphs = this.paragraphTextExtractor.flatten();
-
-		List<Document> documents = new ArrayList<>(paragraphs.size());
+	/**
+	 * Streams the paragraphs, extracting the text of every paragraph only when the
+	 * downstream requests it.
+	 * @return The stream of {@link Document} objects representing paragraphs.
+	 */
+	@Override
+	public Flux<Document> stream() {
+		return Flux.fromStream(this::paragraphDocuments);
+	}
 
-		if (!CollectionUtils.isEmpty(paragraphs)) {
-			logger.info("Start processing paragraphs from PDF");
-			Iterator<Paragraph> itr = paragraphs.iterator();
+	private Stream<Document> paragraphDocuments() {
 
-			var current = itr.next();
+		List<Paragraph> paragraphs = this.paragraphTextExtractor.flatten();
 
-			if (!itr.hasNext()) {
-				documents.add(toDocument(current, current));
-			}
-			else {
-				while (itr.hasNext()) {
-					var next = itr.next();
-					Document document = toDocument(current, next);
-					if (document != null && StringUtils.hasText(document.getContent())) {
-						documents.add(toDocument(current, next));
-					}
-					current = next;
-				}
-			}
+		if (CollectionUtils.isEmpty(paragraphs)) {
+			return Stream.empty();
 		}
-		logger.info("End processing paragraphs from PDF");
-		return documents;
+		if (paragraphs.size() == 1) {
+			return Stream.ofNullable(toDocument(paragraphs.get(0), paragraphs.get(0)));
+		}
+		return IntStream.range(0, paragraphs.size() - 1)
+			.mapToObj(i -> toDocument(paragraphs.get(i), paragraphs.get(i + 1)))
+			.filter(document -> document != null && StringUtils.hasText(document.getContent()));
 	}
 
 	private Document toDocument(Paragraph from, Paragraph to) {
@@ -183,8 +198,16 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 			StringBuilder sb = new StringBuilder();
 
-			var pdfTextStripper = new PDFLayoutTextStripperByArea();
-			pdfTextStripper.setSortByPosition(true);
+			PDFLayoutTextStripperByArea pdfTextStripper = null;
+			if (this.config.pageLayoutIndex) {
+				// The paragraphs are mostly visited in page order, release the pages
+				// that are left behind.
+				this.pageLines.keySet().removeIf(pageNumber -> pageNumber < startPage);
+			}
+			else {
+				pdfTextStripper = new PDFLayoutTextStripperByArea();
+				pdfTextStripper.setSortByPosition(true);
+			}
 
 			for (int pageNumber = startPage; pageNumber <= endPage; pageNumber++) {
 
@@ -221,13 +244,19 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 					yW = yW - this.config.pageTopMargin;
 				}
 
-				pdfTextStripper.addRegion("pdfPageRegion", new Rectangle(x0, y0, xW, yW));
-				pdfTextStripper.extractRegions(page);
-				var text = pdfTextStripper.getTextForRegion("pdfPageRegion");
+				String text;
+				if (this.config.pageLayoutIndex) {
+					text = PDFLayoutTextStripperByLine.slice(this.getPageLines(pageNumber), y0, y0 + yW);
+				}
+				else {
+					pdfTextStripper.addRegion("pdfPageRegion", new Rectangle(x0, y0, xW, yW));
+					pdfTextStripper.extractRegions(page);
+					text = pdfTextStripper.getTextForRegion("pdfPageRegion");
+					pdfTextStripper.removeRegion("pdfPageRegion");
+				}
 				if (StringUtils.hasText(text)) {
 					sb.append(text);
 				}
-				pdfTextStripper.removeRegion("pdfPageRegion");
 
 			}
 
@@ -244,4 +273,19 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Lays out the page once and caches its text lines.
+	 */
+	private List<Line> getPageLines(int pageNumber) throws IOException {
+		List<Line> lines = this.pageLines.get(pageNumber);
+		if (lines == null) {
+			if (this.pageLayoutStripper == null) {
+				this.pageLayoutStripper = new PDFLayoutTextStripperByLine();
+			}
+			lines = this.pageLayoutStripper.extractLines(this.document.getPage(pageNumber));
+			this.pageLines.put(pageNumber, lines);
+		}
+		return lines;
+	}
+
 }
@@ -40,6 +40,10 @@ public class PdfDocumentReaderConfig {
 
 	public final ExtractedTextFormatter pageExtractedTextFormatter;
 
+	public final boolean pageLayoutIndex;
+
+	public final int parallelism;
+
 	/**
 	 * Start building a new configuration.
 	 * @return The entry point for creating a new configuration.
@@ -62,6 +66,8 @@ public class PdfDocumentReaderConfig {
 		this.pageTopMargin = builder.pageTopMargin;
 		this.pageExtractedTextFormatter = builder.pageExtractedTextFormatter;
 		this.reversedParagraphPosition = builder.reversedParagraphPosition;
+		this.pageLayoutIndex = builder.pageLayoutIndex;
+		this.parallelism = builder.parallelism;
 	}
 
 	public static class Builder {
@@ -76,6 +82,10 @@ public class PdfDocumentReaderConfig {
 
 		private boolean reversedParagraphPosition = false;
 
+		private boolean pageLayoutIndex = false;
+
+		private int parallelism = 1;
+
 		private Builder() {
 		}
 
@@ -136,6 +146,33 @@ public class PdfDocumentReaderConfig {
 			return this;
 		}
 
+		/**
+		 * Configures the paragraph reader to lay out every page only once, into text
+		 * lines indexed by their y coordinate, and to slice the paragraphs text from
+		 * those lines. Considerably faster for documents with many paragraphs per page,
+		 * but the lines are assigned to a paragraph as a whole, not character by
+		 * character. Defaults to false.
+		 * @param pageLayoutIndex to use the page layout index or not.
+		 * @return this builder
+		 */
+		public Builder withPageLayoutIndex(boolean pageLayoutIndex) {
+			this.pageLayoutIndex = pageLayoutIndex;
+			return this;
+		}
+
+		/**
+		 * Number of worker threads the page reader splits the page range across. Every
+		 * worker opens its own copy of the PDF document. Defaults to 1, i.e. the pages
+		 * are extracted sequentially.
+		 * @param parallelism the number of worker threads.
+		 * @return this builder
+		 */
+		public Builder withParallelism(int parallelism) {
+			Assert.isTrue(parallelism > 0, "Parallelism must be a positive value.");
+			this.parallelism = parallelism;
+			return this;
+		}
+
 		/**
 		 * {@return the immutable configuration}
 		 */
@@ -29,6 +29,7 @@ package org.springframework.ai.reader.pdf.layout;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -100,13 +101,22 @@ public class ForkPDFLayoutTextStripper extends PDFTextStripper {
 
 	private void writeToOutputStream(final List<TextLine> textLineList) throws IOException {
 		for (TextLine textLine : textLineList) {
-			char[] line = textLine.getLine().toCharArray();
-			super.getOutput().write(line);
-			super.getOutput().write('\n');
-			super.getOutput().flush();
+			this.writeTextLine(textLine.getLine(), textLine.getY());
 		}
 	}
 
+	/**
+	 * Writes a laid out text line of the current page to the output.
+	 * @param line the text line, padded with spaces to the page width.
+	 * @param y the y coordinate of the line's first character, or NaN for a blank line.
+	 * @throws IOException If there is an error writing the text.
+	 */
+	protected void writeTextLine(String line, float y) throws IOException {
+		super.getOutput().write(line);
+		super.getOutput().write('\n');
+		super.getOutput().flush();
+	}
+
 	/*
 	 * In order to get rid of the warning: TextPositionComparator class should implement
 	 * Comparator<TextPosition> instead of Comparator
@@ -120,6 +130,7 @@ public class ForkPDFLayoutTextStripper extends PDFTextStripper {
 	private void writeLine(final List<TextPosition> textPositionList) {
 		if (textPositionList.size() > 0) {
 			TextLine textLine = this.addNewLine();
+			textLine.setY(textPositionList.get(0).getY());
 			boolean firstCharacterOfLineFound = false;
 			for (TextPosition textPosition : textPositionList) {
 				CharacterFactory characterFactory = new CharacterFactory(firstCharacterOfLineFound);
@@ -223,13 +234,15 @@ class TextLine {
 
 	private int lineLength;
 
-	private String line;
+	private final char[] line;
+
+	private float y = Float.NaN;
 
 	private int lastIndex;
 
 	public TextLine(int lineLength) {
-		this.line = "";
 		this.lineLength = lineLength / ForkPDFLayoutTextStripper.OUTPUT_SPACE_CHARACTER_WIDTH_IN_PT;
+		this.line = new char[this.lineLength];
 		this.completeLineWithSpaces();
 	}
 
@@ -237,9 +250,8 @@ class TextLine {
 		character.setIndex(this.computeIndexForCharacter(character));
 		int index = character.getIndex();
 		char characterValue = character.getCharacterValue();
-		if (this.indexIsInBounds(index) && this.line.charAt(index) == SPACE_CHARACTER) {
-			this.line = this.line.substring(0, index) + characterValue
-					+ this.line.substring(index + 1, this.getLineLength());
+		if (this.indexIsInBounds(index) && this.line[index] == SPACE_CHARACTER) {
+			this.line[index] = characterValue;
 		}
 	}
 
@@ -248,7 +260,19 @@ class TextLine {
 	}
 
 	public String getLine() {
-		return line;
+		return new String(this.line);
+	}
+
+	/**
+	 * @return the y coordinate of the first character written in this line, or NaN for a
+	 * blank line.
+	 */
+	public float getY() {
+		return this.y;
+	}
+
+	public void setY(float y) {
+		this.y = y;
 	}
 
 	private int computeIndexForCharacter(final Character character) {
@@ -265,7 +289,7 @@ class TextLine {
 				index = this.findMinimumIndexWithSpaceCharacterFromIndex(index);
 			}
 			else if (isCharacterCloseToPreviousWord) {
-				if (this.line.charAt(index) != SPACE_CHARACTER) {
+				if (this.line[index] != SPACE_CHARACTER) {
 					index = index + 1;
 				}
 				else {
@@ -278,7 +302,7 @@ class TextLine {
 	}
 
 	private boolean isSpaceCharacterAtIndex(int index) {
-		return this.line.charAt(index) != SPACE_CHARACTER;
+		return this.line[index] != SPACE_CHARACTER;
 	}
 
 	private boolean isNewIndexGreaterThanLastIndex(int index) {
@@ -301,7 +325,7 @@ class TextLine {
 
 	private int findMinimumIndexWithSpaceCharacterFromIndex(int index) {
 		int newIndex = index;
-		while (newIndex >= 0 && this.line.charAt(newIndex) == SPACE_CHARACTER) {
+		while (newIndex >= 0 && this.line[newIndex] == SPACE_CHARACTER) {
 			newIndex = newIndex - 1;
 		}
 		return newIndex + 1;
@@ -312,9 +336,7 @@ class TextLine {
 	}
 
 	private void completeLineWithSpaces() {
-		for (int i = 0; i < this.getLineLength(); ++i) {
-			line += SPACE_CHARACTER;
-		}
+		Arrays.fill(this.line, SPACE_CHARACTER);
 	}
 
 	private int getLastIndex() {
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.reader.pdf.layout;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDPage;
+
+/**
+ * Lays out a page once into a list of text lines indexed by their y coordinate, from
+ * which the text of any vertical range of the page can then be sliced without laying the
+ * page out again. Unlike {@link PDFLayoutTextStripperByArea} the characters are not
+ * filtered per region, so the lines are assigned to a range as a whole, by the y
+ * coordinate of their first character.
+ */
+public class PDFLayoutTextStripperByLine extends ForkPDFLayoutTextStripper {
+
+	/**
+	 * A laid out text line.
+	 *
+	 * @param y the y coordinate of the line's first character, in java coordinates (y ==
+	 * 0 is top). NaN for a blank line.
+	 * @param text the text line, padded with spaces to the page width.
+	 */
+	public record Line(float y, String text) {
+
+		public boolean isBlank() {
+			return Float.isNaN(this.y);
+		}
+
+	}
+
+	private List<Line> lines = new ArrayList<>();
+
+	public PDFLayoutTextStripperByLine() throws IOException {
+		super.setShouldSeparateByBeads(false);
+		super.setSortByPosition(true);
+	}
+
+	/**
+	 * Lays out the page into text lines.
+	 * @param page The page to lay out.
+	 * @return The page text lines, top to bottom.
+	 * @throws IOException If there is an error while extracting text.
+	 */
+	public List<Line> extractLines(PDPage page) throws IOException {
+		setStartPage(getCurrentPageNo());
+		setEndPage(getCurrentPageNo());
+		this.lines = new ArrayList<>();
+		if (page.hasContents()) {
+			processPage(page);
+		}
+		return this.lines;
+	}
+
+	/**
+	 * Slices the text of the lines whose y coordinate falls in the {@code [fromY, toY)}
+	 * range. The blank lines in between are kept, the leading and trailing ones are
+	 * dropped.
+	 * @param lines The page text lines, as returned by {@link #extractLines(PDPage)}.
+	 * @param fromY The inclusive start of the range.
+	 * @param toY The exclusive end of the range.
+	 * @return The text of the range, one line per text line.
+	 */
+	public static String slice(List<Line> lines, float fromY, float toY) {
+		int first = -1;
+		int last = -1;
+		for (int i = 0; i < lines.size(); i++) {
+			Line line = lines.get(i);
+			if (!line.isBlank() && line.y() >= fromY && line.y() < toY) {
+				if (first < 0) {
+					first = i;
+				}
+				last = i;
+			}
+		}
+		if (first < 0) {
+			return "";
+		}
+		StringBuilder text = new StringBuilder();
+		for (int i = first; i <= last; i++) {
+			Line line = lines.get(i);
+			if (line.isBlank() || (line.y() >= fromY && line.y() < toY)) {
+				text.append(line.text()).append('\n');
+			}
+		}
+		return text.toString();
+	}
+
+	@Override
+	protected void writeTextLine(String line, float y) {
+		this.lines.add(new Line(y, line));
+	}
+
+}
@@ -16,13 +16,19 @@
 package org.springframework.ai.reader.pdf;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -56,4 +62,51 @@ public class PagePdfDocumentReaderTests {
 				List.of("Page  1 of 4", "Page  2 of 4", "Page  3 of 4", "Page  4 of 4", "PDF  Bookmark   Sample"));
 	}
 
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 3 })
+	public void parallelReadMatchesSequentialRead(int pagesPerDocument) throws Exception {
+		Resource pdf = new DefaultResourceLoader().getResource("classpath:/sample1.pdf");
+		Resource inMemoryPdf = new ByteArrayResource(pdf.getContentAsByteArray());
+
+		List<Document> sequentialDocs = new PagePdfDocumentReader(pdf, config(pagesPerDocument, 1)).get();
+
+		for (Resource resource : List.of(pdf, inMemoryPdf)) {
+			List<Document> parallelDocs = new PagePdfDocumentReader(resource, config(pagesPerDocument, 3)).get();
+
+			assertThat(parallelDocs).hasSameSizeAs(sequentialDocs);
+			for (int i = 0; i < sequentialDocs.size(); i++) {
+				assertThat(parallelDocs.get(i).getContent()).isEqualTo(sequentialDocs.get(i).getContent());
+				assertThat(parallelDocs.get(i).getMetadata()).containsAllEntriesOf(sequentialDocs.get(i)
+					.getMetadata()
+					.entrySet()
+					.stream()
+					.filter(e -> !e.getKey().equals(PagePdfDocumentReader.METADATA_FILE_NAME))
+					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 3 })
+	public void streamPageGroups(int parallelism) {
+		PagePdfDocumentReader pdfReader = new PagePdfDocumentReader("classpath:/sample1.pdf", config(1, parallelism));
+
+		List<Document> docs = pdfReader.get();
+		List<Document> streamedDocs = pdfReader.stream().collectList().block();
+
+		assertThat(streamedDocs).extracting(Document::getContent)
+			.containsExactlyElementsOf(docs.stream().map(Document::getContent).toList());
+		assertThat(streamedDocs).extracting(Document::getMetadata)
+			.containsExactlyElementsOf(docs.stream().map(Document::getMetadata).toList());
+		assertThat(pdfReader.stream().take(1).collectList().block()).extracting(Document::getContent)
+			.containsExactly(docs.get(0).getContent());
+	}
+
+	private static PdfDocumentReaderConfig config(int pagesPerDocument, int parallelism) {
+		return PdfDocumentReaderConfig.builder()
+			.withPagesPerDocument(pagesPerDocument)
+			.withParallelism(parallelism)
+			.build();
+	}
+
 }
@@ -15,11 +15,27 @@
  */
 package org.springframework.ai.reader.pdf;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageXYZDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
@@ -49,4 +65,92 @@ public class ParagraphPdfDocumentReaderTests {
 
 	}
 
+	@Test
+	public void pageLayoutIndexMatchesRegionExtraction() throws IOException {
+		Resource pdf = pdfWithToc();
+
+		List<Document> regionDocuments = new ParagraphPdfDocumentReader(pdf, config(false)).get();
+		List<Document> indexedDocuments = new ParagraphPdfDocumentReader(pdf, config(true)).get();
+
+		assertThat(regionDocuments).hasSize(2);
+		assertThat(indexedDocuments).hasSize(2);
+		for (int i = 0; i < regionDocuments.size(); i++) {
+			assertThat(normalize(indexedDocuments.get(i).getContent()))
+				.isEqualTo(normalize(regionDocuments.get(i).getContent()));
+			assertThat(indexedDocuments.get(i).getMetadata()).isEqualTo(regionDocuments.get(i).getMetadata());
+		}
+		assertThat(new ParagraphPdfDocumentReader(pdf, config(true)).stream().collectList().block())
+			.extracting(Document::getContent)
+			.containsExactlyElementsOf(indexedDocuments.stream().map(Document::getContent).toList());
+		assertThat(normalize(indexedDocuments.get(0).getContent()))
+			.isEqualTo("Chapter 1 First line of chapter 1 Second line of chapter 1");
+		assertThat(normalize(indexedDocuments.get(1).getContent()))
+			.isEqualTo("Chapter 2 First line of chapter 2 Second line of chapter 2");
+	}
+
+	private static PdfDocumentReaderConfig config(boolean pageLayoutIndex) {
+		return PdfDocumentReaderConfig.builder()
+			.withReversedParagraphPosition(true)
+			.withPageLayoutIndex(pageLayoutIndex)
+			.build();
+	}
+
+	private static String normalize(String text) {
+		return text.trim().replaceAll("\\s+", " ");
+	}
+
+	/**
+	 * Two pages with three chapters, the first two on the same page.
+	 */
+	private static Resource pdfWithToc() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			PDDocumentOutline outline = new PDDocumentOutline();
+			document.getDocumentCatalog().setDocumentOutline(outline);
+			PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+
+			PDPage firstPage = new PDPage();
+			PDPage secondPage = new PDPage();
+			document.addPage(firstPage);
+			document.addPage(secondPage);
+
+			try (PDPageContentStream content = new PDPageContentStream(document, firstPage)) {
+				writeChapter(content, font, 1, 700);
+				writeChapter(content, font, 2, 500);
+			}
+			try (PDPageContentStream content = new PDPageContentStream(document, secondPage)) {
+				writeChapter(content, font, 3, 700);
+			}
+			outline.addLast(outlineItem("Chapter 1", firstPage, 712));
+			outline.addLast(outlineItem("Chapter 2", firstPage, 512));
+			outline.addLast(outlineItem("Chapter 3", secondPage, 712));
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			document.save(out);
+			return new ByteArrayResource(out.toByteArray());
+		}
+	}
+
+	private static void writeChapter(PDPageContentStream content, PDType1Font font, int chapter, int y)
+			throws IOException {
+		String[] lines = { "Chapter " + chapter, "First line of chapter " + chapter,
+				"Second line of chapter " + chapter };
+		for (int i = 0; i < lines.length; i++) {
+			content.beginText();
+			content.setFont(font, 12);
+			content.newLineAtOffset(72, y - i * 20);
+			content.showText(lines[i]);
+			content.endText();
+		}
+	}
+
+	private static PDOutlineItem outlineItem(String title, PDPage page, int top) {
+		PDPageXYZDestination destination = new PDPageXYZDestination();
+		destination.setPage(page);
+		destination.setTop(top);
+		PDOutlineItem item = new PDOutlineItem();
+		item.setTitle(title);
+		item.setDestination(destination);
+		return item;
+	}
+
 }
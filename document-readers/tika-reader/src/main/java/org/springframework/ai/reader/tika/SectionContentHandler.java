@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.reader.tika;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Collects the text of the Tika XHTML body events and hands it over in sections instead
+ * of one string. A section ends at a page ({@code <div class="page">}, e.g. PDF), a slide
+ * ({@code <div class="slide-content">}, e.g. PPT/PPTX) boundary, before a heading
+ * ({@code h1}-{@code h6}, e.g. DOCX/HTML), and at the end of the document. Blank sections
+ * are dropped.
+ */
+class SectionContentHandler extends DefaultHandler {
+
+	private final Consumer<String> sectionConsumer;
+
+	private final StringBuilder text = new StringBuilder();
+
+	/**
+	 * For every open div, whether it is a page or a slide.
+	 */
+	private final Deque<Boolean> divs = new ArrayDeque<>();
+
+	SectionContentHandler(Consumer<String> sectionConsumer) {
+		this.sectionConsumer = sectionConsumer;
+	}
+
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes) {
+		if ("div".equals(localName)) {
+			String divClass = attributes.getValue("class");
+			boolean section = "page".equals(divClass) || "slide-content".equals(divClass);
+			this.divs.push(section);
+			if (section) {
+				this.flush();
+			}
+		}
+		else if (isHeading(localName)) {
+			this.flush();
+		}
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) {
+		if ("div".equals(localName) && !this.divs.isEmpty() && this.divs.pop()) {
+			this.flush();
+		}
+	}
+
+	@Override
+	public void characters(char[] ch, int start, int length) {
+		this.text.append(ch, start, length);
+	}
+
+	@Override
+	public void ignorableWhitespace(char[] ch, int start, int length) {
+		this.text.append(ch, start, length);
+	}
+
+	@Override
+	public void endDocument() {
+		this.flush();
+	}
+
+	private void flush() {
+		if (!this.text.toString().isBlank()) {
+			this.sectionConsumer.accept(this.text.toString());
+		}
+		this.text.setLength(0);
+	}
+
+	private static boolean isHeading(String localName) {
+		return localName.length() == 2 && localName.charAt(0) == 'h' && localName.charAt(1) >= '1'
+				&& localName.charAt(1) <= '6';
+	}
+
+}
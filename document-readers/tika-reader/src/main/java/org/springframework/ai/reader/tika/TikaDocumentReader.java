@@ -19,12 +19,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
 import org.apache.tika.sax.BodyContentHandler;
 import org.xml.sax.ContentHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
@@ -39,7 +44,12 @@ import org.springframework.util.StringUtils;
  * supported formats, refer to: https://tika.apache.org/2.9.0/formats.html.
  *
  * This reader directly provides the extracted text without any additional formatting. All
- * extracted texts are encapsulated within a {@link Document} instance.
+ * extracted texts are encapsulated within a {@link Document} instance. The
+ * {@link #stream()} method instead emits a {@link Document} per page, slide or heading
+ * section, as soon as the section is extracted.
+ *
+ * The readers share a single thread-safe parser and can be used repeatedly. Pass a
+ * {@link TikaParserPool} to parse on a bounded worker pool with timeouts and size limits.
  *
  * If you require more specialized handling for PDFs, consider using the
  * PagePdfDocumentReader or ParagraphPdfDocumentReader.
@@ -55,24 +65,26 @@ public class TikaDocumentReader implements DocumentReader {
 	public static final String METADATA_SOURCE = "source";
 
 	/**
-	 * Parser to automatically detect the type of document and extract text.
+	 * Metadata key representing the index of a streamed section within the document.
 	 */
-	private final AutoDetectParser parser;
+	public static final String METADATA_SECTION_INDEX = "section_index";
 
 	/**
-	 * Handler to manage content extraction.
+	 * Parser shared by the readers without a parser pool. AutoDetectParser is
+	 * thread-safe.
 	 */
-	private final ContentHandler handler;
+	private static final AutoDetectParser DEFAULT_PARSER = new AutoDetectParser();
 
 	/**
-	 * Metadata associated with the document being read.
+	 * Handler to manage content extraction. If null a new handler is created for every
+	 * read.
 	 */
-	private final Metadata metadata;
+	private final ContentHandler handler;
 
 	/**
-	 * Parsing context containing information about the parsing process.
+	 * Pool to parse on, or null to parse on the calling thread.
 	 */
-	private final ParseContext context;
+	private final TikaParserPool parserPool;
 
 	/**
 	 * The resource pointing to the document.
@@ -117,21 +129,35 @@ public class TikaDocumentReader implements DocumentReader {
 	 * @param textFormatter Formatter for the extracted text
 	 */
 	public TikaDocumentReader(Resource resource, ExtractedTextFormatter textFormatter) {
-		this(resource, new BodyContentHandler(-1), textFormatter);
+		this(resource, textFormatter, null);
+	}
+
+	/**
+	 * Constructor initializing the reader with a resource, a text formatter and the pool
+	 * to parse on.
+	 * @param resource Resource pointing to the document
+	 * @param textFormatter Formatter for the extracted text
+	 * @param parserPool Pool to parse on, or null to parse on the calling thread
+	 */
+	public TikaDocumentReader(Resource resource, ExtractedTextFormatter textFormatter, TikaParserPool parserPool) {
+		this.handler = null;
+		this.parserPool = parserPool;
+		this.resource = resource;
+		this.textFormatter = textFormatter;
 	}
 
 	/**
 	 * Constructor initializing the reader with a resource, content handler, and a text
-	 * formatter.
+	 * formatter. The content handler accumulates the extracted text, hence the reader can
+	 * be read only once. The handler is used by {@link #get()} only, {@link #stream()}
+	 * always extracts the sections with its own handler.
 	 * @param resource Resource pointing to the document
 	 * @param contentHandler Handler to manage content extraction
 	 * @param textFormatter Formatter for the extracted text
 	 */
 	public TikaDocumentReader(Resource resource, ContentHandler contentHandler, ExtractedTextFormatter textFormatter) {
-		this.parser = new AutoDetectParser();
 		this.handler = contentHandler;
-		this.metadata = new Metadata();
-		this.context = new ParseContext();
+		this.parserPool = null;
 		this.resource = resource;
 		this.textFormatter = textFormatter;
 	}
@@ -142,15 +168,108 @@ public class TikaDocumentReader implements DocumentReader {
 	 */
 	@Override
 	public List<Document> get() {
-		try (InputStream stream = this.resource.getInputStream()) {
-			this.parser.parse(stream, this.handler, this.metadata, this.context);
-			return List.of(toDocument(this.handler.toString()));
+		ContentHandler contentHandler = (this.handler != null) ? this.handler : new BodyContentHandler(-1);
+		if (this.parserPool != null) {
+			return List.of(this.parserPool.submit(Mono.fromCallable(() -> {
+				this.parse(contentHandler);
+				return toDocument(contentHandler.toString());
+			})).block());
+		}
+		try {
+			this.parse(contentHandler);
+			return List.of(toDocument(contentHandler.toString()));
 		}
 		catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Streams a {@link Document} per page, slide or heading section of the resource.
+	 * Every subscription parses the resource again, on the parser pool if any, and
+	 * cancelling the subscription stops the parsing. The parsing thread waits for the
+	 * downstream demand before emitting a section, so a slow subscriber holds back the
+	 * parser instead of buffering the whole document. The time spent waiting does not
+	 * count towards the timeout of the parser pool. The content handler given to the
+	 * constructor, if any, is not used.
+	 * @return the section documents, in document order
+	 */
+	@Override
+	public Flux<Document> stream() {
+		return Flux.<Document>create(sink -> {
+			Object demand = new Object();
+			sink.onRequest(n -> signal(demand));
+			sink.onDispose(() -> signal(demand));
+
+			TikaParserPool.Deadline deadline = (this.parserPool != null) ? this.parserPool.newDeadline() : null;
+			int[] index = { 0 };
+			SectionContentHandler sections = new SectionContentHandler(text -> {
+				long waited = awaitDemand(sink, demand);
+				if (deadline != null) {
+					deadline.extend(waited);
+				}
+				if (sink.isCancelled()) {
+					throw new CancellationException();
+				}
+				Document doc = toDocument(text);
+				doc.getMetadata().put(METADATA_SECTION_INDEX, index[0]++);
+				sink.next(doc);
+			});
+			try {
+				this.parse(new BodyContentHandler(sections), deadline);
+				sink.complete();
+			}
+			catch (Exception e) {
+				if (!sink.isCancelled()) {
+					sink.error(e);
+				}
+			}
+		})
+			// request on the subscriber thread, since the parsing thread may be waiting
+			.subscribeOn((this.parserPool != null) ? this.parserPool.getScheduler() : Schedulers.boundedElastic(),
+					false);
+	}
+
+	/**
+	 * Blocks the parsing thread until the downstream requests more documents or cancels.
+	 * @return the time waited, in nanoseconds
+	 */
+	private static long awaitDemand(FluxSink<Document> sink, Object demand) {
+		long start = System.nanoTime();
+		synchronized (demand) {
+			while (sink.requestedFromDownstream() == 0 && !sink.isCancelled()) {
+				try {
+					demand.wait();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new CancellationException("Interrupted while waiting for the downstream demand");
+				}
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static void signal(Object demand) {
+		synchronized (demand) {
+			demand.notifyAll();
+		}
+	}
+
+	private void parse(ContentHandler contentHandler) throws Exception {
+		this.parse(contentHandler, (this.parserPool != null) ? this.parserPool.newDeadline() : null);
+	}
+
+	private void parse(ContentHandler contentHandler, TikaParserPool.Deadline deadline) throws Exception {
+		if (this.parserPool != null) {
+			this.parserPool.parse(this.resource, contentHandler, deadline);
+			return;
+		}
+		try (InputStream stream = this.resource.getInputStream()) {
+			DEFAULT_PARSER.parse(stream, contentHandler, new Metadata(), new ParseContext());
+		}
+	}
+
 	/**
 	 * Converts the given text to a {@link Document}.
 	 * @param docText Text to be converted
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.reader.tika;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe Tika parsing facility for processing many resources concurrently. A single
+ * {@link Parser}, {@link AutoDetectParser} by default, is shared by all the parses, and
+ * the parses run on a bounded pool of worker threads. Every parse is guarded by an
+ * optional timeout, resource size limit and extracted content length limit, so that a
+ * single broken or oversized file cannot stall or exhaust a batch.
+ * <p>
+ * Pass the pool to the {@link TikaDocumentReader} constructors, or use
+ * {@link #read(List, ExtractedTextFormatter)} to read a batch of resources. Close the
+ * pool to release the worker threads.
+ */
+public class TikaParserPool implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(TikaParserPool.class);
+
+	private final Parser parser;
+
+	private final int poolSize;
+
+	private final Duration timeout;
+
+	private final long maxResourceSize;
+
+	private final int maxContentLength;
+
+	private final Scheduler scheduler;
+
+	private TikaParserPool(Builder builder) {
+		this.parser = builder.parser;
+		this.poolSize = builder.poolSize;
+		this.timeout = builder.timeout;
+		this.maxResourceSize = builder.maxResourceSize;
+		this.maxContentLength = builder.maxContentLength;
+		this.scheduler = Schedulers.newBoundedElastic(builder.poolSize, builder.queueCapacity, "tika-parser", 60, true);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public Parser getParser() {
+		return this.parser;
+	}
+
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	/**
+	 * @return the scheduler backed by the worker threads of the pool.
+	 */
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Parses the resource on the calling thread, applying the limits of the pool.
+	 * @param resource the resource to parse.
+	 * @param handler receives the extracted XHTML events.
+	 */
+	public void parse(Resource resource, ContentHandler handler) throws IOException, SAXException, TikaException {
+		this.parse(resource, handler, this.newDeadline());
+	}
+
+	/**
+	 * Parses the resource on the calling thread, applying the limits of the pool and the
+	 * given deadline, which the caller can extend while the parse waits on it.
+	 */
+	void parse(Resource resource, ContentHandler handler, Deadline deadline)
+			throws IOException, SAXException, TikaException {
+		String name = resource.getDescription();
+		if (this.maxResourceSize >= 0 && resource.isFile() && resource.contentLength() > this.maxResourceSize) {
+			throw new TikaException(name + " exceeds the size limit of " + this.maxResourceSize + " bytes");
+		}
+		ContentHandler guarded = new LimitingContentHandler(handler, name, deadline, this.maxContentLength);
+		try (InputStream stream = new LimitedInputStream(resource.getInputStream(), name, this.maxResourceSize)) {
+			this.parser.parse(stream, guarded, new Metadata(), new ParseContext());
+		}
+	}
+
+	/**
+	 * @return a deadline for a parse starting now, according to the timeout of the pool.
+	 */
+	Deadline newDeadline() {
+		return new Deadline(this.timeout);
+	}
+
+	/**
+	 * Runs the work on the pool. The work is cancelled, and the worker thread
+	 * interrupted, if it does not complete within the timeout.
+	 * @param work the work to run, usually calling
+	 * {@link #parse(Resource, ContentHandler)}.
+	 * @return the result of the work.
+	 */
+	public <T> Mono<T> submit(Mono<T> work) {
+		Mono<T> scheduled = work.subscribeOn(this.scheduler);
+		return (this.timeout != null) ? scheduled.timeout(this.timeout) : scheduled;
+	}
+
+	/**
+	 * Reads the resources concurrently, up to the pool size at a time, and streams the
+	 * sections of every resource as they are extracted. Documents of different resources
+	 * can interleave. Resources that fail to parse are logged and skipped.
+	 * @param resources the resources to read.
+	 * @param textFormatter formatter for the extracted text.
+	 * @return the documents of all the resources.
+	 */
+	public Flux<Document> read(List<Resource> resources, ExtractedTextFormatter textFormatter) {
+		return Flux.fromIterable(resources)
+			.flatMap(resource -> new TikaDocumentReader(resource, textFormatter, this).stream().onErrorResume(e -> {
+				logger.warn("Skipping {}: {}", resource.getDescription(), e.getMessage());
+				return Flux.empty();
+			}), this.poolSize);
+	}
+
+	@Override
+	public void close() {
+		this.scheduler.dispose();
+	}
+
+	/**
+	 * Point in time by which a parse has to complete. Only used by the parsing thread.
+	 * The time the parsing thread spends waiting on the consumer of the extracted content
+	 * is not parsing time, and is added to the deadline with {@link #extend(long)}.
+	 */
+	static final class Deadline {
+
+		private final boolean unbounded;
+
+		private long deadline;
+
+		Deadline(Duration timeout) {
+			this.unbounded = (timeout == null);
+			this.deadline = (timeout != null) ? System.nanoTime() + timeout.toNanos() : 0;
+		}
+
+		void extend(long nanos) {
+			this.deadline += nanos;
+		}
+
+		boolean isExpired() {
+			return !this.unbounded && System.nanoTime() - this.deadline > 0;
+		}
+
+	}
+
+	/**
+	 * Stops the parse when the extracted text exceeds the content length limit or the
+	 * deadline is reached. Checked on every content event, so it also stops parsers that
+	 * ignore the thread interruption.
+	 */
+	private static class LimitingContentHandler extends ContentHandlerDecorator {
+
+		private final String name;
+
+		private final Deadline deadline;
+
+		private final int maxContentLength;
+
+		private long contentLength;
+
+		LimitingContentHandler(ContentHandler handler, String name, Deadline deadline, int maxContentLength) {
+			super(handler);
+			this.name = name;
+			this.deadline = deadline;
+			this.maxContentLength = maxContentLength;
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			this.check(length);
+			super.characters(ch, start, length);
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+			this.check(length);
+			super.ignorableWhitespace(ch, start, length);
+		}
+
+		private void check(int length) throws SAXException {
+			this.contentLength += length;
+			if (this.maxContentLength >= 0 && this.contentLength > this.maxContentLength) {
+				throw new WriteLimitReachedException(this.maxContentLength);
+			}
+			if (this.deadline.isExpired()) {
+				throw new SAXException("Parsing of " + this.name + " timed out");
+			}
+		}
+
+	}
+
+	/**
+	 * Fails the parse when more than the size limit is read from the resource, for
+	 * resources whose size is not known upfront.
+	 */
+	private static class LimitedInputStream extends FilterInputStream {
+
+		private final String name;
+
+		private final long maxSize;
+
+		private long size;
+
+		LimitedInputStream(InputStream in, String name, long maxSize) {
+			super(in);
+			this.name = name;
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				this.count(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				this.count(n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			this.count(skipped);
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void count(long n) throws IOException {
+			this.size += n;
+			if (this.maxSize >= 0 && this.size > this.maxSize) {
+				throw new IOException(this.name + " exceeds the size limit of " + this.maxSize + " bytes");
+			}
+		}
+
+	}
+
+	public static class Builder {
+
+		private Parser parser = new AutoDetectParser();
+
+		private int poolSize = Runtime.getRuntime().availableProcessors();
+
+		private int queueCapacity = 10_000;
+
+		private Duration timeout;
+
+		private long maxResourceSize = -1;
+
+		private int maxContentLength = -1;
+
+		private Builder() {
+		}
+
+		public Builder withParser(Parser parser) {
+			Assert.notNull(parser, "Parser must not be null");
+			this.parser = parser;
+			return this;
+		}
+
+		/**
+		 * @param poolSize the number of worker threads, and resources parsed
+		 * concurrently. Defaults to the number of available processors.
+		 * @return this builder.
+		 */
+		public Builder withPoolSize(int poolSize) {
+			Assert.isTrue(poolSize > 0, "Pool size must be positive");
+			this.poolSize = poolSize;
+			return this;
+		}
+
+		/**
+		 * @param queueCapacity the number of parses waiting for a worker thread before
+		 * new parses are rejected. Defaults to 10000.
+		 * @return this builder.
+		 */
+		public Builder withQueueCapacity(int queueCapacity) {
+			Assert.isTrue(queueCapacity > 0, "Queue capacity must be positive");
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		/**
+		 * @param timeout the maximum time to parse a single resource. No timeout by
+		 * default.
+		 * @return this builder.
+		 */
+		public Builder withTimeout(Duration timeout) {
+			Assert.isTrue(timeout == null || !timeout.isNegative(), "Timeout must not be negative");
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * @param maxResourceSize the maximum size, in bytes, of a parsed resource. -1,
+		 * the default, for no limit.
+		 * @return this builder.
+		 */
+		public Builder withMaxResourceSize(long maxResourceSize) {
+			this.maxResourceSize = maxResourceSize;
+			return this;
+		}
+
+		/**
+		 * @param maxContentLength the maximum number of characters extracted from a
+		 * single resource. -1, the default, for no limit.
+		 * @return this builder.
+		 */
+		public Builder withMaxContentLength(int maxContentLength) {
+			this.maxContentLength = maxContentLength;
+			return this;
+		}
+
+		public TikaParserPool build() {
+			return new TikaParserPool(this);
+		}
+
+	}
+
+}
@@ -15,10 +15,29 @@
  */
 package org.springframework.ai.reader.tika;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.SignalType;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Christian Tzolov
@@ -45,4 +64,152 @@ public class TikaDocumentReaderTests {
 		assertThat(doc.getContent()).contains(contentSnipped);
 	}
 
+	@ParameterizedTest
+	@CsvSource({ "classpath:/sample2.pdf,doc/pdftex/manual.pdf from your tetex distribution for more",
+			"classpath:/sample.pptx,Lorem ipsum dolor sit amet, consectetur adipiscing elit.",
+			"classpath:/word-sample.docx,Two kinds of links are possible, those that refer to an external website" })
+	public void streamSections(String resourceUri, String contentSnipped) {
+		var reader = new TikaDocumentReader(resourceUri);
+
+		List<Document> sections = reader.stream().collectList().block();
+
+		assertThat(sections).hasSizeGreaterThan(1);
+		assertThat(sections).extracting(doc -> doc.getMetadata().get(TikaDocumentReader.METADATA_SECTION_INDEX))
+			.containsExactlyElementsOf(IntStream.range(0, sections.size()).boxed().toList());
+		assertThat(sections.stream().map(Document::getContent).collect(Collectors.joining("\n")))
+			.contains(contentSnipped);
+
+		// the reader can be read again
+		assertThat(reader.get().get(0).getContent()).contains(contentSnipped);
+		assertThat(reader.stream().take(1).collectList().block()).hasSize(1);
+	}
+
+	@Test
+	public void streamWaitsForDemand() throws Exception {
+		var reader = new TikaDocumentReader("classpath:/sample2.pdf");
+		List<Document> sections = new CopyOnWriteArrayList<>();
+		CountDownLatch first = new CountDownLatch(1);
+		CountDownLatch completed = new CountDownLatch(1);
+
+		var subscriber = new BaseSubscriber<Document>() {
+
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+
+			@Override
+			protected void hookOnNext(Document document) {
+				sections.add(document);
+				first.countDown();
+			}
+
+			@Override
+			protected void hookFinally(SignalType type) {
+				completed.countDown();
+			}
+
+		};
+		reader.stream().subscribe(subscriber);
+
+		// the parser emits only the requested section and waits for more demand
+		assertThat(first.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(completed.await(500, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(sections).hasSize(1);
+
+		subscriber.request(Long.MAX_VALUE);
+		assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(sections).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	public void streamWaitingForDemandDoesNotCountTowardsTheTimeout() throws Exception {
+		var resource = new DefaultResourceLoader().getResource("classpath:/sample2.pdf");
+		// warm up Tika, so that the parse itself stays well within the timeout
+		new TikaDocumentReader(resource).get();
+
+		try (var pool = TikaParserPool.builder().withTimeout(Duration.ofSeconds(2)).build()) {
+			var reader = new TikaDocumentReader(resource, ExtractedTextFormatter.defaults(), pool);
+			List<Document> sections = new CopyOnWriteArrayList<>();
+			CountDownLatch first = new CountDownLatch(1);
+			CountDownLatch completed = new CountDownLatch(1);
+			Throwable[] error = { null };
+
+			var subscriber = new BaseSubscriber<Document>() {
+
+				@Override
+				protected void hookOnSubscribe(Subscription subscription) {
+					request(1);
+				}
+
+				@Override
+				protected void hookOnNext(Document document) {
+					sections.add(document);
+					first.countDown();
+				}
+
+				@Override
+				protected void hookOnError(Throwable throwable) {
+					error[0] = throwable;
+				}
+
+				@Override
+				protected void hookFinally(SignalType type) {
+					completed.countDown();
+				}
+
+			};
+			reader.stream().subscribe(subscriber);
+
+			// the slow subscriber keeps the parser waiting for longer than the timeout
+			assertThat(first.await(10, TimeUnit.SECONDS)).isTrue();
+			Thread.sleep(3000);
+
+			subscriber.request(Long.MAX_VALUE);
+			assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(error[0]).isNull();
+			assertThat(sections).hasSizeGreaterThan(1);
+		}
+	}
+
+	@Test
+	public void readWithParserPool() {
+		var resourceLoader = new DefaultResourceLoader();
+		List<Resource> resources = List.of(resourceLoader.getResource("classpath:/word-sample.docx"),
+				resourceLoader.getResource("classpath:/word-sample.doc"),
+				resourceLoader.getResource("classpath:/sample2.pdf"),
+				resourceLoader.getResource("classpath:/sample.pptx"));
+
+		try (var pool = TikaParserPool.builder().withPoolSize(2).withTimeout(Duration.ofMinutes(1)).build()) {
+			var doc = new TikaDocumentReader(resources.get(0), ExtractedTextFormatter.defaults(), pool).get().get(0);
+			assertThat(doc.getContent()).contains("Two kinds of links are possible");
+
+			List<Document> docs = pool.read(resources, ExtractedTextFormatter.defaults()).collectList().block();
+			assertThat(docs).extracting(d -> d.getMetadata().get(TikaDocumentReader.METADATA_SOURCE))
+				.containsOnly("word-sample.docx", "word-sample.doc", "sample2.pdf", "sample.pptx");
+		}
+	}
+
+	@Test
+	public void parserPoolLimits() {
+		var resource = new DefaultResourceLoader().getResource("classpath:/sample2.pdf");
+
+		try (var pool = TikaParserPool.builder().withMaxResourceSize(1024).build()) {
+			assertThatThrownBy(() -> new TikaDocumentReader(resource, ExtractedTextFormatter.defaults(), pool).get())
+				.hasStackTraceContaining("exceeds the size limit of 1024 bytes");
+			// failed resources are skipped by batch reads
+			assertThat(pool.read(List.of(resource), ExtractedTextFormatter.defaults()).collectList().block()).isEmpty();
+		}
+
+		try (var pool = TikaParserPool.builder().withMaxContentLength(100).build()) {
+			assertThatThrownBy(() -> new TikaDocumentReader(resource, ExtractedTextFormatter.defaults(), pool).get())
+				.hasRootCauseInstanceOf(WriteLimitReachedException.class);
+		}
+
+		try (var pool = TikaParserPool.builder().withTimeout(Duration.ZERO).build()) {
+			assertThatThrownBy(() -> new TikaDocumentReader(resource, ExtractedTextFormatter.defaults(), pool).stream()
+				.blockLast()).hasStackTraceContaining("timed out");
+		}
+	}
+
 }
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.anthropic.api.AnthropicApi;
 import org.springframework.ai.anthropic.api.AnthropicApi.ChatCompletion;
@@ -44,6 +45,7 @@ import org.springframework.ai.chat.metadata.ChatGenerationMetadata;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -81,6 +83,11 @@ public class AnthropicChatClient implements ChatClient, StreamingChatClient {
 	 */
 	public final RetryTemplate retryTemplate;
 
+	/**
+	 * The reactive retry used to retry the streaming and async Anthropic API calls.
+	 */
+	private final ReactiveRetry reactiveRetry;
+
 	/**
 	 * Construct a new {@link AnthropicChatClient} instance.
 	 * @param anthropicApi the lower-level API for the Anthropic service.
@@ -111,13 +118,27 @@ public class AnthropicChatClient implements ChatClient, StreamingChatClient {
 	 */
 	public AnthropicChatClient(AnthropicApi anthropicApi, AnthropicChatOptions defaultOptions,
 			RetryTemplate retryTemplate) {
+		this(anthropicApi, defaultOptions, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY);
+	}
+
+	/**
+	 * Construct a new {@link AnthropicChatClient} instance.
+	 * @param anthropicApi the lower-level API for the Anthropic service.
+	 * @param defaultOptions the default options used for the chat completion requests.
+	 * @param retryTemplate the retry template used to retry the Anthropic API calls.
+	 * @param reactiveRetry the retry used by the streaming and async calls.
+	 */
+	public AnthropicChatClient(AnthropicApi anthropicApi, AnthropicChatOptions defaultOptions,
+			RetryTemplate retryTemplate, ReactiveRetry reactiveRetry) {
 		Assert.notNull(anthropicApi, "AnthropicApi must not be null");
 		Assert.notNull(defaultOptions, "DefaultOptions must not be null");
 		Assert.notNull(retryTemplate, "RetryTemplate must not be null");
+		Assert.notNull(reactiveRetry, "ReactiveRetry must not be null");
 
 		this.anthropicApi = anthropicApi;
 		this.defaultOptions = defaultOptions;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetry = reactiveRetry;
 	}
 
 	@Override
@@ -131,12 +152,25 @@ public class AnthropicChatClient implements ChatClient, StreamingChatClient {
 		});
 	}
 
+	@Override
+	public Mono<ChatResponse> callAsync(Prompt prompt) {
+
+		ChatCompletionRequest request = createRequest(prompt, false);
+
+		return this.anthropicApi.chatCompletionEntityAsync(request)
+			.map(completionEntity -> toChatResponse(completionEntity.getBody()))
+			.retryWhen(this.reactiveRetry);
+	}
+
 	@Override
 	public Flux<ChatResponse> stream(Prompt prompt) {
 
 		ChatCompletionRequest request = createRequest(prompt, true);
 
-		Flux<StreamResponse> response = this.anthropicApi.chatCompletionStream(request);
+		// Retries re-send the request as long as no event has been received, a partially
+		// streamed response is never replayed.
+		Flux<StreamResponse> response = this.reactiveRetry
+			.retryBeforeFirstElement(Flux.defer(() -> this.anthropicApi.chatCompletionStream(request)));
 
 		AtomicReference<ChatCompletionBuilder> chatCompletionReference = new AtomicReference<>();
 
@@ -27,8 +27,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
@@ -52,6 +54,8 @@ public class AnthropicApi {
 
 	private WebClient webClient;
 
+	private final ReactiveResponseErrorHandler reactiveResponseErrorHandler;
+
 	/**
 	 * Create a new client api with DEFAULT_BASE_URL
 	 * @param anthropicApiKey Anthropic api Key.
@@ -79,6 +83,25 @@ public class AnthropicApi {
 	 */
 	public AnthropicApi(String baseUrl, String anthropicApiKey, String anthropicVersion,
 			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, anthropicApiKey, anthropicVersion, restClientBuilder, responseErrorHandler,
+				RetryUtils.DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER);
+	}
+
+	/**
+	 * Create a new client api.
+	 * @param baseUrl api base URL.
+	 * @param anthropicApiKey Anthropic api Key.
+	 * @param restClientBuilder RestClient builder.
+	 * @param responseErrorHandler Response error handler.
+	 * @param reactiveResponseErrorHandler Response error handler of the streaming
+	 * requests.
+	 */
+	public AnthropicApi(String baseUrl, String anthropicApiKey, String anthropicVersion,
+			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
+
+		Assert.notNull(reactiveResponseErrorHandler, "ReactiveResponseErrorHandler must not be null");
+		this.reactiveResponseErrorHandler = reactiveResponseErrorHandler;
 
 		Consumer<HttpHeaders> jsonContentHeaders = headers -> {
 			headers.add("x-api-key", anthropicApiKey);
@@ -360,6 +383,28 @@ public class AnthropicApi {
 		return this.restClient.post().uri("/v1/messages").body(chatRequest).retrieve().toEntity(ChatCompletion.class);
 	}
 
+	/**
+	 * Non-blocking counterpart of {@link #chatCompletionEntity(ChatCompletionRequest)}.
+	 * Error responses are signaled as
+	 * {@link org.springframework.ai.retry.TransientAiException} or
+	 * {@link org.springframework.ai.retry.NonTransientAiException}.
+	 * @param chatRequest The chat completion request.
+	 * @return Mono of the entity response with {@link ChatCompletion} as a body and HTTP
+	 * status code and headers.
+	 */
+	public Mono<ResponseEntity<ChatCompletion>> chatCompletionEntityAsync(ChatCompletionRequest chatRequest) {
+
+		Assert.notNull(chatRequest, "The request body can not be null.");
+		Assert.isTrue(!chatRequest.stream(), "Request must set the steam property to false.");
+
+		return this.webClient.post()
+			.uri("/v1/messages")
+			.bodyValue(chatRequest)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
+			.toEntity(ChatCompletion.class);
+	}
+
 	/**
 	 * Creates a streaming chat response for the given chat conversation.
 	 * @param chatRequest The chat completion request. Must have the stream property set
@@ -375,6 +420,7 @@ public class AnthropicApi {
 			.uri("/v1/messages")
 			.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
 			.bodyToFlux(String.class)
 			.takeUntil(SSE_DONE_PREDICATE)
 			.filter(SSE_DONE_PREDICATE.negate())
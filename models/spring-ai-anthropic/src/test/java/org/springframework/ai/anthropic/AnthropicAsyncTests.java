@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.anthropic;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.anthropic.api.AnthropicApi;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.ReactiveRetry;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the non-blocking {@code callAsync} implementation against a mock server.
+ */
+public class AnthropicAsyncTests {
+
+	private static final String CHAT_COMPLETION = """
+			{"id": "msg_1", "type": "message", "role": "assistant", "content": [{"type": "text", "text": "Hello"}],
+			 "model": "claude-3-opus-20240229", "stop_reason": "end_turn", "stop_sequence": null,
+			 "usage": {"input_tokens": 1, "output_tokens": 1}}
+			""";
+
+	private MockWebServer server;
+
+	private AnthropicChatClient chatClient;
+
+	@BeforeEach
+	public void beforeEach() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+
+		var anthropicApi = new AnthropicApi("http://" + this.server.getHostName() + ":" + this.server.getPort(), "key");
+		this.chatClient = new AnthropicChatClient(anthropicApi,
+				AnthropicChatOptions.builder()
+					.withModel(AnthropicChatClient.DEFAULT_MODEL_NAME)
+					.withMaxTokens(100)
+					.build(),
+				RetryUtils.DEFAULT_RETRY_TEMPLATE,
+				new ReactiveRetry(3, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0));
+	}
+
+	@AfterEach
+	public void afterEach() throws IOException {
+		this.server.shutdown();
+	}
+
+	@Test
+	public void chatCallAsync() {
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var response = this.chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(response.getResult().getMetadata().getFinishReason()).isEqualTo("end_turn");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void chatCallAsyncRetriesTransientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(529));
+		this.server.enqueue(new MockResponse().setResponseCode(500));
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var response = this.chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void chatCallAsyncDoesNotRetryClientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(400).setBody("Bad request"));
+
+		assertThatThrownBy(() -> this.chatClient.callAsync(new Prompt("text")).block())
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessageContaining("400");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	private static MockResponse jsonResponse(String body) {
+		return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).setBody(body);
+	}
+
+}
@@ -40,6 +40,11 @@ import org.springframework.util.Assert;
  */
 public class BedrockCohereEmbeddingClient extends AbstractEmbeddingClient {
 
+	/**
+	 * Maximum number of texts in a single Cohere embedding request.
+	 */
+	public static final int MAX_INPUTS_PER_REQUEST = 96;
+
 	private final CohereEmbeddingBedrockApi embeddingApi;
 
 	private final BedrockCohereEmbeddingOptions defaultOptions;
@@ -64,6 +69,7 @@ public class BedrockCohereEmbeddingClient extends AbstractEmbeddingClient {
 		Assert.notNull(options, "BedrockCohereEmbeddingOptions must not be null");
 		this.embeddingApi = cohereEmbeddingBedrockApi;
 		this.defaultOptions = options;
+		this.setMaxInputsPerRequest(MAX_INPUTS_PER_REQUEST);
 	}
 
 	// /**
@@ -102,15 +108,22 @@ public class BedrockCohereEmbeddingClient extends AbstractEmbeddingClient {
 
 		final BedrockCohereEmbeddingOptions optionsToUse = this.mergeOptions(request.getOptions());
 
-		var apiRequest = new CohereEmbeddingRequest(request.getInstructions(), optionsToUse.getInputType(),
-				optionsToUse.getTruncate());
-		CohereEmbeddingResponse apiResponse = this.embeddingApi.embedding(apiRequest);
-		var indexCounter = new AtomicInteger(0);
-		List<Embedding> embeddings = apiResponse.embeddings()
-			.stream()
-			.map(e -> new Embedding(e, indexCounter.getAndIncrement()))
-			.toList();
-		return new EmbeddingResponse(embeddings);
+		return this.callInBatches(request, batch -> {
+			var apiRequest = new CohereEmbeddingRequest(batch.getInstructions(), optionsToUse.getInputType(),
+					optionsToUse.getTruncate());
+			CohereEmbeddingResponse apiResponse = this.embeddingApi.embedding(apiRequest);
+			var indexCounter = new AtomicInteger(0);
+			List<Embedding> embeddings = apiResponse.embeddings()
+				.stream()
+				.map(e -> new Embedding(e, indexCounter.getAndIncrement()))
+				.toList();
+			return new EmbeddingResponse(embeddings);
+		});
+	}
+
+	@Override
+	protected String getEmbeddingModelName() {
+		return this.embeddingApi.getModelId();
 	}
 
 	/**
@@ -15,12 +15,7 @@
  */
 package org.springframework.ai.bedrock.titan;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi;
 import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi.TitanEmbeddingRequest;
@@ -37,15 +32,15 @@ import org.springframework.util.Assert;
  * Bedrock Titan Embedding API. Titan Embedding supports text and image (encoded in
  * base64) inputs.
  *
- * Note: Titan Embedding does not support batch embedding.
+ * Note: Titan Embedding does not support batch embedding. The inputs of a request are
+ * sent as concurrent single input API calls, see
+ * {@link AbstractEmbeddingClient#setMaxConcurrency(int)}.
  *
  * @author Christian Tzolov
  * @since 0.8.0
  */
 public class BedrockTitanEmbeddingClient extends AbstractEmbeddingClient {
 
-	private final Logger logger = LoggerFactory.getLogger(getClass());
-
 	private final TitanEmbeddingBedrockApi embeddingApi;
 
 	public enum InputType {
@@ -61,6 +56,7 @@ public class BedrockTitanEmbeddingClient extends AbstractEmbeddingClient {
 
 	public BedrockTitanEmbeddingClient(TitanEmbeddingBedrockApi titanEmbeddingBedrockApi) {
 		this.embeddingApi = titanEmbeddingBedrockApi;
+		this.setMaxInputsPerRequest(1);
 	}
 
 	/**
@@ -80,37 +76,29 @@ public class BedrockTitanEmbeddingClient extends AbstractEmbeddingClient {
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
 		Assert.notEmpty(request.getInstructions(), "At least one text is required!");
-		if (request.getInstructions().size() != 1) {
-			logger.warn(
-					"Titan Embedding does not support batch embedding. Will make multiple API calls to embed(Document)");
-		}
-
-		List<List<Double>> embeddingList = new ArrayList<>();
-		for (String inputContent : request.getInstructions()) {
+		return this.callInBatches(request, batch -> {
+			String inputContent = batch.getInstructions().get(0);
 			var apiRequest = (this.inputType == InputType.IMAGE)
 					? new TitanEmbeddingRequest.Builder().withInputImage(inputContent).build()
 					: new TitanEmbeddingRequest.Builder().withInputText(inputContent).build();
 			TitanEmbeddingResponse response = this.embeddingApi.embedding(apiRequest);
-			embeddingList.add(response.embedding());
-		}
-		var indexCounter = new AtomicInteger(0);
-		List<Embedding> embeddings = embeddingList.stream()
-			.map(e -> new Embedding(e, indexCounter.getAndIncrement()))
-			.toList();
-		return new EmbeddingResponse(embeddings);
+			return new EmbeddingResponse(List.of(new Embedding(response.embedding(), 0)));
+		});
 	}
 
 	@Override
 	public int dimensions() {
 		if (this.inputType == InputType.IMAGE) {
-			if (this.embeddingDimensions.get() < 0) {
-				this.embeddingDimensions.set(dimensions(this, embeddingApi.getModelId(),
-						// small base64 encoded image
-						"iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNk+A8AAQUBAScY42YAAAAASUVORK5CYII="));
-			}
+			return this.dimensions(this.getEmbeddingModelName(),
+					// small base64 encoded image
+					"iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNk+A8AAQUBAScY42YAAAAASUVORK5CYII=");
 		}
 		return super.dimensions();
+	}
 
+	@Override
+	protected String getEmbeddingModelName() {
+		return this.embeddingApi.getModelId();
 	}
 
 }
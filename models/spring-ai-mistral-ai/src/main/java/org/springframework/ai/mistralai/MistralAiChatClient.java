@@ -26,6 +26,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
@@ -44,6 +46,7 @@ import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionRequest;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.AbstractFunctionCallSupport;
 import org.springframework.ai.model.function.FunctionCallbackContext;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -73,6 +76,8 @@ public class MistralAiChatClient extends
 
 	private final RetryTemplate retryTemplate;
 
+	private final ReactiveRetry reactiveRetry;
+
 	public MistralAiChatClient(MistralAiApi mistralAiApi) {
 		this(mistralAiApi,
 				MistralAiChatOptions.builder()
@@ -89,13 +94,20 @@ public class MistralAiChatClient extends
 
 	public MistralAiChatClient(MistralAiApi mistralAiApi, MistralAiChatOptions options,
 			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate) {
+		this(mistralAiApi, options, functionCallbackContext, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY);
+	}
+
+	public MistralAiChatClient(MistralAiApi mistralAiApi, MistralAiChatOptions options,
+			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate, ReactiveRetry reactiveRetry) {
 		super(functionCallbackContext);
 		Assert.notNull(mistralAiApi, "MistralAiApi must not be null");
 		Assert.notNull(options, "Options must not be null");
 		Assert.notNull(retryTemplate, "RetryTemplate must not be null");
+		Assert.notNull(reactiveRetry, "ReactiveRetry must not be null");
 		this.mistralAiApi = mistralAiApi;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetry = reactiveRetry;
 	}
 
 	@Override
@@ -106,20 +118,43 @@ public class MistralAiChatClient extends
 
 			ResponseEntity<ChatCompletion> completionEntity = this.callWithFunctionSupport(request);
 
-			var chatCompletion = completionEntity.getBody();
-			if (chatCompletion == null) {
-				log.warn("No chat completion returned for prompt: {}", prompt);
-				return new ChatResponse(List.of());
-			}
+			return toChatResponse(prompt, completionEntity);
+		});
+	}
 
-			List<Generation> generations = chatCompletion.choices()
-				.stream()
-				.map(choice -> new Generation(choice.message().content(), toMap(chatCompletion.id(), choice))
-					.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null)))
-				.toList();
+	/**
+	 * Sends the chat completion request without blocking. Tool call responses run the
+	 * function callbacks, and the follow-up requests, on the bounded elastic scheduler as
+	 * the callbacks may block.
+	 */
+	@Override
+	public Mono<ChatResponse> callAsync(Prompt prompt) {
+		var request = createRequest(prompt, false);
 
-			return new ChatResponse(generations);
-		});
+		return this.mistralAiApi.chatCompletionEntityAsync(request)
+			.flatMap(completionEntity -> isToolFunctionCall(completionEntity)
+					? Mono.fromCallable(() -> handleFunctionCallOrReturn(request, completionEntity))
+						.subscribeOn(Schedulers.boundedElastic())
+					: Mono.just(completionEntity))
+			.map(completionEntity -> toChatResponse(prompt, completionEntity))
+			.retryWhen(this.reactiveRetry);
+	}
+
+	private ChatResponse toChatResponse(Prompt prompt, ResponseEntity<ChatCompletion> completionEntity) {
+
+		var chatCompletion = completionEntity.getBody();
+		if (chatCompletion == null) {
+			log.warn("No chat completion returned for prompt: {}", prompt);
+			return new ChatResponse(List.of());
+		}
+
+		List<Generation> generations = chatCompletion.choices()
+			.stream()
+			.map(choice -> new Generation(choice.message().content(), toMap(chatCompletion.id(), choice))
+				.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null)))
+			.toList();
+
+		return new ChatResponse(generations);
 	}
 
 	private Map<String, Object> toMap(String id, ChatCompletion.Choice choice) {
@@ -140,37 +175,37 @@ public class MistralAiChatClient extends
 	public Flux<ChatResponse> stream(Prompt prompt) {
 		var request = createRequest(prompt, true);
 
-		return retryTemplate.execute(ctx -> {
-
-			var completionChunks = this.mistralAiApi.chatCompletionStream(request);
-
-			// For chunked responses, only the first chunk contains the choice role.
-			// The rest of the chunks with same ID share the same role.
-			ConcurrentHashMap<String, String> roleMap = new ConcurrentHashMap<>();
-
-			return completionChunks.map(chunk -> toChatCompletion(chunk)).map(chatCompletion -> {
-
-				chatCompletion = handleFunctionCallOrReturn(request, ResponseEntity.of(Optional.of(chatCompletion)))
-					.getBody();
-
-				@SuppressWarnings("null")
-				String id = chatCompletion.id();
-
-				List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
-					if (choice.message().role() != null) {
-						roleMap.putIfAbsent(id, choice.message().role().name());
-					}
-					String finish = (choice.finishReason() != null ? choice.finishReason().name() : "");
-					var generation = new Generation(choice.message().content(),
-							Map.of("id", id, "role", roleMap.get(id), "finishReason", finish));
-					if (choice.finishReason() != null) {
-						generation = generation
-							.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null));
-					}
-					return generation;
-				}).toList();
-				return new ChatResponse(generations);
-			});
+		// Retries re-send the request as long as no chunk has been received, a partially
+		// streamed response is never replayed.
+		var completionChunks = this.reactiveRetry
+			.retryBeforeFirstElement(Flux.defer(() -> this.mistralAiApi.chatCompletionStream(request)));
+
+		// For chunked responses, only the first chunk contains the choice role.
+		// The rest of the chunks with same ID share the same role.
+		ConcurrentHashMap<String, String> roleMap = new ConcurrentHashMap<>();
+
+		return completionChunks.map(chunk -> toChatCompletion(chunk)).map(chatCompletion -> {
+
+			chatCompletion = handleFunctionCallOrReturn(request, ResponseEntity.of(Optional.of(chatCompletion)))
+				.getBody();
+
+			@SuppressWarnings("null")
+			String id = chatCompletion.id();
+
+			List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
+				if (choice.message().role() != null) {
+					roleMap.putIfAbsent(id, choice.message().role().name());
+				}
+				String finish = (choice.finishReason() != null ? choice.finishReason().name() : "");
+				var generation = new Generation(choice.message().content(),
+						Map.of("id", id, "role", roleMap.get(id), "finishReason", finish));
+				if (choice.finishReason() != null) {
+					generation = generation
+						.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null));
+				}
+				return generation;
+			}).toList();
+			return new ChatResponse(generations);
 		});
 	}
 
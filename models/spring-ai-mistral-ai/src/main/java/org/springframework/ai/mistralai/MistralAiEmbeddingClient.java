@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
@@ -30,6 +31,7 @@ import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.ai.embedding.EmbeddingResponseMetadata;
 import org.springframework.ai.mistralai.api.MistralAiApi;
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
@@ -42,6 +44,12 @@ public class MistralAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
+	/**
+	 * Maximum number of tokens, summed over all inputs, in a single Mistral AI embedding
+	 * request.
+	 */
+	public static final int MAX_TOKENS_PER_REQUEST = 16_384;
+
 	private final MistralAiEmbeddingOptions defaultOptions;
 
 	private final MetadataMode metadataMode;
@@ -50,6 +58,8 @@ public class MistralAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	private final RetryTemplate retryTemplate;
 
+	private final ReactiveRetry reactiveRetry;
+
 	public MistralAiEmbeddingClient(MistralAiApi mistralAiApi) {
 		this(mistralAiApi, MetadataMode.EMBED);
 	}
@@ -66,50 +76,74 @@ public class MistralAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	public MistralAiEmbeddingClient(MistralAiApi mistralAiApi, MetadataMode metadataMode,
 			MistralAiEmbeddingOptions options, RetryTemplate retryTemplate) {
+		this(mistralAiApi, metadataMode, options, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY);
+	}
+
+	public MistralAiEmbeddingClient(MistralAiApi mistralAiApi, MetadataMode metadataMode,
+			MistralAiEmbeddingOptions options, RetryTemplate retryTemplate, ReactiveRetry reactiveRetry) {
 		Assert.notNull(mistralAiApi, "MistralAiApi must not be null");
 		Assert.notNull(metadataMode, "metadataMode must not be null");
 		Assert.notNull(options, "options must not be null");
 		Assert.notNull(retryTemplate, "retryTemplate must not be null");
+		Assert.notNull(reactiveRetry, "reactiveRetry must not be null");
 
 		this.mistralAiApi = mistralAiApi;
 		this.metadataMode = metadataMode;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetry = reactiveRetry;
+		this.setMaxTokensPerRequest(MAX_TOKENS_PER_REQUEST);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public EmbeddingResponse call(EmbeddingRequest request) {
-		return this.retryTemplate.execute(ctx -> {
+		return this.callInBatches(request, batch -> this.retryTemplate.execute(ctx -> {
 
-			var apiRequest = (this.defaultOptions != null)
-					? new MistralAiApi.EmbeddingRequest<>(request.getInstructions(), this.defaultOptions.getModel(),
-							this.defaultOptions.getEncodingFormat())
-					: new MistralAiApi.EmbeddingRequest<>(request.getInstructions(),
-							MistralAiApi.EmbeddingModel.EMBED.getValue());
+			var apiEmbeddingResponse = this.mistralAiApi.embeddings(createRequest(batch)).getBody();
 
-			if (request.getOptions() != null && !EmbeddingOptions.EMPTY.equals(request.getOptions())) {
-				apiRequest = ModelOptionsUtils.merge(request.getOptions(), apiRequest,
-						MistralAiApi.EmbeddingRequest.class);
-			}
+			return toEmbeddingResponse(batch, apiEmbeddingResponse);
+		}));
+	}
 
-			var apiEmbeddingResponse = this.mistralAiApi.embeddings(apiRequest).getBody();
+	@Override
+	public Mono<EmbeddingResponse> callAsync(EmbeddingRequest request) {
+		return this.callAsyncInBatches(request,
+				batch -> Mono.defer(() -> this.mistralAiApi.embeddingsAsync(createRequest(batch)))
+					.map(entity -> toEmbeddingResponse(batch, entity.getBody()))
+					.retryWhen(this.reactiveRetry));
+	}
+
+	@SuppressWarnings("unchecked")
+	private MistralAiApi.EmbeddingRequest<List<String>> createRequest(EmbeddingRequest request) {
+
+		var apiRequest = (this.defaultOptions != null)
+				? new MistralAiApi.EmbeddingRequest<>(request.getInstructions(), this.defaultOptions.getModel(),
+						this.defaultOptions.getEncodingFormat())
+				: new MistralAiApi.EmbeddingRequest<>(request.getInstructions(),
+						MistralAiApi.EmbeddingModel.EMBED.getValue());
+
+		if (request.getOptions() != null && !EmbeddingOptions.EMPTY.equals(request.getOptions())) {
+			apiRequest = ModelOptionsUtils.merge(request.getOptions(), apiRequest, MistralAiApi.EmbeddingRequest.class);
+		}
+		return apiRequest;
+	}
 
-			if (apiEmbeddingResponse == null) {
-				log.warn("No embeddings returned for request: {}", request);
-				return new EmbeddingResponse(List.of());
-			}
+	private EmbeddingResponse toEmbeddingResponse(EmbeddingRequest request,
+			MistralAiApi.EmbeddingList<MistralAiApi.Embedding> apiEmbeddingResponse) {
 
-			var metadata = generateResponseMetadata(apiEmbeddingResponse.model(), apiEmbeddingResponse.usage());
+		if (apiEmbeddingResponse == null) {
+			log.warn("No embeddings returned for request: {}", request);
+			return new EmbeddingResponse(List.of());
+		}
 
-			var embeddings = apiEmbeddingResponse.data()
-				.stream()
-				.map(e -> new Embedding(e.embedding(), e.index()))
-				.toList();
+		var metadata = generateResponseMetadata(apiEmbeddingResponse.model(), apiEmbeddingResponse.usage());
 
-			return new EmbeddingResponse(embeddings, metadata);
+		var embeddings = apiEmbeddingResponse.data()
+			.stream()
+			.map(e -> new Embedding(e.embedding(), e.index()))
+			.toList();
 
-		});
+		return new EmbeddingResponse(embeddings, metadata);
 	}
 
 	@Override
@@ -118,6 +152,11 @@ public class MistralAiEmbeddingClient extends AbstractEmbeddingClient {
 		return this.embed(document.getFormattedContent(this.metadataMode));
 	}
 
+	@Override
+	protected String getEmbeddingModelName() {
+		return this.defaultOptions.getModel();
+	}
+
 	private EmbeddingResponseMetadata generateResponseMetadata(String model, MistralAiApi.Usage usage) {
 		var metadata = new EmbeddingResponseMetadata();
 		metadata.put("model", model);
@@ -28,10 +28,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
@@ -65,6 +67,8 @@ public class MistralAiApi {
 
 	private WebClient webClient;
 
+	private final ReactiveResponseErrorHandler reactiveResponseErrorHandler;
+
 	/**
 	 * Create a new client api with DEFAULT_BASE_URL
 	 * @param mistralAiApiKey Mistral api Key.
@@ -91,6 +95,24 @@ public class MistralAiApi {
 	 */
 	public MistralAiApi(String baseUrl, String mistralAiApiKey, RestClient.Builder restClientBuilder,
 			ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, mistralAiApiKey, restClientBuilder, responseErrorHandler,
+				RetryUtils.DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER);
+	}
+
+	/**
+	 * Create a new client api.
+	 * @param baseUrl api base URL.
+	 * @param mistralAiApiKey Mistral api Key.
+	 * @param restClientBuilder RestClient builder.
+	 * @param responseErrorHandler Response error handler.
+	 * @param reactiveResponseErrorHandler Response error handler of the streaming and
+	 * async requests.
+	 */
+	public MistralAiApi(String baseUrl, String mistralAiApiKey, RestClient.Builder restClientBuilder,
+			ResponseErrorHandler responseErrorHandler, ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
+
+		Assert.notNull(reactiveResponseErrorHandler, "ReactiveResponseErrorHandler must not be null");
+		this.reactiveResponseErrorHandler = reactiveResponseErrorHandler;
 
 		Consumer<HttpHeaders> jsonContentHeaders = headers -> {
 			headers.setBearerAuth(mistralAiApiKey);
@@ -278,6 +300,39 @@ public class MistralAiApi {
 	 */
 	public <T> ResponseEntity<EmbeddingList<Embedding>> embeddings(EmbeddingRequest<T> embeddingRequest) {
 
+		assertEmbeddingRequest(embeddingRequest);
+
+		return this.restClient.post()
+			.uri("/v1/embeddings")
+			.body(embeddingRequest)
+			.retrieve()
+			.toEntity(new ParameterizedTypeReference<>() {
+			});
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link #embeddings(EmbeddingRequest)}. Error responses
+	 * are signaled as {@link org.springframework.ai.retry.TransientAiException} or
+	 * {@link org.springframework.ai.retry.NonTransientAiException}.
+	 * @param embeddingRequest The embedding request.
+	 * @return Mono of the list of {@link Embedding} wrapped in {@link EmbeddingList}.
+	 * @param <T> Type of the entity in the data list.
+	 */
+	public <T> Mono<ResponseEntity<EmbeddingList<Embedding>>> embeddingsAsync(EmbeddingRequest<T> embeddingRequest) {
+
+		assertEmbeddingRequest(embeddingRequest);
+
+		return this.webClient.post()
+			.uri("/v1/embeddings")
+			.bodyValue(embeddingRequest)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
+			.toEntity(new ParameterizedTypeReference<EmbeddingList<Embedding>>() {
+			});
+	}
+
+	private static <T> void assertEmbeddingRequest(EmbeddingRequest<T> embeddingRequest) {
+
 		Assert.notNull(embeddingRequest, "The request body can not be null.");
 
 		// Input text to embed, encoded as a string or array of tokens. To embed multiple
@@ -296,13 +351,6 @@ public class MistralAiApi {
 					list.get(0) instanceof String || list.get(0) instanceof Integer || list.get(0) instanceof List,
 					"The input must be either a String, or a List of Strings or list of list of integers.");
 		}
-
-		return this.restClient.post()
-			.uri("/v1/embeddings")
-			.body(embeddingRequest)
-			.retrieve()
-			.toEntity(new ParameterizedTypeReference<>() {
-			});
 	}
 
 	/**
@@ -705,6 +753,28 @@ public class MistralAiApi {
 			.toEntity(ChatCompletion.class);
 	}
 
+	/**
+	 * Non-blocking counterpart of {@link #chatCompletionEntity(ChatCompletionRequest)}.
+	 * Error responses are signaled as
+	 * {@link org.springframework.ai.retry.TransientAiException} or
+	 * {@link org.springframework.ai.retry.NonTransientAiException}.
+	 * @param chatRequest The chat completion request.
+	 * @return Mono of the entity response with {@link ChatCompletion} as a body and HTTP
+	 * status code and headers.
+	 */
+	public Mono<ResponseEntity<ChatCompletion>> chatCompletionEntityAsync(ChatCompletionRequest chatRequest) {
+
+		Assert.notNull(chatRequest, "The request body can not be null.");
+		Assert.isTrue(!chatRequest.stream(), "Request must set the steam property to false.");
+
+		return this.webClient.post()
+			.uri("/v1/chat/completions")
+			.bodyValue(chatRequest)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
+			.toEntity(ChatCompletion.class);
+	}
+
 	private MIstralAiStreamFunctionCallingHelper chunkMerger = new MIstralAiStreamFunctionCallingHelper();
 
 	/**
@@ -724,6 +794,7 @@ public class MistralAiApi {
 			.uri("/v1/chat/completions")
 			.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
 			.bodyToFlux(String.class)
 			.takeUntil(SSE_DONE_PREDICATE)
 			.filter(SSE_DONE_PREDICATE.negate())
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.mistralai;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.mistralai.api.MistralAiApi;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.ReactiveRetry;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the non-blocking {@code callAsync} implementations against a mock server.
+ */
+public class MistralAiAsyncTests {
+
+	private static final String CHAT_COMPLETION = """
+			{"id": "id", "object": "chat.completion", "created": 1, "model": "mistral-tiny",
+			 "choices": [{"index": 0, "message": {"role": "assistant", "content": "Hello"}, "finish_reason": "stop"}],
+			 "usage": {"prompt_tokens": 1, "completion_tokens": 1, "total_tokens": 2}}
+			""";
+
+	private static final String EMBEDDING_LIST = """
+			{"object": "list", "data": [{"object": "embedding", "index": 0, "embedding": [0.1, 0.2]}],
+			 "model": "mistral-embed", "usage": {"prompt_tokens": 1, "total_tokens": 1}}
+			""";
+
+	private final ReactiveRetry reactiveRetry = new ReactiveRetry(3, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0);
+
+	private MockWebServer server;
+
+	private MistralAiChatClient chatClient;
+
+	private MistralAiEmbeddingClient embeddingClient;
+
+	@BeforeEach
+	public void beforeEach() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+
+		var mistralAiApi = new MistralAiApi("http://" + this.server.getHostName() + ":" + this.server.getPort(), "key");
+		this.chatClient = new MistralAiChatClient(mistralAiApi,
+				MistralAiChatOptions.builder().withModel(MistralAiApi.ChatModel.TINY.getValue()).build(), null,
+				RetryUtils.DEFAULT_RETRY_TEMPLATE, this.reactiveRetry);
+		this.embeddingClient = new MistralAiEmbeddingClient(mistralAiApi, MetadataMode.EMBED,
+				MistralAiEmbeddingOptions.builder().withModel(MistralAiApi.EmbeddingModel.EMBED.getValue()).build(),
+				RetryUtils.DEFAULT_RETRY_TEMPLATE, this.reactiveRetry);
+	}
+
+	@AfterEach
+	public void afterEach() throws IOException {
+		this.server.shutdown();
+	}
+
+	@Test
+	public void chatCallAsync() {
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var response = this.chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void chatCallAsyncRetriesTransientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var response = this.chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void chatCallAsyncDoesNotRetryClientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(401).setBody("Unauthorized"));
+
+		assertThatThrownBy(() -> this.chatClient.callAsync(new Prompt("text")).block())
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessageContaining("401");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsync() {
+		this.server.enqueue(jsonResponse(EMBEDDING_LIST));
+
+		var response = this.embeddingClient.callAsync(new EmbeddingRequest(List.of("text"), null)).block();
+
+		assertThat(response.getResult().getOutput()).containsExactly(0.1, 0.2);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsyncRetriesTransientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(jsonResponse(EMBEDDING_LIST));
+
+		var response = this.embeddingClient.callAsync(new EmbeddingRequest(List.of("text"), null)).block();
+
+		assertThat(response.getResult().getOutput()).containsExactly(0.1, 0.2);
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void embeddingCallAsyncDoesNotRetryMalformedResponses() {
+		this.server.enqueue(jsonResponse("{\"object\": \"list\", \"data\": [{"));
+
+		assertThatThrownBy(() -> this.embeddingClient.callAsync(new EmbeddingRequest(List.of("text"), null)).block())
+			.isNotInstanceOf(TransientAiException.class);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsyncDoesNotRetryClientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(401).setBody("Unauthorized"));
+
+		assertThatThrownBy(() -> this.embeddingClient.callAsync(new EmbeddingRequest(List.of("text"), null)).block())
+			.isInstanceOf(NonTransientAiException.class);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	private static MockResponse jsonResponse(String body) {
+		return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).setBody(body);
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.mistralai;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +38,7 @@ import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionRequest;
 import org.springframework.ai.mistralai.api.MistralAiApi.Embedding;
 import org.springframework.ai.mistralai.api.MistralAiApi.EmbeddingList;
 import org.springframework.ai.mistralai.api.MistralAiApi.EmbeddingRequest;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.retry.TransientAiException;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +50,8 @@ import org.springframework.retry.support.RetryTemplate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -80,6 +84,8 @@ public class MistralAiRetryTests {
 
 	private RetryTemplate retryTemplate;
 
+	private ReactiveRetry reactiveRetry;
+
 	private @Mock MistralAiApi mistralAiApi;
 
 	private MistralAiChatClient chatClient;
@@ -92,6 +98,8 @@ public class MistralAiRetryTests {
 		retryListener = new TestRetryListener();
 		retryTemplate.registerListener(retryListener);
 
+		reactiveRetry = new ReactiveRetry(10, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0);
+
 		chatClient = new MistralAiChatClient(mistralAiApi,
 				MistralAiChatOptions.builder()
 					.withTemperature(0.7f)
@@ -99,7 +107,7 @@ public class MistralAiRetryTests {
 					.withSafePrompt(false)
 					.withModel(MistralAiApi.ChatModel.TINY.getValue())
 					.build(),
-				null, retryTemplate);
+				null, retryTemplate, reactiveRetry);
 		embeddingClient = new MistralAiEmbeddingClient(mistralAiApi, MetadataMode.EMBED,
 				MistralAiEmbeddingOptions.builder().withModel(MistralAiApi.EmbeddingModel.EMBED.getValue()).build(),
 				retryTemplate);
@@ -142,23 +150,23 @@ public class MistralAiRetryTests {
 				"model", List.of(choice));
 
 		when(mistralAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-			.thenThrow(new TransientAiException("Transient Error 1"))
-			.thenThrow(new TransientAiException("Transient Error 2"))
+			.thenReturn(Flux.error(new TransientAiException("Transient Error 1")))
+			.thenReturn(Flux.error(new TransientAiException("Transient Error 2")))
 			.thenReturn(Flux.just(expectedChatCompletion));
 
 		var result = chatClient.stream(new Prompt("text"));
 
 		assertThat(result).isNotNull();
 		assertThat(result.collectList().block().get(0).getResult().getOutput().getContent()).isSameAs("Response");
-		assertThat(retryListener.onSuccessRetryCount).isEqualTo(2);
-		assertThat(retryListener.onErrorRetryCount).isEqualTo(2);
+		verify(mistralAiApi, times(3)).chatCompletionStream(isA(ChatCompletionRequest.class));
 	}
 
 	@Test
 	public void mistralAiChatStreamNonTransientError() {
 		when(mistralAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-				.thenThrow(new RuntimeException("Non Transient Error"));
-		assertThrows(RuntimeException.class, () -> chatClient.stream(new Prompt("text")));
+			.thenReturn(Flux.error(new RuntimeException("Non Transient Error")));
+		assertThrows(RuntimeException.class, () -> chatClient.stream(new Prompt("text")).blockLast());
+		verify(mistralAiApi, times(1)).chatCompletionStream(isA(ChatCompletionRequest.class));
 	}
 
 	@Test
@@ -18,6 +18,7 @@ package org.springframework.ai.ollama;
 import java.util.List;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.prompt.ChatOptions;
@@ -33,6 +34,9 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.ollama.api.OllamaApi;
 import org.springframework.ai.ollama.api.OllamaApi.Message.Role;
 import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.ai.retry.ReactiveRetry;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -61,8 +65,20 @@ public class OllamaChatClient implements ChatClient, StreamingChatClient {
 	 */
 	private OllamaOptions defaultOptions = OllamaOptions.create().withModel(OllamaOptions.DEFAULT_MODEL);
 
+	/**
+	 * Retry used by the streaming and async chat requests.
+	 */
+	private final ReactiveRetry reactiveRetry;
+
 	public OllamaChatClient(OllamaApi chatApi) {
+		this(chatApi, RetryUtils.DEFAULT_REACTIVE_RETRY);
+	}
+
+	public OllamaChatClient(OllamaApi chatApi, ReactiveRetry reactiveRetry) {
+		Assert.notNull(chatApi, "OllamaApi must not be null");
+		Assert.notNull(reactiveRetry, "ReactiveRetry must not be null");
 		this.chatApi = chatApi;
+		this.reactiveRetry = reactiveRetry;
 	}
 
 	/**
@@ -81,8 +97,17 @@ public class OllamaChatClient implements ChatClient, StreamingChatClient {
 
 	@Override
 	public ChatResponse call(Prompt prompt) {
+		return toChatResponse(this.chatApi.chat(ollamaChatRequest(prompt, false)));
+	}
 
-		OllamaApi.ChatResponse response = this.chatApi.chat(ollamaChatRequest(prompt, false));
+	@Override
+	public Mono<ChatResponse> callAsync(Prompt prompt) {
+		return Mono.defer(() -> this.chatApi.chatAsync(ollamaChatRequest(prompt, false)))
+			.map(this::toChatResponse)
+			.retryWhen(this.reactiveRetry);
+	}
+
+	private ChatResponse toChatResponse(OllamaApi.ChatResponse response) {
 		var generator = new Generation(response.message().content());
 		if (response.promptEvalCount() != null && response.evalCount() != null) {
 			generator = generator
@@ -94,7 +119,12 @@ public class OllamaChatClient implements ChatClient, StreamingChatClient {
 	@Override
 	public Flux<ChatResponse> stream(Prompt prompt) {
 
-		Flux<OllamaApi.ChatResponse> response = this.chatApi.streamingChat(ollamaChatRequest(prompt, true));
+		OllamaApi.ChatRequest request = ollamaChatRequest(prompt, true);
+
+		// Retries re-send the request as long as no chunk has been received, a partially
+		// streamed response is never replayed.
+		Flux<OllamaApi.ChatResponse> response = this.reactiveRetry
+			.retryBeforeFirstElement(Flux.defer(() -> this.chatApi.streamingChat(request)));
 
 		return response.map(chunk -> {
 			Generation generation = (chunk.message() != null) ? new Generation(chunk.message().content())
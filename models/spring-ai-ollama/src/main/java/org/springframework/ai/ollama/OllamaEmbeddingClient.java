@@ -15,12 +15,9 @@
  */
 package org.springframework.ai.ollama;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.AbstractEmbeddingClient;
@@ -48,13 +45,14 @@ import org.springframework.util.StringUtils;
  * Please refer to the <a href="https://ollama.ai/">official Ollama website</a> for the
  * most up-to-date information on available models.
  *
+ * Ollama embeds a single input per API call. The inputs of a request are sent as
+ * concurrent API calls, see {@link AbstractEmbeddingClient#setMaxConcurrency(int)}.
+ *
  * @author Christian Tzolov
  * @since 0.8.0
  */
 public class OllamaEmbeddingClient extends AbstractEmbeddingClient {
 
-	private final Logger logger = LoggerFactory.getLogger(getClass());
-
 	private final OllamaApi ollamaApi;
 
 	/**
@@ -64,6 +62,7 @@ public class OllamaEmbeddingClient extends AbstractEmbeddingClient {
 
 	public OllamaEmbeddingClient(OllamaApi ollamaApi) {
 		this.ollamaApi = ollamaApi;
+		this.setMaxInputsPerRequest(1);
 	}
 
 	/**
@@ -87,27 +86,35 @@ public class OllamaEmbeddingClient extends AbstractEmbeddingClient {
 
 	@Override
 	public EmbeddingResponse call(org.springframework.ai.embedding.EmbeddingRequest request) {
-		Assert.notEmpty(request.getInstructions(), "At least one text is required!");
-		if (request.getInstructions().size() != 1) {
-			logger.warn(
-					"Ollama Embedding does not support batch embedding. Will make multiple API calls to embed(Document)");
-		}
-
-		List<List<Double>> embeddingList = new ArrayList<>();
-		for (String inputContent : request.getInstructions()) {
+		assertEmbeddingRequest(request);
+		return this.callInBatches(request, batch -> {
+			var ollamaEmbeddingRequest = ollamaEmbeddingRequest(batch.getInstructions().get(0), batch.getOptions());
+			return toEmbeddingResponse(this.ollamaApi.embeddings(ollamaEmbeddingRequest));
+		});
+	}
 
-			var ollamaEmbeddingRequest = ollamaEmbeddingRequest(inputContent, request.getOptions());
+	@Override
+	public Mono<EmbeddingResponse> callAsync(org.springframework.ai.embedding.EmbeddingRequest request) {
+		return Mono.defer(() -> {
+			assertEmbeddingRequest(request);
+			return this.callAsyncInBatches(request,
+					batch -> this.ollamaApi
+						.embeddingsAsync(ollamaEmbeddingRequest(batch.getInstructions().get(0), batch.getOptions()))
+						.map(this::toEmbeddingResponse));
+		});
+	}
 
-			OllamaApi.EmbeddingResponse response = this.ollamaApi.embeddings(ollamaEmbeddingRequest);
+	private void assertEmbeddingRequest(org.springframework.ai.embedding.EmbeddingRequest request) {
+		Assert.notEmpty(request.getInstructions(), "At least one text is required!");
+	}
 
-			embeddingList.add(response.embedding());
-		}
-		var indexCounter = new AtomicInteger(0);
+	private EmbeddingResponse toEmbeddingResponse(OllamaApi.EmbeddingResponse response) {
+		return new EmbeddingResponse(List.of(new Embedding(response.embedding(), 0)));
+	}
 
-		List<Embedding> embeddings = embeddingList.stream()
-			.map(e -> new Embedding(e, indexCounter.getAndIncrement()))
-			.toList();
-		return new EmbeddingResponse(embeddings);
+	@Override
+	protected String getEmbeddingModelName() {
+		return this.defaultOptions.getModel();
 	}
 
 	/**
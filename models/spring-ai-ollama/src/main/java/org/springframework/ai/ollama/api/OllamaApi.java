@@ -31,7 +31,10 @@ import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
+import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.Assert;
@@ -57,6 +60,8 @@ public class OllamaApi {
 
 	private final ResponseErrorHandler responseErrorHandler;
 
+	private final ReactiveResponseErrorHandler reactiveResponseErrorHandler;
+
 	private final RestClient restClient;
 
 	private final WebClient webClient;
@@ -103,8 +108,23 @@ public class OllamaApi {
 	 * @param restClientBuilder The {@link RestClient.Builder} to use.
 	 */
 	public OllamaApi(String baseUrl, RestClient.Builder restClientBuilder) {
+		this(baseUrl, restClientBuilder, RetryUtils.DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER);
+	}
+
+	/**
+	 * Crate a new OllamaApi instance with the given base url, {@link RestClient.Builder}
+	 * and error handler of the streaming requests.
+	 * @param baseUrl The base url of the Ollama server.
+	 * @param restClientBuilder The {@link RestClient.Builder} to use.
+	 * @param reactiveResponseErrorHandler The error handler of the streaming requests.
+	 */
+	public OllamaApi(String baseUrl, RestClient.Builder restClientBuilder,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
+
+		Assert.notNull(reactiveResponseErrorHandler, "ReactiveResponseErrorHandler must not be null");
 
 		this.responseErrorHandler = new OllamaResponseErrorHandler();
+		this.reactiveResponseErrorHandler = reactiveResponseErrorHandler;
 
 		Consumer<HttpHeaders> defaultHeaders = headers -> {
 			headers.setContentType(MediaType.APPLICATION_JSON);
@@ -520,6 +540,24 @@ public class OllamaApi {
 			.body(ChatResponse.class);
 	}
 
+	/**
+	 * Non-blocking variant of {@link #chat(ChatRequest)}. The response is delivered
+	 * once the whole chat response has been received.
+	 * @param chatRequest Chat request. Stream mode must be disabled.
+	 * @return Chat response as a {@link Mono}.
+	 */
+	public Mono<ChatResponse> chatAsync(ChatRequest chatRequest) {
+		Assert.notNull(chatRequest, REQUEST_BODY_NULL_ERROR);
+		Assert.isTrue(!chatRequest.stream(), "Stream mode must be disabled.");
+
+		return this.webClient.post()
+			.uri("/api/chat")
+			.bodyValue(chatRequest)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
+			.bodyToMono(ChatResponse.class);
+	}
+
 	/**
 	 * Streaming response for the chat completion request.
 	 * @param chatRequest Chat request. The request must set the stream property to true.
@@ -533,6 +571,7 @@ public class OllamaApi {
 			.uri("/api/chat")
 			.body(Mono.just(chatRequest), GenerateRequest.class)
 			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
 			.bodyToFlux(ChatResponse.class)
 			.handle((data, sink) -> {
 				if (logger.isTraceEnabled()) {
@@ -595,5 +634,21 @@ public class OllamaApi {
 			.body(EmbeddingResponse.class);
 	}
 
+	/**
+	 * Non-blocking variant of {@link #embeddings(EmbeddingRequest)}.
+	 * @param embeddingRequest Embedding request.
+	 * @return Embedding response as a {@link Mono}.
+	 */
+	public Mono<EmbeddingResponse> embeddingsAsync(EmbeddingRequest embeddingRequest) {
+		Assert.notNull(embeddingRequest, REQUEST_BODY_NULL_ERROR);
+
+		return this.webClient.post()
+			.uri("/api/embeddings")
+			.bodyValue(embeddingRequest)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
+			.bodyToMono(EmbeddingResponse.class);
+	}
+
 }
 // @formatter:on
\ No newline at end of file
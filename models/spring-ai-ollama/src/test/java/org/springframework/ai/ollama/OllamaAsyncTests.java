@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.ollama;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.ReactiveRetry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the non-blocking {@code callAsync} implementations against a mock server.
+ */
+public class OllamaAsyncTests {
+
+	private static final String CHAT_RESPONSE = """
+			{"model": "mistral", "message": {"role": "assistant", "content": "Hello"}, "done": true,
+			 "prompt_eval_count": 1, "eval_count": 1}
+			""";
+
+	private MockWebServer server;
+
+	private OllamaChatClient chatClient;
+
+	private OllamaEmbeddingClient embeddingClient;
+
+	@BeforeEach
+	public void beforeEach() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+
+		var ollamaApi = new OllamaApi("http://" + this.server.getHostName() + ":" + this.server.getPort());
+		this.chatClient = new OllamaChatClient(ollamaApi,
+				new ReactiveRetry(3, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0));
+		this.embeddingClient = new OllamaEmbeddingClient(ollamaApi);
+	}
+
+	@AfterEach
+	public void afterEach() throws IOException {
+		this.server.shutdown();
+	}
+
+	@Test
+	public void chatCallAsync() {
+		this.server.enqueue(jsonResponse(CHAT_RESPONSE));
+
+		var response = this.chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void chatCallAsyncRetriesTransientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(jsonResponse(CHAT_RESPONSE));
+
+		var response = this.chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void chatCallAsyncDoesNotRetryClientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(404).setBody("model 'mistral' not found"));
+
+		assertThatThrownBy(() -> this.chatClient.callAsync(new Prompt("text")).block())
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessageContaining("404");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsync() {
+		// Ollama embeds one input per request.
+		this.server.enqueue(jsonResponse("{\"embedding\": [0.1, 0.2]}"));
+		this.server.enqueue(jsonResponse("{\"embedding\": [0.3, 0.4]}"));
+
+		var response = this.embeddingClient.callAsync(new EmbeddingRequest(List.of("text1", "text2"), null)).block();
+
+		assertThat(response.getResults()).hasSize(2);
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void embeddingCallAsyncClientError() {
+		this.server.enqueue(new MockResponse().setResponseCode(404).setBody("model 'mistral' not found"));
+
+		assertThatThrownBy(() -> this.embeddingClient.callAsync(new EmbeddingRequest(List.of("text"), null)).block())
+			.isInstanceOf(NonTransientAiException.class);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	private static MockResponse jsonResponse(String body) {
+		return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).setBody(body);
+	}
+
+}
@@ -26,6 +26,7 @@ import org.springframework.ai.openai.api.common.OpenAiApiException;
 import org.springframework.ai.openai.audio.speech.*;
 import org.springframework.ai.openai.metadata.audio.OpenAiAudioSpeechResponseMetadata;
 import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
@@ -128,6 +129,18 @@ public class OpenAiAudioSpeechClient implements SpeechClient, StreamingSpeechCli
 					OpenAiResponseHeaderExtractor.extractAiResponseHeaders(entity))));
 	}
 
+	/**
+	 * Streams the raw audio for the given speech prompt as it is produced, for example to
+	 * forward it to an HTTP response. The caller is responsible for releasing the
+	 * {@link DataBuffer}s.
+	 * @param prompt The speech prompt containing the text and options for speech
+	 * synthesis.
+	 * @return A Flux of data buffers containing the streamed audio.
+	 */
+	public Flux<DataBuffer> streamSpeech(SpeechPrompt prompt) {
+		return this.audioApi.streamSpeech(this.createRequestBody(prompt));
+	}
+
 	private OpenAiAudioApi.SpeechRequest createRequestBody(SpeechPrompt request) {
 		OpenAiAudioSpeechOptions options = this.defaultOptions;
 
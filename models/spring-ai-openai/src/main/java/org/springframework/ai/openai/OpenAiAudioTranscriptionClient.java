@@ -187,7 +187,7 @@ public class OpenAiAudioTranscriptionClient
 		}
 
 		OpenAiAudioApi.TranscriptionRequest audioTranscriptionRequest = OpenAiAudioApi.TranscriptionRequest.builder()
-			.withFile(toBytes(request.getInstructions()))
+			.withFile(request.getInstructions())
 			.withResponseFormat(options.getResponseFormat())
 			.withPrompt(options.getPrompt())
 			.withTemperature(options.getTemperature())
@@ -198,15 +198,6 @@ public class OpenAiAudioTranscriptionClient
 		return audioTranscriptionRequest;
 	}
 
-	private byte[] toBytes(Resource resource) {
-		try {
-			return resource.getInputStream().readAllBytes();
-		}
-		catch (Exception e) {
-			throw new IllegalArgumentException("Failed to read resource: " + resource, e);
-		}
-	}
-
 	private OpenAiAudioTranscriptionOptions merge(OpenAiAudioTranscriptionOptions source,
 			OpenAiAudioTranscriptionOptions target) {
 
@@ -26,6 +26,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
@@ -48,6 +50,7 @@ import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.ToolCal
 import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionRequest;
 import org.springframework.ai.openai.metadata.OpenAiChatResponseMetadata;
 import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -84,6 +87,11 @@ public class OpenAiChatClient extends
 	 */
 	public final RetryTemplate retryTemplate;
 
+	/**
+	 * The reactive retry used to retry the streaming and async OpenAI API calls.
+	 */
+	private final ReactiveRetry reactiveRetry;
+
 	/**
 	 * Low-level access to the OpenAI API.
 	 */
@@ -120,13 +128,29 @@ public class OpenAiChatClient extends
 	 */
 	public OpenAiChatClient(OpenAiApi openAiApi, OpenAiChatOptions options,
 			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate) {
+		this(openAiApi, options, functionCallbackContext, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY);
+	}
+
+	/**
+	 * Initializes a new instance of the OpenAiChatClient.
+	 * @param openAiApi The OpenAiApi instance to be used for interacting with the OpenAI
+	 * Chat API.
+	 * @param options The OpenAiChatOptions to configure the chat client.
+	 * @param functionCallbackContext The function callback context.
+	 * @param retryTemplate The retry template.
+	 * @param reactiveRetry The retry used by the streaming and async calls.
+	 */
+	public OpenAiChatClient(OpenAiApi openAiApi, OpenAiChatOptions options,
+			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate, ReactiveRetry reactiveRetry) {
 		super(functionCallbackContext);
 		Assert.notNull(openAiApi, "OpenAiApi must not be null");
 		Assert.notNull(options, "Options must not be null");
 		Assert.notNull(retryTemplate, "RetryTemplate must not be null");
+		Assert.notNull(reactiveRetry, "ReactiveRetry must not be null");
 		this.openAiApi = openAiApi;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetry = reactiveRetry;
 	}
 
 	@Override
@@ -138,22 +162,46 @@ public class OpenAiChatClient extends
 
 			ResponseEntity<ChatCompletion> completionEntity = this.callWithFunctionSupport(request);
 
-			var chatCompletion = completionEntity.getBody();
-			if (chatCompletion == null) {
-				logger.warn("No chat completion returned for prompt: {}", prompt);
-				return new ChatResponse(List.of());
-			}
+			return this.toChatResponse(prompt, completionEntity);
+		});
+	}
 
-			RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(completionEntity);
+	/**
+	 * Sends the chat completion request without blocking. Tool call responses run the
+	 * function callbacks, and the follow-up requests, on the bounded elastic scheduler as
+	 * the callbacks may block.
+	 */
+	@Override
+	public Mono<ChatResponse> callAsync(Prompt prompt) {
 
-			List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
-				return new Generation(choice.message().content(), toMap(chatCompletion.id(), choice))
-					.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null));
-			}).toList();
+		ChatCompletionRequest request = createRequest(prompt, false);
 
-			return new ChatResponse(generations,
-					OpenAiChatResponseMetadata.from(completionEntity.getBody()).withRateLimit(rateLimits));
-		});
+		return this.openAiApi.chatCompletionEntityAsync(request)
+			.flatMap(completionEntity -> this.isToolFunctionCall(completionEntity)
+					? Mono.fromCallable(() -> this.handleFunctionCallOrReturn(request, completionEntity))
+						.subscribeOn(Schedulers.boundedElastic())
+					: Mono.just(completionEntity))
+			.map(completionEntity -> this.toChatResponse(prompt, completionEntity))
+			.retryWhen(this.reactiveRetry);
+	}
+
+	private ChatResponse toChatResponse(Prompt prompt, ResponseEntity<ChatCompletion> completionEntity) {
+
+		var chatCompletion = completionEntity.getBody();
+		if (chatCompletion == null) {
+			logger.warn("No chat completion returned for prompt: {}", prompt);
+			return new ChatResponse(List.of());
+		}
+
+		RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(completionEntity);
+
+		List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
+			return new Generation(choice.message().content(), toMap(chatCompletion.id(), choice))
+				.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null));
+		}).toList();
+
+		return new ChatResponse(generations,
+				OpenAiChatResponseMetadata.from(completionEntity.getBody()).withRateLimit(rateLimits));
 	}
 
 	private Map<String, Object> toMap(String id, ChatCompletion.Choice choice) {
@@ -175,46 +223,46 @@ public class OpenAiChatClient extends
 
 		ChatCompletionRequest request = createRequest(prompt, true);
 
-		return this.retryTemplate.execute(ctx -> {
+		// Retries re-send the request as long as no chunk has been received, a partially
+		// streamed response is never replayed.
+		Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.reactiveRetry
+			.retryBeforeFirstElement(Flux.defer(() -> this.openAiApi.chatCompletionStream(request)));
+
+		// For chunked responses, only the first chunk contains the choice role.
+		// The rest of the chunks with same ID share the same role.
+		ConcurrentHashMap<String, String> roleMap = new ConcurrentHashMap<>();
+
+		// Convert the ChatCompletionChunk into a ChatCompletion to be able to reuse
+		// the function call handling logic.
+		return completionChunks.map(chunk -> chunkToChatCompletion(chunk)).map(chatCompletion -> {
+			try {
+				chatCompletion = handleFunctionCallOrReturn(request, ResponseEntity.of(Optional.of(chatCompletion)))
+					.getBody();
+
+				@SuppressWarnings("null")
+				String id = chatCompletion.id();
+
+				List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
+					if (choice.message().role() != null) {
+						roleMap.putIfAbsent(id, choice.message().role().name());
+					}
+					String finish = (choice.finishReason() != null ? choice.finishReason().name() : "");
+					var generation = new Generation(choice.message().content(),
+							Map.of("id", id, "role", roleMap.get(id), "finishReason", finish));
+					if (choice.finishReason() != null) {
+						generation = generation
+							.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null));
+					}
+					return generation;
+				}).toList();
+
+				return new ChatResponse(generations);
+			}
+			catch (Exception e) {
+				logger.error("Error processing chat completion", e);
+				return new ChatResponse(List.of());
+			}
 
-			Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.openAiApi.chatCompletionStream(request);
-
-			// For chunked responses, only the first chunk contains the choice role.
-			// The rest of the chunks with same ID share the same role.
-			ConcurrentHashMap<String, String> roleMap = new ConcurrentHashMap<>();
-
-			// Convert the ChatCompletionChunk into a ChatCompletion to be able to reuse
-			// the function call handling logic.
-			return completionChunks.map(chunk -> chunkToChatCompletion(chunk)).map(chatCompletion -> {
-				try {
-					chatCompletion = handleFunctionCallOrReturn(request, ResponseEntity.of(Optional.of(chatCompletion)))
-						.getBody();
-
-					@SuppressWarnings("null")
-					String id = chatCompletion.id();
-
-					List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
-						if (choice.message().role() != null) {
-							roleMap.putIfAbsent(id, choice.message().role().name());
-						}
-						String finish = (choice.finishReason() != null ? choice.finishReason().name() : "");
-						var generation = new Generation(choice.message().content(),
-								Map.of("id", id, "role", roleMap.get(id), "finishReason", finish));
-						if (choice.finishReason() != null) {
-							generation = generation.withGenerationMetadata(
-									ChatGenerationMetadata.from(choice.finishReason().name(), null));
-						}
-						return generation;
-					}).toList();
-
-					return new ChatResponse(generations);
-				}
-				catch (Exception e) {
-					logger.error("Error processing chat completion", e);
-					return new ChatResponse(List.of());
-				}
-
-			});
 		});
 	}
 
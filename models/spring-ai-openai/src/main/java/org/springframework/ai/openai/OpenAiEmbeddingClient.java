@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
@@ -32,6 +33,7 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiApi.EmbeddingList;
 import org.springframework.ai.openai.api.OpenAiApi.Usage;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
@@ -45,10 +47,23 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	private static final Logger logger = LoggerFactory.getLogger(OpenAiEmbeddingClient.class);
 
+	/**
+	 * Maximum number of inputs in a single OpenAI embedding request.
+	 */
+	public static final int MAX_INPUTS_PER_REQUEST = 2048;
+
+	/**
+	 * Maximum number of tokens, summed over all inputs, in a single OpenAI embedding
+	 * request.
+	 */
+	public static final int MAX_TOKENS_PER_REQUEST = 300_000;
+
 	private final OpenAiEmbeddingOptions defaultOptions;
 
 	private final RetryTemplate retryTemplate;
 
+	private final ReactiveRetry reactiveRetry;
+
 	private final OpenAiApi openAiApi;
 
 	private final MetadataMode metadataMode;
@@ -92,15 +107,32 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 	 */
 	public OpenAiEmbeddingClient(OpenAiApi openAiApi, MetadataMode metadataMode, OpenAiEmbeddingOptions options,
 			RetryTemplate retryTemplate) {
+		this(openAiApi, metadataMode, options, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY);
+	}
+
+	/**
+	 * Initializes a new instance of the OpenAiEmbeddingClient class.
+	 * @param openAiApi - The OpenAiApi instance to use for making API requests.
+	 * @param metadataMode - The mode for generating metadata.
+	 * @param options - The options for OpenAI embedding.
+	 * @param retryTemplate - The RetryTemplate for retrying failed API requests.
+	 * @param reactiveRetry - The retry used by the async calls.
+	 */
+	public OpenAiEmbeddingClient(OpenAiApi openAiApi, MetadataMode metadataMode, OpenAiEmbeddingOptions options,
+			RetryTemplate retryTemplate, ReactiveRetry reactiveRetry) {
 		Assert.notNull(openAiApi, "OpenAiService must not be null");
 		Assert.notNull(metadataMode, "metadataMode must not be null");
 		Assert.notNull(options, "options must not be null");
 		Assert.notNull(retryTemplate, "retryTemplate must not be null");
+		Assert.notNull(reactiveRetry, "reactiveRetry must not be null");
 
 		this.openAiApi = openAiApi;
 		this.metadataMode = metadataMode;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetry = reactiveRetry;
+		this.setMaxInputsPerRequest(MAX_INPUTS_PER_REQUEST);
+		this.setMaxTokensPerRequest(MAX_TOKENS_PER_REQUEST);
 	}
 
 	@Override
@@ -109,41 +141,83 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 		return this.embed(document.getFormattedContent(this.metadataMode));
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
 
-		return this.retryTemplate.execute(ctx -> {
+		return this.callInBatches(request, batch -> this.retryTemplate.execute(ctx -> {
+
+			EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse = this.openAiApi
+				.embeddings(this.createRequest(batch))
+				.getBody();
 
-			org.springframework.ai.openai.api.OpenAiApi.EmbeddingRequest<List<String>> apiRequest = (this.defaultOptions != null)
-					? new org.springframework.ai.openai.api.OpenAiApi.EmbeddingRequest<>(request.getInstructions(),
-							this.defaultOptions.getModel(), this.defaultOptions.getEncodingFormat(),
-							this.defaultOptions.getUser())
-					: new org.springframework.ai.openai.api.OpenAiApi.EmbeddingRequest<>(request.getInstructions(),
-							OpenAiApi.DEFAULT_EMBEDDING_MODEL);
+			return this.toEmbeddingResponse(batch, apiEmbeddingResponse);
+		}));
+	}
+
+	@Override
+	public Mono<EmbeddingResponse> callAsync(EmbeddingRequest request) {
+		return this.callAsyncInBatches(request,
+				batch -> Mono.defer(() -> this.openAiApi.embeddingsAsync(this.createRequest(batch)))
+					.map(entity -> this.toEmbeddingResponse(batch, entity.getBody()))
+					.retryWhen(this.reactiveRetry));
+	}
+
+	@SuppressWarnings("unchecked")
+	private OpenAiApi.EmbeddingRequest<List<String>> createRequest(EmbeddingRequest request) {
 
-			if (request.getOptions() != null && !EmbeddingOptions.EMPTY.equals(request.getOptions())) {
-				apiRequest = ModelOptionsUtils.merge(request.getOptions(), apiRequest,
-						org.springframework.ai.openai.api.OpenAiApi.EmbeddingRequest.class);
-			}
+		OpenAiApi.EmbeddingRequest<List<String>> apiRequest = (this.defaultOptions != null)
+				? new OpenAiApi.EmbeddingRequest<>(request.getInstructions(), this.defaultOptions.getModel(),
+						this.encodingFormat(), this.defaultOptions.getUser(), this.defaultOptions.getDimensions())
+				: new OpenAiApi.EmbeddingRequest<>(request.getInstructions(), OpenAiApi.DEFAULT_EMBEDDING_MODEL);
 
-			EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse = this.openAiApi.embeddings(apiRequest).getBody();
+		if (request.getOptions() != null && !EmbeddingOptions.EMPTY.equals(request.getOptions())) {
+			apiRequest = ModelOptionsUtils.merge(request.getOptions(), apiRequest, OpenAiApi.EmbeddingRequest.class);
+		}
+		return apiRequest;
+	}
 
-			if (apiEmbeddingResponse == null) {
-				logger.warn("No embeddings returned for request: {}", request);
-				return new EmbeddingResponse(List.of());
-			}
+	private EmbeddingResponse toEmbeddingResponse(EmbeddingRequest request,
+			EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse) {
 
-			var metadata = generateResponseMetadata(apiEmbeddingResponse.model(), apiEmbeddingResponse.usage());
+		if (apiEmbeddingResponse == null) {
+			logger.warn("No embeddings returned for request: {}", request);
+			return new EmbeddingResponse(List.of());
+		}
 
-			List<Embedding> embeddings = apiEmbeddingResponse.data()
-				.stream()
-				.map(e -> new Embedding(e.embedding(), e.index()))
-				.toList();
+		var metadata = generateResponseMetadata(apiEmbeddingResponse.model(), apiEmbeddingResponse.usage());
 
-			return new EmbeddingResponse(embeddings, metadata);
+		List<Embedding> embeddings = apiEmbeddingResponse.data()
+			.stream()
+			.map(e -> new Embedding(e.embedding(), e.index()))
+			.toList();
 
-		});
+		return new EmbeddingResponse(embeddings, metadata);
+	}
+
+	/**
+	 * The configured {@link OpenAiEmbeddingOptions#getDimensions()} if set, otherwise the
+	 * native dimensions of the model.
+	 */
+	@Override
+	public int dimensions() {
+		if (this.defaultOptions.getDimensions() != null) {
+			return this.defaultOptions.getDimensions();
+		}
+		return super.dimensions();
+	}
+
+	@Override
+	protected String getEmbeddingModelName() {
+		return this.defaultOptions.getModel();
+	}
+
+	/**
+	 * Unless float embeddings are requested explicitly, ask for the base64 encoding. It
+	 * is about a quarter of the response size and is decoded straight into float values.
+	 */
+	private String encodingFormat() {
+		return (this.defaultOptions.getEncodingFormat() != null) ? this.defaultOptions.getEncodingFormat()
+				: OpenAiApi.DEFAULT_EMBEDDING_ENCODING_FORMAT;
 	}
 
 	private EmbeddingResponseMetadata generateResponseMetadata(String model, Usage usage) {
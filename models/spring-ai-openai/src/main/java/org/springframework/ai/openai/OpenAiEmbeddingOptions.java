@@ -41,6 +41,11 @@ public class OpenAiEmbeddingOptions implements EmbeddingOptions {
 	 * A unique identifier representing your end-user, which can help OpenAI to monitor and detect abuse.
 	 */
 	private @JsonProperty("user") String user;
+	/**
+	 * The number of dimensions the resulting output embeddings should have. Only supported in text-embedding-3 and
+	 * later models, which are trained so that shortened embeddings keep most of their quality.
+	 */
+	private @JsonProperty("dimensions") Integer dimensions;
 	// @formatter:on
 
 	public static Builder builder() {
@@ -70,6 +75,11 @@ public class OpenAiEmbeddingOptions implements EmbeddingOptions {
 			return this;
 		}
 
+		public Builder withDimensions(Integer dimensions) {
+			this.options.setDimensions(dimensions);
+			return this;
+		}
+
 		public OpenAiEmbeddingOptions build() {
 			return this.options;
 		}
@@ -100,4 +110,12 @@ public class OpenAiEmbeddingOptions implements EmbeddingOptions {
 		this.user = user;
 	}
 
+	public Integer getDimensions() {
+		return dimensions;
+	}
+
+	public void setDimensions(Integer dimensions) {
+		this.dimensions = dimensions;
+	}
+
 }
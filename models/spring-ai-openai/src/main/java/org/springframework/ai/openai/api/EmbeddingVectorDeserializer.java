@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializes the {@code embedding} field of the OpenAI embedding response. Accepts both
+ * the {@code float} encoding format, a JSON array of numbers, and the {@code base64}
+ * encoding format, a base64 string of little-endian float32 values. The base64 payload is
+ * decoded straight into a primitive {@code float[]} exposed through a read-only
+ * {@link List} view, avoiding the decimal text parsing and the boxing of the float array
+ * format.
+ */
+public class EmbeddingVectorDeserializer extends StdDeserializer<List<Double>> {
+
+	public EmbeddingVectorDeserializer() {
+		super(List.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<Double> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_STRING) {
+			return decodeBase64(parser.getText());
+		}
+		if (token == JsonToken.START_ARRAY) {
+			List<Double> embedding = new ArrayList<>();
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				embedding.add(parser.getDoubleValue());
+			}
+			return embedding;
+		}
+		return (List<Double>) context.handleUnexpectedToken(List.class, parser);
+	}
+
+	/**
+	 * Decodes a base64 encoded embedding of little-endian float32 values.
+	 * @param base64 the base64 encoded embedding.
+	 * @return read-only list view over the decoded float values.
+	 */
+	public static List<Double> decodeBase64(String base64) {
+		FloatBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(base64))
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.asFloatBuffer();
+		float[] values = new float[buffer.remaining()];
+		buffer.get(values);
+		return new FloatArrayList(values);
+	}
+
+	private static class FloatArrayList extends AbstractList<Double> implements RandomAccess {
+
+		private final float[] values;
+
+		FloatArrayList(float[] values) {
+			this.values = values;
+		}
+
+		@Override
+		public Double get(int index) {
+			return (double) this.values[index];
+		}
+
+		@Override
+		public int size() {
+			return this.values.length;
+		}
+
+	}
+
+}
@@ -15,26 +15,38 @@
  */
 package org.springframework.ai.openai.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
+import org.springframework.ai.retry.RateLimitExceededException;
+import org.springframework.ai.retry.RateLimiter;
+import org.springframework.ai.retry.RateLimiterRegistry;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 
 // @formatter:off
@@ -49,12 +61,22 @@ public class OpenAiApi {
 
 	public static final String DEFAULT_CHAT_MODEL = ChatModel.GPT_3_5_TURBO.getValue();
 	public static final String DEFAULT_EMBEDDING_MODEL = EmbeddingModel.TEXT_EMBEDDING_ADA_002.getValue();
+	public static final String DEFAULT_EMBEDDING_ENCODING_FORMAT = "base64";
 	private static final Predicate<String> SSE_DONE_PREDICATE = "[DONE]"::equals;
+	private static final String RATE_LIMITER_PROVIDER = "openai";
 
 	private final RestClient restClient;
 
 	private final WebClient webClient;
 
+	private final String openAiToken;
+
+	private final RateLimiterRegistry rateLimiterRegistry;
+
+	private final ResponseErrorHandler responseErrorHandler;
+
+	private final ReactiveResponseErrorHandler reactiveResponseErrorHandler;
+
 	/**
 	 * Create an new chat completion api with base URL set to https://api.openai.com
 	 *
@@ -94,6 +116,49 @@ public class OpenAiApi {
 	 * @param responseErrorHandler Response error handler.
 	 */
 	public OpenAiApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, openAiToken, restClientBuilder, responseErrorHandler, RateLimiterRegistry.NOOP);
+	}
+
+	/**
+	 * Create a new chat completion api.
+	 *
+	 * @param baseUrl api base URL.
+	 * @param openAiToken OpenAI apiKey.
+	 * @param restClientBuilder RestClient builder.
+	 * @param responseErrorHandler Response error handler.
+	 * @param rateLimiterRegistry Registry of the client-side rate limiters. The chat completion and embedding requests
+	 * acquire their estimated cost from the limiter of their model and API key before they are sent, and calibrate
+	 * it with the rate limit headers of the response.
+	 */
+	public OpenAiApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder,
+			ResponseErrorHandler responseErrorHandler, RateLimiterRegistry rateLimiterRegistry) {
+		this(baseUrl, openAiToken, restClientBuilder, responseErrorHandler,
+				RetryUtils.DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER, rateLimiterRegistry);
+	}
+
+	/**
+	 * Create a new chat completion api.
+	 *
+	 * @param baseUrl api base URL.
+	 * @param openAiToken OpenAI apiKey.
+	 * @param restClientBuilder RestClient builder.
+	 * @param responseErrorHandler Response error handler.
+	 * @param reactiveResponseErrorHandler Response error handler of the streaming and async requests.
+	 * @param rateLimiterRegistry Registry of the client-side rate limiters. The chat completion and embedding requests
+	 * acquire their estimated cost from the limiter of their model and API key before they are sent, and calibrate
+	 * it with the rate limit headers of the response.
+	 */
+	public OpenAiApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder,
+			ResponseErrorHandler responseErrorHandler, ReactiveResponseErrorHandler reactiveResponseErrorHandler,
+			RateLimiterRegistry rateLimiterRegistry) {
+
+		Assert.notNull(reactiveResponseErrorHandler, "ReactiveResponseErrorHandler must not be null");
+		Assert.notNull(rateLimiterRegistry, "RateLimiterRegistry must not be null");
+
+		this.openAiToken = openAiToken;
+		this.rateLimiterRegistry = rateLimiterRegistry;
+		this.responseErrorHandler = responseErrorHandler;
+		this.reactiveResponseErrorHandler = reactiveResponseErrorHandler;
 
 		this.restClient = restClientBuilder
 				.baseUrl(baseUrl)
@@ -667,11 +732,43 @@ public class OpenAiApi {
 		Assert.notNull(chatRequest, "The request body can not be null.");
 		Assert.isTrue(!chatRequest.stream(), "Request must set the steam property to false.");
 
-		return this.restClient.post()
+		RateLimiter rateLimiter = getRateLimiter(chatRequest.model(), DEFAULT_CHAT_MODEL);
+		rateLimiter.acquire(estimateTokens(chatRequest));
+
+		ResponseEntity<ChatCompletion> response = this.restClient.post()
 				.uri("/v1/chat/completions")
 				.body(chatRequest)
 				.retrieve()
+				.onStatus(HttpStatusCode::isError, errorHandler(rateLimiter))
 				.toEntity(ChatCompletion.class);
+
+		rateLimiter.update(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response));
+		return response;
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link #chatCompletionEntity(ChatCompletionRequest)}. Error responses are signaled
+	 * as {@link org.springframework.ai.retry.TransientAiException} or
+	 * {@link org.springframework.ai.retry.NonTransientAiException}.
+	 *
+	 * @param chatRequest The chat completion request.
+	 * @return Mono of the entity response with {@link ChatCompletion} as a body and HTTP status code and headers.
+	 */
+	public Mono<ResponseEntity<ChatCompletion>> chatCompletionEntityAsync(ChatCompletionRequest chatRequest) {
+
+		Assert.notNull(chatRequest, "The request body can not be null.");
+		Assert.isTrue(!chatRequest.stream(), "Request must set the steam property to false.");
+
+		RateLimiter rateLimiter = getRateLimiter(chatRequest.model(), DEFAULT_CHAT_MODEL);
+
+		return acquireAsync(rateLimiter, estimateTokens(chatRequest))
+				.then(this.webClient.post()
+						.uri("/v1/chat/completions")
+						.bodyValue(chatRequest)
+						.retrieve()
+						.onStatus(HttpStatusCode::isError, webClientErrorHandler(rateLimiter))
+						.toEntity(ChatCompletion.class))
+				.doOnNext(response -> rateLimiter.update(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response)));
 	}
 
 	private OpenAiStreamFunctionCallingHelper chunkMerger = new OpenAiStreamFunctionCallingHelper();
@@ -689,11 +786,16 @@ public class OpenAiApi {
 
 		AtomicBoolean isInsideTool = new AtomicBoolean(false);
 
-		return this.webClient.post()
+		// The streamed response headers are not exposed, so the stream only acquires from the rate limiter and
+		// relies on the blocking calls to calibrate it.
+		RateLimiter rateLimiter = getRateLimiter(chatRequest.model(), DEFAULT_CHAT_MODEL);
+
+		return acquireAsync(rateLimiter, estimateTokens(chatRequest)).thenMany(this.webClient.post()
 				.uri("/v1/chat/completions")
 				.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 				.retrieve()
-				.bodyToFlux(String.class)
+				.onStatus(HttpStatusCode::isError, webClientErrorHandler(rateLimiter))
+				.bodyToFlux(String.class))
 				// cancels the flux stream after the "[DONE]" is received.
 				.takeUntil(SSE_DONE_PREDICATE)
 				// filters out the "[DONE]" message.
@@ -771,12 +873,13 @@ public class OpenAiApi {
 	 *
 	 * @param index The index of the embedding in the list of embeddings.
 	 * @param embedding The embedding vector, which is a list of floats. The length of vector depends on the model.
+	 * Both the float and the base64 encoding formats are decoded into the list.
 	 * @param object The object type, which is always 'embedding'.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record Embedding(
 			@JsonProperty("index") Integer index,
-			@JsonProperty("embedding") List<Double> embedding,
+			@JsonProperty("embedding") @JsonDeserialize(using = EmbeddingVectorDeserializer.class) List<Double> embedding,
 			@JsonProperty("object") String object) {
 
 		/**
@@ -798,27 +901,42 @@ public class OpenAiApi {
 	 * the model (8192 tokens for text-embedding-ada-002), cannot be an empty string, and any array must be 2048
 	 * dimensions or less.
 	 * @param model ID of the model to use.
-	 * @param encodingFormat The format to return the embeddings in. Can be either float or base64.
+	 * @param encodingFormat The format to return the embeddings in. Can be either float or base64. The base64 format
+	 * is about a quarter of the size of the float format and is cheaper to decode.
 	 * @param user A unique identifier representing your end-user, which can help OpenAI to monitor and detect abuse.
+	 * @param dimensions The number of dimensions the resulting output embeddings should have. Only supported in
+	 * text-embedding-3 and later models.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record EmbeddingRequest<T>(
 			@JsonProperty("input") T input,
 			@JsonProperty("model") String model,
 			@JsonProperty("encoding_format") String encodingFormat,
-			@JsonProperty("user") String user) {
+			@JsonProperty("user") String user,
+			@JsonProperty("dimensions") Integer dimensions) {
+
+		/**
+		 * Create an embedding request with the model native dimensions.
+		 * @param input Input text to embed.
+		 * @param model ID of the model to use.
+		 * @param encodingFormat The format to return the embeddings in.
+		 * @param user A unique identifier representing your end-user.
+		 */
+		public EmbeddingRequest(T input, String model, String encodingFormat, String user) {
+			this(input, model, encodingFormat, user, null);
+		}
 
 		/**
-		 * Create an embedding request with the given input, model and encoding format set to float.
+		 * Create an embedding request with the given input, model and encoding format set to base64.
 		 * @param input Input text to embed.
 		 * @param model ID of the model to use.
 		 */
 		public EmbeddingRequest(T input, String model) {
-			this(input, model, "float", null);
+			this(input, model, DEFAULT_EMBEDDING_ENCODING_FORMAT, null, null);
 		}
 
 		/**
-		 * Create an embedding request with the given input. Encoding format is set to float and user is null and the
+		 * Create an embedding request with the given input. Encoding format is set to base64 and user is null and the
 		 * model is set to 'text-embedding-ada-002'.
 		 * @param input Input text to embed.
 		 */
@@ -857,6 +975,51 @@ public class OpenAiApi {
 	 */
 	public <T> ResponseEntity<EmbeddingList<Embedding>> embeddings(EmbeddingRequest<T> embeddingRequest) {
 
+		assertEmbeddingRequest(embeddingRequest);
+
+		RateLimiter rateLimiter = getRateLimiter(embeddingRequest.model(), DEFAULT_EMBEDDING_MODEL);
+		rateLimiter.acquire(estimateTokens(embeddingRequest));
+
+		ResponseEntity<EmbeddingList<Embedding>> response = this.restClient.post()
+				.uri("/v1/embeddings")
+				.body(embeddingRequest)
+				.retrieve()
+				.onStatus(HttpStatusCode::isError, errorHandler(rateLimiter))
+				.toEntity(new ParameterizedTypeReference<>() {
+				});
+
+		rateLimiter.update(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response));
+		return response;
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link #embeddings(EmbeddingRequest)}. Error responses are signaled as
+	 * {@link org.springframework.ai.retry.TransientAiException} or
+	 * {@link org.springframework.ai.retry.NonTransientAiException}.
+	 *
+	 * @param embeddingRequest The embedding request.
+	 * @param <T> Type of the entity in the data list.
+	 * @return Mono of the list of {@link Embedding} wrapped in {@link EmbeddingList}.
+	 */
+	public <T> Mono<ResponseEntity<EmbeddingList<Embedding>>> embeddingsAsync(EmbeddingRequest<T> embeddingRequest) {
+
+		assertEmbeddingRequest(embeddingRequest);
+
+		RateLimiter rateLimiter = getRateLimiter(embeddingRequest.model(), DEFAULT_EMBEDDING_MODEL);
+
+		return acquireAsync(rateLimiter, estimateTokens(embeddingRequest))
+				.then(this.webClient.post()
+						.uri("/v1/embeddings")
+						.bodyValue(embeddingRequest)
+						.retrieve()
+						.onStatus(HttpStatusCode::isError, webClientErrorHandler(rateLimiter))
+						.toEntity(new ParameterizedTypeReference<EmbeddingList<Embedding>>() {
+						}))
+				.doOnNext(response -> rateLimiter.update(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response)));
+	}
+
+	private static <T> void assertEmbeddingRequest(EmbeddingRequest<T> embeddingRequest) {
+
 		Assert.notNull(embeddingRequest, "The request body can not be null.");
 
 		// Input text to embed, encoded as a string or array of tokens. To embed multiple inputs in a single
@@ -874,13 +1037,89 @@ public class OpenAiApi {
 					|| list.get(0) instanceof List,
 					"The input must be either a String, or a List of Strings or list of list of integers.");
 		}
+	}
 
-		return this.restClient.post()
-				.uri("/v1/embeddings")
-				.body(embeddingRequest)
-				.retrieve()
-				.toEntity(new ParameterizedTypeReference<>() {
-				});
+	/**
+	 * Reserves from the rate limiter on subscription and waits for the reservation with a timer instead of parking a
+	 * thread.
+	 */
+	private static Mono<Void> acquireAsync(RateLimiter rateLimiter, long tokens) {
+		if (rateLimiter == RateLimiter.NOOP) {
+			return Mono.empty();
+		}
+		return Mono.defer(() -> {
+			Duration wait = rateLimiter.reserve(tokens);
+			if (wait == null) {
+				return Mono.error(new RateLimitExceededException(
+						"Rate limit would be exceeded for longer than the rate limiter maximum wait"));
+			}
+			return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+		});
+	}
+
+	/**
+	 * Calibrates the rate limiter with the error responses too, as the 429 responses carry the most up to date rate
+	 * limit state, before handing them to the response error handler.
+	 */
+	private RestClient.ResponseSpec.ErrorHandler errorHandler(RateLimiter rateLimiter) {
+		return (request, response) -> {
+			rateLimiter.update(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response.getHeaders()));
+			if (this.responseErrorHandler.hasError(response)) {
+				this.responseErrorHandler.handleError(response);
+			}
+		};
+	}
+
+	private Function<ClientResponse, Mono<? extends Throwable>> webClientErrorHandler(RateLimiter rateLimiter) {
+		return response -> {
+			rateLimiter.update(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response.headers().asHttpHeaders()));
+			return this.reactiveResponseErrorHandler.apply(response);
+		};
+	}
+
+	private RateLimiter getRateLimiter(String model, String defaultModel) {
+		return this.rateLimiterRegistry.getRateLimiter(RATE_LIMITER_PROVIDER, this.openAiToken,
+				(model != null) ? model : defaultModel);
+	}
+
+	/**
+	 * OpenAI counts the prompt and the requested max_tokens against the tokens per minute limit. The prompt tokens are
+	 * counted with the tokenizer of the model.
+	 */
+	private static long estimateTokens(ChatCompletionRequest chatRequest) {
+		TokenCountEstimator estimator = tokenCountEstimator(chatRequest.model(), DEFAULT_CHAT_MODEL);
+		long tokens = (chatRequest.maxTokens() != null) ? chatRequest.maxTokens() : 0;
+		for (ChatCompletionMessage message : chatRequest.messages()) {
+			tokens += estimator.estimate(message.content());
+		}
+		return tokens;
+	}
+
+	private static <T> long estimateTokens(EmbeddingRequest<T> embeddingRequest) {
+		return estimateTokens(tokenCountEstimator(embeddingRequest.model(), DEFAULT_EMBEDDING_MODEL),
+				embeddingRequest.input());
+	}
+
+	private static long estimateTokens(TokenCountEstimator estimator, Object input) {
+		if (input instanceof String text) {
+			return estimator.estimate(text);
+		}
+		if (input instanceof Integer) {
+			// pre-tokenized input
+			return 1;
+		}
+		if (input instanceof List<?> list) {
+			long tokens = 0;
+			for (Object item : list) {
+				tokens += estimateTokens(estimator, item);
+			}
+			return tokens;
+		}
+		return 0;
+	}
+
+	private static TokenCountEstimator tokenCountEstimator(String model, String defaultModel) {
+		return JTokkitTokenCountEstimator.forModel((model != null) ? model : defaultModel);
 	}
 
 }
@@ -15,20 +15,31 @@
  */
 package org.springframework.ai.openai.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -44,10 +55,14 @@ import reactor.core.publisher.Mono;
  */
 public class OpenAiAudioApi {
 
+	private static final String DEFAULT_AUDIO_FILE_NAME = "audio.webm";
+
 	private final RestClient restClient;
 
 	private final WebClient webClient;
 
+	private final ReactiveResponseErrorHandler reactiveResponseErrorHandler;
+
 	/**
 	 * Create an new audio api.
 	 * @param openAiToken OpenAI apiKey.
@@ -66,14 +81,7 @@ public class OpenAiAudioApi {
 	 */
 	public OpenAiAudioApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder,
 			ResponseErrorHandler responseErrorHandler) {
-
-		this.restClient = restClientBuilder.baseUrl(baseUrl).defaultHeaders(headers -> {
-			headers.setBearerAuth(openAiToken);
-		}).defaultStatusHandler(responseErrorHandler).build();
-
-		this.webClient = WebClient.builder().baseUrl(baseUrl).defaultHeaders(headers -> {
-			headers.setBearerAuth(openAiToken);
-		}).defaultHeaders(ApiUtils.getJsonContentHeaders(openAiToken)).build();
+		this(baseUrl, openAiToken, restClientBuilder, WebClient.builder(), responseErrorHandler);
 	}
 
 	/**
@@ -86,6 +94,26 @@ public class OpenAiAudioApi {
 	 */
 	public OpenAiAudioApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder,
 			WebClient.Builder webClientBuilder, ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, openAiToken, restClientBuilder, webClientBuilder, responseErrorHandler,
+				RetryUtils.DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER);
+	}
+
+	/**
+	 * Create an new chat completion api.
+	 * @param baseUrl api base URL.
+	 * @param openAiToken OpenAI apiKey.
+	 * @param restClientBuilder RestClient builder.
+	 * @param webClientBuilder WebClient builder.
+	 * @param responseErrorHandler Response error handler.
+	 * @param reactiveResponseErrorHandler Response error handler of the streaming
+	 * requests.
+	 */
+	public OpenAiAudioApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder,
+			WebClient.Builder webClientBuilder, ResponseErrorHandler responseErrorHandler,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
+
+		Assert.notNull(reactiveResponseErrorHandler, "ReactiveResponseErrorHandler must not be null");
+		this.reactiveResponseErrorHandler = reactiveResponseErrorHandler;
 
 		this.restClient = restClientBuilder.baseUrl(baseUrl).defaultHeaders(headers -> {
 			headers.setBearerAuth(openAiToken);
@@ -306,6 +334,10 @@ public class OpenAiAudioApi {
 	 * granularities. Either or both of these options are supported: word, or segment.
 	 * Note: There is no additional latency for segment timestamps, but generating word
 	 * timestamps incurs additional latency.
+	 * @param fileResource The audio file to transcribe as a resource. Used instead of the
+	 * file bytes, it is streamed to the API without being loaded in memory. A resource
+	 * that can only be read once, such as an {@link InputStreamResource}, is buffered so
+	 * that the request can be retried.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record TranscriptionRequest(
@@ -316,9 +348,19 @@ public class OpenAiAudioApi {
 		@JsonProperty("prompt") String prompt,
 		@JsonProperty("response_format") TranscriptResponseFormat responseFormat,
 		@JsonProperty("temperature") Float temperature,
-		@JsonProperty("timestamp_granularities") GranularityType granularityType) {
+		@JsonProperty("timestamp_granularities") GranularityType granularityType,
+		@JsonIgnore Resource fileResource) {
 		// @formatter:on
 
+		public TranscriptionRequest {
+			fileResource = rereadable(fileResource);
+		}
+
+		public TranscriptionRequest(byte[] file, String model, String language, String prompt,
+				TranscriptResponseFormat responseFormat, Float temperature, GranularityType granularityType) {
+			this(file, model, language, prompt, responseFormat, temperature, granularityType, null);
+		}
+
 		public enum GranularityType {
 
 			// @formatter:off
@@ -358,11 +400,18 @@ public class OpenAiAudioApi {
 
 			private GranularityType granularityType;
 
+			private Resource fileResource;
+
 			public Builder withFile(byte[] file) {
 				this.file = file;
 				return this;
 			}
 
+			public Builder withFile(Resource fileResource) {
+				this.fileResource = fileResource;
+				return this;
+			}
+
 			public Builder withModel(String model) {
 				this.model = model;
 				return this;
@@ -394,12 +443,12 @@ public class OpenAiAudioApi {
 			}
 
 			public TranscriptionRequest build() {
-				Assert.notNull(this.file, "file must not be null");
+				Assert.isTrue(this.file != null || this.fileResource != null, "file must not be null");
 				Assert.hasText(this.model, "model must not be empty");
 				Assert.notNull(this.responseFormat, "response_format must not be null");
 
 				return new TranscriptionRequest(this.file, this.model, this.language, this.prompt, this.responseFormat,
-						this.temperature, this.granularityType);
+						this.temperature, this.granularityType, this.fileResource);
 			}
 
 		}
@@ -456,6 +505,10 @@ public class OpenAiAudioApi {
 	 * 0.8 will make the output more random, while lower values like 0.2 will make it more
 	 * focused and deterministic. If set to 0, the model will use log probability to
 	 * automatically increase the temperature until certain thresholds are hit.
+	 * @param fileResource The audio file to translate as a resource. Used instead of the
+	 * file bytes, it is streamed to the API without being loaded in memory. A resource
+	 * that can only be read once, such as an {@link InputStreamResource}, is buffered so
+	 * that the request can be retried.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record TranslationRequest(
@@ -464,9 +517,19 @@ public class OpenAiAudioApi {
 		@JsonProperty("model") String model,
 		@JsonProperty("prompt") String prompt,
 		@JsonProperty("response_format") TranscriptResponseFormat responseFormat,
-		@JsonProperty("temperature") Float temperature) {
+		@JsonProperty("temperature") Float temperature,
+		@JsonIgnore Resource fileResource) {
 		// @formatter:on
 
+		public TranslationRequest {
+			fileResource = rereadable(fileResource);
+		}
+
+		public TranslationRequest(byte[] file, String model, String prompt, TranscriptResponseFormat responseFormat,
+				Float temperature) {
+			this(file, model, prompt, responseFormat, temperature, null);
+		}
+
 		public static Builder builder() {
 			return new Builder();
 		}
@@ -483,11 +546,18 @@ public class OpenAiAudioApi {
 
 			private Float temperature;
 
+			private Resource fileResource;
+
 			public Builder withFile(byte[] file) {
 				this.file = file;
 				return this;
 			}
 
+			public Builder withFile(Resource fileResource) {
+				this.fileResource = fileResource;
+				return this;
+			}
+
 			public Builder withModel(String model) {
 				this.model = model;
 				return this;
@@ -509,12 +579,12 @@ public class OpenAiAudioApi {
 			}
 
 			public TranslationRequest build() {
-				Assert.notNull(file, "file must not be null");
+				Assert.isTrue(file != null || fileResource != null, "file must not be null");
 				Assert.hasText(model, "model must not be empty");
 				Assert.notNull(responseFormat, "response_format must not be null");
 
-				return new TranslationRequest(this.file, this.model, this.prompt, this.responseFormat,
-						this.temperature);
+				return new TranslationRequest(this.file, this.model, this.prompt, this.responseFormat, this.temperature,
+						this.fileResource);
 			}
 
 		}
@@ -626,6 +696,24 @@ public class OpenAiAudioApi {
 			});
 	}
 
+	/**
+	 * Streams the audio generated from the input text as it is produced, without
+	 * buffering the whole response. The caller is responsible for releasing the
+	 * {@link DataBuffer}s, e.g. by writing them with
+	 * {@link org.springframework.core.io.buffer.DataBufferUtils#write}.
+	 * @param requestBody The request body.
+	 * @return The audio binary as a stream of data buffers.
+	 */
+	public Flux<DataBuffer> streamSpeech(SpeechRequest requestBody) {
+		return this.webClient.post()
+			.uri("/v1/audio/speech")
+			.body(Mono.just(requestBody), SpeechRequest.class)
+			.accept(MediaType.APPLICATION_OCTET_STREAM)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, this.reactiveResponseErrorHandler)
+			.bodyToFlux(DataBuffer.class);
+	}
+
 	/**
 	 * Transcribes audio into the input language.
 	 * @param requestBody The request body.
@@ -647,12 +735,7 @@ public class OpenAiAudioApi {
 	public <T> ResponseEntity<T> createTranscription(TranscriptionRequest requestBody, Class<T> responseType) {
 
 		MultiValueMap<String, Object> multipartBody = new LinkedMultiValueMap<>();
-		multipartBody.add("file", new ByteArrayResource(requestBody.file()) {
-			@Override
-			public String getFilename() {
-				return "audio.webm";
-			}
-		});
+		multipartBody.add("file", audioFile(requestBody.file(), requestBody.fileResource()));
 		multipartBody.add("model", requestBody.model());
 		multipartBody.add("language", requestBody.language());
 		multipartBody.add("prompt", requestBody.prompt());
@@ -692,12 +775,7 @@ public class OpenAiAudioApi {
 	public <T> ResponseEntity<T> createTranslation(TranslationRequest requestBody, Class<T> responseType) {
 
 		MultiValueMap<String, Object> multipartBody = new LinkedMultiValueMap<>();
-		multipartBody.add("file", new ByteArrayResource(requestBody.file()) {
-			@Override
-			public String getFilename() {
-				return "audio.webm";
-			}
-		});
+		multipartBody.add("file", audioFile(requestBody.file(), requestBody.fileResource()));
 		multipartBody.add("model", requestBody.model());
 		multipartBody.add("prompt", requestBody.prompt());
 		multipartBody.add("response_format", requestBody.responseFormat().getValue());
@@ -710,4 +788,69 @@ public class OpenAiAudioApi {
 			.toEntity(responseType);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Multipart file part for the audio. Resources are streamed from their input stream.
+	 * The API detects the audio format from the file name extension, so resources without
+	 * a file name and byte arrays are sent as {@code audio.webm}.
+	 */
+	private static Resource audioFile(byte[] file, Resource fileResource) {
+		if (fileResource == null) {
+			return new ByteArrayResource(file) {
+				@Override
+				public String getFilename() {
+					return DEFAULT_AUDIO_FILE_NAME;
+				}
+			};
+		}
+		if (StringUtils.hasText(fileResource.getFilename())) {
+			return fileResource;
+		}
+		return new AbstractResource() {
+
+			@Override
+			public String getDescription() {
+				return fileResource.getDescription();
+			}
+
+			@Override
+			public InputStream getInputStream() throws IOException {
+				return fileResource.getInputStream();
+			}
+
+			@Override
+			public String getFilename() {
+				return DEFAULT_AUDIO_FILE_NAME;
+			}
+
+			@Override
+			public long contentLength() throws IOException {
+				return fileResource.contentLength();
+			}
+
+		};
+	}
+
+	/**
+	 * Buffers a resource that can only be read once, keeping its file name, since the
+	 * multipart body is written again on every retry.
+	 */
+	private static Resource rereadable(Resource fileResource) {
+		if (fileResource == null || !fileResource.isOpen()) {
+			return fileResource;
+		}
+		try {
+			byte[] content = fileResource.getContentAsByteArray();
+			String filename = fileResource.getFilename();
+			return new ByteArrayResource(content, fileResource.getDescription()) {
+				@Override
+				public String getFilename() {
+					return filename;
+				}
+			};
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read the audio file " + fileResource.getDescription(), e);
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.chat.metadata.RateLimit;
 import org.springframework.ai.openai.metadata.OpenAiRateLimit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -51,21 +52,29 @@ public class OpenAiResponseHeaderExtractor {
 	private static final Logger logger = LoggerFactory.getLogger(OpenAiResponseHeaderExtractor.class);
 
 	public static RateLimit extractAiResponseHeaders(ResponseEntity<?> response) {
+		return extractAiResponseHeaders(response.getHeaders());
+	}
+
+	/**
+	 * Extracts the rate limit headers of any response, including the error responses.
+	 * @param headers the response headers.
+	 * @return the rate limit, with {@code null} for the missing headers.
+	 */
+	public static RateLimit extractAiResponseHeaders(HttpHeaders headers) {
 
-		Long requestsLimit = getHeaderAsLong(response, REQUESTS_LIMIT_HEADER.getName());
-		Long requestsRemaining = getHeaderAsLong(response, REQUESTS_REMAINING_HEADER.getName());
-		Long tokensLimit = getHeaderAsLong(response, TOKENS_LIMIT_HEADER.getName());
-		Long tokensRemaining = getHeaderAsLong(response, TOKENS_REMAINING_HEADER.getName());
+		Long requestsLimit = getHeaderAsLong(headers, REQUESTS_LIMIT_HEADER.getName());
+		Long requestsRemaining = getHeaderAsLong(headers, REQUESTS_REMAINING_HEADER.getName());
+		Long tokensLimit = getHeaderAsLong(headers, TOKENS_LIMIT_HEADER.getName());
+		Long tokensRemaining = getHeaderAsLong(headers, TOKENS_REMAINING_HEADER.getName());
 
-		Duration requestsReset = getHeaderAsDuration(response, REQUESTS_RESET_HEADER.getName());
-		Duration tokensReset = getHeaderAsDuration(response, TOKENS_RESET_HEADER.getName());
+		Duration requestsReset = getHeaderAsDuration(headers, REQUESTS_RESET_HEADER.getName());
+		Duration tokensReset = getHeaderAsDuration(headers, TOKENS_RESET_HEADER.getName());
 
 		return new OpenAiRateLimit(requestsLimit, requestsRemaining, requestsReset, tokensLimit, tokensRemaining,
 				tokensReset);
 	}
 
-	private static Duration getHeaderAsDuration(ResponseEntity<?> response, String headerName) {
-		var headers = response.getHeaders();
+	private static Duration getHeaderAsDuration(HttpHeaders headers, String headerName) {
 		if (headers.containsKey(headerName)) {
 			var values = headers.get(headerName);
 			if (!CollectionUtils.isEmpty(values)) {
@@ -75,8 +84,7 @@ public class OpenAiResponseHeaderExtractor {
 		return null;
 	}
 
-	private static Long getHeaderAsLong(ResponseEntity<?> response, String headerName) {
-		var headers = response.getHeaders();
+	private static Long getHeaderAsLong(HttpHeaders headers, String headerName) {
 		if (headers.containsKey(headerName)) {
 			var values = headers.get(headerName);
 			if (!CollectionUtils.isEmpty(values)) {
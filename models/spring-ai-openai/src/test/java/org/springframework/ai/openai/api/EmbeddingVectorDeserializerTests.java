@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.api;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.openai.api.OpenAiApi.Embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmbeddingVectorDeserializerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void floatEncoding() throws Exception {
+		Embedding embedding = this.objectMapper.readValue("""
+				{"object": "embedding", "index": 1, "embedding": [0.5, -1.25, 3]}
+				""", Embedding.class);
+
+		assertThat(embedding.index()).isEqualTo(1);
+		assertThat(embedding.embedding()).containsExactly(0.5, -1.25, 3.0);
+	}
+
+	@Test
+	public void base64Encoding() throws Exception {
+		ByteBuffer buffer = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putFloat(0.5f).putFloat(-1.25f).putFloat(3f);
+		String base64 = Base64.getEncoder().encodeToString(buffer.array());
+
+		Embedding embedding = this.objectMapper.readValue("""
+				{"object": "embedding", "index": 0, "embedding": "%s"}
+				""".formatted(base64), Embedding.class);
+
+		assertThat(embedding.embedding()).containsExactly(0.5, -1.25, 3.0);
+		assertThat(embedding.embedding()).isEqualTo(List.of(0.5, -1.25, 3.0));
+	}
+
+	@Test
+	public void emptyBase64Embedding() {
+		assertThat(EmbeddingVectorDeserializer.decodeBase64("")).isEmpty();
+	}
+
+}
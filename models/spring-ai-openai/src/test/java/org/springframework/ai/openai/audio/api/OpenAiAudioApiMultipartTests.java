@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.audio.api;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.openai.api.OpenAiAudioApi;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranscriptResponseFormat;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranscriptionRequest;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranslationRequest;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for the {@link OpenAiAudioApi} multipart file uploads.
+ */
+public class OpenAiAudioApiMultipartTests {
+
+	private final RestClient.Builder restClientBuilder = RestClient.builder();
+
+	private final MockRestServiceServer server = MockRestServiceServer.bindTo(this.restClientBuilder).build();
+
+	private final OpenAiAudioApi audioApi = new OpenAiAudioApi("", "sk-1234567890", this.restClientBuilder,
+			RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER);
+
+	@Test
+	void transcriptionRereadsInputStreamResource() {
+		this.server.expect(ExpectedCount.twice(), requestTo("/v1/audio/transcriptions"))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(content().string(containsString("filename=\"audio.webm\"")))
+			.andExpect(content().string(containsString("streamed audio")))
+			.andRespond(withSuccess("transcript", MediaType.TEXT_PLAIN));
+
+		var audio = new InputStreamResource(
+				new ByteArrayInputStream("streamed audio".getBytes(StandardCharsets.UTF_8)));
+		var request = TranscriptionRequest.builder()
+			.withFile(audio)
+			.withResponseFormat(TranscriptResponseFormat.TEXT)
+			.build();
+
+		// a retry writes the multipart body again
+		assertThat(this.audioApi.createTranscription(request, String.class).getBody()).isEqualTo("transcript");
+		assertThat(this.audioApi.createTranscription(request, String.class).getBody()).isEqualTo("transcript");
+		this.server.verify();
+	}
+
+	@Test
+	void translationKeepsResourceFileName() {
+		this.server.expect(requestTo("/v1/audio/translations"))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(content().string(containsString("filename=\"jfk.flac\"")))
+			.andRespond(withSuccess("translation", MediaType.TEXT_PLAIN));
+
+		var request = TranslationRequest.builder()
+			.withFile(new ClassPathResource("speech/jfk.flac"))
+			.withResponseFormat(TranscriptResponseFormat.TEXT)
+			.build();
+
+		assertThat(this.audioApi.createTranslation(request, String.class).getBody()).isEqualTo("translation");
+		this.server.verify();
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.chat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.openai.OpenAiChatClient;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.OpenAiEmbeddingClient;
+import org.springframework.ai.openai.OpenAiEmbeddingOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.openai.api.OpenAiAudioApi;
+import org.springframework.ai.openai.api.OpenAiAudioApi.SpeechRequest;
+import org.springframework.ai.retry.AdaptiveRateLimiter;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.RateLimitExceededException;
+import org.springframework.ai.retry.RateLimiterRegistry;
+import org.springframework.ai.retry.ReactiveRetry;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the non-blocking {@code callAsync} implementations against a mock server.
+ */
+public class OpenAiAsyncTests {
+
+	private static final String CHAT_COMPLETION = """
+			{"id": "id", "object": "chat.completion", "created": 1, "model": "gpt-3.5-turbo",
+			 "choices": [{"index": 0, "message": {"role": "assistant", "content": "Hello"}, "finish_reason": "stop"}],
+			 "usage": {"prompt_tokens": 1, "completion_tokens": 1, "total_tokens": 2}}
+			""";
+
+	private static final String EMBEDDING_LIST = """
+			{"object": "list", "data": [{"object": "embedding", "index": 0, "embedding": [0.1, 0.2]}],
+			 "model": "text-embedding-ada-002", "usage": {"prompt_tokens": 1, "total_tokens": 1}}
+			""";
+
+	private final ReactiveRetry reactiveRetry = new ReactiveRetry(3, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0);
+
+	private MockWebServer server;
+
+	@BeforeEach
+	public void beforeEach() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+	}
+
+	@AfterEach
+	public void afterEach() throws IOException {
+		this.server.shutdown();
+	}
+
+	@Test
+	public void chatCallAsync() {
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var response = chatClient(RateLimiterRegistry.NOOP).callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void chatCallAsyncRetriesTransientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var response = chatClient(RateLimiterRegistry.NOOP).callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void chatCallAsyncDoesNotRetryClientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(400).setBody("Bad request"));
+
+		assertThatThrownBy(() -> chatClient(RateLimiterRegistry.NOOP).callAsync(new Prompt("text")).block())
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessageContaining("400");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void streamSpeechMapsErrorResponses() {
+		this.server.enqueue(new MockResponse().setResponseCode(400).setBody("Bad request"));
+		var audioApi = new OpenAiAudioApi(this.server.url("/").toString(), "test-key", RestClient.builder(),
+				WebClient.builder(), RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER);
+
+		assertThatThrownBy(() -> audioApi.streamSpeech(SpeechRequest.builder().withInput("text").build()).blockLast())
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessageContaining("400");
+	}
+
+	@Test
+	public void chatCallAsyncWaitsForTheRateLimiter() {
+		// 60 requests per 6 seconds: the second request waits ~100ms for the refill.
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION).setHeader("x-ratelimit-limit-requests", "60")
+			.setHeader("x-ratelimit-remaining-requests", "0")
+			.setHeader("x-ratelimit-reset-requests", "6s"));
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION));
+
+		var chatClient = chatClient(new RateLimiterRegistry(() -> new AdaptiveRateLimiter(Duration.ofSeconds(5))));
+		chatClient.callAsync(new Prompt("text")).block();
+
+		long start = System.nanoTime();
+		var response = chatClient.callAsync(new Prompt("text")).block();
+
+		assertThat(response.getResult().getOutput().getContent()).isEqualTo("Hello");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void chatCallAsyncShedsRequestsBeyondTheMaxWait() {
+		// 60 requests per 10 minutes: the second request would wait ~10s.
+		this.server.enqueue(jsonResponse(CHAT_COMPLETION).setHeader("x-ratelimit-limit-requests", "60")
+			.setHeader("x-ratelimit-remaining-requests", "0")
+			.setHeader("x-ratelimit-reset-requests", "10m"));
+
+		var chatClient = chatClient(new RateLimiterRegistry(() -> new AdaptiveRateLimiter(Duration.ofSeconds(1))));
+		chatClient.callAsync(new Prompt("text")).block();
+
+		assertThatThrownBy(() -> chatClient.callAsync(new Prompt("text")).block())
+			.isInstanceOf(RateLimitExceededException.class);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsync() {
+		this.server.enqueue(jsonResponse(EMBEDDING_LIST));
+
+		var response = embeddingClient().callAsync(new EmbeddingRequest(List.of("text"), null)).block();
+
+		assertThat(response.getResult().getOutput()).containsExactly(0.1, 0.2);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsyncRetriesTransientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(503));
+		this.server.enqueue(jsonResponse(EMBEDDING_LIST));
+
+		var response = embeddingClient().callAsync(new EmbeddingRequest(List.of("text"), null)).block();
+
+		assertThat(response.getResult().getOutput()).containsExactly(0.1, 0.2);
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void embeddingCallAsyncDoesNotRetryMalformedResponses() {
+		this.server.enqueue(jsonResponse("{\"object\": \"list\", \"data\": [{"));
+
+		assertThatThrownBy(() -> embeddingClient().callAsync(new EmbeddingRequest(List.of("text"), null)).block())
+			.isNotInstanceOf(TransientAiException.class);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void embeddingCallAsyncDoesNotRetryClientErrors() {
+		this.server.enqueue(new MockResponse().setResponseCode(400).setBody("Bad request"));
+
+		assertThatThrownBy(() -> embeddingClient().callAsync(new EmbeddingRequest(List.of("text"), null)).block())
+			.isInstanceOf(NonTransientAiException.class);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+	}
+
+	private OpenAiChatClient chatClient(RateLimiterRegistry rateLimiterRegistry) {
+		return new OpenAiChatClient(openAiApi(rateLimiterRegistry), OpenAiChatOptions.builder().build(), null,
+				RetryUtils.DEFAULT_RETRY_TEMPLATE, this.reactiveRetry);
+	}
+
+	private OpenAiEmbeddingClient embeddingClient() {
+		return new OpenAiEmbeddingClient(openAiApi(RateLimiterRegistry.NOOP), MetadataMode.EMBED,
+				OpenAiEmbeddingOptions.builder().withModel("text-embedding-ada-002").build(),
+				RetryUtils.DEFAULT_RETRY_TEMPLATE, this.reactiveRetry);
+	}
+
+	private OpenAiApi openAiApi(RateLimiterRegistry rateLimiterRegistry) {
+		return new OpenAiApi("http://" + this.server.getHostName() + ":" + this.server.getPort(), "key",
+				RestClient.builder(), RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER, rateLimiterRegistry);
+	}
+
+	private static MockResponse jsonResponse(String body) {
+		return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).setBody(body);
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.openai.chat;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +58,7 @@ import org.springframework.ai.openai.api.OpenAiImageApi.OpenAiImageRequest;
 import org.springframework.ai.openai.api.OpenAiImageApi.OpenAiImageResponse;
 import org.springframework.ai.openai.audio.transcription.AudioTranscriptionPrompt;
 import org.springframework.ai.openai.audio.transcription.AudioTranscriptionResponse;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.retry.TransientAiException;
 import org.springframework.core.io.ClassPathResource;
@@ -69,6 +71,8 @@ import org.springframework.retry.support.RetryTemplate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -101,6 +105,8 @@ public class OpenAiRetryTests {
 
 	private RetryTemplate retryTemplate;
 
+	private ReactiveRetry reactiveRetry;
+
 	private @Mock OpenAiApi openAiApi;
 
 	private @Mock OpenAiAudioApi openAiAudioApi;
@@ -121,7 +127,10 @@ public class OpenAiRetryTests {
 		retryListener = new TestRetryListener();
 		retryTemplate.registerListener(retryListener);
 
-		chatClient = new OpenAiChatClient(openAiApi, OpenAiChatOptions.builder().build(), null, retryTemplate);
+		reactiveRetry = new ReactiveRetry(10, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0);
+
+		chatClient = new OpenAiChatClient(openAiApi, OpenAiChatOptions.builder().build(), null, retryTemplate,
+				reactiveRetry);
 		embeddingClient = new OpenAiEmbeddingClient(openAiApi, MetadataMode.EMBED,
 				OpenAiEmbeddingOptions.builder().build(), retryTemplate);
 		audioTranscriptionClient = new OpenAiAudioTranscriptionClient(openAiAudioApi,
@@ -170,23 +179,37 @@ public class OpenAiRetryTests {
 				null);
 
 		when(openAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-			.thenThrow(new TransientAiException("Transient Error 1"))
-			.thenThrow(new TransientAiException("Transient Error 2"))
+			.thenReturn(Flux.error(new TransientAiException("Transient Error 1")))
+			.thenReturn(Flux.error(new TransientAiException("Transient Error 2")))
 			.thenReturn(Flux.just(expectedChatCompletion));
 
 		var result = chatClient.stream(new Prompt("text"));
 
 		assertThat(result).isNotNull();
 		assertThat(result.collectList().block().get(0).getResult().getOutput().getContent()).isSameAs("Response");
-		assertThat(retryListener.onSuccessRetryCount).isEqualTo(2);
-		assertThat(retryListener.onErrorRetryCount).isEqualTo(2);
+		verify(openAiApi, times(3)).chatCompletionStream(isA(ChatCompletionRequest.class));
 	}
 
 	@Test
 	public void openAiChatStreamNonTransientError() {
 		when(openAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-				.thenThrow(new RuntimeException("Non Transient Error"));
-		assertThrows(RuntimeException.class, () -> chatClient.stream(new Prompt("text")));
+			.thenReturn(Flux.error(new RuntimeException("Non Transient Error")));
+		assertThrows(RuntimeException.class, () -> chatClient.stream(new Prompt("text")).blockLast());
+		verify(openAiApi, times(1)).chatCompletionStream(isA(ChatCompletionRequest.class));
+	}
+
+	@Test
+	public void openAiChatStreamErrorAfterFirstChunkIsNotRetried() {
+
+		var choice = new ChatCompletionChunk.ChunkChoice(null, 0, new ChatCompletionMessage("Resp", Role.ASSISTANT),
+				null);
+		ChatCompletionChunk firstChunk = new ChatCompletionChunk("id", List.of(choice), 666l, "model", null, null);
+
+		when(openAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
+			.thenReturn(Flux.just(firstChunk).concatWith(Flux.error(new TransientAiException("Connection dropped"))));
+
+		assertThrows(TransientAiException.class, () -> chatClient.stream(new Prompt("text")).blockLast());
+		verify(openAiApi, times(1)).chatCompletionStream(isA(ChatCompletionRequest.class));
 	}
 
 	@Test
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.embedding;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.openai.OpenAiEmbeddingClient;
+import org.springframework.ai.openai.OpenAiEmbeddingOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.openai.api.OpenAiApi.Embedding;
+import org.springframework.ai.openai.api.OpenAiApi.EmbeddingList;
+import org.springframework.ai.openai.api.OpenAiApi.EmbeddingRequest;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OpenAiEmbeddingDimensionsTests {
+
+	private @Mock OpenAiApi openAiApi;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reducedDimensions() {
+		var embeddingClient = new OpenAiEmbeddingClient(openAiApi, MetadataMode.EMBED,
+				OpenAiEmbeddingOptions.builder().withModel("text-embedding-3-large").withDimensions(256).build(),
+				RetryUtils.DEFAULT_RETRY_TEMPLATE);
+
+		// Known upfront, doesn't call the API nor uses the 3072 native model size.
+		assertThat(embeddingClient.dimensions()).isEqualTo(256);
+		verifyNoInteractions(openAiApi);
+
+		when(openAiApi.embeddings(any(EmbeddingRequest.class))).thenReturn(
+				ResponseEntity.of(Optional.of(new EmbeddingList<>("list", List.of(new Embedding(0, List.of(0.6, 0.8))),
+						"text-embedding-3-large", new OpenAiApi.Usage(1, 0, 1)))));
+
+		embeddingClient.embed("Hello World");
+
+		ArgumentCaptor<EmbeddingRequest<List<String>>> request = ArgumentCaptor.forClass(EmbeddingRequest.class);
+		verify(openAiApi).embeddings(request.capture());
+		assertThat(request.getValue().dimensions()).isEqualTo(256);
+		assertThat(request.getValue().model()).isEqualTo("text-embedding-3-large");
+	}
+
+}
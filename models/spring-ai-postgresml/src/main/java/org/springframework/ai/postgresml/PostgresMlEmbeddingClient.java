@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.postgresml;
 
+import java.nio.ByteBuffer;
 import java.sql.Array;
 import java.sql.PreparedStatement;
 import java.util.ArrayList;
@@ -54,29 +55,31 @@ public class PostgresMlEmbeddingClient extends AbstractEmbeddingClient implement
 
 	public enum VectorType {
 
-		PG_ARRAY("", null, (rs, i) -> {
+		PG_ARRAY("%s", null, (rs, i) -> {
 			Array embedding = rs.getArray("embedding");
 			return Arrays.stream((Float[]) embedding.getArray()).map(Float::doubleValue).toList();
 		}),
 
-		PG_VECTOR("::vector", "vector", (rs, i) -> {
-			String embedding = rs.getString("embedding");
-			return Arrays.stream((embedding.substring(1, embedding.length() - 1)
-				/* remove leading '[' and trailing ']' */.split(","))).map(Double::parseDouble).toList();
-		});
+		// The vector is returned in the pgvector binary representation, instead of the
+		// text one, to avoid formatting and parsing the decimal values.
+		PG_VECTOR("vector_send(%s::vector)", "vector", (rs, i) -> fromVectorBinary(rs.getBytes("embedding")));
 
-		private final String cast;
+		private final String selectTemplate;
 
 		private final String extensionName;
 
 		private final RowMapper<List<Double>> rowMapper;
 
-		VectorType(String cast, String extensionName, RowMapper<List<Double>> rowMapper) {
-			this.cast = cast;
+		VectorType(String selectTemplate, String extensionName, RowMapper<List<Double>> rowMapper) {
+			this.selectTemplate = selectTemplate;
 			this.extensionName = extensionName;
 			this.rowMapper = rowMapper;
 		}
 
+		String select(String embedding) {
+			return String.format(this.selectTemplate, embedding) + " AS embedding";
+		}
+
 	}
 
 	/**
@@ -157,7 +160,7 @@ public class PostgresMlEmbeddingClient extends AbstractEmbeddingClient implement
 	@Override
 	public List<Double> embed(String text) {
 		return this.jdbcTemplate.queryForObject(
-				"SELECT pgml.embed(?, ?, ?::JSONB)" + this.defaultOptions.getVectorType().cast + " AS embedding",
+				"SELECT " + this.defaultOptions.getVectorType().select("pgml.embed(?, ?, ?::JSONB)"),
 				this.defaultOptions.getVectorType().rowMapper, this.defaultOptions.getTransformer(), text,
 				this.defaultOptions.getKwargs());
 	}
@@ -179,8 +182,9 @@ public class PostgresMlEmbeddingClient extends AbstractEmbeddingClient implement
 		List<String> texts = request.getInstructions();
 		if (!CollectionUtils.isEmpty(texts)) {
 			embed = this.jdbcTemplate.query(connection -> {
-				PreparedStatement preparedStatement = connection.prepareStatement("SELECT pgml.embed(?, text, ?::JSONB)"
-						+ optionsToUse.getVectorType().cast + " AS embedding FROM (SELECT unnest(?) AS text) AS texts");
+				PreparedStatement preparedStatement = connection
+					.prepareStatement("SELECT " + optionsToUse.getVectorType().select("pgml.embed(?, text, ?::JSONB)")
+							+ " FROM (SELECT unnest(?) AS text) AS texts");
 				preparedStatement.setString(1, optionsToUse.getTransformer());
 				preparedStatement.setString(2, ModelOptionsUtils.toJsonString(optionsToUse.getKwargs()));
 				preparedStatement.setArray(3, connection.createArrayOf("TEXT", texts.toArray(Object[]::new)));
@@ -207,6 +211,11 @@ public class PostgresMlEmbeddingClient extends AbstractEmbeddingClient implement
 		return new EmbeddingResponse(data, metadata);
 	}
 
+	@Override
+	protected String getEmbeddingModelName() {
+		return this.defaultOptions.getTransformer();
+	}
+
 	/**
 	 * Merge the default and request options.
 	 * @param requestOptions request options to merge.
@@ -224,6 +233,23 @@ public class PostgresMlEmbeddingClient extends AbstractEmbeddingClient implement
 		return options;
 	}
 
+	/**
+	 * Decodes the pgvector binary representation: the int16 dimensions, an unused int16
+	 * and the float4 components.
+	 * @param bytes the {@code vector_send} output.
+	 * @return the vector components.
+	 */
+	static List<Double> fromVectorBinary(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		int dimensions = buffer.getShort() & 0xFFFF;
+		buffer.getShort();
+		List<Double> embedding = new ArrayList<>(dimensions);
+		for (int i = 0; i < dimensions; i++) {
+			embedding.add((double) buffer.getFloat());
+		}
+		return embedding;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pgml");
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.postgresml;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostgresMlEmbeddingClientTests {
+
+	@Test
+	public void decodeVectorBinary() {
+		float[] values = { 0.1f, -2.5f, 3.75f };
+		ByteBuffer buffer = ByteBuffer.allocate(4 + 4 * values.length);
+		buffer.putShort((short) values.length).putShort((short) 0);
+		for (float value : values) {
+			buffer.putFloat(value);
+		}
+
+		assertThat(PostgresMlEmbeddingClient.fromVectorBinary(buffer.array())).containsExactly((double) 0.1f, -2.5,
+				3.75);
+	}
+
+}
@@ -21,6 +21,7 @@ import org.springframework.ai.parser.OutputParser;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.core.io.Resource;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StreamUtils;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.compiler.STLexer;
@@ -33,9 +34,21 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+/**
+ * Prompt template backed by StringTemplate, using {@code {}} as the variable delimiters.
+ * <p>
+ * The template is compiled once, and the compiled form is shared by all the instances
+ * created for the same template string. Rendering works on a lightweight copy of the
+ * compiled template, so a single instance can be rendered concurrently. The
+ * {@link #add(String, Object)} variables are meant to be set up before the template is
+ * shared.
+ */
 public class PromptTemplate implements PromptTemplateActions, PromptTemplateMessageActions {
 
-	private ST st;
+	private static final ConcurrentLruCache<String, CompiledTemplate> compiledTemplates = new ConcurrentLruCache<>(256,
+			CompiledTemplate::compile);
+
+	private final CompiledTemplate compiledTemplate;
 
 	private Map<String, Object> dynamicModel = new HashMap<>();
 
@@ -46,44 +59,18 @@ public class PromptTemplate implements PromptTemplateActions, PromptTemplateMess
 	private OutputParser outputParser;
 
 	public PromptTemplate(Resource resource) {
-		try (InputStream inputStream = resource.getInputStream()) {
-			this.template = StreamUtils.copyToString(inputStream, Charset.defaultCharset());
-		}
-		catch (IOException ex) {
-			throw new RuntimeException("Failed to read resource", ex);
-		}
-		try {
-			this.st = new ST(this.template, '{', '}');
-		}
-		catch (Exception ex) {
-			throw new IllegalArgumentException("The template string is not valid.", ex);
-		}
+		this(resource, Map.of());
 	}
 
 	public PromptTemplate(String template) {
-		this.template = template;
-		// If the template string is not valid, an exception will be thrown
-		try {
-			this.st = new ST(this.template, '{', '}');
-		}
-		catch (Exception ex) {
-			throw new IllegalArgumentException("The template string is not valid.", ex);
-		}
+		this(template, Map.of());
 	}
 
 	public PromptTemplate(String template, Map<String, Object> model) {
 		this.template = template;
 		// If the template string is not valid, an exception will be thrown
-		try {
-			this.st = new ST(this.template, '{', '}');
-			for (Entry<String, Object> entry : model.entrySet()) {
-				add(entry.getKey(), entry.getValue());
-				dynamicModel.put(entry.getKey(), entry.getValue());
-			}
-		}
-		catch (Exception ex) {
-			throw new IllegalArgumentException("The template string is not valid.", ex);
-		}
+		this.compiledTemplate = compiledTemplates.get(this.template);
+		this.dynamicModel.putAll(model);
 	}
 
 	public PromptTemplate(Resource resource, Map<String, Object> model) {
@@ -94,16 +81,8 @@ public class PromptTemplate implements PromptTemplateActions, PromptTemplateMess
 			throw new RuntimeException("Failed to read resource", ex);
 		}
 		// If the template string is not valid, an exception will be thrown
-		try {
-			this.st = new ST(this.template, '{', '}');
-			for (Entry<String, Object> entry : model.entrySet()) {
-				add(entry.getKey(), entry.getValue());
-				dynamicModel.put(entry.getKey(), entry.getValue());
-			}
-		}
-		catch (Exception ex) {
-			throw new IllegalArgumentException("The template string is not valid.", ex);
-		}
+		this.compiledTemplate = compiledTemplates.get(this.template);
+		this.dynamicModel.putAll(model);
 	}
 
 	public OutputParser getOutputParser() {
@@ -116,7 +95,6 @@ public class PromptTemplate implements PromptTemplateActions, PromptTemplateMess
 	}
 
 	public void add(String name, Object value) {
-		this.st.add(name, value);
 		this.dynamicModel.put(name, value);
 	}
 
@@ -131,26 +109,34 @@ public class PromptTemplate implements PromptTemplateActions, PromptTemplateMess
 	// Render Methods
 	@Override
 	public String render() {
-		validate(this.dynamicModel);
-		return st.render();
+		return render(Map.of());
 	}
 
 	@Override
 	public String render(Map<String, Object> model) {
 		validate(model);
+		ST st = this.compiledTemplate.newInstance();
+		// The render model entries override the dynamic model ones.
+		addAttributes(st, this.dynamicModel);
+		addAttributes(st, model);
+		return st.render();
+	}
+
+	private void addAttributes(ST st, Map<String, Object> model) {
 		for (Entry<String, Object> entry : model.entrySet()) {
-			if (st.getAttribute(entry.getKey()) != null) {
-				st.remove(entry.getKey());
+			// Variables that are not referenced by the template are not declared on the
+			// shared compiled template and can't affect the rendering.
+			if (!this.compiledTemplate.inputVariables().contains(entry.getKey())) {
+				continue;
 			}
-			if (entry.getValue() instanceof Resource) {
-				st.add(entry.getKey(), renderResource((Resource) entry.getValue()));
+			st.remove(entry.getKey());
+			if (entry.getValue() instanceof Resource resource) {
+				st.add(entry.getKey(), renderResource(resource));
 			}
 			else {
 				st.add(entry.getKey(), entry.getValue());
 			}
-
 		}
-		return st.render();
 	}
 
 	private String renderResource(Resource resource) {
@@ -160,12 +146,6 @@ public class PromptTemplate implements PromptTemplateActions, PromptTemplateMess
 		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		// try (InputStream inputStream = resource.getInputStream()) {
-		// return StreamUtils.copyToString(inputStream, Charset.defaultCharset());
-		// }
-		// catch (IOException ex) {
-		// throw new RuntimeException(ex);
-		// }
 	}
 
 	@Override
@@ -189,24 +169,59 @@ public class PromptTemplate implements PromptTemplateActions, PromptTemplateMess
 	}
 
 	public Set<String> getInputVariables() {
-		TokenStream tokens = this.st.impl.tokens;
-		return IntStream.range(0, tokens.range())
-			.mapToObj(tokens::get)
-			.filter(token -> token.getType() == STLexer.ID)
-			.map(Token::getText)
-			.collect(Collectors.toSet());
+		return this.compiledTemplate.inputVariables();
 	}
 
 	protected void validate(Map<String, Object> model) {
-		Set<String> dynamicVariableNames = new HashSet<>(this.dynamicModel.keySet());
-		Set<String> modelVariables = new HashSet<>(model.keySet());
-		modelVariables.addAll(dynamicVariableNames);
-		Set<String> missingEntries = new HashSet<>(getInputVariables());
-		missingEntries.removeAll(modelVariables);
-		if (!missingEntries.isEmpty()) {
+		Set<String> missingEntries = null;
+		for (String inputVariable : this.compiledTemplate.inputVariables()) {
+			if (!model.containsKey(inputVariable) && !this.dynamicModel.containsKey(inputVariable)) {
+				if (missingEntries == null) {
+					missingEntries = new HashSet<>();
+				}
+				missingEntries.add(inputVariable);
+			}
+		}
+		if (missingEntries != null) {
 			throw new IllegalStateException(
 					"All template variables were not replaced. Missing variable names are " + missingEntries);
 		}
 	}
 
+	/**
+	 * Compiled template and its input variables. The prototype is never rendered or
+	 * modified, each render works on a copy of it.
+	 */
+	private record CompiledTemplate(ST prototype, Set<String> inputVariables) {
+
+		static CompiledTemplate compile(String template) {
+			ST prototype;
+			try {
+				prototype = new ST(template, '{', '}');
+			}
+			catch (Exception ex) {
+				throw new IllegalArgumentException("The template string is not valid.", ex);
+			}
+			TokenStream tokens = prototype.impl.tokens;
+			Set<String> inputVariables = IntStream.range(0, tokens.range())
+				.mapToObj(tokens::get)
+				.filter(token -> token.getType() == STLexer.ID)
+				.map(Token::getText)
+				.collect(Collectors.toUnmodifiableSet());
+			// Declare all the variables up front. Adding an attribute that is not
+			// declared yet registers it on the compiled template, shared by all the
+			// copies, which is not thread-safe.
+			for (String inputVariable : inputVariables) {
+				prototype.add(inputVariable, null);
+				prototype.remove(inputVariable);
+			}
+			return new CompiledTemplate(prototype, inputVariables);
+		}
+
+		ST newInstance() {
+			return new ST(this.prototype);
+		}
+
+	}
+
 }
@@ -18,6 +18,20 @@ package org.springframework.ai.document;
 import java.util.List;
 import java.util.function.Supplier;
 
+import reactor.core.publisher.Flux;
+
 public interface DocumentReader extends Supplier<List<Document>> {
 
+	/**
+	 * Reads the documents lazily, only as fast as they are requested downstream, so that
+	 * large sources can be processed with bounded memory. The reading is blocking and
+	 * happens on the subscribing thread. The default implementation materializes all the
+	 * documents with {@link #get()}, readers that can produce the documents incrementally
+	 * override it.
+	 * @return the stream of documents.
+	 */
+	default Flux<Document> stream() {
+		return Flux.defer(() -> Flux.fromIterable(this.get()));
+	}
+
 }
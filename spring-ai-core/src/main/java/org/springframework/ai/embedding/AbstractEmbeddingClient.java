@@ -16,25 +16,64 @@
 package org.springframework.ai.embedding;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.Assert;
 
 /**
  * Abstract implementation of the {@link EmbeddingClient} interface that provides
- * dimensions calculation caching.
+ * dimensions calculation caching. The dimensions are discovered once, even if requested
+ * concurrently, from the known model dimensions, the optional
+ * {@link EmbeddingDimensionsCache} or, as a last resort, by embedding a probe text.
+ * <p>
+ * It also provides a batching executor for the provider requests. The implementations
+ * declare the provider limits, the maximum number of inputs and of estimated tokens per
+ * request, and pass their requests through {@link #callInBatches} or
+ * {@link #callAsyncInBatches}. Requests over the limits are split into batches that are
+ * sent concurrently, up to {@link #setMaxConcurrency(int)} at a time, and the embeddings
+ * are reassembled in the input order.
  *
  * @author Christian Tzolov
  */
 public abstract class AbstractEmbeddingClient implements EmbeddingClient {
 
+	private static final Logger logger = LoggerFactory.getLogger(AbstractEmbeddingClient.class);
+
 	protected final AtomicInteger embeddingDimensions = new AtomicInteger(-1);
 
+	private final AtomicReference<CompletableFuture<Integer>> dimensionsDiscovery = new AtomicReference<>();
+
+	private EmbeddingDimensionsCache dimensionsCache = EmbeddingDimensionsCache.fromSystemProperty();
+
 	private static Map<String, Integer> KNOWN_EMBEDDING_DIMENSIONS = loadKnownModelDimensions();
 
+	private int maxInputsPerRequest = Integer.MAX_VALUE;
+
+	private int maxTokensPerRequest = Integer.MAX_VALUE;
+
+	private int maxConcurrency = 4;
+
+	private TokenCountEstimator tokenCountEstimator;
+
 	/**
 	 * Return the dimension of the requested embedding generative name. If the generative
 	 * name is unknown uses the EmbeddingClient to perform a dummy EmbeddingClient#embed
@@ -74,10 +113,261 @@ public abstract class AbstractEmbeddingClient implements EmbeddingClient {
 
 	@Override
 	public int dimensions() {
-		if (this.embeddingDimensions.get() < 0) {
-			this.embeddingDimensions.set(dimensions(this, "Test", "Hello World"));
+		return this.dimensions(this.getEmbeddingModelName(), "Hello World");
+	}
+
+	/**
+	 * Returns the cached dimensions, discovering them on the first call. Concurrent
+	 * callers wait for the discovery started by the first one instead of probing the
+	 * model again. A failed discovery is retried by the next call.
+	 * @param modelName the embedding model name, used to look up the known and the cached
+	 * dimensions. Can be null.
+	 * @param dummyContent the content to embed if the dimensions are not known.
+	 * @return the embedding dimensions.
+	 */
+	protected int dimensions(String modelName, String dummyContent) {
+		int dimensions = this.embeddingDimensions.get();
+		if (dimensions >= 0) {
+			return dimensions;
+		}
+
+		CompletableFuture<Integer> discovery = new CompletableFuture<>();
+		CompletableFuture<Integer> runningDiscovery = this.dimensionsDiscovery.compareAndExchange(null, discovery);
+		if (runningDiscovery != null) {
+			try {
+				return runningDiscovery.join();
+			}
+			catch (CompletionException e) {
+				throw (e.getCause() instanceof RuntimeException cause) ? cause : e;
+			}
+		}
+
+		try {
+			dimensions = this.discoverDimensions(modelName, dummyContent);
+			this.embeddingDimensions.set(dimensions);
+			discovery.complete(dimensions);
+			return dimensions;
+		}
+		catch (RuntimeException e) {
+			this.dimensionsDiscovery.set(null);
+			discovery.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private int discoverDimensions(String modelName, String dummyContent) {
+		if (modelName == null || this.dimensionsCache == null || KNOWN_EMBEDDING_DIMENSIONS.containsKey(modelName)) {
+			return dimensions(this, String.valueOf(modelName), dummyContent);
+		}
+
+		String cacheKey = this.getClass().getName() + "/" + modelName;
+		try {
+			int cachedDimensions = this.dimensionsCache.get(cacheKey);
+			if (cachedDimensions > 0) {
+				return cachedDimensions;
+			}
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to read the embedding dimensions cache", e);
+		}
+
+		int dimensions = dimensions(this, modelName, dummyContent);
+		try {
+			this.dimensionsCache.put(cacheKey, dimensions);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to write the embedding dimensions cache", e);
+		}
+		return dimensions;
+	}
+
+	/**
+	 * @return the name of the embedding model, used to look up the known and the cached
+	 * dimensions, or null if unknown.
+	 */
+	protected String getEmbeddingModelName() {
+		return null;
+	}
+
+	/**
+	 * @param dimensionsCache the cache of the discovered dimensions, or null for none.
+	 * Defaults to the cache configured with the
+	 * {@value EmbeddingDimensionsCache#CACHE_FILE_PROPERTY} system property.
+	 */
+	public void setDimensionsCache(EmbeddingDimensionsCache dimensionsCache) {
+		this.dimensionsCache = dimensionsCache;
+	}
+
+	public int getMaxInputsPerRequest() {
+		return this.maxInputsPerRequest;
+	}
+
+	/**
+	 * @param maxInputsPerRequest the maximum number of inputs the provider accepts in a
+	 * single request.
+	 */
+	public void setMaxInputsPerRequest(int maxInputsPerRequest) {
+		Assert.isTrue(maxInputsPerRequest > 0, "Max inputs per request must be positive");
+		this.maxInputsPerRequest = maxInputsPerRequest;
+	}
+
+	public int getMaxTokensPerRequest() {
+		return this.maxTokensPerRequest;
+	}
+
+	/**
+	 * @param maxTokensPerRequest the maximum number of tokens the provider accepts in a
+	 * single request. The token counts are estimated with the
+	 * {@link #setTokenCountEstimator(TokenCountEstimator) token count estimator}. A
+	 * single input over the limit is sent on its own.
+	 */
+	public void setMaxTokensPerRequest(int maxTokensPerRequest) {
+		Assert.isTrue(maxTokensPerRequest > 0, "Max tokens per request must be positive");
+		this.maxTokensPerRequest = maxTokensPerRequest;
+	}
+
+	public int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+	/**
+	 * @param maxConcurrency the maximum number of batch requests in flight. Defaults to
+	 * 4.
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be positive");
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * @param tokenCountEstimator estimates the tokens of the inputs for the
+	 * {@link #setMaxTokensPerRequest(int) tokens limit}. Defaults to the
+	 * {@link JTokkitTokenCountEstimator}.
+	 */
+	public void setTokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+		Assert.notNull(tokenCountEstimator, "TokenCountEstimator must not be null");
+		this.tokenCountEstimator = tokenCountEstimator;
+	}
+
+	/**
+	 * Calls the provider once per batch of the request, with up to the max concurrency
+	 * batches in flight. A request within the limits is called directly on the calling
+	 * thread.
+	 * @param request the request to embed.
+	 * @param batchCall sends a single provider request.
+	 * @return the embeddings of all the inputs, in input order and indexed by input
+	 * position.
+	 */
+	protected EmbeddingResponse callInBatches(EmbeddingRequest request,
+			Function<EmbeddingRequest, EmbeddingResponse> batchCall) {
+		List<EmbeddingRequest> batches = this.batch(request);
+		if (batches.size() == 1) {
+			return batchCall.apply(request);
+		}
+		return this
+			.callAsyncInBatches(batches,
+					batch -> Mono.fromCallable(() -> batchCall.apply(batch)).subscribeOn(Schedulers.boundedElastic()))
+			.block();
+	}
+
+	/**
+	 * Non-blocking variant of {@link #callInBatches(EmbeddingRequest, Function)}.
+	 * @param request the request to embed.
+	 * @param batchCall sends a single provider request.
+	 * @return the embeddings of all the inputs, in input order and indexed by input
+	 * position.
+	 */
+	protected Mono<EmbeddingResponse> callAsyncInBatches(EmbeddingRequest request,
+			Function<EmbeddingRequest, Mono<EmbeddingResponse>> batchCall) {
+		return Mono.defer(() -> {
+			List<EmbeddingRequest> batches = this.batch(request);
+			if (batches.size() == 1) {
+				return batchCall.apply(request);
+			}
+			return this.callAsyncInBatches(batches, batchCall);
+		});
+	}
+
+	private Mono<EmbeddingResponse> callAsyncInBatches(List<EmbeddingRequest> batches,
+			Function<EmbeddingRequest, Mono<EmbeddingResponse>> batchCall) {
+		return Flux.fromIterable(batches)
+			.flatMapSequential(batchCall, this.maxConcurrency)
+			.collectList()
+			.map(responses -> merge(batches, responses));
+	}
+
+	/**
+	 * Splits the request inputs, in order, into batches within the request limits.
+	 */
+	List<EmbeddingRequest> batch(EmbeddingRequest request) {
+		List<String> inputs = request.getInstructions();
+		boolean limitTokens = this.maxTokensPerRequest < Integer.MAX_VALUE;
+		if (inputs.size() <= this.maxInputsPerRequest && !limitTokens) {
+			return List.of(request);
+		}
+
+		List<EmbeddingRequest> batches = new ArrayList<>();
+		List<String> batch = new ArrayList<>();
+		int batchTokens = 0;
+		for (String input : inputs) {
+			int tokens = limitTokens ? this.tokenCountEstimator().estimate(input) : 0;
+			if (!batch.isEmpty() && (batch.size() == this.maxInputsPerRequest
+					|| (limitTokens && batchTokens + tokens > this.maxTokensPerRequest))) {
+				batches.add(new EmbeddingRequest(batch, request.getOptions()));
+				batch = new ArrayList<>();
+				batchTokens = 0;
+			}
+			batch.add(input);
+			batchTokens += tokens;
+		}
+		if (!batch.isEmpty()) {
+			batches.add(new EmbeddingRequest(batch, request.getOptions()));
+		}
+		return batches;
+	}
+
+	private TokenCountEstimator tokenCountEstimator() {
+		if (this.tokenCountEstimator == null) {
+			this.tokenCountEstimator = new JTokkitTokenCountEstimator();
+		}
+		return this.tokenCountEstimator;
+	}
+
+	/**
+	 * Offsets the embedding indices of every batch response by the batch position in the
+	 * request. The numeric metadata, such as the token usage, is summed up.
+	 */
+	private static EmbeddingResponse merge(List<EmbeddingRequest> batches, List<EmbeddingResponse> responses) {
+		List<Embedding> embeddings = new ArrayList<>();
+		EmbeddingResponseMetadata metadata = new EmbeddingResponseMetadata();
+		int offset = 0;
+		for (int i = 0; i < batches.size(); i++) {
+			EmbeddingResponse response = responses.get(i);
+			List<Embedding> batchEmbeddings = response.getResults();
+			for (int j = 0; j < batchEmbeddings.size(); j++) {
+				Embedding embedding = batchEmbeddings.get(j);
+				int index = (embedding.getIndex() != null) ? embedding.getIndex() : j;
+				embeddings.add(new Embedding(embedding.getOutput(), offset + index));
+			}
+			offset += batches.get(i).getInstructions().size();
+			if (response.getMetadata() != null) {
+				response.getMetadata()
+					.forEach((key, value) -> metadata.merge(key, value, AbstractEmbeddingClient::sum));
+			}
+		}
+		embeddings.sort(Comparator.comparing(Embedding::getIndex));
+		return new EmbeddingResponse(embeddings, metadata);
+	}
+
+	private static Object sum(Object first, Object second) {
+		if (first instanceof Integer a && second instanceof Integer b) {
+			return a + b;
+		}
+		if (first instanceof Number a && second instanceof Number b
+				&& !(first instanceof Double || first instanceof Float)) {
+			return a.longValue() + b.longValue();
 		}
-		return this.embeddingDimensions.get();
+		return first;
 	}
 
 }
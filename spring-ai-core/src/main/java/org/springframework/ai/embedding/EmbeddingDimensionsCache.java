@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.embedding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.springframework.util.Assert;
+
+/**
+ * Persists the discovered embedding dimensions in a properties file, so that the
+ * {@link AbstractEmbeddingClient} does not need to embed a probe text on every start. The
+ * file is shared by all the clients using the cache and keyed by the client type and the
+ * embedding model name.
+ * <p>
+ * Set the {@value #CACHE_FILE_PROPERTY} system property to enable a default cache for all
+ * the clients, or configure it per client with
+ * {@link AbstractEmbeddingClient#setDimensionsCache(EmbeddingDimensionsCache)}.
+ */
+public class EmbeddingDimensionsCache {
+
+	/**
+	 * System property with the path of the default cache file.
+	 */
+	public static final String CACHE_FILE_PROPERTY = "spring.ai.embedding.dimensions-cache";
+
+	private final Path file;
+
+	public EmbeddingDimensionsCache(Path file) {
+		Assert.notNull(file, "File must not be null");
+		this.file = file;
+	}
+
+	/**
+	 * @return the cache configured with the {@value #CACHE_FILE_PROPERTY} system
+	 * property, or null if the property is not set.
+	 */
+	static EmbeddingDimensionsCache fromSystemProperty() {
+		String file = System.getProperty(CACHE_FILE_PROPERTY);
+		return (file != null && !file.isBlank()) ? new EmbeddingDimensionsCache(Path.of(file)) : null;
+	}
+
+	/**
+	 * @param key the client type and model key.
+	 * @return the cached dimensions, or -1 if unknown.
+	 */
+	public synchronized int get(String key) {
+		String value = this.load().getProperty(key);
+		return (value != null) ? Integer.parseInt(value) : -1;
+	}
+
+	/**
+	 * Stores the dimensions, replacing the file atomically.
+	 * @param key the client type and model key.
+	 * @param dimensions the discovered dimensions.
+	 */
+	public synchronized void put(String key, int dimensions) {
+		Properties properties = this.load();
+		properties.setProperty(key, String.valueOf(dimensions));
+		try {
+			Path parent = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				properties.store(out, "Discovered embedding dimensions");
+			}
+			Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Properties load() {
+		Properties properties = new Properties();
+		if (Files.exists(this.file)) {
+			try (InputStream in = Files.newInputStream(this.file)) {
+				properties.load(in);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return properties;
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingClient} that reduces the embeddings of another client to their first
+ * {@code dimensions} components, renormalized to unit length. Models trained with
+ * Matryoshka representation learning, such as {@literal nomic-embed-text} or the OpenAI
+ * {@literal text-embedding-3} models, keep most of their quality when shortened this way,
+ * for a fraction of the storage and search cost.
+ *
+ * Use it for the models that can't reduce the dimensions server-side. Otherwise prefer
+ * the model option, such as {@code OpenAiEmbeddingOptions#withDimensions}, that saves
+ * transferring the full embeddings.
+ */
+public class TruncatingEmbeddingClient implements EmbeddingClient {
+
+	private final EmbeddingClient embeddingClient;
+
+	private final int dimensions;
+
+	/**
+	 * @param embeddingClient the client computing the full embeddings.
+	 * @param dimensions the number of leading components to keep.
+	 */
+	public TruncatingEmbeddingClient(EmbeddingClient embeddingClient, int dimensions) {
+		Assert.notNull(embeddingClient, "EmbeddingClient must not be null");
+		Assert.isTrue(dimensions > 0, "Dimensions must be positive");
+		this.embeddingClient = embeddingClient;
+		this.dimensions = dimensions;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		return this.truncate(this.embeddingClient.call(request));
+	}
+
+	@Override
+	public Mono<EmbeddingResponse> callAsync(EmbeddingRequest request) {
+		return this.embeddingClient.callAsync(request).map(this::truncate);
+	}
+
+	@Override
+	public List<Double> embed(Document document) {
+		return truncate(this.embeddingClient.embed(document), this.dimensions);
+	}
+
+	@Override
+	public int dimensions() {
+		return this.dimensions;
+	}
+
+	private EmbeddingResponse truncate(EmbeddingResponse response) {
+		List<Embedding> embeddings = response.getResults()
+			.stream()
+			.map(embedding -> new Embedding(truncate(embedding.getOutput(), this.dimensions), embedding.getIndex()))
+			.toList();
+		return new EmbeddingResponse(embeddings, response.getMetadata());
+	}
+
+	/**
+	 * Keeps the first components of the embedding and renormalizes them to unit length.
+	 * @param embedding the full embedding.
+	 * @param dimensions the number of leading components to keep.
+	 * @return the truncated embedding.
+	 */
+	public static List<Double> truncate(List<Double> embedding, int dimensions) {
+		Assert.isTrue(embedding.size() >= dimensions, () -> "Cannot truncate an embedding of " + embedding.size()
+				+ " dimensions to " + dimensions + " dimensions");
+
+		double norm = 0;
+		for (int i = 0; i < dimensions; i++) {
+			norm += embedding.get(i) * embedding.get(i);
+		}
+		norm = Math.sqrt(norm);
+
+		List<Double> truncated = new ArrayList<>(dimensions);
+		for (int i = 0; i < dimensions; i++) {
+			truncated.add((norm == 0) ? 0 : embedding.get(i) / norm);
+		}
+		return truncated;
+	}
+
+}
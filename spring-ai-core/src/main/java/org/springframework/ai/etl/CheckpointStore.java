@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.etl;
+
+import java.util.Collection;
+
+/**
+ * Records the ids of the source documents that went through the whole
+ * {@link EtlPipeline}, so an interrupted ingestion can be resumed without processing them
+ * again.
+ */
+public interface CheckpointStore {
+
+	/**
+	 * @param sourceId the source document id.
+	 * @return true if the source document has already been processed.
+	 */
+	boolean isProcessed(String sourceId);
+
+	/**
+	 * Marks the source documents as processed, once all their derived documents have been
+	 * written.
+	 * @param sourceIds the source document ids.
+	 */
+	void markProcessed(Collection<String> sourceIds);
+
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.etl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentReader;
+import org.springframework.ai.document.DocumentTransformer;
+import org.springframework.ai.document.DocumentWriter;
+import org.springframework.ai.document.id.IdGenerator;
+import org.springframework.ai.document.id.JdkSha256HexIdGenerator;
+import org.springframework.util.Assert;
+
+/**
+ * Runs a {@link DocumentReader}, a chain of {@link DocumentTransformer}s and a
+ * {@link DocumentWriter} as a pipeline, so that reading, transforming and writing overlap
+ * instead of running one after the other over the whole data set.
+ * <p>
+ * The reader is consumed lazily through {@link DocumentReader#stream()}. By default every
+ * source document is passed through the transformers on its own, with up to the
+ * configured parallelism per transformer. Transformers that relate documents to each
+ * other, such as the {@code SummaryMetadataEnricher} with its previous and next summaries
+ * or an enricher that batches its model calls, can be given the documents of several
+ * source documents at once with
+ * {@link Builder#withTransformer(DocumentTransformer, int, int)}. The derived documents
+ * are grouped into micro-batches of at least {@code writerBatchSize} documents before
+ * they are handed to the writer. The stages are connected by bounded queues, so a slow
+ * writer throttles the transformers and the reader instead of letting the documents pile
+ * up in memory.
+ * <p>
+ * The documents derived from the source documents of one transformer call are always
+ * written in the same batch. Once a batch is written, the ids of its source documents are
+ * recorded in the {@link CheckpointStore}, and the source documents already recorded
+ * there are skipped by later runs. The readers assign random document ids, so the
+ * checkpoint id defaults to {@link #CONTENT_SOURCE_ID}, a hash of the document content
+ * and origin that is stable across runs.
+ */
+public class EtlPipeline {
+
+	public static final String READER_STAGE = "reader";
+
+	public static final String WRITER_STAGE = "writer";
+
+	/**
+	 * Metadata keys identifying where a source document was read from.
+	 */
+	private static final List<String> ORIGIN_METADATA_KEYS = List.of("source", "file_name", "page_number");
+
+	private static final IdGenerator CONTENT_ID_GENERATOR = new JdkSha256HexIdGenerator();
+
+	/**
+	 * Computes the checkpoint id of a source document from its content and its
+	 * {@code source}, {@code file_name} and {@code page_number} metadata, so the same
+	 * document gets the same id on every run regardless of {@link Document#getId()}.
+	 */
+	public static final Function<Document, String> CONTENT_SOURCE_ID = document -> {
+		List<Object> origin = new ArrayList<>(ORIGIN_METADATA_KEYS.size() + 1);
+		for (String key : ORIGIN_METADATA_KEYS) {
+			Object value = document.getMetadata().get(key);
+			origin.add((value != null) ? value.toString() : null);
+		}
+		origin.add(document.getContent());
+		return CONTENT_ID_GENERATOR.generateId(origin.toArray());
+	};
+
+	private final DocumentReader reader;
+
+	private final List<TransformerStage> transformers;
+
+	private final DocumentWriter writer;
+
+	private final int writerBatchSize;
+
+	private final int writerParallelism;
+
+	private final int queueCapacity;
+
+	private final CheckpointStore checkpointStore;
+
+	private final Function<Document, String> sourceIdExtractor;
+
+	private final Scheduler scheduler;
+
+	private EtlPipeline(Builder builder) {
+		this.reader = builder.reader;
+		this.transformers = List.copyOf(builder.transformers);
+		this.writer = builder.writer;
+		this.writerBatchSize = builder.writerBatchSize;
+		this.writerParallelism = builder.writerParallelism;
+		this.queueCapacity = builder.queueCapacity;
+		this.checkpointStore = builder.checkpointStore;
+		this.sourceIdExtractor = builder.sourceIdExtractor;
+		this.scheduler = builder.scheduler;
+	}
+
+	public static Builder builder(DocumentReader reader) {
+		return new Builder(reader);
+	}
+
+	/**
+	 * Runs the pipeline and blocks until all the documents are written.
+	 * @return the metrics of the pipeline stages, in pipeline order.
+	 */
+	public List<StageMetrics> run() {
+		return this.execute().block();
+	}
+
+	/**
+	 * Creates a lazy execution of the pipeline. Every subscription runs the pipeline
+	 * again, skipping the source documents already recorded in the checkpoint store.
+	 * @return the metrics of the pipeline stages, in pipeline order, emitted once all the
+	 * documents are written.
+	 */
+	public Mono<List<StageMetrics>> execute() {
+		return Mono.defer(() -> {
+			List<StageMetrics> metrics = new ArrayList<>();
+			StageMetrics readerMetrics = new StageMetrics(READER_STAGE);
+			metrics.add(readerMetrics);
+
+			Flux<Unit> units = this.read(readerMetrics);
+			for (int i = 0; i < this.transformers.size(); i++) {
+				TransformerStage stage = this.transformers.get(i);
+				StageMetrics stageMetrics = new StageMetrics(stage.name());
+				metrics.add(stageMetrics);
+				Flux<Unit> input = (stage.batchSize() > 1) ? units.buffer(stage.batchSize()).map(Unit::merge) : units;
+				units = input.flatMapSequential(
+						unit -> Mono.fromCallable(() -> transform(stage.transformer(), unit, stageMetrics))
+							.subscribeOn(this.scheduler),
+						stage.parallelism(), this.queueCapacity);
+			}
+
+			StageMetrics writerMetrics = new StageMetrics(WRITER_STAGE);
+			metrics.add(writerMetrics);
+
+			return this.batch(units)
+				.flatMap(batch -> Mono.fromRunnable(() -> this.write(batch, writerMetrics)).subscribeOn(this.scheduler),
+						this.writerParallelism, 1)
+				.then(Mono.fromSupplier(() -> Collections.unmodifiableList(metrics)));
+		});
+	}
+
+	private Flux<Unit> read(StageMetrics metrics) {
+		return Flux.defer(() -> {
+			long[] previous = { System.nanoTime() };
+			return this.reader.stream().map(document -> {
+				long now = System.nanoTime();
+				metrics.record(previous[0], now, 0, 1);
+				previous[0] = now;
+				return new Unit(List.of(this.sourceIdExtractor.apply(document)), List.of(document));
+			}).filter(unit -> !this.checkpointStore.isProcessed(unit.sourceIds().get(0)));
+		}).subscribeOn(this.scheduler).limitRate(this.queueCapacity);
+	}
+
+	private static Unit transform(DocumentTransformer transformer, Unit unit, StageMetrics metrics) {
+		long start = System.nanoTime();
+		List<Document> documents = transformer.apply(unit.documents());
+		metrics.record(start, System.nanoTime(), unit.documents().size(), documents.size());
+		return new Unit(unit.sourceIds(), documents);
+	}
+
+	private Flux<List<Unit>> batch(Flux<Unit> units) {
+		return Flux.defer(() -> {
+			int[] size = { 0 };
+			return units.bufferUntil(unit -> {
+				size[0] += unit.documents().size();
+				if (size[0] >= this.writerBatchSize) {
+					size[0] = 0;
+					return true;
+				}
+				return false;
+			});
+		});
+	}
+
+	private void write(List<Unit> batch, StageMetrics metrics) {
+		long start = System.nanoTime();
+		List<Document> documents = new ArrayList<>();
+		List<String> sourceIds = new ArrayList<>();
+		for (Unit unit : batch) {
+			documents.addAll(unit.documents());
+			sourceIds.addAll(unit.sourceIds());
+		}
+		if (!documents.isEmpty()) {
+			this.writer.accept(documents);
+		}
+		this.checkpointStore.markProcessed(sourceIds);
+		metrics.record(start, System.nanoTime(), documents.size(), documents.size());
+	}
+
+	/**
+	 * The documents derived from one or more source documents, which are checkpointed
+	 * together.
+	 */
+	private record Unit(List<String> sourceIds, List<Document> documents) {
+
+		static Unit merge(List<Unit> units) {
+			if (units.size() == 1) {
+				return units.get(0);
+			}
+			List<String> sourceIds = new ArrayList<>();
+			List<Document> documents = new ArrayList<>();
+			for (Unit unit : units) {
+				sourceIds.addAll(unit.sourceIds());
+				documents.addAll(unit.documents());
+			}
+			return new Unit(sourceIds, documents);
+		}
+
+	}
+
+	private record TransformerStage(String name, DocumentTransformer transformer, int parallelism, int batchSize) {
+	}
+
+	public static class Builder {
+
+		private final DocumentReader reader;
+
+		private final List<TransformerStage> transformers = new ArrayList<>();
+
+		private DocumentWriter writer;
+
+		private int writerBatchSize = 100;
+
+		private int writerParallelism = 1;
+
+		private int queueCapacity = 32;
+
+		private CheckpointStore checkpointStore = new InMemoryCheckpointStore();
+
+		private Function<Document, String> sourceIdExtractor = CONTENT_SOURCE_ID;
+
+		private Scheduler scheduler = Schedulers.boundedElastic();
+
+		private Builder(DocumentReader reader) {
+			Assert.notNull(reader, "DocumentReader must not be null");
+			this.reader = reader;
+		}
+
+		public Builder withTransformer(DocumentTransformer transformer) {
+			return this.withTransformer(transformer, 1);
+		}
+
+		/**
+		 * Appends a transformer stage.
+		 * @param transformer the transformer, applied to the documents derived from one
+		 * source document at a time.
+		 * @param parallelism the number of source documents transformed concurrently.
+		 * Results are passed on in the reader order.
+		 * @return this builder.
+		 */
+		public Builder withTransformer(DocumentTransformer transformer, int parallelism) {
+			return this.withTransformer(transformer, parallelism, 1);
+		}
+
+		/**
+		 * Appends a transformer stage that sees the documents of several source documents
+		 * at once. Use it for transformers that relate the documents to each other, such
+		 * as the {@code SummaryMetadataEnricher}, or that batch their model calls, such
+		 * as the {@code KeywordMetadataEnricher}.
+		 * @param transformer the transformer, applied to the documents derived from up to
+		 * {@code batchSize} consecutive source documents at a time.
+		 * @param parallelism the number of batches transformed concurrently. Results are
+		 * passed on in the reader order.
+		 * @param batchSize the number of source documents per transformer call.
+		 * @return this builder.
+		 */
+		public Builder withTransformer(DocumentTransformer transformer, int parallelism, int batchSize) {
+			Assert.notNull(transformer, "DocumentTransformer must not be null");
+			Assert.isTrue(parallelism > 0, "Parallelism must be positive");
+			Assert.isTrue(batchSize > 0, "Batch size must be positive");
+			this.transformers.add(new TransformerStage("transformer-" + (this.transformers.size() + 1), transformer,
+					parallelism, batchSize));
+			return this;
+		}
+
+		public Builder withWriter(DocumentWriter writer) {
+			Assert.notNull(writer, "DocumentWriter must not be null");
+			this.writer = writer;
+			return this;
+		}
+
+		/**
+		 * @param writerBatchSize the minimal number of documents collected before calling
+		 * the writer. The last batch can be smaller.
+		 * @return this builder.
+		 */
+		public Builder withWriterBatchSize(int writerBatchSize) {
+			Assert.isTrue(writerBatchSize > 0, "Writer batch size must be positive");
+			this.writerBatchSize = writerBatchSize;
+			return this;
+		}
+
+		/**
+		 * @param writerParallelism the number of concurrent writer calls. Defaults to 1,
+		 * use a higher value only if the writer is thread-safe.
+		 * @return this builder.
+		 */
+		public Builder withWriterParallelism(int writerParallelism) {
+			Assert.isTrue(writerParallelism > 0, "Writer parallelism must be positive");
+			this.writerParallelism = writerParallelism;
+			return this;
+		}
+
+		/**
+		 * @param queueCapacity the number of units buffered between two stages.
+		 * @return this builder.
+		 */
+		public Builder withQueueCapacity(int queueCapacity) {
+			Assert.isTrue(queueCapacity > 0, "Queue capacity must be positive");
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		public Builder withCheckpointStore(CheckpointStore checkpointStore) {
+			Assert.notNull(checkpointStore, "CheckpointStore must not be null");
+			this.checkpointStore = checkpointStore;
+			return this;
+		}
+
+		/**
+		 * @param sourceIdExtractor computes the checkpoint id of a source document.
+		 * Defaults to {@link EtlPipeline#CONTENT_SOURCE_ID}. Use {@code Document::getId}
+		 * only with a reader that assigns stable ids across runs.
+		 * @return this builder.
+		 */
+		public Builder withSourceIdExtractor(Function<Document, String> sourceIdExtractor) {
+			Assert.notNull(sourceIdExtractor, "Source id extractor must not be null");
+			this.sourceIdExtractor = sourceIdExtractor;
+			return this;
+		}
+
+		public Builder withScheduler(Scheduler scheduler) {
+			Assert.notNull(scheduler, "Scheduler must not be null");
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		public EtlPipeline build() {
+			Assert.notNull(this.writer, "DocumentWriter must not be null");
+			return new EtlPipeline(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.etl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CheckpointStore} that appends the processed source ids to a text file, one id
+ * per line, and loads them back on creation. Survives restarts of the ingestion process.
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+	private final Path file;
+
+	private final Set<String> processed = ConcurrentHashMap.newKeySet();
+
+	public FileCheckpointStore(Path file) {
+		Assert.notNull(file, "File must not be null");
+		this.file = file;
+		if (Files.exists(file)) {
+			try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+				lines.filter(line -> !line.isEmpty()).forEach(this.processed::add);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	@Override
+	public boolean isProcessed(String sourceId) {
+		return this.processed.contains(sourceId);
+	}
+
+	@Override
+	public synchronized void markProcessed(Collection<String> sourceIds) {
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+			for (String sourceId : sourceIds) {
+				if (this.processed.add(sourceId)) {
+					writer.write(sourceId);
+					writer.newLine();
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
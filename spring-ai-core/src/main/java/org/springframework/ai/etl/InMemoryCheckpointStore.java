@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.etl;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CheckpointStore} that keeps the processed source ids in memory.
+ */
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+	private final Set<String> processed = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public boolean isProcessed(String sourceId) {
+		return this.processed.contains(sourceId);
+	}
+
+	@Override
+	public void markProcessed(Collection<String> sourceIds) {
+		this.processed.addAll(sourceIds);
+	}
+
+}
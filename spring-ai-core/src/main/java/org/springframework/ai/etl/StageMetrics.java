@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.etl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency counters of a single {@link EtlPipeline} stage. The counters are
+ * updated while the pipeline is running and can be read at any time.
+ */
+public class StageMetrics {
+
+	private final String name;
+
+	private final LongAdder units = new LongAdder();
+
+	private final LongAdder documentsIn = new LongAdder();
+
+	private final LongAdder documentsOut = new LongAdder();
+
+	private final LongAdder busyNanos = new LongAdder();
+
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+	private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+
+	private final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+	StageMetrics(String name) {
+		this.name = name;
+	}
+
+	void record(long startNanos, long endNanos, int documentsIn, int documentsOut) {
+		long latency = endNanos - startNanos;
+		this.units.increment();
+		this.documentsIn.add(documentsIn);
+		this.documentsOut.add(documentsOut);
+		this.busyNanos.add(latency);
+		this.maxLatencyNanos.accumulateAndGet(latency, Math::max);
+		this.firstStartNanos.accumulateAndGet(startNanos, Math::min);
+		this.lastEndNanos.accumulateAndGet(endNanos, Math::max);
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * @return the number of units, source documents or writer batches, processed by the
+	 * stage.
+	 */
+	public long getUnits() {
+		return this.units.sum();
+	}
+
+	public long getDocumentsIn() {
+		return this.documentsIn.sum();
+	}
+
+	public long getDocumentsOut() {
+		return this.documentsOut.sum();
+	}
+
+	/**
+	 * @return the time spent processing units, summed over all the stage workers.
+	 */
+	public Duration getBusyTime() {
+		return Duration.ofNanos(this.busyNanos.sum());
+	}
+
+	public Duration getMaxLatency() {
+		return Duration.ofNanos(this.maxLatencyNanos.get());
+	}
+
+	public Duration getAverageLatency() {
+		long units = this.getUnits();
+		return (units == 0) ? Duration.ZERO : Duration.ofNanos(this.busyNanos.sum() / units);
+	}
+
+	/**
+	 * @return the output documents per second, measured from the start of the first unit
+	 * to the end of the last unit processed by the stage.
+	 */
+	public double getThroughput() {
+		long elapsed = this.lastEndNanos.get() - this.firstStartNanos.get();
+		if (this.getUnits() == 0 || elapsed <= 0) {
+			return 0;
+		}
+		return this.getDocumentsOut() * 1_000_000_000d / elapsed;
+	}
+
+	@Override
+	public String toString() {
+		return "StageMetrics{name=" + this.name + ", units=" + this.getUnits() + ", documentsIn="
+				+ this.getDocumentsIn() + ", documentsOut=" + this.getDocumentsOut() + ", averageLatency="
+				+ this.getAverageLatency() + ", maxLatency=" + this.getMaxLatency() + ", throughput="
+				+ String.format("%.1f", this.getThroughput()) + "/s}";
+	}
+
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.ai.model;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 /**
  * The ModelClient interface provides a generic API for invoking AI models. It is designed
  * to handle the interaction with various types of AI models by abstracting the process of
@@ -36,4 +39,16 @@ public interface ModelClient<TReq extends ModelRequest<?>, TRes extends ModelRes
 	 */
 	TRes call(TReq request);
 
+	/**
+	 * Non-blocking counterpart of {@link #call}. The default implementation offloads the
+	 * blocking call to the {@link Schedulers#boundedElastic()} scheduler, which runs on
+	 * virtual threads when Reactor is configured to. Clients with a non-blocking
+	 * transport override it.
+	 * @param request the request object to be sent to the AI model
+	 * @return a {@link Mono} of the response from the AI model
+	 */
+	default Mono<TRes> callAsync(TReq request) {
+		return Mono.fromCallable(() -> this.call(request)).subscribeOn(Schedulers.boundedElastic());
+	}
+
 }
@@ -50,6 +50,7 @@ import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Utility class for manipulating {@link ModelOptions} objects.
@@ -70,6 +71,12 @@ public final class ModelOptionsUtils {
 
 	private static AtomicReference<SchemaGenerator> SCHEMA_GENERATOR_CACHE = new AtomicReference<>();
 
+	private static final ConcurrentLruCache<JsonSchemaKey, String> JSON_SCHEMA_CACHE = new ConcurrentLruCache<>(256,
+			key -> generateJsonSchema(key.clazz(), key.toUpperCaseTypeValues()));
+
+	private record JsonSchemaKey(Class<?> clazz, boolean toUpperCaseTypeValues) {
+	}
+
 	private ModelOptionsUtils() {
 
 	}
@@ -330,12 +337,17 @@ public final class ModelOptionsUtils {
 	}
 
 	/**
-	 * Generates JSON Schema (version 2020_12) for the given class.
+	 * Generates JSON Schema (version 2020_12) for the given class. The schemas of the
+	 * recently used classes are cached per class and type value case.
 	 * @param clazz the class to generate JSON Schema for.
 	 * @param toUpperCaseTypeValues if true, the type values are converted to upper case.
 	 * @return the generated JSON Schema as a String.
 	 */
 	public static String getJsonSchema(Class<?> clazz, boolean toUpperCaseTypeValues) {
+		return JSON_SCHEMA_CACHE.get(new JsonSchemaKey(clazz, toUpperCaseTypeValues));
+	}
+
+	private static String generateJsonSchema(Class<?> clazz, boolean toUpperCaseTypeValues) {
 
 		if (SCHEMA_GENERATOR_CACHE.get() == null) {
 
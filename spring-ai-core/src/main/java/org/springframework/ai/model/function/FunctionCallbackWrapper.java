@@ -32,12 +32,14 @@ import org.springframework.util.Assert;
  */
 public class FunctionCallbackWrapper<I, O> extends AbstractFunctionCallback<I, O> {
 
+	private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
 	private final Function<I, O> function;
 
 	private FunctionCallbackWrapper(String name, String description, String inputTypeSchema, Class<I> inputType,
-			Function<O, String> responseConverter, Function<I, O> function) {
-		super(name, description, inputTypeSchema, inputType, responseConverter,
-				new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+			Function<O, String> responseConverter, ObjectMapper objectMapper, Function<I, O> function) {
+		super(name, description, inputTypeSchema, inputType, responseConverter, objectMapper);
 		Assert.notNull(function, "Function must not be null");
 		this.function = function;
 	}
@@ -84,8 +86,7 @@ public class FunctionCallbackWrapper<I, O> extends AbstractFunctionCallback<I, O
 
 		private String inputTypeSchema;
 
-		private ObjectMapper objectMapper = new ObjectMapper()
-			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		private ObjectMapper objectMapper = DEFAULT_OBJECT_MAPPER;
 
 		public Builder<I, O> withName(String name) {
 			Assert.hasText(name, "Name must not be empty");
@@ -148,7 +149,7 @@ public class FunctionCallbackWrapper<I, O> extends AbstractFunctionCallback<I, O
 			}
 
 			return new FunctionCallbackWrapper<>(this.name, this.description, this.inputTypeSchema, this.inputType,
-					this.responseConverter, this.function);
+					this.responseConverter, this.objectMapper, this.function);
 		}
 
 	}
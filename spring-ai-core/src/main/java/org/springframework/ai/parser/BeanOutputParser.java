@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -23,12 +24,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.github.victools.jsonschema.generator.SchemaGenerator;
-import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.module.jackson.JacksonModule;
+import org.springframework.util.ConcurrentLruCache;
+import reactor.core.publisher.Flux;
 
-import java.util.Map;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static com.github.victools.jsonschema.generator.OptionPreset.PLAIN_JSON;
 import static com.github.victools.jsonschema.generator.SchemaVersion.DRAFT_2020_12;
@@ -45,7 +51,23 @@ import static com.github.victools.jsonschema.generator.SchemaVersion.DRAFT_2020_
  * @author Sebastian Ullrich
  * @author Kirk Lund
  */
-public class BeanOutputParser<T> implements OutputParser<T> {
+public class BeanOutputParser<T> implements OutputParser<T>, StreamingParser<T> {
+
+	/** Shared JSON schema generator, thread-safe once configured. */
+	private static final SchemaGenerator SCHEMA_GENERATOR = new SchemaGenerator(
+			new SchemaGeneratorConfigBuilder(DRAFT_2020_12, PLAIN_JSON).with(new JacksonModule()).build());
+
+	/** Shared pretty printing writer for the generated schemas. */
+	private static final ObjectWriter SCHEMA_WRITER = new ObjectMapper().writer(
+			new DefaultPrettyPrinter().withObjectIndenter(new DefaultIndenter().withLinefeed(System.lineSeparator())));
+
+	/** Process-wide cache of the generated JSON schemas of the recently used types. */
+	private static final ConcurrentLruCache<Class<?>, String> JSON_SCHEMA_CACHE = new ConcurrentLruCache<>(256,
+			BeanOutputParser::generateSchema);
+
+	/** Default object mapper, shared by all the parsers that don't provide their own. */
+	private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
 	/** Holds the generated JSON schema for the target type. */
 	private String jsonSchema;
@@ -80,69 +102,126 @@ public class BeanOutputParser<T> implements OutputParser<T> {
 	}
 
 	/**
-	 * Generates the JSON schema for the target type.
+	 * Generates the JSON schema for the target type, or reuses the cached one.
 	 */
 	private void generateSchema() {
-		JacksonModule jacksonModule = new JacksonModule();
-		SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(DRAFT_2020_12, PLAIN_JSON)
-			.with(jacksonModule);
-		SchemaGeneratorConfig config = configBuilder.build();
-		SchemaGenerator generator = new SchemaGenerator(config);
-		JsonNode jsonNode = generator.generateSchema(this.clazz);
-		ObjectWriter objectWriter = new ObjectMapper().writer(new DefaultPrettyPrinter()
-			.withObjectIndenter(new DefaultIndenter().withLinefeed(System.lineSeparator())));
+		this.jsonSchema = JSON_SCHEMA_CACHE.get(this.clazz);
+	}
+
+	private static String generateSchema(Class<?> clazz) {
+		JsonNode jsonNode = SCHEMA_GENERATOR.generateSchema(clazz);
 		try {
-			this.jsonSchema = objectWriter.writeValueAsString(jsonNode);
+			return SCHEMA_WRITER.writeValueAsString(jsonNode);
 		}
 		catch (JsonProcessingException e) {
-			throw new RuntimeException("Could not pretty print json schema for " + this.clazz, e);
+			throw new RuntimeException("Could not pretty print json schema for " + clazz, e);
 		}
 	}
 
 	@Override
 	/**
-	 * Parses the given text to transform it to the desired target type.
+	 * Parses the given text to transform it to the desired target type. The text is bound
+	 * to the target type in a single pass, without an intermediate tree, unless it
+	 * mentions {@code $schema} and may therefore be a JSON Schema shaped response.
 	 * @param text The LLM output in string format.
 	 * @return The parsed output in the desired target type.
 	 */
 	public T parse(String text) {
 		try {
-			// If the response is a JSON Schema, extract the properties and use them as
-			// the response.
-			text = this.jsonSchemaToInstance(text);
-			return (T) this.objectMapper.readValue(text, this.clazz);
+			if (text.contains("\"$schema\"")) {
+				// The $schema key can be anywhere in the top-level object.
+				return this.toInstance(this.objectMapper.readTree(text));
+			}
+			try (JsonParser parser = this.objectMapper.createParser(text)) {
+				return this.objectMapper.readerFor(this.clazz).readValue(parser);
+			}
 		}
-		catch (JsonProcessingException e) {
+		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
 	/**
-	 * Converts a JSON Schema to an instance based on a given text.
-	 * @param text The JSON Schema in string format.
-	 * @return The JSON instance generated from the JSON Schema, or the original text if
-	 * the input is not a JSON Schema.
+	 * Parses the LLM output deltas as they arrive, emitting a progressively more complete
+	 * instance of the target type every time a top-level field or array element is
+	 * completed. The elements of an array or collection target type are converted only
+	 * once, when they are completed.
+	 * @param textStream The LLM output deltas.
+	 * @return Stream of progressively more complete outputs in the desired target type.
 	 */
-	private String jsonSchemaToInstance(String text) {
-		try {
-			Map<String, Object> map = this.objectMapper.readValue(text, Map.class);
-			if (map.containsKey("$schema")) {
-				return this.objectMapper.writeValueAsString(map.get("properties"));
+	@Override
+	public Flux<T> parseStream(Flux<String> textStream) {
+		return StreamingJsonParser.parse(textStream, this.objectMapper, this::accumulator);
+	}
+
+	private StreamingJsonParser.Accumulator<T> accumulator(JsonNode root) {
+		if (root.isArray() && this.clazz.isArray()) {
+			return new ElementAccumulator(this.clazz.getComponentType(), elements -> {
+				Object array = Array.newInstance(this.clazz.getComponentType(), elements.size());
+				for (int i = 0; i < elements.size(); i++) {
+					Array.set(array, i, elements.get(i));
+				}
+				return this.clazz.cast(array);
+			});
+		}
+		if (root.isArray() && this.clazz.isAssignableFrom(ArrayList.class)) {
+			return new ElementAccumulator(Object.class, elements -> this.clazz.cast(new ArrayList<>(elements)));
+		}
+		return StreamingJsonParser.treeAccumulator(root, jsonNode -> {
+			try {
+				return this.toInstance(jsonNode);
+			}
+			catch (JsonProcessingException e) {
+				throw new RuntimeException(e);
 			}
+		});
+	}
+
+	private T toInstance(JsonNode jsonNode) throws JsonProcessingException {
+		// If the response is a JSON Schema, extract the properties and use them as the
+		// response.
+		if (jsonNode.isObject() && jsonNode.has("$schema")) {
+			jsonNode = jsonNode.get("properties");
 		}
-		catch (Exception e) {
+		return this.objectMapper.treeToValue(jsonNode, this.clazz);
+	}
+
+	/**
+	 * Converts every array element once, when it is completed, and builds the target
+	 * value from the elements converted so far.
+	 */
+	private class ElementAccumulator implements StreamingJsonParser.Accumulator<T> {
+
+		private final Class<?> elementType;
+
+		private final Function<List<Object>, T> finisher;
+
+		private final List<Object> elements = new ArrayList<>();
+
+		ElementAccumulator(Class<?> elementType, Function<List<Object>, T> finisher) {
+			this.elementType = elementType;
+			this.finisher = finisher;
+		}
+
+		@Override
+		public void add(String fieldName, JsonNode value) throws IOException {
+			this.elements.add(objectMapper.treeToValue(value, this.elementType));
 		}
-		return text;
+
+		@Override
+		public T current() {
+			return this.finisher.apply(this.elements);
+		}
+
 	}
 
 	/**
-	 * Configures and returns an object mapper for JSON operations.
+	 * Configures and returns an object mapper for JSON operations. The default
+	 * implementation returns a shared instance that must not be reconfigured.
 	 * @return Configured object mapper.
 	 */
 	protected ObjectMapper getObjectMapper() {
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-		return mapper;
+		return DEFAULT_OBJECT_MAPPER;
 	}
 
 	/**
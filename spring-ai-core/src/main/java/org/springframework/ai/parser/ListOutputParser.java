@@ -15,8 +15,11 @@
  */
 package org.springframework.ai.parser;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import reactor.core.publisher.Flux;
+
 import org.springframework.core.convert.support.DefaultConversionService;
 
 /**
@@ -26,7 +29,8 @@ import org.springframework.core.convert.support.DefaultConversionService;
  * @author Mark Pollack
  * @author Christian Tzolov
  */
-public class ListOutputParser extends AbstractConversionServiceOutputParser<List<String>> {
+public class ListOutputParser extends AbstractConversionServiceOutputParser<List<String>>
+		implements StreamingParser<List<String>> {
 
 	public ListOutputParser(DefaultConversionService defaultConversionService) {
 		super(defaultConversionService);
@@ -45,4 +49,42 @@ public class ListOutputParser extends AbstractConversionServiceOutputParser<List
 		return getConversionService().convert(text, List.class);
 	}
 
+	/**
+	 * Parses the LLM output deltas as they arrive, emitting the growing list of values
+	 * every time a delta completes at least one comma separated value. The last value is
+	 * emitted when the stream completes.
+	 * @param textStream the LLM output deltas.
+	 * @return stream of progressively longer lists of values.
+	 */
+	@Override
+	public Flux<List<String>> parseStream(Flux<String> textStream) {
+		return Flux.defer(() -> {
+			List<String> values = new ArrayList<>();
+			StringBuilder pending = new StringBuilder();
+			boolean[] started = { false };
+			return textStream.<List<String>>handle((text, sink) -> {
+				if (text == null || text.isEmpty()) {
+					return;
+				}
+				started[0] = true;
+				pending.append(text);
+				int size = values.size();
+				int comma;
+				while ((comma = pending.indexOf(",")) >= 0) {
+					values.add(pending.substring(0, comma).trim());
+					pending.delete(0, comma + 1);
+				}
+				if (values.size() > size) {
+					sink.next(List.copyOf(values));
+				}
+			}).concatWith(Flux.defer(() -> {
+				if (!started[0]) {
+					return Flux.empty();
+				}
+				values.add(pending.toString().trim());
+				return Flux.just(List.copyOf(values));
+			}));
+		});
+	}
+
 }
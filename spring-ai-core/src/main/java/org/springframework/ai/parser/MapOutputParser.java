@@ -15,10 +15,15 @@
  */
 package org.springframework.ai.parser;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+
 import org.springframework.messaging.Message;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.support.MessageBuilder;
@@ -31,7 +36,10 @@ import org.springframework.messaging.support.MessageBuilder;
  * @author Mark Pollack
  * @author Christian Tzolov
  */
-public class MapOutputParser extends AbstractMessageConverterOutputParser<Map<String, Object>> {
+public class MapOutputParser extends AbstractMessageConverterOutputParser<Map<String, Object>>
+		implements StreamingParser<Map<String, Object>> {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
 	public MapOutputParser() {
 		super(new MappingJackson2MessageConverter());
@@ -43,6 +51,36 @@ public class MapOutputParser extends AbstractMessageConverterOutputParser<Map<St
 		return (Map) getMessageConverter().fromMessage(message, HashMap.class);
 	}
 
+	/**
+	 * Parses the LLM output deltas as they arrive, emitting a progressively more complete
+	 * map every time a top-level field is completed. Every field value is converted only
+	 * once.
+	 * @param textStream The LLM output deltas.
+	 * @return Stream of progressively more complete maps.
+	 */
+	@Override
+	public Flux<Map<String, Object>> parseStream(Flux<String> textStream) {
+		return StreamingJsonParser.parse(textStream, OBJECT_MAPPER, root -> {
+			if (!root.isObject()) {
+				throw new IllegalStateException("Expected a JSON object but found " + root.getNodeType());
+			}
+			Map<String, Object> fields = new HashMap<>();
+			return new StreamingJsonParser.Accumulator<Map<String, Object>>() {
+
+				@Override
+				public void add(String fieldName, JsonNode value) throws IOException {
+					fields.put(fieldName, OBJECT_MAPPER.treeToValue(value, Object.class));
+				}
+
+				@Override
+				public Map<String, Object> current() {
+					return new HashMap<>(fields);
+				}
+
+			};
+		});
+	}
+
 	@Override
 	public String getFormat() {
 		String raw = """
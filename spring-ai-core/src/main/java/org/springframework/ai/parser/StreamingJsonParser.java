@@ -0,0 +1,263 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+
+/**
+ * Incrementally parses a stream of JSON text deltas with the Jackson non-blocking parser.
+ * Every completed top-level field or array element is handed to an {@link Accumulator}
+ * once, and the accumulated target value is emitted every time a text delta completes at
+ * least one of them. The top-level JSON value must start at the beginning of a line or
+ * right after a markdown code fence, so that brackets in a preamble such as "see [1]" are
+ * ignored. Any text following the top-level JSON value is ignored too.
+ */
+final class StreamingJsonParser {
+
+	/**
+	 * Text that may precede the top-level JSON value on its line: nothing but blanks, or
+	 * a markdown code fence with an optional language tag.
+	 */
+	private static final Pattern ROOT_PREFIX = Pattern.compile("\\s*(```[\\w-]*\\s*)?");
+
+	private final ObjectMapper objectMapper;
+
+	private final JsonParser parser;
+
+	private final ByteArrayFeeder feeder;
+
+	/** The text of the current preamble line, until the top-level JSON value starts. */
+	private final StringBuilder preambleLine = new StringBuilder();
+
+	private Accumulator<?> accumulator;
+
+	private boolean rootStarted;
+
+	private boolean rootCompleted;
+
+	private int depth;
+
+	private String fieldName;
+
+	private TokenBuffer member;
+
+	private StreamingJsonParser(ObjectMapper objectMapper) throws IOException {
+		this.objectMapper = objectMapper;
+		this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+		this.feeder = (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
+	}
+
+	/**
+	 * Collects the completed top-level members of the JSON value into the target type.
+	 * Each member is added exactly once, so an accumulator that converts only the added
+	 * member keeps the total conversion work linear in the size of the output.
+	 *
+	 * @param <T> the target type.
+	 */
+	interface Accumulator<T> {
+
+		/**
+		 * Adds a completed top-level member.
+		 * @param fieldName the field name, or null for an array element.
+		 * @param value the member value.
+		 */
+		void add(String fieldName, JsonNode value) throws IOException;
+
+		/**
+		 * @return the target value with all the members added so far. Null results are
+		 * not emitted.
+		 */
+		T current() throws IOException;
+
+	}
+
+	/**
+	 * Parses the JSON text deltas into progressively more complete target values.
+	 * @param textStream the JSON text deltas.
+	 * @param objectMapper the object mapper used to parse the JSON.
+	 * @param accumulatorFactory creates the accumulator for the empty top-level
+	 * {@link ObjectNode} or {@link ArrayNode}.
+	 * @param <T> the target type.
+	 * @return stream of progressively more complete target values.
+	 */
+	static <T> Flux<T> parse(Flux<String> textStream, ObjectMapper objectMapper,
+			Function<JsonNode, Accumulator<T>> accumulatorFactory) {
+		return Flux.defer(() -> {
+			StreamingJsonParser jsonParser;
+			try {
+				jsonParser = new StreamingJsonParser(objectMapper);
+			}
+			catch (IOException e) {
+				return Flux.error(new RuntimeException(e));
+			}
+			return textStream.<T>handle((text, sink) -> jsonParser.feed(text, accumulatorFactory, sink))
+				.concatWith(Flux.defer(jsonParser::complete));
+		});
+	}
+
+	/**
+	 * Accumulates the members into a tree and converts the whole tree on every emission.
+	 * Only suited to target types with a bounded number of members, such as a bean.
+	 * @param root the empty top-level node.
+	 * @param converter converts the partially rebuilt top-level JSON value.
+	 * @param <T> the target type.
+	 * @return the accumulator.
+	 */
+	static <T> Accumulator<T> treeAccumulator(JsonNode root, Function<JsonNode, T> converter) {
+		return new Accumulator<>() {
+
+			@Override
+			public void add(String fieldName, JsonNode value) {
+				if (root instanceof ObjectNode objectNode) {
+					objectNode.set(fieldName, value);
+				}
+				else {
+					((ArrayNode) root).add(value);
+				}
+			}
+
+			@Override
+			public T current() {
+				return converter.apply(root);
+			}
+
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void feed(String text, Function<JsonNode, Accumulator<T>> accumulatorFactory, SynchronousSink<T> sink) {
+		if (this.rootCompleted || text == null || text.isEmpty()) {
+			return;
+		}
+		if (!this.rootStarted) {
+			// Skip any preamble until the start of the top-level JSON value.
+			int start = this.indexOfRootStart(text);
+			if (start < 0) {
+				return;
+			}
+			this.rootStarted = true;
+			text = text.substring(start);
+		}
+		try {
+			byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+			this.feeder.feedInput(bytes, 0, bytes.length);
+			if (this.nextMembers(accumulatorFactory)) {
+				T value = ((Accumulator<T>) this.accumulator).current();
+				if (value != null) {
+					sink.next(value);
+				}
+			}
+		}
+		catch (IOException e) {
+			sink.error(new RuntimeException(e));
+		}
+	}
+
+	/**
+	 * Finds the first bracket that starts a line, ignoring blanks and a code fence. The
+	 * current preamble line is carried over to the next delta.
+	 */
+	private int indexOfRootStart(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if ((c == '{' || c == '[') && ROOT_PREFIX.matcher(this.preambleLine).matches()) {
+				return i;
+			}
+			if (c == '\n') {
+				this.preambleLine.setLength(0);
+			}
+			else {
+				this.preambleLine.append(c);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Consumes all the tokens available so far.
+	 * @return true if at least one top-level member was completed.
+	 */
+	private <T> boolean nextMembers(Function<JsonNode, Accumulator<T>> accumulatorFactory) throws IOException {
+		boolean completed = false;
+		JsonToken token;
+		while (!this.rootCompleted && (token = this.parser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+			if (token == null) {
+				break;
+			}
+			if (this.accumulator == null) {
+				JsonNode root = (token == JsonToken.START_OBJECT) ? this.objectMapper.createObjectNode()
+						: this.objectMapper.createArrayNode();
+				this.accumulator = accumulatorFactory.apply(root);
+				this.depth = 1;
+			}
+			else if (this.depth == 1 && token.isStructEnd()) {
+				this.rootCompleted = true;
+				this.depth = 0;
+			}
+			else if (this.depth == 1 && token == JsonToken.FIELD_NAME) {
+				this.fieldName = this.parser.currentName();
+			}
+			else {
+				completed |= this.nextMemberToken(token);
+			}
+		}
+		return completed;
+	}
+
+	private boolean nextMemberToken(JsonToken token) throws IOException {
+		if (this.member == null) {
+			this.member = new TokenBuffer(this.parser);
+		}
+		this.member.copyCurrentEvent(this.parser);
+		if (token.isStructStart()) {
+			this.depth++;
+		}
+		else if (token.isStructEnd()) {
+			this.depth--;
+		}
+		if (this.depth > 1) {
+			return false;
+		}
+		JsonNode value = this.objectMapper.readTree(this.member.asParser(this.objectMapper));
+		this.member = null;
+		this.accumulator.add(this.fieldName, value);
+		this.fieldName = null;
+		return true;
+	}
+
+	private <T> Flux<T> complete() {
+		this.feeder.endOfInput();
+		if (!this.rootCompleted) {
+			return Flux.error(new RuntimeException("Incomplete JSON output"));
+		}
+		return Flux.empty();
+	}
+
+}
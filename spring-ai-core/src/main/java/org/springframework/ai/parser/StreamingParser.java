@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.parser;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Incrementally converts a stream of (raw) LLM output deltas, as produced by the
+ * streaming chat clients, into a stream of progressively more complete structured
+ * responses.
+ *
+ * @param <T> Specifies the desired response type.
+ */
+@FunctionalInterface
+public interface StreamingParser<T> {
+
+	/**
+	 * Parses the LLM output deltas as they arrive. Every emitted value holds everything
+	 * that was syntactically complete at the time of emission and the last value is
+	 * equivalent to parsing the entire output at once.
+	 * @param textStream the LLM output deltas.
+	 * @return stream of progressively more complete parsed outputs.
+	 */
+	Flux<T> parseStream(Flux<String> textStream);
+
+}
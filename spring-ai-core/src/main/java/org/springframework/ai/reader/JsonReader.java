@@ -21,8 +21,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
@@ -30,6 +33,11 @@ import org.springframework.core.io.Resource;
 
 public class JsonReader implements DocumentReader {
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+	};
+
 	private Resource resource;
 
 	private JsonMetadataGenerator jsonMetadataGenerator;
@@ -56,43 +64,99 @@ public class JsonReader implements DocumentReader {
 		this.jsonKeysToUse = List.of(jsonKeysToUse);
 	}
 
+	/**
+	 * Reads the whole JSON array synchronously, so it is safe to call from any thread.
+	 * @return the documents, one per array element.
+	 */
 	@Override
 	public List<Document> get() {
-		ObjectMapper objectMapper = new ObjectMapper();
 		List<Document> documents = new ArrayList<>();
-		try {
-			// TODO, not all json will be an array
-			List<Map<String, Object>> jsonData = objectMapper.readValue(this.resource.getInputStream(),
-					new TypeReference<List<Map<String, Object>>>() {
-					});
-			for (Map<String, Object> item : jsonData) {
-				StringBuilder sb = new StringBuilder();
-				for (String key : jsonKeysToUse) {
-					if (item.containsKey(key)) {
-						sb.append(key);
-						sb.append(": ");
-						sb.append(item.get(key));
-						sb.append(System.lineSeparator());
-					}
-				}
-
-				Map<String, Object> metadata = this.jsonMetadataGenerator.generate(item);
+		try (JsonParser parser = this.createArrayParser()) {
+			Document document;
+			while ((document = this.nextDocument(parser)) != null) {
+				documents.add(document);
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return documents;
+	}
 
-				Document document;
-				if (!sb.isEmpty()) {
-					document = new Document(sb.toString(), metadata);
+	/**
+	 * Reads the JSON array one element at a time with a streaming parser, so the whole
+	 * array is never held in memory.
+	 * @return the stream of documents, one per array element.
+	 */
+	@Override
+	public Flux<Document> stream() {
+		// TODO, not all json will be an array
+		return Flux.using(this::createArrayParser, parser -> Flux.generate(sink -> {
+			try {
+				Document document = this.nextDocument(parser);
+				if (document != null) {
+					sink.next(document);
 				}
 				else {
-					document = new Document(item.toString(), metadata);
+					sink.complete();
 				}
-
-				documents.add(document);
 			}
+			catch (IOException e) {
+				sink.error(new RuntimeException(e));
+			}
+		}), this::closeParser);
+	}
+
+	/**
+	 * Reads the next element of the array.
+	 * @return the document of the next element, or null at the end of the array.
+	 */
+	private Document nextDocument(JsonParser parser) throws IOException {
+		JsonToken token = parser.nextToken();
+		if (token == null || token == JsonToken.END_ARRAY) {
+			return null;
+		}
+		if (token != JsonToken.START_OBJECT) {
+			throw new IllegalStateException("Expected a JSON object but found " + token);
+		}
+		return this.toDocument(parser.readValueAs(MAP_TYPE));
+	}
+
+	private JsonParser createArrayParser() throws IOException {
+		JsonParser parser = OBJECT_MAPPER.createParser(this.resource.getInputStream());
+		if (parser.nextToken() != JsonToken.START_ARRAY) {
+			parser.close();
+			throw new IllegalStateException("Expected a JSON array in " + this.resource);
+		}
+		return parser;
+	}
+
+	private void closeParser(JsonParser parser) {
+		try {
+			parser.close();
 		}
 		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		return documents;
+	}
+
+	private Document toDocument(Map<String, Object> item) {
+		StringBuilder sb = new StringBuilder();
+		for (String key : jsonKeysToUse) {
+			if (item.containsKey(key)) {
+				sb.append(key);
+				sb.append(": ");
+				sb.append(item.get(key));
+				sb.append(System.lineSeparator());
+			}
+		}
+
+		Map<String, Object> metadata = this.jsonMetadataGenerator.generate(item);
+
+		if (!sb.isEmpty()) {
+			return new Document(sb.toString(), metadata);
+		}
+		return new Document(item.toString(), metadata);
 	}
 
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.tokenizer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link TokenCountEstimator} backed by the JTokkit tokenizer. The encodings are loaded
+ * once per process and shared by all the estimators. The tokens are only counted, never
+ * materialized.
+ */
+public class JTokkitTokenCountEstimator implements TokenCountEstimator {
+
+	private static final EncodingRegistry REGISTRY = Encodings.newLazyEncodingRegistry();
+
+	private static final Map<String, Encoding> MODEL_ENCODINGS = new ConcurrentHashMap<>();
+
+	private final Encoding encoding;
+
+	/**
+	 * Creates an estimator with the {@link EncodingType#CL100K_BASE} encoding.
+	 */
+	public JTokkitTokenCountEstimator() {
+		this(EncodingType.CL100K_BASE);
+	}
+
+	public JTokkitTokenCountEstimator(EncodingType encodingType) {
+		Assert.notNull(encodingType, "EncodingType must not be null");
+		this.encoding = getEncoding(encodingType);
+	}
+
+	private JTokkitTokenCountEstimator(Encoding encoding) {
+		this.encoding = encoding;
+	}
+
+	/**
+	 * Creates an estimator with the encoding of the given model. Falls back to the
+	 * {@link EncodingType#CL100K_BASE} encoding for the models unknown to JTokkit.
+	 * @param modelName the model name, e.g. gpt-3.5-turbo or text-embedding-ada-002.
+	 * @return the estimator for the model.
+	 */
+	public static JTokkitTokenCountEstimator forModel(String modelName) {
+		Assert.hasText(modelName, "Model name must not be empty");
+		return new JTokkitTokenCountEstimator(MODEL_ENCODINGS.computeIfAbsent(modelName,
+				name -> REGISTRY.getEncodingForModel(name).orElseGet(() -> getEncoding(EncodingType.CL100K_BASE))));
+	}
+
+	/**
+	 * Returns the shared encoding of the given type.
+	 * @param encodingType the encoding type.
+	 * @return the shared encoding.
+	 */
+	public static Encoding getEncoding(EncodingType encodingType) {
+		return REGISTRY.getEncoding(encodingType);
+	}
+
+	@Override
+	public int estimate(String text) {
+		if (!StringUtils.hasLength(text)) {
+			return 0;
+		}
+		return this.encoding.countTokens(text);
+	}
+
+}
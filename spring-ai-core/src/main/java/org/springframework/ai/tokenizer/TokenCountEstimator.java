@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.tokenizer;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+
+/**
+ * Estimates the number of tokens in a given text or message, before it is sent to the
+ * model. Useful to pack requests up to the provider token limits or to trim the chat
+ * history.
+ */
+public interface TokenCountEstimator {
+
+	/**
+	 * Estimates the number of tokens in the given text.
+	 * @param text the text to estimate the number of tokens for.
+	 * @return the estimated number of tokens.
+	 */
+	int estimate(String text);
+
+	/**
+	 * Estimates the number of tokens in the given message content. The media attachments
+	 * are not accounted for.
+	 * @param message the message to estimate the number of tokens for.
+	 * @return the estimated number of tokens.
+	 */
+	default int estimate(Message message) {
+		return this.estimate(message.getContent());
+	}
+
+	/**
+	 * Estimates the number of tokens in all the instructions of the given prompt.
+	 * @param prompt the prompt to estimate the number of tokens for.
+	 * @return the estimated number of tokens.
+	 */
+	default int estimate(Prompt prompt) {
+		int tokens = 0;
+		for (Message message : prompt.getInstructions()) {
+			tokens += this.estimate(message);
+		}
+		return tokens;
+	}
+
+	/**
+	 * Estimates the number of tokens in the given document content, formatted with the
+	 * given metadata mode.
+	 * @param document the document to estimate the number of tokens for.
+	 * @param metadataMode the metadata mode used to format the document content.
+	 * @return the estimated number of tokens.
+	 */
+	default int estimate(Document document, MetadataMode metadataMode) {
+		return this.estimate(document.getFormattedContent(metadataMode));
+	}
+
+}
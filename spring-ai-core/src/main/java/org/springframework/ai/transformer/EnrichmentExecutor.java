@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.parser.MapOutputParser;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the chat requests of the LLM metadata enrichers. Up to {@code maxConcurrency}
+ * requests are in flight at a time, through the non-blocking
+ * {@link ChatClient#callAsync}, so the client's rate limiting and retries apply to every
+ * request. With a {@code batchSize} greater than one, consecutive documents are packed in
+ * a single request that asks for a JSON object with one entry per document. Documents
+ * missing from, or not parsable in, a packed response are enriched one by one.
+ * <p>
+ * Each result is handed over as soon as it is received, so the enrichment completed
+ * before a failure is not lost.
+ */
+class EnrichmentExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(EnrichmentExecutor.class);
+
+	static final String CONTEXT_STR_PLACEHOLDER = "context_str";
+
+	static final String DOCUMENTS_PLACEHOLDER = "documents";
+
+	static final String FORMAT_PLACEHOLDER = "format";
+
+	private final MapOutputParser outputParser = new MapOutputParser();
+
+	private final ChatClient chatClient;
+
+	private final int maxConcurrency;
+
+	private final int batchSize;
+
+	EnrichmentExecutor(ChatClient chatClient, int maxConcurrency, int batchSize) {
+		Assert.notNull(chatClient, "ChatClient must not be null");
+		Assert.isTrue(maxConcurrency >= 1, "Max concurrency must be >= 1");
+		Assert.isTrue(batchSize >= 1, "Batch size must be >= 1");
+		this.chatClient = chatClient;
+		this.maxConcurrency = maxConcurrency;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Enrich the documents.
+	 * @param documents the documents to enrich.
+	 * @param content the document content to send to the model.
+	 * @param documentTemplate template for a single document, with a {@code context_str}
+	 * placeholder.
+	 * @param batchTemplate template for packed documents, with {@code documents} and
+	 * {@code format} placeholders.
+	 * @param onResult receives each document with its generated text.
+	 */
+	void execute(List<Document> documents, Function<Document, String> content, PromptTemplate documentTemplate,
+			PromptTemplate batchTemplate, BiConsumer<Document, String> onResult) {
+
+		Flux.fromIterable(partition(documents, this.batchSize))
+			.flatMap(
+					batch -> (batch.size() == 1)
+							? this.enrichDocument(batch.get(0), content, documentTemplate, onResult)
+							: this.enrichBatch(batch, content, documentTemplate, batchTemplate, onResult),
+					this.maxConcurrency)
+			.blockLast();
+	}
+
+	private Mono<Void> enrichDocument(Document document, Function<Document, String> content,
+			PromptTemplate documentTemplate, BiConsumer<Document, String> onResult) {
+
+		return Mono
+			.defer(() -> this.chatClient
+				.callAsync(documentTemplate.create(Map.of(CONTEXT_STR_PLACEHOLDER, content.apply(document)))))
+			.doOnNext(response -> onResult.accept(document, text(response)))
+			.then();
+	}
+
+	private Mono<Void> enrichBatch(List<Document> batch, Function<Document, String> content,
+			PromptTemplate documentTemplate, PromptTemplate batchTemplate, BiConsumer<Document, String> onResult) {
+
+		return Mono.defer(() -> {
+			StringBuilder documents = new StringBuilder();
+			for (int i = 0; i < batch.size(); i++) {
+				documents.append("Document ")
+					.append(i + 1)
+					.append(":\n")
+					.append(content.apply(batch.get(i)))
+					.append("\n\n");
+			}
+			return this.chatClient.callAsync(batchTemplate.create(Map.of(DOCUMENTS_PLACEHOLDER, documents.toString(),
+					FORMAT_PLACEHOLDER, this.outputParser.getFormat())));
+		}).flatMapMany(response -> {
+			Map<String, Object> results = this.parse(text(response));
+			List<Document> missing = new ArrayList<>();
+			for (int i = 0; i < batch.size(); i++) {
+				Object result = results.get(String.valueOf(i + 1));
+				if (result != null) {
+					onResult.accept(batch.get(i), result.toString());
+				}
+				else {
+					missing.add(batch.get(i));
+				}
+			}
+			if (!missing.isEmpty()) {
+				logger.debug("{} of {} packed documents were not enriched, enriching them one by one", missing.size(),
+						batch.size());
+			}
+			return Flux.fromIterable(missing)
+				.concatMap(document -> this.enrichDocument(document, content, documentTemplate, onResult));
+		}).then();
+	}
+
+	private Map<String, Object> parse(String text) {
+		try {
+			Map<String, Object> results = this.outputParser.parse(text);
+			return (results != null) ? results : Map.of();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to parse the packed enrichment response", ex);
+			return Map.of();
+		}
+	}
+
+	private static String text(ChatResponse response) {
+		return response.getResult().getOutput().getContent();
+	}
+
+	private static <T> List<List<T>> partition(List<T> list, int size) {
+		List<List<T>> partitions = new ArrayList<>();
+		for (int i = 0; i < list.size(); i += size) {
+			partitions.add(list.subList(i, Math.min(i + size, list.size())));
+		}
+		return partitions;
+	}
+
+}
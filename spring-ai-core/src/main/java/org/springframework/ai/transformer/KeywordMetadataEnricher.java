@@ -16,17 +16,20 @@
 package org.springframework.ai.transformer;
 
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentTransformer;
-import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.util.Assert;
 
 /**
  * Keyword extractor that uses generative to extract 'excerpt_keywords' metadata field.
+ * <p>
+ * Up to {@link #withMaxConcurrency(int) maxConcurrency} documents are enriched
+ * concurrently, and {@link #withBatchSize(int) batchSize} documents can be packed in a
+ * single request. Documents that already have keywords are skipped, so applying the
+ * enricher again after a failure only enriches the remaining documents.
  *
  * @author Christian Tzolov
  */
@@ -40,6 +43,14 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 			{context_str}. Give %s unique keywords for this
 			document. Format as comma separated. Keywords: """;
 
+	public static final String KEYWORDS_BATCH_TEMPLATE = """
+			Here are several documents, each one introduced by its number:
+
+			{documents}
+			Give %s unique keywords for each document. Format the keywords of a document as comma separated.
+			Respond with a JSON object that maps each document number to its keywords.
+			{format}""";
+
 	/**
 	 * Model predictor
 	 */
@@ -50,23 +61,68 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 	 */
 	private final int keywordCount;
 
+	/**
+	 * The keyword extraction template.
+	 */
+	private final PromptTemplate keywordsTemplate;
+
+	/**
+	 * The packed documents keyword extraction template.
+	 */
+	private final PromptTemplate keywordsBatchTemplate;
+
+	/**
+	 * The maximum number of concurrent chat requests.
+	 */
+	private int maxConcurrency = 1;
+
+	/**
+	 * The number of documents packed in a single chat request.
+	 */
+	private int batchSize = 1;
+
 	public KeywordMetadataEnricher(ChatClient chatClient, int keywordCount) {
 		Assert.notNull(chatClient, "ChatClient must not be null");
 		Assert.isTrue(keywordCount >= 1, "Document count must be >= 1");
 
 		this.chatClient = chatClient;
 		this.keywordCount = keywordCount;
+		this.keywordsTemplate = new PromptTemplate(String.format(KEYWORDS_TEMPLATE, keywordCount));
+		this.keywordsBatchTemplate = new PromptTemplate(String.format(KEYWORDS_BATCH_TEMPLATE, keywordCount));
+	}
+
+	/**
+	 * @param maxConcurrency the maximum number of concurrent chat requests. Defaults to
+	 * 1.
+	 * @return this enricher.
+	 */
+	public KeywordMetadataEnricher withMaxConcurrency(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency >= 1, "Max concurrency must be >= 1");
+		this.maxConcurrency = maxConcurrency;
+		return this;
+	}
+
+	/**
+	 * @param batchSize the number of documents packed in a single chat request. Packing
+	 * suits short documents. Defaults to 1.
+	 * @return this enricher.
+	 */
+	public KeywordMetadataEnricher withBatchSize(int batchSize) {
+		Assert.isTrue(batchSize >= 1, "Batch size must be >= 1");
+		this.batchSize = batchSize;
+		return this;
 	}
 
 	@Override
 	public List<Document> apply(List<Document> documents) {
-		for (Document document : documents) {
+		List<Document> pending = documents.stream()
+			.filter(document -> !document.getMetadata().containsKey(EXCERPT_KEYWORDS_METADATA_KEY))
+			.toList();
+
+		new EnrichmentExecutor(this.chatClient, this.maxConcurrency, this.batchSize).execute(pending,
+				Document::getContent, this.keywordsTemplate, this.keywordsBatchTemplate,
+				(document, keywords) -> document.getMetadata().put(EXCERPT_KEYWORDS_METADATA_KEY, keywords));
 
-			var template = new PromptTemplate(String.format(KEYWORDS_TEMPLATE, keywordCount));
-			Prompt prompt = template.create(Map.of(CONTEXT_STR_PLACEHOLDER, document.getContent()));
-			String keywords = this.chatClient.call(prompt).getResult().getOutput().getContent();
-			document.getMetadata().putAll(Map.of(EXCERPT_KEYWORDS_METADATA_KEY, keywords));
-		}
 		return documents;
 	}
 
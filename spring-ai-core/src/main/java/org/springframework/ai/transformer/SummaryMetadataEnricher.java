@@ -24,7 +24,6 @@ import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentTransformer;
 import org.springframework.ai.document.MetadataMode;
-import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -32,6 +31,13 @@ import org.springframework.util.CollectionUtils;
 /**
  * Title extractor with adjacent sharing that uses generative to extract
  * 'section_summary', 'prev_section_summary', 'next_section_summary' metadata fields.
+ * <p>
+ * Up to {@link #withMaxConcurrency(int) maxConcurrency} documents are summarized
+ * concurrently, and {@link #withBatchSize(int) batchSize} documents can be packed in a
+ * single request. Each summary is stored in the 'section_summary' field as soon as it is
+ * received, and documents that already have one are not summarized again, so applying the
+ * enricher again after a failure only summarizes the remaining documents. The field is
+ * removed at the end if the {@link SummaryType#CURRENT} summary was not requested.
  *
  * @author Christian Tzolov
  */
@@ -43,8 +49,6 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 
 	private static final String PREV_SECTION_SUMMARY_METADATA_KEY = "prev_section_summary";
 
-	private static final String CONTEXT_STR_PLACEHOLDER = "context_str";
-
 	public static final String DEFAULT_SUMMARY_EXTRACT_TEMPLATE = """
 			Here is the content of the section:
 			{context_str}
@@ -53,6 +57,14 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 
 			Summary: """;
 
+	public static final String DEFAULT_SUMMARY_EXTRACT_BATCH_TEMPLATE = """
+			Here is the content of several sections, each one introduced by its number:
+
+			{documents}
+			Summarize the key topics and entities of each section.
+			Respond with a JSON object that maps each section number to its summary.
+			{format}""";
+
 	public enum SummaryType {
 
 		PREVIOUS, CURRENT, NEXT;
@@ -74,7 +86,22 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 	/**
 	 * Template for summary extraction.
 	 */
-	private final String summaryTemplate;
+	private final PromptTemplate summaryTemplate;
+
+	/**
+	 * Template for packed sections summary extraction.
+	 */
+	private final PromptTemplate summaryBatchTemplate = new PromptTemplate(DEFAULT_SUMMARY_EXTRACT_BATCH_TEMPLATE);
+
+	/**
+	 * The maximum number of concurrent chat requests.
+	 */
+	private int maxConcurrency = 1;
+
+	/**
+	 * The number of documents packed in a single chat request.
+	 */
+	private int batchSize = 1;
 
 	public SummaryMetadataEnricher(ChatClient chatClient, List<SummaryType> summaryTypes) {
 		this(chatClient, summaryTypes, DEFAULT_SUMMARY_EXTRACT_TEMPLATE, MetadataMode.ALL);
@@ -88,20 +115,47 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 		this.chatClient = chatClient;
 		this.summaryTypes = CollectionUtils.isEmpty(summaryTypes) ? List.of(SummaryType.CURRENT) : summaryTypes;
 		this.metadataMode = metadataMode;
-		this.summaryTemplate = summaryTemplate;
+		this.summaryTemplate = new PromptTemplate(summaryTemplate);
+	}
+
+	/**
+	 * @param maxConcurrency the maximum number of concurrent chat requests. Defaults to
+	 * 1.
+	 * @return this enricher.
+	 */
+	public SummaryMetadataEnricher withMaxConcurrency(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency >= 1, "Max concurrency must be >= 1");
+		this.maxConcurrency = maxConcurrency;
+		return this;
+	}
+
+	/**
+	 * @param batchSize the number of documents packed in a single chat request. Packing
+	 * suits short documents and uses a built-in template instead of the summary template.
+	 * Defaults to 1.
+	 * @return this enricher.
+	 */
+	public SummaryMetadataEnricher withBatchSize(int batchSize) {
+		Assert.isTrue(batchSize >= 1, "Batch size must be >= 1");
+		this.batchSize = batchSize;
+		return this;
 	}
 
 	@Override
 	public List<Document> apply(List<Document> documents) {
 
-		List<String> documentSummaries = new ArrayList<>();
-		for (Document document : documents) {
+		List<Document> pending = documents.stream()
+			.filter(document -> !document.getMetadata().containsKey(SECTION_SUMMARY_METADATA_KEY))
+			.toList();
 
-			var documentContext = document.getFormattedContent(this.metadataMode);
+		new EnrichmentExecutor(this.chatClient, this.maxConcurrency, this.batchSize).execute(pending,
+				document -> document.getFormattedContent(this.metadataMode), this.summaryTemplate,
+				this.summaryBatchTemplate,
+				(document, summary) -> document.getMetadata().put(SECTION_SUMMARY_METADATA_KEY, summary));
 
-			Prompt prompt = new PromptTemplate(this.summaryTemplate)
-				.create(Map.of(CONTEXT_STR_PLACEHOLDER, documentContext));
-			documentSummaries.add(this.chatClient.call(prompt).getResult().getOutput().getContent());
+		List<String> documentSummaries = new ArrayList<>();
+		for (Document document : documents) {
+			documentSummaries.add((String) document.getMetadata().get(SECTION_SUMMARY_METADATA_KEY));
 		}
 
 		for (int i = 0; i < documentSummaries.size(); i++) {
@@ -112,8 +166,8 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 			if (i < (documentSummaries.size() - 1) && this.summaryTypes.contains(SummaryType.NEXT)) {
 				summaryMetadata.put(NEXT_SECTION_SUMMARY_METADATA_KEY, documentSummaries.get(i + 1));
 			}
-			if (this.summaryTypes.contains(SummaryType.CURRENT)) {
-				summaryMetadata.put(SECTION_SUMMARY_METADATA_KEY, documentSummaries.get(i));
+			if (!this.summaryTypes.contains(SummaryType.CURRENT)) {
+				documents.get(i).getMetadata().remove(SECTION_SUMMARY_METADATA_KEY);
 			}
 
 			documents.get(i).getMetadata().putAll(summaryMetadata);
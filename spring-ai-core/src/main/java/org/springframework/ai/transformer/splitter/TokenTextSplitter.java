@@ -18,12 +18,11 @@ package org.springframework.ai.transformer.splitter;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.knuddels.jtokkit.Encodings;
 import com.knuddels.jtokkit.api.Encoding;
-import com.knuddels.jtokkit.api.EncodingRegistry;
 import com.knuddels.jtokkit.api.EncodingType;
 import com.knuddels.jtokkit.api.IntArrayList;
 
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
 import org.springframework.util.Assert;
 
 /**
@@ -32,9 +31,7 @@ import org.springframework.util.Assert;
  */
 public class TokenTextSplitter extends TextSplitter {
 
-	private final EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
-
-	private final Encoding encoding = registry.getEncoding(EncodingType.CL100K_BASE);
+	private final Encoding encoding = JTokkitTokenCountEstimator.getEncoding(EncodingType.CL100K_BASE);
 
 	// The target size of each text chunk in tokens
 	private int defaultChunkSize = 800;
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+
+/**
+ * A {@link VectorStore} that embeds the queries on the client side, with its
+ * {@link #getEmbeddingClient()}, and can search by an already embedded query. Its
+ * {@link #similaritySearch(List)} embeds all the queries of a batch with a single call to
+ * the embedding client.
+ */
+public interface EmbeddingVectorStore extends VectorStore {
+
+	/**
+	 * Retrieves documents by similarity to an already embedded query.
+	 * @param request Search request for set search parameters, such as the topK,
+	 * similarity threshold and metadata filter expressions. The query text is ignored.
+	 * @param queryEmbedding the embedding of the query text.
+	 * @return Returns documents th match the query request conditions.
+	 */
+	List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding);
+
+	/**
+	 * @return the {@link EmbeddingClient} the queries are embedded with.
+	 */
+	EmbeddingClient getEmbeddingClient();
+
+	/**
+	 * Embeds all queries with a single call to the {@link #getEmbeddingClient()} and then
+	 * runs the searches, a few at a time, with
+	 * {@link #similaritySearch(SearchRequest, List)}.
+	 * @param requests the search requests.
+	 * @return the documents matching each request, in the order of the requests.
+	 */
+	@Override
+	default List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+		List<List<Double>> queryEmbeddings = this.getEmbeddingClient()
+			.embed(requests.stream().map(SearchRequest::getQuery).toList());
+		return SimilaritySearches.searchAll(requests.size(),
+				i -> this.similaritySearch(requests.get(i), queryEmbeddings.get(i)));
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+
+/**
+ * Runs the searches of a batch concurrently, for the default batch similarity search of
+ * the {@link VectorStore}s.
+ */
+final class SimilaritySearches {
+
+	/**
+	 * Maximum number of searches of a batch in flight, so that a large batch does not
+	 * exhaust the connections of the vector database client.
+	 */
+	static final int MAX_CONCURRENT_SEARCHES = 4;
+
+	private SimilaritySearches() {
+	}
+
+	/**
+	 * @param count the number of searches.
+	 * @param search runs the search of the given index.
+	 * @return the results of the searches, in index order.
+	 */
+	static List<List<Document>> searchAll(int count, IntFunction<List<Document>> search) {
+		if (count <= 1) {
+			return (count == 0) ? List.of() : List.of(search.apply(0));
+		}
+		return Flux.range(0, count)
+			.flatMapSequential(i -> Mono.fromCallable(() -> search.apply(i)).subscribeOn(Schedulers.boundedElastic()),
+					MAX_CONCURRENT_SEARCHES)
+			.collectList()
+			.block();
+	}
+
+}
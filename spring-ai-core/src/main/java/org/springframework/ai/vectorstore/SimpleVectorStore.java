@@ -40,12 +40,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * calculating similarity scores among vectors, refer to this
  * [resource](https://docs.spring.io/spring-ai/reference/api/vectordbs.html#_understanding_vectors).
  *
+ * With a {@link Quantization} other than {@link Quantization#NONE} the embeddings are
+ * also kept in a compact quantized form that is scanned by the similarity search, and
+ * only the nearest candidates are re-ranked with the full precision embeddings.
+ *
  * @author Raphael Yu
  * @author Dingmeng Xue
  * @author Mark Pollack
  * @author Christian Tzolov
  */
-public class SimpleVectorStore implements VectorStore {
+public class SimpleVectorStore implements EmbeddingVectorStore {
 
 	private static final Logger logger = LoggerFactory.getLogger(SimpleVectorStore.class);
 
@@ -53,9 +57,53 @@ public class SimpleVectorStore implements VectorStore {
 
 	protected EmbeddingClient embeddingClient;
 
+	private final Quantization quantization;
+
+	private final Map<String, QuantizedEmbedding> quantizedEmbeddings = new ConcurrentHashMap<>();
+
+	private int rescoreFactor = 4;
+
+	/**
+	 * Quantization of the embeddings scanned by the similarity search.
+	 */
+	public enum Quantization {
+
+		/**
+		 * Scan the full precision embeddings.
+		 */
+		NONE,
+		/**
+		 * Scan the embeddings quantized to one signed byte per dimension.
+		 */
+		INT8,
+		/**
+		 * Scan the sign bits of the embeddings, compared by Hamming distance. Works best
+		 * with high dimensional embeddings.
+		 */
+		BINARY
+
+	}
+
 	public SimpleVectorStore(EmbeddingClient embeddingClient) {
+		this(embeddingClient, Quantization.NONE);
+	}
+
+	public SimpleVectorStore(EmbeddingClient embeddingClient, Quantization quantization) {
 		Objects.requireNonNull(embeddingClient, "EmbeddingClient must not be null");
+		Objects.requireNonNull(quantization, "Quantization must not be null");
 		this.embeddingClient = embeddingClient;
+		this.quantization = quantization;
+	}
+
+	/**
+	 * @param rescoreFactor with quantization, the number of candidates re-ranked with the
+	 * full precision embeddings, as a multiple of the requested top k. Defaults to 4.
+	 */
+	public void setRescoreFactor(int rescoreFactor) {
+		if (rescoreFactor <= 0) {
+			throw new IllegalArgumentException("Rescore factor must be positive");
+		}
+		this.rescoreFactor = rescoreFactor;
 	}
 
 	@Override
@@ -64,26 +112,65 @@ public class SimpleVectorStore implements VectorStore {
 			logger.info("Calling EmbeddingClient for document id = {}", document.getId());
 			List<Double> embedding = this.embeddingClient.embed(document);
 			document.setEmbedding(embedding);
+			this.index(document);
 			this.store.put(document.getId(), document);
 		}
 	}
 
+	private void index(Document document) {
+		if (this.quantization != Quantization.NONE) {
+			this.quantizedEmbeddings.put(document.getId(), this.quantize(document.getEmbedding()));
+		}
+	}
+
+	private void reindex() {
+		this.quantizedEmbeddings.clear();
+		this.store.values().forEach(this::index);
+	}
+
+	private QuantizedEmbedding quantize(List<Double> embedding) {
+		return (this.quantization == Quantization.INT8) ? Int8Embedding.of(embedding) : BinaryEmbedding.of(embedding);
+	}
+
 	@Override
 	public Optional<Boolean> delete(List<String> idList) {
 		for (String id : idList) {
 			this.store.remove(id);
+			this.quantizedEmbeddings.remove(id);
 		}
 		return Optional.of(true);
 	}
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		assertNoFilterExpression(request);
+		return this.similaritySearch(request, getUserQueryEmbedding(request.getQuery()));
+	}
+
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		requests.forEach(this::assertNoFilterExpression);
+		return EmbeddingVectorStore.super.similaritySearch(requests);
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	private void assertNoFilterExpression(SearchRequest request) {
 		if (request.getFilterExpression() != null) {
 			throw new UnsupportedOperationException(
 					"The [" + this.getClass() + "] doesn't support metadata filtering!");
 		}
+	}
 
-		List<Double> userQueryEmbedding = getUserQueryEmbedding(request.getQuery());
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> userQueryEmbedding) {
+		assertNoFilterExpression(request);
+		if (this.quantization != Quantization.NONE) {
+			return this.quantizedSimilaritySearch(request, userQueryEmbedding);
+		}
 		return this.store.values()
 			.stream()
 			.map(entry -> new Similarity(entry.getId(),
@@ -95,6 +182,39 @@ public class SimpleVectorStore implements VectorStore {
 			.toList();
 	}
 
+	private List<Document> quantizedSimilaritySearch(SearchRequest request, List<Double> userQueryEmbedding) {
+		int candidates = request.getTopK() * this.rescoreFactor;
+		if (candidates == 0) {
+			return List.of();
+		}
+		QuantizedEmbedding quantizedQuery = this.quantize(userQueryEmbedding);
+
+		// Min-heap of the nearest candidates by quantized similarity.
+		PriorityQueue<Similarity> nearest = new PriorityQueue<>(Comparator.comparingDouble(s -> s.score));
+		for (Map.Entry<String, QuantizedEmbedding> entry : this.quantizedEmbeddings.entrySet()) {
+			double score = quantizedQuery.similarity(entry.getValue());
+			if (nearest.size() < candidates) {
+				nearest.add(new Similarity(entry.getKey(), score));
+			}
+			else if (score > nearest.peek().score) {
+				nearest.poll();
+				nearest.add(new Similarity(entry.getKey(), score));
+			}
+		}
+
+		// Re-rank the candidates with the full precision embeddings.
+		return nearest.stream()
+			.map(s -> this.store.get(s.key))
+			.filter(Objects::nonNull)
+			.map(document -> new Similarity(document.getId(),
+					EmbeddingMath.cosineSimilarity(userQueryEmbedding, document.getEmbedding())))
+			.filter(s -> s.score >= request.getSimilarityThreshold())
+			.sorted(Comparator.<Similarity>comparingDouble(s -> s.score).reversed())
+			.limit(request.getTopK())
+			.map(s -> this.store.get(s.key))
+			.toList();
+	}
+
 	/**
 	 * Serialize the vector store content into a file in JSON format.
 	 * @param file the file to save the vector store content
@@ -140,6 +260,7 @@ public class SimpleVectorStore implements VectorStore {
 		try {
 			Map<String, Document> deserializedMap = objectMapper.readValue(file, typeRef);
 			this.store = deserializedMap;
+			this.reindex();
 		}
 		catch (IOException ex) {
 			throw new RuntimeException(ex);
@@ -157,6 +278,7 @@ public class SimpleVectorStore implements VectorStore {
 		try {
 			Map<String, Document> deserializedMap = objectMapper.readValue(resource.getInputStream(), typeRef);
 			this.store = deserializedMap;
+			this.reindex();
 		}
 		catch (IOException ex) {
 			throw new RuntimeException(ex);
@@ -193,6 +315,86 @@ public class SimpleVectorStore implements VectorStore {
 
 	}
 
+	private interface QuantizedEmbedding {
+
+		/**
+		 * Similarity to another quantized embedding, higher is more similar. Only
+		 * comparable between embeddings of the same quantization.
+		 */
+		double similarity(QuantizedEmbedding other);
+
+	}
+
+	/**
+	 * Every component scaled to [-127, 127] by the largest absolute component. The cosine
+	 * similarity does not depend on the scale, so it is not kept.
+	 */
+	private record Int8Embedding(byte[] values, double norm) implements QuantizedEmbedding {
+
+		static Int8Embedding of(List<Double> embedding) {
+			double max = 0;
+			for (Double value : embedding) {
+				max = Math.max(max, Math.abs(value));
+			}
+			double scale = (max == 0) ? 0 : 127 / max;
+
+			byte[] values = new byte[embedding.size()];
+			long norm = 0;
+			for (int i = 0; i < values.length; i++) {
+				values[i] = (byte) Math.round(embedding.get(i) * scale);
+				norm += values[i] * values[i];
+			}
+			return new Int8Embedding(values, Math.sqrt(norm));
+		}
+
+		@Override
+		public double similarity(QuantizedEmbedding other) {
+			Int8Embedding that = (Int8Embedding) other;
+			if (this.values.length != that.values.length) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			if (this.norm == 0 || that.norm == 0) {
+				return 0;
+			}
+			long dotProduct = 0;
+			for (int i = 0; i < this.values.length; i++) {
+				dotProduct += this.values[i] * that.values[i];
+			}
+			return dotProduct / (this.norm * that.norm);
+		}
+
+	}
+
+	/**
+	 * One bit per component, set for the positive components.
+	 */
+	private record BinaryEmbedding(long[] bits, int dimensions) implements QuantizedEmbedding {
+
+		static BinaryEmbedding of(List<Double> embedding) {
+			long[] bits = new long[(embedding.size() + 63) / 64];
+			for (int i = 0; i < embedding.size(); i++) {
+				if (embedding.get(i) > 0) {
+					bits[i >> 6] |= 1L << (i & 63);
+				}
+			}
+			return new BinaryEmbedding(bits, embedding.size());
+		}
+
+		@Override
+		public double similarity(QuantizedEmbedding other) {
+			BinaryEmbedding that = (BinaryEmbedding) other;
+			if (this.dimensions != that.dimensions) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			int hammingDistance = 0;
+			for (int i = 0; i < this.bits.length; i++) {
+				hammingDistance += Long.bitCount(this.bits[i] ^ that.bits[i]);
+			}
+			return 1 - 2.0 * hammingDistance / this.dimensions;
+		}
+
+	}
+
 	public class EmbeddingMath {
 
 		private EmbeddingMath() {
@@ -18,6 +18,9 @@ package org.springframework.ai.vectorstore;
 import java.util.List;
 import java.util.Optional;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentWriter;
 
@@ -59,6 +62,19 @@ public interface VectorStore extends DocumentWriter {
 	 */
 	List<Document> similaritySearch(SearchRequest request);
 
+	/**
+	 * Runs several similarity searches at once, for example for query expansion or
+	 * sub-question retrieval. The default implementation runs the searches with
+	 * {@link #similaritySearch(SearchRequest)}, a few at a time. Implementations that
+	 * support it embed all the queries at once, see {@link EmbeddingVectorStore}, or send
+	 * the searches to the vector database in as few round trips as possible.
+	 * @param requests the search requests.
+	 * @return the documents matching each request, in the order of the requests.
+	 */
+	default List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		return SimilaritySearches.searchAll(requests.size(), i -> this.similaritySearch(requests.get(i)));
+	}
+
 	/**
 	 * Retrieves documents by query embedding similarity using the default
 	 * {@link SearchRequest}'s' search criteria.
@@ -70,4 +86,38 @@ public interface VectorStore extends DocumentWriter {
 		return this.similaritySearch(SearchRequest.query(query));
 	}
 
+	/**
+	 * Non-blocking counterpart of {@link #add(List)}. The default implementation offloads
+	 * the blocking call to the {@link Schedulers#boundedElastic()} scheduler, which runs
+	 * on virtual threads when Reactor is configured to. Implementations with non-blocking
+	 * clients override it.
+	 * @param documents the list of documents to store.
+	 * @return a {@link Mono} that completes when the documents are stored.
+	 */
+	default Mono<Void> addAsync(List<Document> documents) {
+		return Mono.<Void>fromRunnable(() -> this.add(documents)).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link #delete(List)}. The default implementation
+	 * offloads the blocking call to the {@link Schedulers#boundedElastic()} scheduler.
+	 * @param idList list of document ids for which documents will be removed.
+	 * @return a {@link Mono} of the deletion status.
+	 */
+	default Mono<Optional<Boolean>> deleteAsync(List<String> idList) {
+		return Mono.fromCallable(() -> this.delete(idList)).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link #similaritySearch(SearchRequest)}. The default
+	 * implementation offloads the blocking call to the
+	 * {@link Schedulers#boundedElastic()} scheduler.
+	 * @param request Search request for set search parameters, such as the query text,
+	 * topK, similarity threshold and metadata filter expressions.
+	 * @return a {@link Mono} of the documents that match the query request conditions.
+	 */
+	default Mono<List<Document>> similaritySearchAsync(SearchRequest request) {
+		return Mono.fromCallable(() -> this.similaritySearch(request)).subscribeOn(Schedulers.boundedElastic());
+	}
+
 }
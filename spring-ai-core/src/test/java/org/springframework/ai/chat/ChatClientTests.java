@@ -22,9 +22,13 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.Test;
 
 import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 
@@ -82,4 +86,27 @@ class ChatClientTests {
 		verifyNoMoreInteractions(mockClient, generation, response);
 	}
 
+	@Test
+	void callAsyncDelegatesToCallOffTheCallerThread() {
+
+		ChatClient mockClient = Mockito.mock(ChatClient.class);
+		ChatResponse response = Mockito.mock(ChatResponse.class);
+		Prompt prompt = new Prompt("Zero Wing");
+		Thread caller = Thread.currentThread();
+		AtomicReference<Thread> callThread = new AtomicReference<>();
+
+		doCallRealMethod().when(mockClient).callAsync(any(Prompt.class));
+		doAnswer(invocationOnMock -> {
+			callThread.set(Thread.currentThread());
+			return response;
+		}).when(mockClient).call(prompt);
+
+		Mono<ChatResponse> result = mockClient.callAsync(prompt);
+
+		verify(mockClient, never()).call(any(Prompt.class));
+		assertThat(result.block()).isSameAs(response);
+		assertThat(callThread.get()).isNotSameAs(caller);
+		verify(mockClient, times(1)).call(prompt);
+	}
+
 }
@@ -15,10 +15,21 @@
  */
 package org.springframework.ai.embedding;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.mockito.Mock;
@@ -27,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.document.Document;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -91,4 +103,182 @@ public class AbstractEmbeddingClientTests {
 		assertThat(AbstractEmbeddingClient.dimensions(embeddingClient, "unknown_model", "Hello world!")).isEqualTo(3);
 	}
 
+	@Test
+	public void callInBatchesSplitsByInputs() {
+		var client = new BatchRecordingEmbeddingClient();
+		client.setMaxInputsPerRequest(3);
+
+		List<String> texts = IntStream.range(0, 10).mapToObj(String::valueOf).toList();
+		EmbeddingResponse response = client.call(new EmbeddingRequest(texts, EmbeddingOptions.EMPTY));
+
+		assertThat(client.batches).extracting(List::size).containsExactlyInAnyOrder(3, 3, 3, 1);
+		assertThat(response.getResults()).extracting(Embedding::getIndex)
+			.containsExactlyElementsOf(IntStream.range(0, 10).boxed().toList());
+		assertThat(response.getResults()).extracting(embedding -> embedding.getOutput().get(0))
+			.containsExactly(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+		assertThat(response.getMetadata()).containsEntry("total-tokens", 10).containsEntry("model", "test");
+	}
+
+	@Test
+	public void callInBatchesSplitsByTokens() {
+		var client = new BatchRecordingEmbeddingClient();
+		client.setMaxTokensPerRequest(4);
+		client.setTokenCountEstimator(String::length);
+
+		List<String> texts = List.of("1", "22", "333", "4444", "55555", "1");
+		List<List<Double>> embeddings = client.embed(texts);
+
+		// an input over the limit is sent on its own
+		assertThat(client.batches).containsExactlyInAnyOrder(List.of("1", "22"), List.of("333"), List.of("4444"),
+				List.of("55555"), List.of("1"));
+		assertThat(embeddings).extracting(embedding -> embedding.get(0))
+			.containsExactly(1.0, 22.0, 333.0, 4444.0, 55555.0, 1.0);
+	}
+
+	@Test
+	public void callInBatchesWithinLimitsIsSingleCall() {
+		var client = new BatchRecordingEmbeddingClient();
+		client.setMaxInputsPerRequest(10);
+
+		client.embed(List.of("1", "2", "3"));
+
+		assertThat(client.batches).containsExactly(List.of("1", "2", "3"));
+	}
+
+	@Test
+	public void dimensionsDiscoveryIsSingleFlight() throws Exception {
+		CountDownLatch probeStarted = new CountDownLatch(1);
+		CountDownLatch releaseProbe = new CountDownLatch(1);
+		var client = new ProbeCountingEmbeddingClient(null, () -> {
+			probeStarted.countDown();
+			releaseProbe.await();
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			results.add(executor.submit(() -> client.dimensions()));
+			probeStarted.await();
+			for (int i = 0; i < 3; i++) {
+				results.add(executor.submit(() -> client.dimensions()));
+			}
+			releaseProbe.countDown();
+			for (Future<Integer> result : results) {
+				assertThat(result.get()).isEqualTo(3);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(client.probes.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void failedDimensionsDiscoveryIsRetried() {
+		AtomicInteger calls = new AtomicInteger();
+		var client = new ProbeCountingEmbeddingClient(null, () -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IllegalStateException("Probe failed");
+			}
+		});
+
+		assertThatThrownBy(client::dimensions).hasMessage("Probe failed");
+		assertThat(client.dimensions()).isEqualTo(3);
+	}
+
+	@Test
+	public void discoveredDimensionsAreCachedOnDisk(@TempDir Path tempDir) {
+		var cache = new EmbeddingDimensionsCache(tempDir.resolve("dimensions.properties"));
+
+		var client = new ProbeCountingEmbeddingClient("my-model", () -> {
+		});
+		client.setDimensionsCache(cache);
+		assertThat(client.dimensions()).isEqualTo(3);
+		assertThat(client.probes.get()).isEqualTo(1);
+
+		var restartedClient = new ProbeCountingEmbeddingClient("my-model", () -> {
+		});
+		restartedClient.setDimensionsCache(new EmbeddingDimensionsCache(tempDir.resolve("dimensions.properties")));
+		assertThat(restartedClient.dimensions()).isEqualTo(3);
+		assertThat(restartedClient.probes.get()).isZero();
+
+		// known models are never probed nor cached
+		var knownClient = new ProbeCountingEmbeddingClient("text-embedding-ada-002", () -> {
+		});
+		knownClient.setDimensionsCache(cache);
+		assertThat(knownClient.dimensions()).isEqualTo(1536);
+		assertThat(knownClient.probes.get()).isZero();
+		assertThat(cache.get(ProbeCountingEmbeddingClient.class.getName() + "/text-embedding-ada-002")).isEqualTo(-1);
+	}
+
+	private interface Probe {
+
+		void run() throws Exception;
+
+	}
+
+	private static class ProbeCountingEmbeddingClient extends AbstractEmbeddingClient {
+
+		private final String modelName;
+
+		private final Probe probe;
+
+		private final AtomicInteger probes = new AtomicInteger();
+
+		ProbeCountingEmbeddingClient(String modelName, Probe probe) {
+			this.modelName = modelName;
+			this.probe = probe;
+		}
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			this.probes.incrementAndGet();
+			try {
+				this.probe.run();
+			}
+			catch (RuntimeException e) {
+				throw e;
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+			return new EmbeddingResponse(List.of(new Embedding(List.of(0.1, 0.2, 0.3), 0)));
+		}
+
+		@Override
+		public List<Double> embed(Document document) {
+			return this.embed(document.getContent());
+		}
+
+		@Override
+		protected String getEmbeddingModelName() {
+			return this.modelName;
+		}
+
+	}
+
+	private static class BatchRecordingEmbeddingClient extends AbstractEmbeddingClient {
+
+		private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			return this.callInBatches(request, batch -> {
+				this.batches.add(batch.getInstructions());
+				List<Embedding> embeddings = new ArrayList<>();
+				for (int i = 0; i < batch.getInstructions().size(); i++) {
+					embeddings.add(new Embedding(List.of(Double.parseDouble(batch.getInstructions().get(i))), i));
+				}
+				return new EmbeddingResponse(embeddings, new EmbeddingResponseMetadata(
+						Map.of("model", "test", "total-tokens", batch.getInstructions().size())));
+			});
+		}
+
+		@Override
+		public List<Double> embed(Document document) {
+			return this.embed(document.getContent());
+		}
+
+	}
+
 }
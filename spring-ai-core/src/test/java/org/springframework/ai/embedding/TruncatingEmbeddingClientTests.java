@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.embedding;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TruncatingEmbeddingClientTests {
+
+	@Test
+	public void truncateAndRenormalize() {
+		EmbeddingClient delegate = mock(EmbeddingClient.class);
+		when(delegate.call(any(EmbeddingRequest.class))).thenReturn(new EmbeddingResponse(
+				List.of(new Embedding(List.of(3.0, 4.0, 12.0), 0), new Embedding(List.of(0.0, -2.0, 1.0), 1))));
+
+		TruncatingEmbeddingClient embeddingClient = new TruncatingEmbeddingClient(delegate, 2);
+
+		List<List<Double>> embeddings = embeddingClient.embed(List.of("first", "second"));
+
+		assertThat(embeddings).hasSize(2);
+		assertThat(embeddings.get(0)).satisfiesExactly(x -> assertThat(x).isCloseTo(0.6, within(1e-9)),
+				y -> assertThat(y).isCloseTo(0.8, within(1e-9)));
+		assertThat(embeddings.get(1)).containsExactly(0.0, -1.0);
+
+		assertThat(embeddingClient.dimensions()).isEqualTo(2);
+		verify(delegate, never()).dimensions();
+	}
+
+	@Test
+	public void truncateDocumentEmbedding() {
+		EmbeddingClient delegate = mock(EmbeddingClient.class);
+		Document document = new Document("content");
+		when(delegate.embed(document)).thenReturn(List.of(0.0, 0.0, 1.0));
+
+		assertThat(new TruncatingEmbeddingClient(delegate, 2).embed(document)).containsExactly(0.0, 0.0);
+		assertThatThrownBy(() -> new TruncatingEmbeddingClient(delegate, 4).embed(document))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
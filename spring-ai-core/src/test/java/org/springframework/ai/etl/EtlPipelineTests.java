@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.etl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentReader;
+import org.springframework.ai.document.DocumentTransformer;
+import org.springframework.ai.document.DocumentWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EtlPipelineTests {
+
+	private static DocumentReader reader(int count) {
+		return () -> IntStream.range(0, count)
+			.mapToObj(i -> new Document("source-" + i, "content " + i, Map.of()))
+			.toList();
+	}
+
+	private static final DocumentTransformer SPLITTER = documents -> documents.stream()
+		.flatMap(document -> IntStream.range(0, 2)
+			.mapToObj(i -> new Document(document.getId() + "-" + i, document.getContent(), Map.of())))
+		.toList();
+
+	@Test
+	void writesTransformedDocumentsInReaderOrder() {
+		List<List<Document>> batches = Collections.synchronizedList(new ArrayList<>());
+
+		List<StageMetrics> metrics = EtlPipeline.builder(reader(10))
+			.withTransformer(SPLITTER, 4)
+			.withWriter(batches::add)
+			.withWriterBatchSize(5)
+			.build()
+			.run();
+
+		// every batch holds whole source documents
+		assertThat(batches).extracting(List::size).containsExactly(6, 6, 6, 2);
+		assertThat(batches.stream().flatMap(List::stream).map(Document::getId))
+			.containsExactlyElementsOf(IntStream.range(0, 10)
+				.boxed()
+				.flatMap(i -> List.of("source-" + i + "-0", "source-" + i + "-1").stream())
+				.toList());
+
+		assertThat(metrics).extracting(StageMetrics::getName)
+			.containsExactly(EtlPipeline.READER_STAGE, "transformer-1", EtlPipeline.WRITER_STAGE);
+		assertThat(metrics.get(0).getDocumentsOut()).isEqualTo(10);
+		assertThat(metrics.get(1).getUnits()).isEqualTo(10);
+		assertThat(metrics.get(1).getDocumentsIn()).isEqualTo(10);
+		assertThat(metrics.get(1).getDocumentsOut()).isEqualTo(20);
+		assertThat(metrics.get(2).getUnits()).isEqualTo(4);
+		assertThat(metrics.get(2).getDocumentsOut()).isEqualTo(20);
+	}
+
+	@Test
+	void transformsConcurrently() {
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		DocumentTransformer slow = documents -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			active.decrementAndGet();
+			return documents;
+		};
+		List<Document> written = Collections.synchronizedList(new ArrayList<>());
+
+		EtlPipeline.builder(reader(16)).withTransformer(slow, 4).withWriter(written::addAll).build().run();
+
+		assertThat(written).hasSize(16);
+		assertThat(maxActive.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	void resumesFromCheckpoint(@TempDir Path tempDir) {
+		Path checkpoint = tempDir.resolve("checkpoint.txt");
+		AtomicInteger calls = new AtomicInteger();
+		DocumentWriter failing = documents -> {
+			if (calls.incrementAndGet() == 3) {
+				throw new IllegalStateException("Write failed");
+			}
+		};
+
+		EtlPipeline failingPipeline = EtlPipeline.builder(reader(10))
+			.withWriter(failing)
+			.withWriterBatchSize(2)
+			.withCheckpointStore(new FileCheckpointStore(checkpoint))
+			.build();
+		assertThatThrownBy(failingPipeline::run).hasMessageContaining("Write failed");
+
+		List<Document> written = new ArrayList<>();
+		List<StageMetrics> metrics = EtlPipeline.builder(reader(10))
+			.withWriter(written::addAll)
+			.withCheckpointStore(new FileCheckpointStore(checkpoint))
+			.build()
+			.run();
+
+		assertThat(written).extracting(Document::getId)
+			.containsExactly("source-4", "source-5", "source-6", "source-7", "source-8", "source-9");
+		assertThat(metrics.get(0).getDocumentsOut()).isEqualTo(10);
+	}
+
+	@Test
+	void resumesReaderWithRandomIdsFromCheckpoint(@TempDir Path tempDir) {
+		Path checkpoint = tempDir.resolve("checkpoint.txt");
+		// new Document(content, metadata) assigns a random id on every read
+		DocumentReader reader = () -> IntStream.range(0, 4)
+			.mapToObj(i -> new Document("content " + i, Map.of("source", "file.txt")))
+			.toList();
+
+		EtlPipeline.builder(reader).withWriter(documents -> {
+		}).withCheckpointStore(new FileCheckpointStore(checkpoint)).build().run();
+
+		List<Document> written = new ArrayList<>();
+		EtlPipeline.builder(reader)
+			.withWriter(written::addAll)
+			.withCheckpointStore(new FileCheckpointStore(checkpoint))
+			.build()
+			.run();
+
+		assertThat(written).isEmpty();
+	}
+
+	@Test
+	void transformsSeveralSourceDocumentsPerCall(@TempDir Path tempDir) {
+		Path checkpoint = tempDir.resolve("checkpoint.txt");
+		List<Integer> inputSizes = Collections.synchronizedList(new ArrayList<>());
+		// links every document to its predecessor, like the SummaryMetadataEnricher
+		DocumentTransformer linking = documents -> {
+			inputSizes.add(documents.size());
+			List<Document> linked = new ArrayList<>();
+			for (int i = 0; i < documents.size(); i++) {
+				String previous = (i > 0) ? documents.get(i - 1).getId() : "none";
+				linked.add(new Document(documents.get(i).getId(), documents.get(i).getContent(),
+						Map.of("previous", previous)));
+			}
+			return linked;
+		};
+		List<Document> written = Collections.synchronizedList(new ArrayList<>());
+
+		List<StageMetrics> metrics = EtlPipeline.builder(reader(10))
+			.withTransformer(linking, 2, 4)
+			.withWriter(written::addAll)
+			.withWriterBatchSize(1)
+			.withCheckpointStore(new FileCheckpointStore(checkpoint))
+			.build()
+			.run();
+
+		assertThat(inputSizes).containsExactlyInAnyOrder(4, 4, 2);
+		assertThat(written).extracting(Document::getId)
+			.containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> "source-" + i).toList());
+		assertThat(written).extracting(document -> document.getMetadata().get("previous"))
+			.containsExactly("none", "source-0", "source-1", "source-2", "none", "source-4", "source-5", "source-6",
+					"none", "source-8");
+		assertThat(metrics.get(1).getUnits()).isEqualTo(3);
+
+		// all the source documents of every transformer call are checkpointed
+		List<Document> rewritten = new ArrayList<>();
+		EtlPipeline.builder(reader(10))
+			.withTransformer(linking, 2, 4)
+			.withWriter(rewritten::addAll)
+			.withCheckpointStore(new FileCheckpointStore(checkpoint))
+			.build()
+			.run();
+		assertThat(rewritten).isEmpty();
+	}
+
+	@Test
+	void contentSourceIdIncludesTheOrigin() {
+		Document page1 = new Document("same content", Map.of("file_name", "a.pdf", "page_number", 1));
+		Document page2 = new Document("same content", Map.of("file_name", "a.pdf", "page_number", 2));
+
+		assertThat(EtlPipeline.CONTENT_SOURCE_ID.apply(page1))
+			.isEqualTo(EtlPipeline.CONTENT_SOURCE_ID.apply(new Document("same content", page1.getMetadata())))
+			.isNotEqualTo(EtlPipeline.CONTENT_SOURCE_ID.apply(page2));
+	}
+
+}
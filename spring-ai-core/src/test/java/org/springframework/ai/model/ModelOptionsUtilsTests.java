@@ -226,4 +226,17 @@ public class ModelOptionsUtilsTests {
 		assertThat(ModelOptionsUtils.getJsonPropertyValues(TestRecord.class)).containsExactly("field1", "field2");
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void getJsonSchemaIsCachedPerTypeValueCase() {
+		record TestRecord(String name, int age) {
+		}
+		String jsonSchema = ModelOptionsUtils.getJsonSchema(TestRecord.class, false);
+		String upperCaseJsonSchema = ModelOptionsUtils.getJsonSchema(TestRecord.class, true);
+
+		assertThat(jsonSchema).contains("\"string\"");
+		assertThat(upperCaseJsonSchema).contains("\"STRING\"");
+		assertThat(ModelOptionsUtils.getJsonSchema(TestRecord.class, false)).isSameAs(jsonSchema);
+		assertThat(ModelOptionsUtils.getJsonSchema(TestRecord.class, true)).isSameAs(upperCaseJsonSchema);
+	}
+
+}
@@ -15,32 +15,26 @@
  */
 package org.springframework.ai.parser;
 
+import java.math.BigDecimal;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Sebastian Ullrich
  * @author Kirk Lund
  */
-@ExtendWith(MockitoExtension.class)
 class BeanOutputParserTest {
 
-	@Mock
-	private ObjectMapper objectMapperMock;
-
 	@Test
 	public void shouldHavePreconfiguredDefaultObjectMapper() {
 		var parser = new BeanOutputParser<>(TestClass.class);
@@ -49,11 +43,10 @@ class BeanOutputParserTest {
 	}
 
 	@Test
-	public void shouldUseProvidedObjectMapperForParsing() throws JsonProcessingException {
-		var testClass = new TestClass("some string");
-		when(objectMapperMock.readValue(anyString(), eq(TestClass.class))).thenReturn(testClass);
-		var parser = new BeanOutputParser<>(TestClass.class, objectMapperMock);
-		assertThat(parser.parse("{}")).isEqualTo(testClass);
+	public void shouldUseProvidedObjectMapperForParsing() {
+		var objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		var parser = new BeanOutputParser<>(TestClass.class, objectMapper);
+		assertThat(parser.parse("{ \"some_string\": \"some value\" }").getSomeString()).isEqualTo("some value");
 	}
 
 	@Nested
@@ -73,6 +66,43 @@ class BeanOutputParserTest {
 			assertThat(testClass.getSomeString()).isEqualTo("some value");
 		}
 
+		@Test
+		public void shouldParseSchemaShapedResponse() {
+			var parser = new BeanOutputParser<>(TestClass.class);
+			var testClass = parser.parse("""
+					{
+					  "$schema" : "https://json-schema.org/draft/2020-12/schema",
+					  "type" : "object",
+					  "properties" : { "someString" : "some value" }
+					}""");
+			assertThat(testClass.getSomeString()).isEqualTo("some value");
+		}
+
+		@Test
+		public void shouldParseSchemaShapedResponseWithSchemaKeyNotFirst() {
+			var parser = new BeanOutputParser<>(TestClass.class);
+			var testClass = parser.parse("""
+					{
+					  "type" : "object",
+					  "properties" : { "someString" : "some value" },
+					  "$schema" : "https://json-schema.org/draft/2020-12/schema"
+					}""");
+			assertThat(testClass.getSomeString()).isEqualTo("some value");
+		}
+
+		@Test
+		public void shouldKeepDecimalPrecision() {
+			var parser = new BeanOutputParser<>(TestClassWithBigDecimal.class);
+			var testClass = parser.parse("{ \"amount\": 12345678901234567890.123456789 }");
+			assertThat(testClass.amount()).isEqualTo(new BigDecimal("12345678901234567890.123456789"));
+		}
+
+		@Test
+		public void shouldRejectEmptyOutput() {
+			var parser = new BeanOutputParser<>(TestClass.class);
+			assertThatThrownBy(() -> parser.parse(" ")).hasCauseInstanceOf(MismatchedInputException.class);
+		}
+
 	}
 
 	@Nested
@@ -146,6 +176,9 @@ class BeanOutputParserTest {
 
 	}
 
+	public record TestClassWithBigDecimal(BigDecimal amount) {
+	}
+
 	public static class TestClassWithJsonAnnotations {
 
 		@JsonProperty("string_property")
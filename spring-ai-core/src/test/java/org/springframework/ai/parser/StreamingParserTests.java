@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.parser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingParserTests {
+
+	@Test
+	public void streamListValues() {
+		var parser = new ListOutputParser(new DefaultConversionService());
+
+		List<List<String>> values = parser.parseStream(Flux.just("fo", "o, ba", "r,", " baz")).collectList().block();
+
+		assertThat(values).containsExactly(List.of("foo"), List.of("foo", "bar"), List.of("foo", "bar", "baz"));
+		assertThat(values.get(values.size() - 1)).isEqualTo(parser.parse("foo, bar, baz"));
+	}
+
+	@Test
+	public void streamEmptyList() {
+		var parser = new ListOutputParser(new DefaultConversionService());
+		assertThat(parser.parseStream(Flux.just("")).collectList().block()).isEmpty();
+	}
+
+	@Test
+	public void streamMapFields() {
+		var parser = new MapOutputParser();
+
+		List<Map<String, Object>> values = parser
+			.parseStream(Flux.just("```json\n{\"a\": 1, \"b\"", ": {\"c\": [1, 2]}", ", \"d\": \"x\"}\n```"))
+			.collectList()
+			.block();
+
+		assertThat(values).containsExactly(Map.of("a", 1), Map.of("a", 1, "b", Map.of("c", List.of(1, 2))),
+				Map.of("a", 1, "b", Map.of("c", List.of(1, 2)), "d", "x"));
+	}
+
+	@Test
+	public void streamBeanFields() {
+		var parser = new BeanOutputParser<>(Film.class);
+
+		List<Film> values = parser.parseStream(Flux.just("{\"title\": \"Tron\",", " \"year\": 19", "82}"))
+			.collectList()
+			.block();
+
+		assertThat(values).containsExactly(new Film("Tron", null), new Film("Tron", 1982));
+		assertThat(values.get(1)).isEqualTo(parser.parse("{\"title\": \"Tron\", \"year\": 1982}"));
+	}
+
+	@Test
+	public void streamArrayElements() {
+		var parser = new BeanOutputParser<>(Film[].class);
+
+		List<Film[]> values = parser
+			.parseStream(Flux.just("[{\"title\": \"Tron\"}, {\"ti", "tle\": \"Tron: Legacy\"}", "]"))
+			.collectList()
+			.block();
+
+		assertThat(values).hasSize(2);
+		assertThat(values.get(0)).containsExactly(new Film("Tron", null));
+		assertThat(values.get(1)).containsExactly(new Film("Tron", null), new Film("Tron: Legacy", null));
+	}
+
+	@Test
+	public void streamArrayElementsConvertsEveryElementOnce() {
+		var conversions = new AtomicInteger();
+		var objectMapper = new ObjectMapper()
+			.registerModule(new SimpleModule().addDeserializer(Film.class, new StdDeserializer<Film>(Film.class) {
+
+				@Override
+				public Film deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+					conversions.incrementAndGet();
+					JsonNode node = parser.readValueAsTree();
+					return new Film(node.get("title").asText(), null);
+				}
+
+			}));
+		var parser = new BeanOutputParser<>(Film[].class, objectMapper);
+
+		List<Film[]> values = parser
+			.parseStream(Flux.just("[{\"title\": \"A\"},", " {\"title\": \"B\"},", " {\"title\": \"C\"}]"))
+			.collectList()
+			.block();
+
+		assertThat(values).hasSize(3);
+		assertThat(values.get(2)).extracting(Film::title).containsExactly("A", "B", "C");
+		assertThat(conversions.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void streamIgnoresBracketsInThePreamble() {
+		var parser = new MapOutputParser();
+
+		List<Map<String, Object>> values = parser
+			.parseStream(Flux.just("As shown in [1], the ans", "wer is:\n```json\n{\"a\": [1]}", "\n```"))
+			.collectList()
+			.block();
+
+		assertThat(values).containsExactly(Map.of("a", List.of(1)));
+	}
+
+	@Test
+	public void incompleteJsonOutput() {
+		var parser = new MapOutputParser();
+
+		assertThatThrownBy(() -> parser.parseStream(Flux.just("{\"a\": 1, \"b\":")).collectList().block())
+			.hasMessage("Incomplete JSON output");
+	}
+
+	public record Film(String title, Integer year) {
+	}
+
+}
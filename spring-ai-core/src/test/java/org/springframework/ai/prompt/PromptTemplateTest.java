@@ -15,7 +15,6 @@
  */
 package org.springframework.ai.prompt;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.core.io.InputStreamResource;
@@ -24,8 +23,14 @@ import org.springframework.core.io.Resource;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -58,7 +63,6 @@ public class PromptTemplateTest {
 		assertEquals(expected, result);
 	}
 
-	@Disabled("Need to improve PromptTemplate to better handle Resource toString and tracking with 'dynamicModel' for underlying StringTemplate")
 	@Test
 	public void testRenderResource() throws Exception {
 		// Create a map with string keys and object values to serve as a generative for
@@ -100,4 +104,35 @@ public class PromptTemplateTest {
 		assertThrows(IllegalStateException.class, promptTemplate::render);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testConcurrentRender() throws Exception {
+		PromptTemplate promptTemplate = new PromptTemplate("Hello {name}, you are {age} years old", Map.of("age", 42));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				String name = "name" + i;
+				results.add(executor.submit(() -> promptTemplate.render(Map.of("name", name, "unused", name))));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals("Hello name" + i + ", you are 42 years old", results.get(i).get());
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// The render model doesn't leak into later renders.
+		assertThrows(IllegalStateException.class, promptTemplate::render);
+	}
+
+	@Test
+	public void testInputVariables() {
+		PromptTemplate promptTemplate = new PromptTemplate("{greeting} {name}, {name}!");
+		assertEquals(Set.of("greeting", "name"), promptTemplate.getInputVariables());
+		assertEquals(new PromptTemplate("{greeting} {name}, {name}!").getInputVariables(),
+				promptTemplate.getInputVariables());
+	}
+
+}
@@ -20,8 +20,12 @@ import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.JsonReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,4 +47,33 @@ public class JsonReaderTests {
 		}
 	}
 
+	@Test
+	void streamJson() {
+		JsonReader jsonReader = new JsonReader(resource, "description");
+		List<Document> documents = jsonReader.get();
+		List<Document> streamedDocuments = jsonReader.stream().collectList().block();
+		assertThat(streamedDocuments).hasSameSizeAs(documents);
+		for (int i = 0; i < documents.size(); i++) {
+			assertThat(streamedDocuments.get(i).getContent()).isEqualTo(documents.get(i).getContent());
+		}
+	}
+
+	@Test
+	void getJsonOnNonBlockingThread() {
+		JsonReader jsonReader = new JsonReader(resource, "description");
+		List<Document> documents = Mono.fromCallable(jsonReader::get).subscribeOn(Schedulers.parallel()).block();
+		assertThat(documents).hasSameSizeAs(jsonReader.get());
+	}
+
+	@Test
+	void streamJsonLazily() {
+		// The array is truncated, only the requested elements must be parsed.
+		var truncatedJson = new ByteArrayResource("""
+				[{"description": "first"}, {"description": "second"}, {"descr""".getBytes(StandardCharsets.UTF_8));
+		List<Document> documents = new JsonReader(truncatedJson, "description").stream().take(2).collectList().block();
+		assertThat(documents).extracting(Document::getContent)
+			.containsExactly("description: first" + System.lineSeparator(),
+					"description: second" + System.lineSeparator());
+	}
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.tokenizer;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JTokkitTokenCountEstimatorTests {
+
+	private final TokenCountEstimator estimator = new JTokkitTokenCountEstimator();
+
+	@Test
+	public void estimateText() {
+		assertThat(this.estimator.estimate("Hello world")).isEqualTo(2);
+		assertThat(this.estimator.estimate("")).isZero();
+		assertThat(this.estimator.estimate((String) null)).isZero();
+	}
+
+	@Test
+	public void estimatePrompt() {
+		var prompt = new Prompt(List.of(new SystemMessage("Hello world"), new UserMessage("Hello world")));
+		assertThat(this.estimator.estimate(prompt)).isEqualTo(4);
+	}
+
+	@Test
+	public void estimateDocument() {
+		var document = new Document("Hello world", Map.of("key", "value"));
+		int contentTokens = this.estimator.estimate(document.getFormattedContent(MetadataMode.NONE));
+		assertThat(this.estimator.estimate(document, MetadataMode.NONE)).isEqualTo(contentTokens);
+		assertThat(this.estimator.estimate(document, MetadataMode.ALL)).isGreaterThan(contentTokens);
+	}
+
+	@Test
+	public void modelEncodings() {
+		assertThat(JTokkitTokenCountEstimator.forModel("text-embedding-ada-002").estimate("Hello world")).isEqualTo(2);
+		assertThat(JTokkitTokenCountEstimator.forModel("unknown-model").estimate("Hello world")).isEqualTo(2);
+	}
+
+}
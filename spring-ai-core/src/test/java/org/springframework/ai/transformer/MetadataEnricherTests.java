@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.transformer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.SummaryMetadataEnricher.SummaryType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link KeywordMetadataEnricher} and {@link SummaryMetadataEnricher}
+ * execution.
+ */
+public class MetadataEnricherTests {
+
+	private final List<String> prompts = new ArrayList<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	@Test
+	public void enrichDocumentsConcurrently() {
+		ChatClient chatClient = chatClient(prompt -> "keywords of " + prompt.substring(0, 4));
+
+		List<Document> documents = documents(8);
+		new KeywordMetadataEnricher(chatClient, 3).withMaxConcurrency(4).apply(documents);
+
+		for (int i = 0; i < documents.size(); i++) {
+			assertThat(documents.get(i).getMetadata()).containsEntry("excerpt_keywords", "keywords of doc" + i);
+		}
+		assertThat(this.prompts).hasSize(8);
+		assertThat(this.maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	public void packDocumentsAndFallBackForMissingResults() {
+		ChatClient chatClient = chatClient(prompt -> prompt.contains("Document 1:") ? """
+				{"1": "alpha, beta", "2": "gamma, delta"}""" : "epsilon, zeta");
+
+		List<Document> documents = documents(3);
+		new KeywordMetadataEnricher(chatClient, 2).withBatchSize(3).apply(documents);
+
+		assertThat(documents.get(0).getMetadata()).containsEntry("excerpt_keywords", "alpha, beta");
+		assertThat(documents.get(1).getMetadata()).containsEntry("excerpt_keywords", "gamma, delta");
+		assertThat(documents.get(2).getMetadata()).containsEntry("excerpt_keywords", "epsilon, zeta");
+		assertThat(this.prompts).hasSize(2);
+		assertThat(this.prompts.get(1)).startsWith("doc2");
+	}
+
+	@Test
+	public void skipAlreadyEnrichedDocuments() {
+		ChatClient chatClient = chatClient(
+				prompt -> "summary of " + prompt.substring(prompt.indexOf("doc"), 4 + prompt.indexOf("doc")));
+
+		List<Document> documents = documents(3);
+		documents.get(0).getMetadata().put("section_summary", "existing summary");
+
+		new SummaryMetadataEnricher(chatClient, List.of(SummaryType.PREVIOUS)).apply(documents);
+
+		assertThat(this.prompts).hasSize(2);
+		assertThat(documents.get(0).getMetadata()).doesNotContainKeys("section_summary", "prev_section_summary");
+		assertThat(documents.get(1).getMetadata()).containsEntry("prev_section_summary", "existing summary")
+			.doesNotContainKey("section_summary");
+		assertThat(documents.get(2).getMetadata()).containsEntry("prev_section_summary", "summary of doc1");
+	}
+
+	private List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document("doc" + i + " content"));
+		}
+		return documents;
+	}
+
+	private ChatClient chatClient(Function<String, String> answer) {
+		return new ChatClient() {
+
+			@Override
+			public ChatResponse call(Prompt prompt) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Mono<ChatResponse> callAsync(Prompt prompt) {
+				return Mono.defer(() -> {
+					synchronized (prompts) {
+						prompts.add(prompt.getContents());
+					}
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					return Mono.delay(Duration.ofMillis(20)).map(tick -> {
+						// completed before the response is emitted and the next request
+						// starts
+						inFlight.decrementAndGet();
+						return new ChatResponse(List.of(new Generation(answer.apply(prompt.getContents()))));
+					});
+				});
+			}
+		};
+	}
+
+}
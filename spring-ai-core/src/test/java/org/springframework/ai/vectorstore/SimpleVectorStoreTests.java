@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.SimpleVectorStore.Quantization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SimpleVectorStoreTests {
+
+	@Test
+	public void batchSimilaritySearchEmbedsAllQueriesAtOnce() {
+		EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+		Document spring = new Document("Spring");
+		Document summer = new Document("Summer");
+		when(embeddingClient.embed(spring)).thenReturn(List.of(1.0, 0.0));
+		when(embeddingClient.embed(summer)).thenReturn(List.of(0.0, 1.0));
+		when(embeddingClient.embed(List.of("spring?", "summer?")))
+			.thenReturn(List.of(List.of(0.9, 0.1), List.of(0.1, 0.9)));
+
+		SimpleVectorStore vectorStore = new SimpleVectorStore(embeddingClient);
+		vectorStore.add(List.of(spring, summer));
+
+		List<List<Document>> results = vectorStore.similaritySearch(
+				List.of(SearchRequest.query("spring?").withTopK(1), SearchRequest.query("summer?").withTopK(1)));
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0)).containsExactly(spring);
+		assertThat(results.get(1)).containsExactly(summer);
+
+		verify(embeddingClient, times(1)).embed(anyList());
+		verify(embeddingClient, never()).embed(anyString());
+	}
+
+	@Test
+	public void asyncSimilaritySearch() {
+		EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+		Document spring = new Document("Spring");
+		when(embeddingClient.embed(spring)).thenReturn(List.of(1.0, 0.0));
+		when(embeddingClient.embed("spring?")).thenReturn(List.of(0.9, 0.1));
+
+		SimpleVectorStore vectorStore = new SimpleVectorStore(embeddingClient);
+
+		List<Document> results = vectorStore.addAsync(List.of(spring))
+			.then(vectorStore.similaritySearchAsync(SearchRequest.query("spring?")))
+			.block();
+
+		assertThat(results).containsExactly(spring);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = Quantization.class, names = { "INT8", "BINARY" })
+	public void quantizedSimilaritySearch(Quantization quantization) {
+		Random random = new Random(42);
+		Map<String, List<Double>> embeddings = new HashMap<>();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			Document document = new Document("document " + i);
+			embeddings.put(document.getContent(), randomEmbedding(random, 256));
+			documents.add(document);
+		}
+
+		EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+		when(embeddingClient.embed(any(Document.class)))
+			.thenAnswer(invocation -> embeddings.get(invocation.<Document>getArgument(0).getContent()));
+
+		SimpleVectorStore exactStore = new SimpleVectorStore(embeddingClient);
+		SimpleVectorStore quantizedStore = new SimpleVectorStore(embeddingClient, quantization);
+		exactStore.add(documents);
+		quantizedStore.add(documents);
+
+		// The added documents keep their full precision embeddings.
+		assertThat(documents).allSatisfy(
+				document -> assertThat(document.getEmbedding()).isSameAs(embeddings.get(document.getContent())));
+
+		for (int i = 0; i < 10; i++) {
+			// A query near a random document.
+			List<Double> query = new ArrayList<>(embeddings.get("document " + random.nextInt(500)));
+			query.replaceAll(value -> value + random.nextGaussian() * 0.3);
+			when(embeddingClient.embed("query " + i)).thenReturn(query);
+
+			SearchRequest request = SearchRequest.query("query " + i).withTopK(1);
+			assertThat(quantizedStore.similaritySearch(request)).isEqualTo(exactStore.similaritySearch(request));
+		}
+
+		when(embeddingClient.embed("none")).thenReturn(embeddings.get("document 0"));
+		assertThat(quantizedStore.similaritySearch(SearchRequest.query("none").withTopK(0))).isEmpty();
+
+		Document deleted = documents.get(0);
+		when(embeddingClient.embed("deleted")).thenReturn(embeddings.get(deleted.getContent()));
+		quantizedStore.delete(List.of(deleted.getId()));
+
+		assertThat(quantizedStore.similaritySearch(SearchRequest.query("deleted"))).doesNotContain(deleted);
+	}
+
+	private static List<Double> randomEmbedding(Random random, int dimensions) {
+		List<Double> embedding = new ArrayList<>(dimensions);
+		for (int i = 0; i < dimensions; i++) {
+			embedding.add(random.nextGaussian());
+		}
+		return embedding;
+	}
+
+}
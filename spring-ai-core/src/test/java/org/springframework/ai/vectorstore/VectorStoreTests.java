@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VectorStoreTests {
+
+	@Test
+	public void defaultBatchSimilaritySearchRunsTheSearchesConcurrently() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		VectorStore vectorStore = new VectorStore() {
+
+			@Override
+			public void add(List<Document> documents) {
+			}
+
+			@Override
+			public Optional<Boolean> delete(List<String> idList) {
+				return Optional.of(true);
+			}
+
+			@Override
+			public List<Document> similaritySearch(SearchRequest request) {
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(20);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				inFlight.decrementAndGet();
+				return List.of(new Document(request.getQuery()));
+			}
+
+		};
+
+		List<SearchRequest> requests = IntStream.range(0, 20).mapToObj(i -> SearchRequest.query("query " + i)).toList();
+		List<List<Document>> results = vectorStore.similaritySearch(requests);
+
+		assertThat(results).extracting(documents -> documents.get(0).getContent())
+			.containsExactlyElementsOf(requests.stream().map(SearchRequest::getQuery).toList());
+		assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(SimilaritySearches.MAX_CONCURRENT_SEARCHES);
+		assertThat(vectorStore.similaritySearch(List.of())).isEmpty();
+	}
+
+}
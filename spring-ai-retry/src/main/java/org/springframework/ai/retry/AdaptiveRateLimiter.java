@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RateLimiter} backed by two token buckets, one for requests and one for tokens,
+ * that are calibrated from the rate limits reported by the provider. Every reported
+ * {@link RateLimit} resets the bucket capacity to the limit and the available permits to
+ * the remaining value. The refill rate is derived from the reset time, the time the
+ * provider needs to replenish the consumed permits, and falls back to the limit per
+ * minute.
+ * <p>
+ * Until the first rate limit is reported the limiter lets all requests through. Once
+ * calibrated, a request that does not fit in the buckets reserves its permits and waits
+ * for the refill, so concurrent callers are queued in arrival order. A request that would
+ * have to wait longer than the maximum wait time is shed with a
+ * {@link RateLimitExceededException} instead.
+ */
+public class AdaptiveRateLimiter implements RateLimiter {
+
+	public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(60);
+
+	private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+	private final Bucket requests = new Bucket();
+
+	private final Bucket tokens = new Bucket();
+
+	private final long maxWaitNanos;
+
+	private final LongSupplier nanoClock;
+
+	public AdaptiveRateLimiter() {
+		this(DEFAULT_MAX_WAIT);
+	}
+
+	public AdaptiveRateLimiter(Duration maxWait) {
+		this(maxWait, System::nanoTime);
+	}
+
+	AdaptiveRateLimiter(Duration maxWait, LongSupplier nanoClock) {
+		Assert.notNull(maxWait, "Max wait must not be null");
+		Assert.isTrue(!maxWait.isNegative(), "Max wait must not be negative");
+		Assert.notNull(nanoClock, "Clock must not be null");
+		this.maxWaitNanos = maxWait.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	@Override
+	public void acquire(long tokens) {
+		long waitNanos = reserveNanos(tokens);
+		if (waitNanos < 0) {
+			throw new RateLimitExceededException(
+					"Rate limit would be exceeded for longer than " + Duration.ofNanos(this.maxWaitNanos));
+		}
+		if (waitNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RateLimitExceededException("Interrupted while waiting for the rate limit");
+			}
+		}
+	}
+
+	@Override
+	public Duration reserve(long tokens) {
+		long waitNanos = reserveNanos(tokens);
+		return (waitNanos < 0) ? null : Duration.ofNanos(waitNanos);
+	}
+
+	/**
+	 * Reserves one request and the given number of tokens.
+	 * @param tokens the estimated number of tokens.
+	 * @return the nanoseconds to wait before the request can be sent, or {@code -1} if
+	 * the request is shed and nothing was reserved.
+	 */
+	synchronized long reserveNanos(long tokens) {
+		long now = this.nanoClock.getAsLong();
+		this.requests.refill(now);
+		this.tokens.refill(now);
+
+		long waitNanos = Math.max(this.requests.waitNanos(1), this.tokens.waitNanos(tokens));
+		if (waitNanos > this.maxWaitNanos) {
+			return -1;
+		}
+		this.requests.take(1);
+		this.tokens.take(tokens);
+		return waitNanos;
+	}
+
+	@Override
+	public synchronized void update(RateLimit rateLimit) {
+		if (rateLimit == null) {
+			return;
+		}
+		long now = this.nanoClock.getAsLong();
+		this.requests.calibrate(rateLimit.getRequestsLimit(), rateLimit.getRequestsRemaining(),
+				rateLimit.getRequestsReset(), now);
+		this.tokens.calibrate(rateLimit.getTokensLimit(), rateLimit.getTokensRemaining(), rateLimit.getTokensReset(),
+				now);
+	}
+
+	private static class Bucket {
+
+		private boolean calibrated;
+
+		private double capacity;
+
+		private double available;
+
+		private double permitsPerNano;
+
+		private long lastRefillNanos;
+
+		void refill(long now) {
+			if (this.calibrated) {
+				this.available = Math.min(this.capacity,
+						this.available + (now - this.lastRefillNanos) * this.permitsPerNano);
+				this.lastRefillNanos = now;
+			}
+		}
+
+		long waitNanos(long permits) {
+			// Requests larger than the whole bucket only wait for a full bucket.
+			double required = Math.min(permits, this.capacity);
+			if (!this.calibrated || this.available >= required) {
+				return 0;
+			}
+			if (this.permitsPerNano <= 0) {
+				return Long.MAX_VALUE;
+			}
+			return (long) Math.ceil((required - this.available) / this.permitsPerNano);
+		}
+
+		void take(long permits) {
+			if (this.calibrated) {
+				this.available -= Math.min(permits, this.capacity);
+			}
+		}
+
+		void calibrate(Long limit, Long remaining, Duration reset, long now) {
+			if (limit == null || remaining == null || limit <= 0) {
+				return;
+			}
+			this.capacity = limit;
+			// The provider does not know about the reservations still waiting to be sent,
+			// keep them as debt on top of the reported remaining permits.
+			this.available = remaining + Math.min(0, this.available);
+			if (reset != null && !reset.isZero() && remaining < limit) {
+				this.permitsPerNano = (double) (limit - remaining) / reset.toNanos();
+			}
+			else if (!this.calibrated) {
+				this.permitsPerNano = (double) limit / DEFAULT_WINDOW.toNanos();
+			}
+			this.lastRefillNanos = now;
+			this.calibrated = true;
+		}
+
+	}
+
+}
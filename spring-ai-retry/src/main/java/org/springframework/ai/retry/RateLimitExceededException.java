@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+/**
+ * Thrown when a {@link RateLimiter} sheds a request because the provider's rate limit
+ * would not allow it to be sent within the maximum wait time. It is a
+ * {@link NonTransientAiException}, so that the shed requests are not retried, which would
+ * defeat the load shedding.
+ */
+public class RateLimitExceededException extends NonTransientAiException {
+
+	public RateLimitExceededException(String message) {
+		super(message);
+	}
+
+}
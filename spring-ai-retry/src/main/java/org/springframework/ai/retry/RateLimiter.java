@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+
+/**
+ * Client-side rate limiter consulted before a request is sent to an AI provider. The
+ * limiter is calibrated with the {@link RateLimit} reported by the provider in the
+ * response.
+ *
+ * @see AdaptiveRateLimiter
+ * @see RateLimiterRegistry
+ */
+public interface RateLimiter {
+
+	/**
+	 * Rate limiter that never waits and ignores the reported rate limits.
+	 */
+	RateLimiter NOOP = new RateLimiter() {
+
+		@Override
+		public void acquire(long tokens) {
+		}
+
+		@Override
+		public Duration reserve(long tokens) {
+			return Duration.ZERO;
+		}
+
+		@Override
+		public void update(RateLimit rateLimit) {
+		}
+
+	};
+
+	/**
+	 * Acquires one request and the given number of tokens, blocking until they are
+	 * available.
+	 * @param tokens the estimated number of tokens the request consumes.
+	 * @throws RateLimitExceededException if the permits are not available within the
+	 * limiter's maximum wait time. The request is shed and no permits are consumed.
+	 */
+	void acquire(long tokens);
+
+	/**
+	 * Reserves one request and the given number of tokens without blocking. The caller is
+	 * expected to wait for the returned delay before sending the request, e.g. with
+	 * {@code Mono.delay}, so reactive callers don't have to park a thread.
+	 * @param tokens the estimated number of tokens the request consumes.
+	 * @return the delay to wait before the request can be sent, or {@code null} if the
+	 * permits are not available within the limiter's maximum wait time. The request is
+	 * then shed and no permits are consumed.
+	 */
+	Duration reserve(long tokens);
+
+	/**
+	 * Calibrates the limiter with the rate limit state reported by the provider.
+	 * @param rateLimit the rate limit reported by the provider. Unknown values are
+	 * {@code null}.
+	 */
+	void update(RateLimit rateLimit);
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link RateLimiter}s shared by all clients of the same provider, model
+ * and API key. Providers enforce their rate limits per API key and model, so every client
+ * using the same combination must draw from the same limiter.
+ */
+public class RateLimiterRegistry {
+
+	/**
+	 * Registry that hands out the {@link RateLimiter#NOOP} limiter.
+	 */
+	public static final RateLimiterRegistry NOOP = new RateLimiterRegistry(() -> RateLimiter.NOOP);
+
+	private final Map<Key, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+	private final Supplier<RateLimiter> rateLimiterFactory;
+
+	/**
+	 * Creates a registry of {@link AdaptiveRateLimiter}s with the default maximum wait.
+	 */
+	public RateLimiterRegistry() {
+		this(AdaptiveRateLimiter::new);
+	}
+
+	/**
+	 * Creates a registry.
+	 * @param rateLimiterFactory creates the rate limiter for each new provider, API key
+	 * and model combination.
+	 */
+	public RateLimiterRegistry(Supplier<RateLimiter> rateLimiterFactory) {
+		Assert.notNull(rateLimiterFactory, "RateLimiter factory must not be null");
+		this.rateLimiterFactory = rateLimiterFactory;
+	}
+
+	/**
+	 * Returns the rate limiter shared by the given provider, API key and model, creating
+	 * it on first use.
+	 * @param provider the AI provider name, e.g. {@code openai}.
+	 * @param apiKey the API key the requests are sent with.
+	 * @param model the model the requests are sent to.
+	 * @return the shared rate limiter.
+	 */
+	public RateLimiter getRateLimiter(String provider, String apiKey, String model) {
+		if (this == NOOP) {
+			return RateLimiter.NOOP;
+		}
+		return this.rateLimiters.computeIfAbsent(new Key(provider, apiKey, model),
+				key -> this.rateLimiterFactory.get());
+	}
+
+	private record Key(String provider, String apiKey, String model) {
+
+		@Override
+		public String toString() {
+			return this.provider + "/" + this.model;
+		}
+
+	}
+
+}
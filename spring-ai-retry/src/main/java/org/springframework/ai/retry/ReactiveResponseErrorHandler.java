@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+/**
+ * WebClient counterpart of the
+ * {@link org.springframework.web.client.ResponseErrorHandler} of the blocking clients,
+ * for use with {@code ResponseSpec#onStatus}. Maps an error response to the exception
+ * that decides whether {@link ReactiveRetry} retries the request:
+ * <ul>
+ * <li>a status code listed in the excluded codes is a {@link NonTransientAiException};
+ * <li>a response that carries a {@code Retry-After} header, typically a 429 or a 503, is
+ * a {@link TransientAiException} with the advertised delay;
+ * <li>a 429 (too many requests) is a {@link TransientAiException};
+ * <li>other 4xx client errors are a {@link NonTransientAiException}, unless retrying on
+ * client errors is enabled;
+ * <li>any other error is a {@link TransientAiException}.
+ * </ul>
+ */
+public class ReactiveResponseErrorHandler implements Function<ClientResponse, Mono<? extends Throwable>> {
+
+	private final boolean onClientErrors;
+
+	private final Set<Integer> excludeOnHttpCodes;
+
+	/**
+	 * Create a new ReactiveResponseErrorHandler.
+	 * @param onClientErrors if true, 4xx client errors are retried too.
+	 * @param excludeOnHttpCodes status codes that are never retried.
+	 */
+	public ReactiveResponseErrorHandler(boolean onClientErrors, Collection<Integer> excludeOnHttpCodes) {
+		Assert.notNull(excludeOnHttpCodes, "ExcludeOnHttpCodes must not be null");
+		this.onClientErrors = onClientErrors;
+		this.excludeOnHttpCodes = Set.copyOf(excludeOnHttpCodes);
+	}
+
+	@Override
+	public Mono<? extends Throwable> apply(ClientResponse response) {
+		return response.bodyToMono(String.class).defaultIfEmpty("").map(error -> {
+			int statusCode = response.statusCode().value();
+			String message = String.format("%s - %s", statusCode, error);
+			if (this.excludeOnHttpCodes.contains(statusCode)) {
+				return new NonTransientAiException(message);
+			}
+			Duration retryAfter = RetryUtils
+				.parseRetryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+			if (retryAfter != null) {
+				return new TransientAiException(message, retryAfter);
+			}
+			if (statusCode == HttpStatus.TOO_MANY_REQUESTS.value()) {
+				return new TransientAiException(message);
+			}
+			if (!this.onClientErrors && response.statusCode().is4xxClientError()) {
+				return new NonTransientAiException(message);
+			}
+			return new TransientAiException(message);
+		});
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import org.springframework.core.codec.CodecException;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+/**
+ * Reactor {@link Retry} strategy for the reactive model calls. It is the reactive
+ * counterpart of the {@link RetryUtils#DEFAULT_RETRY_TEMPLATE}: failed attempts are
+ * retried with an exponential backoff, up to a maximum number of attempts.
+ * <p>
+ * Only transient failures are retried: a {@link TransientAiException} or a connection
+ * failure, i.e. a {@link WebClientRequestException}, a reactor-netty
+ * {@code PrematureCloseException} or a {@link ConnectException} cause. Failures to encode
+ * the request or decode the response, such as a {@link JsonProcessingException} or a
+ * {@link CodecException}, are never retried as they would fail again. The backoff delay
+ * is randomized by the jitter factor to spread the retries of concurrent callers. If the
+ * provider advertised a {@code Retry-After} delay, see
+ * {@link TransientAiException#getRetryAfter()}, that delay is used instead, capped by the
+ * maximum backoff interval.
+ * <p>
+ * Use {@link #retryBeforeFirstElement(Flux)} for streaming responses. It re-subscribes to
+ * the stream only as long as no element has been emitted, so a partially consumed
+ * response is never replayed to the subscriber.
+ */
+public class ReactiveRetry extends Retry {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRetry.class);
+
+	public static final double DEFAULT_JITTER = 0.5;
+
+	// Matched by name, as reactor-netty is not necessarily the WebClient connector.
+	private static final String PREMATURE_CLOSE_EXCEPTION = "reactor.netty.http.client.PrematureCloseException";
+
+	private final int maxAttempts;
+
+	private final Duration initialInterval;
+
+	private final double multiplier;
+
+	private final Duration maxInterval;
+
+	private final double jitter;
+
+	/**
+	 * Create a new ReactiveRetry.
+	 * @param maxAttempts maximum number of attempts, including the initial one.
+	 * @param initialInterval backoff delay before the first retry.
+	 * @param multiplier backoff interval multiplier.
+	 * @param maxInterval maximum backoff delay.
+	 * @param jitter jitter factor, between 0 and 1, applied to the backoff delay.
+	 */
+	public ReactiveRetry(int maxAttempts, Duration initialInterval, double multiplier, Duration maxInterval,
+			double jitter) {
+		Assert.isTrue(maxAttempts > 0, "Max attempts must be greater than 0");
+		Assert.notNull(initialInterval, "Initial interval must not be null");
+		Assert.isTrue(multiplier >= 1, "Multiplier must be greater than or equal to 1");
+		Assert.notNull(maxInterval, "Max interval must not be null");
+		Assert.isTrue(jitter >= 0 && jitter <= 1, "Jitter must be between 0 and 1");
+		this.maxAttempts = maxAttempts;
+		this.initialInterval = initialInterval;
+		this.multiplier = multiplier;
+		this.maxInterval = maxInterval;
+		this.jitter = jitter;
+	}
+
+	@Override
+	public Publisher<?> generateCompanion(Flux<RetrySignal> retrySignals) {
+		return this.companion(retrySignals, () -> true);
+	}
+
+	/**
+	 * Retry the given streaming response until its first element is emitted. Once the
+	 * stream has emitted, a failure is propagated as is, since retrying would replay the
+	 * already consumed part of the response.
+	 * @param <T> the stream element type.
+	 * @param source the cold stream to retry. Every retry re-subscribes to it.
+	 * @return the retrying stream.
+	 */
+	public <T> Flux<T> retryBeforeFirstElement(Flux<T> source) {
+		return Flux.defer(() -> {
+			AtomicBoolean emitted = new AtomicBoolean();
+			return source.doOnNext(element -> emitted.set(true))
+				.retryWhen(Retry.from(retrySignals -> this.companion(retrySignals, () -> !emitted.get())));
+		});
+	}
+
+	private Publisher<?> companion(Flux<RetrySignal> retrySignals, BooleanSupplier retryable) {
+		return retrySignals.concatMap(signal -> {
+			Throwable failure = signal.failure();
+			long retry = signal.totalRetries();
+			if (!retryable.getAsBoolean() || !isTransient(failure) || retry + 1 >= this.maxAttempts) {
+				return Mono.error(failure);
+			}
+			logger.warn("Retry error. Retry count:" + (retry + 1), failure);
+			return Mono.delay(this.delay(retry, failure)).thenReturn(retry);
+		});
+	}
+
+	/**
+	 * Package access for testing.
+	 */
+	Duration delay(long retry, Throwable failure) {
+		if (failure instanceof TransientAiException transientException && transientException.getRetryAfter() != null) {
+			return min(transientException.getRetryAfter(), this.maxInterval);
+		}
+		double backoff = this.initialInterval.toMillis() * Math.pow(this.multiplier, retry);
+		double spread = backoff * this.jitter;
+		if (spread > 0) {
+			backoff += ThreadLocalRandom.current().nextDouble(-spread, spread);
+		}
+		return min(Duration.ofMillis((long) Math.min(backoff, Long.MAX_VALUE)), this.maxInterval);
+	}
+
+	/**
+	 * Package access for testing.
+	 */
+	static boolean isTransient(Throwable failure) {
+		if (failure instanceof TransientAiException) {
+			return true;
+		}
+		boolean connectionFailure = false;
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof JsonProcessingException || cause instanceof CodecException) {
+				return false;
+			}
+			if (cause instanceof WebClientRequestException || cause instanceof ConnectException
+					|| PREMATURE_CLOSE_EXCEPTION.equals(cause.getClass().getName())) {
+				connectionFailure = true;
+			}
+		}
+		return connectionFailure;
+	}
+
+	private static Duration min(Duration a, Duration b) {
+		return (a.compareTo(b) <= 0) ? a : b;
+	}
+
+}
@@ -18,9 +18,15 @@ package org.springframework.ai.retry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
@@ -29,6 +35,7 @@ import org.springframework.retry.RetryContext;
 import org.springframework.retry.RetryListener;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 
 /**
@@ -55,6 +62,13 @@ public abstract class RetryUtils {
 		})
 		.build();
 
+	/**
+	 * Reactive counterpart of the {@link #DEFAULT_RETRY_TEMPLATE}, for use with
+	 * {@link Mono#retryWhen} and {@link ReactiveRetry#retryBeforeFirstElement}.
+	 */
+	public static final ReactiveRetry DEFAULT_REACTIVE_RETRY = new ReactiveRetry(10, Duration.ofMillis(2000), 5,
+			Duration.ofMillis(3 * 60000), ReactiveRetry.DEFAULT_JITTER);
+
 	public static final ResponseErrorHandler DEFAULT_RESPONSE_ERROR_HANDLER = new ResponseErrorHandler() {
 
 		@Override
@@ -81,4 +95,37 @@ public abstract class RetryUtils {
 		}
 	};
 
+	/**
+	 * WebClient counterpart of the {@link #DEFAULT_RESPONSE_ERROR_HANDLER}, for use with
+	 * {@code ResponseSpec#onStatus}.
+	 */
+	public static final ReactiveResponseErrorHandler DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER = new ReactiveResponseErrorHandler(
+			false, Set.of());
+
+	/**
+	 * Parse the value of a {@code Retry-After} header, either a number of seconds or an
+	 * HTTP date.
+	 * @param retryAfter the header value. Can be null.
+	 * @return the delay, or null if the value is missing or malformed.
+	 */
+	public static Duration parseRetryAfter(String retryAfter) {
+		if (!StringUtils.hasText(retryAfter)) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+		}
+		catch (NumberFormatException ex) {
+			// not delta-seconds, try the HTTP-date form
+		}
+		try {
+			Duration delay = Duration.between(Instant.now(),
+					ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+			return delay.isNegative() ? Duration.ZERO : delay;
+		}
+		catch (DateTimeParseException ex) {
+			return null;
+		}
+	}
+
 }
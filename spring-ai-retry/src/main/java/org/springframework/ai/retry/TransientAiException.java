@@ -15,6 +15,8 @@
  */
 package org.springframework.ai.retry;
 
+import java.time.Duration;
+
 /**
  * Root of the hierarchy of Model access exceptions that are considered transient - where
  * a previously failed operation might be able to succeed when the operation is retried
@@ -25,12 +27,35 @@ package org.springframework.ai.retry;
  */
 public class TransientAiException extends RuntimeException {
 
+	private final Duration retryAfter;
+
 	public TransientAiException(String message) {
-		super(message);
+		this(message, (Duration) null);
 	}
 
 	public TransientAiException(String message, Throwable cause) {
 		super(message, cause);
+		this.retryAfter = null;
+	}
+
+	/**
+	 * Create a new TransientAiException with the delay the provider asked for before the
+	 * operation is retried.
+	 * @param message the detail message.
+	 * @param retryAfter the delay advertised by the provider, e.g. through the
+	 * {@code Retry-After} response header. Can be null.
+	 */
+	public TransientAiException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * @return the delay the provider asked for before retrying, or null if the provider
+	 * did not advertise one.
+	 */
+	public Duration getRetryAfter() {
+		return this.retryAfter;
 	}
 
 }
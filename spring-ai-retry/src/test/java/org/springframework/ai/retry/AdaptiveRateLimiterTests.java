@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class AdaptiveRateLimiterTests {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(Duration.ofSeconds(10), this.clock::get);
+
+	@Test
+	public void passThroughUntilCalibrated() {
+		for (int i = 0; i < 1000; i++) {
+			assertThat(this.rateLimiter.reserveNanos(100_000)).isZero();
+		}
+	}
+
+	@Test
+	public void waitsForTheRequestsRefill() {
+		// 60 requests per minute, all consumed and replenished within 60s.
+		this.rateLimiter.update(rateLimit(60L, 1L, Duration.ofSeconds(59), null, null, null));
+
+		assertThat(this.rateLimiter.reserveNanos(10)).isZero();
+		assertThat(this.rateLimiter.reserveNanos(10)).isCloseTo(Duration.ofSeconds(1).toNanos(), within(1000L));
+		assertThat(this.rateLimiter.reserveNanos(10)).isCloseTo(Duration.ofSeconds(2).toNanos(), within(1000L));
+
+		this.clock.addAndGet(Duration.ofSeconds(3).toNanos());
+		assertThat(this.rateLimiter.reserveNanos(10)).isCloseTo(0L, within(1000L));
+	}
+
+	@Test
+	public void waitsForTheTokensRefill() {
+		this.rateLimiter.update(rateLimit(null, null, null, 1000L, 0L, Duration.ofSeconds(10)));
+
+		assertThat(this.rateLimiter.reserveNanos(500)).isCloseTo(Duration.ofSeconds(5).toNanos(), within(1000L));
+	}
+
+	@Test
+	public void reservesWithoutBlocking() {
+		this.rateLimiter.update(rateLimit(null, null, null, 1000L, 0L, Duration.ofSeconds(10)));
+
+		assertThat(this.rateLimiter.reserve(500)).isCloseTo(Duration.ofSeconds(5), Duration.ofNanos(1000));
+		assertThat(this.rateLimiter.reserve(500)).isCloseTo(Duration.ofSeconds(10), Duration.ofNanos(1000));
+		assertThat(this.rateLimiter.reserve(100)).isNull();
+	}
+
+	@Test
+	public void shedsRequestsBeyondTheMaxWait() {
+		this.rateLimiter.update(rateLimit(null, null, null, 1000L, 0L, Duration.ofSeconds(60)));
+
+		assertThat(this.rateLimiter.reserveNanos(500)).isEqualTo(-1);
+		assertThat(this.rateLimiter.reserve(500)).isNull();
+		assertThatThrownBy(() -> this.rateLimiter.acquire(500)).isInstanceOf(RateLimitExceededException.class);
+
+		// shed requests don't consume permits
+		assertThat(this.rateLimiter.reserveNanos(100)).isCloseTo(Duration.ofSeconds(6).toNanos(), within(1000L));
+	}
+
+	@Test
+	public void queuedReservationsSurviveCalibration() {
+		this.rateLimiter.update(rateLimit(null, null, null, 1000L, 0L, Duration.ofSeconds(10)));
+		assertThat(this.rateLimiter.reserveNanos(200)).isCloseTo(Duration.ofSeconds(2).toNanos(), within(1000L));
+
+		// The provider doesn't know about the queued 200 tokens yet.
+		this.rateLimiter.update(rateLimit(null, null, null, 1000L, 100L, Duration.ofSeconds(9)));
+		assertThat(this.rateLimiter.reserveNanos(100)).isCloseTo(Duration.ofSeconds(2).toNanos(), within(1000L));
+	}
+
+	private static RateLimit rateLimit(Long requestsLimit, Long requestsRemaining, Duration requestsReset,
+			Long tokensLimit, Long tokensRemaining, Duration tokensReset) {
+		RateLimit rateLimit = mock(RateLimit.class);
+		given(rateLimit.getRequestsLimit()).willReturn(requestsLimit);
+		given(rateLimit.getRequestsRemaining()).willReturn(requestsRemaining);
+		given(rateLimit.getRequestsReset()).willReturn(requestsReset);
+		given(rateLimit.getTokensLimit()).willReturn(tokensLimit);
+		given(rateLimit.getTokensRemaining()).willReturn(tokensRemaining);
+		given(rateLimit.getTokensReset()).willReturn(tokensReset);
+		return rateLimit;
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReactiveRetryTests {
+
+	private final ReactiveRetry retry = new ReactiveRetry(3, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0);
+
+	@Test
+	public void retriesTransientFailuresUpToMaxAttempts() {
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> call = Mono.fromCallable(() -> {
+			attempts.incrementAndGet();
+			throw new TransientAiException("503 - unavailable");
+		});
+
+		assertThatThrownBy(() -> call.retryWhen(this.retry).block()).isInstanceOf(TransientAiException.class)
+			.hasMessage("503 - unavailable");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	public void doesNotRetryNonTransientFailures() {
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> call = Mono.fromCallable(() -> {
+			attempts.incrementAndGet();
+			throw new NonTransientAiException("401 - unauthorized");
+		});
+
+		assertThatThrownBy(() -> call.retryWhen(this.retry).block()).isInstanceOf(NonTransientAiException.class);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	public void retriesConnectionFailuresOnly() {
+		assertThat(ReactiveRetry.isTransient(new ConnectException("Connection refused"))).isTrue();
+		assertThat(ReactiveRetry.isTransient(new WebClientRequestException(new IOException("Connection reset"),
+				HttpMethod.POST, URI.create("http://localhost"), new HttpHeaders())))
+			.isTrue();
+		assertThat(ReactiveRetry.isTransient(new IOException("Broken pipe"))).isFalse();
+		assertThat(ReactiveRetry.isTransient(new JsonParseException((JsonParser) null, "Unexpected character")))
+			.isFalse();
+		assertThat(ReactiveRetry.isTransient(new DecodingException("JSON decoding error",
+				new JsonParseException((JsonParser) null, "Unexpected character"))))
+			.isFalse();
+		assertThat(ReactiveRetry.isTransient(new WebClientRequestException(new EncodingException("JSON encoding error"),
+				HttpMethod.POST, URI.create("http://localhost"), new HttpHeaders())))
+			.isFalse();
+	}
+
+	@Test
+	public void retriesStreamThatFailsBeforeTheFirstElement() {
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> stream = Flux.defer(() -> (attempts.incrementAndGet() < 2)
+				? Flux.error(new ConnectException("Connection refused")) : Flux.just("a", "b"));
+
+		assertThat(this.retry.retryBeforeFirstElement(stream).collectList().block()).containsExactly("a", "b");
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	public void doesNotRetryStreamThatFailsAfterTheFirstElement() {
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> stream = Flux.defer(() -> {
+			attempts.incrementAndGet();
+			return Flux.just("a").concatWith(Flux.error(new TransientAiException("Connection dropped")));
+		});
+
+		List<String> received = new ArrayList<>();
+		assertThatThrownBy(() -> this.retry.retryBeforeFirstElement(stream).doOnNext(received::add).blockLast())
+			.isInstanceOf(TransientAiException.class);
+		assertThat(received).containsExactly("a");
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	public void backoffGrowsExponentiallyUpToMaxInterval() {
+		RuntimeException failure = new TransientAiException("503");
+		assertThat(this.retry.delay(0, failure)).isEqualTo(Duration.ofMillis(1));
+		assertThat(this.retry.delay(1, failure)).isEqualTo(Duration.ofMillis(2));
+		assertThat(this.retry.delay(2, failure)).isEqualTo(Duration.ofMillis(4));
+		assertThat(this.retry.delay(10, failure)).isEqualTo(Duration.ofMillis(10));
+	}
+
+	@Test
+	public void jitterKeepsBackoffWithinBounds() {
+		ReactiveRetry jittered = new ReactiveRetry(10, Duration.ofMillis(1000), 2, Duration.ofSeconds(60), 0.5);
+		for (int i = 0; i < 100; i++) {
+			assertThat(jittered.delay(1, new TransientAiException("503"))).isBetween(Duration.ofMillis(1000),
+					Duration.ofMillis(3000));
+		}
+	}
+
+	@Test
+	public void honoursRetryAfter() {
+		ReactiveRetry slow = new ReactiveRetry(10, Duration.ofSeconds(10), 2, Duration.ofSeconds(60), 0.5);
+		assertThat(slow.delay(0, new TransientAiException("429", Duration.ofSeconds(3))))
+			.isEqualTo(Duration.ofSeconds(3));
+		assertThat(slow.delay(0, new TransientAiException("429", Duration.ofMinutes(5))))
+			.isEqualTo(Duration.ofSeconds(60));
+	}
+
+	@Test
+	public void parsesRetryAfterHeader() {
+		assertThat(RetryUtils.parseRetryAfter("20")).isEqualTo(Duration.ofSeconds(20));
+		assertThat(RetryUtils.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isEqualTo(Duration.ZERO);
+		assertThat(RetryUtils.parseRetryAfter("soon")).isNull();
+		assertThat(RetryUtils.parseRetryAfter(null)).isNull();
+	}
+
+	@Test
+	public void mapsErrorResponses() {
+		var defaults = RetryUtils.DEFAULT_REACTIVE_RESPONSE_ERROR_HANDLER;
+		assertThat(defaults.apply(response(HttpStatus.TOO_MANY_REQUESTS)).block())
+			.isInstanceOf(TransientAiException.class);
+		assertThat(defaults.apply(response(HttpStatus.SERVICE_UNAVAILABLE)).block())
+			.isInstanceOf(TransientAiException.class);
+		assertThat(defaults.apply(response(HttpStatus.UNAUTHORIZED)).block())
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessage("401 - error");
+		assertThat(defaults
+			.apply(ClientResponse.create(HttpStatus.BAD_REQUEST).header(HttpHeaders.RETRY_AFTER, "20").build())
+			.block()).isInstanceOfSatisfying(TransientAiException.class,
+					e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(20)));
+
+		var configured = new ReactiveResponseErrorHandler(true, List.of(503));
+		assertThat(configured.apply(response(HttpStatus.UNAUTHORIZED)).block())
+			.isInstanceOf(TransientAiException.class);
+		assertThat(configured.apply(response(HttpStatus.SERVICE_UNAVAILABLE)).block())
+			.isInstanceOf(NonTransientAiException.class);
+	}
+
+	private static ClientResponse response(HttpStatus status) {
+		return ClientResponse.create(status).body("error").build();
+	}
+
+}
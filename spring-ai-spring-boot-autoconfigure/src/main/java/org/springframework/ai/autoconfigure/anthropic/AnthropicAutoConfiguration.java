@@ -18,6 +18,8 @@ package org.springframework.ai.autoconfigure.anthropic;
 import org.springframework.ai.anthropic.AnthropicChatClient;
 import org.springframework.ai.anthropic.api.AnthropicApi;
 import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -43,17 +45,19 @@ public class AnthropicAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public AnthropicApi anthropicApi(AnthropicConnectionProperties connectionProperties,
-			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
 
 		return new AnthropicApi(connectionProperties.getBaseUrl(), connectionProperties.getApiKey(),
-				connectionProperties.getVersion(), restClientBuilder, responseErrorHandler);
+				connectionProperties.getVersion(), restClientBuilder, responseErrorHandler,
+				reactiveResponseErrorHandler);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	public AnthropicChatClient anthropicChatClient(AnthropicApi anthropicApi, AnthropicChatProperties chatProperties,
-			RetryTemplate retryTemplate) {
-		return new AnthropicChatClient(anthropicApi, chatProperties.getOptions(), retryTemplate);
+			RetryTemplate retryTemplate, ReactiveRetry reactiveRetry) {
+		return new AnthropicChatClient(anthropicApi, chatProperties.getOptions(), retryTemplate, reactiveRetry);
 	}
 
 }
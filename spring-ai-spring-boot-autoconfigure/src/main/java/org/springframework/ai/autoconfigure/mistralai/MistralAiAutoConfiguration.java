@@ -23,6 +23,8 @@ import org.springframework.ai.mistralai.MistralAiEmbeddingClient;
 import org.springframework.ai.mistralai.api.MistralAiApi;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackContext;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -55,14 +57,15 @@ public class MistralAiAutoConfiguration {
 			matchIfMissing = true)
 	public MistralAiEmbeddingClient mistralAiEmbeddingClient(MistralAiCommonProperties commonProperties,
 			MistralAiEmbeddingProperties embeddingProperties, RestClient.Builder restClientBuilder,
-			RetryTemplate retryTemplate, ResponseErrorHandler responseErrorHandler) {
+			RetryTemplate retryTemplate, ReactiveRetry reactiveRetry, ResponseErrorHandler responseErrorHandler,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
 
 		var mistralAiApi = mistralAiApi(embeddingProperties.getApiKey(), commonProperties.getApiKey(),
 				embeddingProperties.getBaseUrl(), commonProperties.getBaseUrl(), restClientBuilder,
-				responseErrorHandler);
+				responseErrorHandler, reactiveResponseErrorHandler);
 
 		return new MistralAiEmbeddingClient(mistralAiApi, embeddingProperties.getMetadataMode(),
-				embeddingProperties.getOptions(), retryTemplate);
+				embeddingProperties.getOptions(), retryTemplate, reactiveRetry);
 	}
 
 	@Bean
@@ -72,21 +75,24 @@ public class MistralAiAutoConfiguration {
 	public MistralAiChatClient mistralAiChatClient(MistralAiCommonProperties commonProperties,
 			MistralAiChatProperties chatProperties, RestClient.Builder restClientBuilder,
 			List<FunctionCallback> toolFunctionCallbacks, FunctionCallbackContext functionCallbackContext,
-			RetryTemplate retryTemplate, ResponseErrorHandler responseErrorHandler) {
+			RetryTemplate retryTemplate, ReactiveRetry reactiveRetry, ResponseErrorHandler responseErrorHandler,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
 
 		var mistralAiApi = mistralAiApi(chatProperties.getApiKey(), commonProperties.getApiKey(),
-				chatProperties.getBaseUrl(), commonProperties.getBaseUrl(), restClientBuilder, responseErrorHandler);
+				chatProperties.getBaseUrl(), commonProperties.getBaseUrl(), restClientBuilder, responseErrorHandler,
+				reactiveResponseErrorHandler);
 
 		if (!CollectionUtils.isEmpty(toolFunctionCallbacks)) {
 			chatProperties.getOptions().getFunctionCallbacks().addAll(toolFunctionCallbacks);
 		}
 
 		return new MistralAiChatClient(mistralAiApi, chatProperties.getOptions(), functionCallbackContext,
-				retryTemplate);
+				retryTemplate, reactiveRetry);
 	}
 
 	private MistralAiApi mistralAiApi(String apiKey, String commonApiKey, String baseUrl, String commonBaseUrl,
-			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
 
 		var resolvedApiKey = StringUtils.hasText(apiKey) ? apiKey : commonApiKey;
 		var resoledBaseUrl = StringUtils.hasText(baseUrl) ? baseUrl : commonBaseUrl;
@@ -94,7 +100,8 @@ public class MistralAiAutoConfiguration {
 		Assert.hasText(resolvedApiKey, "Mistral API key must be set");
 		Assert.hasText(resoledBaseUrl, "Mistral base URL must be set");
 
-		return new MistralAiApi(resoledBaseUrl, resolvedApiKey, restClientBuilder, responseErrorHandler);
+		return new MistralAiApi(resoledBaseUrl, resolvedApiKey, restClientBuilder, responseErrorHandler,
+				reactiveResponseErrorHandler);
 	}
 
 	@Bean
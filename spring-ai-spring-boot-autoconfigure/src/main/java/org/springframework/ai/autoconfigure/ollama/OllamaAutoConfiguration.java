@@ -15,9 +15,12 @@
  */
 package org.springframework.ai.autoconfigure.ollama;
 
+import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
 import org.springframework.ai.ollama.OllamaChatClient;
 import org.springframework.ai.ollama.OllamaEmbeddingClient;
 import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -34,7 +37,7 @@ import org.springframework.web.client.RestClient;
  * @author Eddú Meléndez
  * @since 0.8.0
  */
-@AutoConfiguration(after = RestClientAutoConfiguration.class)
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, SpringAiRetryAutoConfiguration.class })
 @ConditionalOnClass(OllamaApi.class)
 @EnableConfigurationProperties({ OllamaChatProperties.class, OllamaEmbeddingProperties.class,
 		OllamaConnectionProperties.class })
@@ -48,17 +51,19 @@ public class OllamaAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public OllamaApi ollamaApi(OllamaConnectionDetails connectionDetails, RestClient.Builder restClientBuilder) {
-		return new OllamaApi(connectionDetails.getBaseUrl(), restClientBuilder);
+	public OllamaApi ollamaApi(OllamaConnectionDetails connectionDetails, RestClient.Builder restClientBuilder,
+			ReactiveResponseErrorHandler reactiveResponseErrorHandler) {
+		return new OllamaApi(connectionDetails.getBaseUrl(), restClientBuilder, reactiveResponseErrorHandler);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnProperty(prefix = OllamaChatProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
 			matchIfMissing = true)
-	public OllamaChatClient ollamaChatClient(OllamaApi ollamaApi, OllamaChatProperties properties) {
+	public OllamaChatClient ollamaChatClient(OllamaApi ollamaApi, OllamaChatProperties properties,
+			ReactiveRetry reactiveRetry) {
 
-		return new OllamaChatClient(ollamaApi).withModel(properties.getModel())
+		return new OllamaChatClient(ollamaApi, reactiveRetry).withModel(properties.getModel())
 			.withDefaultOptions(properties.getOptions());
 	}
 
@@ -21,7 +21,11 @@ import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.ai.retry.AdaptiveRateLimiter;
 import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.RateLimiterRegistry;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.ai.retry.TransientAiException;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -66,6 +70,29 @@ public class SpringAiRetryAutoConfiguration {
 			.build();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public ReactiveRetry reactiveRetry(SpringAiRetryProperties properties) {
+		return new ReactiveRetry(properties.getMaxAttempts(), properties.getBackoff().getInitialInterval(),
+				properties.getBackoff().getMultiplier(), properties.getBackoff().getMaxInterval(),
+				properties.getBackoff().getJitter());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ReactiveResponseErrorHandler reactiveResponseErrorHandler(SpringAiRetryProperties properties) {
+		return new ReactiveResponseErrorHandler(properties.isOnClientErrors(), properties.getExcludeOnHttpCodes());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public RateLimiterRegistry rateLimiterRegistry(SpringAiRetryProperties properties) {
+		if (!properties.getRateLimiter().isEnabled()) {
+			return RateLimiterRegistry.NOOP;
+		}
+		return new RateLimiterRegistry(() -> new AdaptiveRateLimiter(properties.getRateLimiter().getMaxWait()));
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public ResponseErrorHandler responseErrorHandler(SpringAiRetryProperties properties) {
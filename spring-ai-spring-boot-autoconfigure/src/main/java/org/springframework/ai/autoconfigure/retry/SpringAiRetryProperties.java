@@ -19,6 +19,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -54,6 +55,12 @@ public class SpringAiRetryProperties {
 	 */
 	private List<Integer> excludeOnHttpCodes = new ArrayList<>();
 
+	/**
+	 * Client-side rate limiter properties.
+	 */
+	@NestedConfigurationProperty
+	private RateLimiter rateLimiter = new RateLimiter();
+
 	/**
 	 * Exponential Backoff properties.
 	 */
@@ -74,6 +81,12 @@ public class SpringAiRetryProperties {
 		 */
 		private Duration maxInterval = Duration.ofMillis(3 * 60000);
 
+		/**
+		 * Jitter factor, between 0 and 1, randomizing the backoff of the reactive
+		 * (streaming and async) calls.
+		 */
+		private double jitter = ReactiveRetry.DEFAULT_JITTER;
+
 		public Duration getInitialInterval() {
 			return initialInterval;
 		}
@@ -98,6 +111,48 @@ public class SpringAiRetryProperties {
 			this.maxInterval = maxInterval;
 		}
 
+		public double getJitter() {
+			return this.jitter;
+		}
+
+		public void setJitter(double jitter) {
+			this.jitter = jitter;
+		}
+
+	}
+
+	/**
+	 * Client-side rate limiter properties.
+	 */
+	public static class RateLimiter {
+
+		/**
+		 * Enable the client-side rate limiter calibrated from the provider's rate limit
+		 * response headers.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum time a request waits for the rate limit before it is rejected.
+		 */
+		private Duration maxWait = Duration.ofSeconds(60);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
 	}
 
 	public int getMaxAttempts() {
@@ -112,6 +167,10 @@ public class SpringAiRetryProperties {
 		return this.backoff;
 	}
 
+	public RateLimiter getRateLimiter() {
+		return this.rateLimiter;
+	}
+
 	public List<Integer> getExcludeOnHttpCodes() {
 		return this.excludeOnHttpCodes;
 	}
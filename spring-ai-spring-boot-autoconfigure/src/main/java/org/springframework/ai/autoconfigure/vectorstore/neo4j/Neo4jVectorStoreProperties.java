@@ -28,7 +28,7 @@ public class Neo4jVectorStoreProperties {
 
 	private String databaseName;
 
-	private int embeddingDimension = Neo4jVectorStore.DEFAULT_EMBEDDING_DIMENSION;
+	private int embeddingDimension = Neo4jVectorStore.INVALID_EMBEDDING_DIMENSION;
 
 	private Neo4jVectorStore.Neo4jDistanceType distanceType = Neo4jVectorStore.Neo4jDistanceType.COSINE;
 
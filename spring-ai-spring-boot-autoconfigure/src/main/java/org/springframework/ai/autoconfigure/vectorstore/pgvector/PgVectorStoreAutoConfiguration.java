@@ -19,6 +19,9 @@ import javax.sql.DataSource;
 
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.PgVectorStore;
+import org.springframework.ai.vectorstore.PgVectorStore.PgSearchOptions;
+import org.springframework.ai.vectorstore.PgVectorStore.PgVectorStoreConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -26,6 +29,8 @@ import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Christian Tzolov
@@ -38,10 +43,28 @@ public class PgVectorStoreAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public PgVectorStore vectorStore(JdbcTemplate jdbcTemplate, EmbeddingClient embeddingClient,
-			PgVectorStoreProperties properties) {
+			PgVectorStoreProperties properties, ObjectProvider<PlatformTransactionManager> transactionManager) {
 
-		return new PgVectorStore(jdbcTemplate, embeddingClient, properties.getDimensions(),
-				properties.getDistanceType(), properties.isRemoveExistingVectorStoreTable(), properties.getIndexType());
+		var config = PgVectorStoreConfig.builder()
+			.withDimensions(properties.getDimensions())
+			.withDistanceType(properties.getDistanceType())
+			.withRemoveExistingVectorStoreTable(properties.isRemoveExistingVectorStoreTable())
+			.withIndexType(properties.getIndexType())
+			.withParameterizedFilters(properties.isParameterizedFilters())
+			.withSchemaName(properties.getSchemaName())
+			.withVectorTableName(properties.getTableName())
+			.withHnswIndexOptions(properties.getHnswM(), properties.getHnswEfConstruction())
+			.withIvfflatLists(properties.getIvfflatLists())
+			.withCreateIndexConcurrently(properties.isCreateIndexConcurrently())
+			.withSearchOptions(new PgSearchOptions(properties.getHnswEfSearch(), properties.getIvfflatProbes()));
+
+		if (StringUtils.hasText(properties.getIndexName())) {
+			config.withIndexName(properties.getIndexName());
+		}
+
+		properties.getMetadataColumns().forEach(config::withMetadataColumn);
+
+		return new PgVectorStore(jdbcTemplate, embeddingClient, config.build(), transactionManager.getIfUnique());
 	}
 
 }
@@ -15,9 +15,13 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.pgvector;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.ai.vectorstore.PgVectorStore;
 import org.springframework.ai.vectorstore.PgVectorStore.PgDistanceType;
 import org.springframework.ai.vectorstore.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.PgVectorStore.PgMetadataColumnType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,6 +40,53 @@ public class PgVectorStoreProperties {
 
 	private boolean removeExistingVectorStoreTable = false;
 
+	/**
+	 * Send the filter values as bind parameters instead of inlining them in the SQL.
+	 */
+	private boolean parameterizedFilters = true;
+
+	/**
+	 * Hot metadata keys, and their SQL types, to materialize as indexed generated
+	 * columns.
+	 */
+	private Map<String, PgMetadataColumnType> metadataColumns = new LinkedHashMap<>();
+
+	private String schemaName = PgVectorStore.DEFAULT_SCHEMA_NAME;
+
+	private String tableName = PgVectorStore.VECTOR_TABLE_NAME;
+
+	/**
+	 * Name of the embedding index. Defaults to {@code <table-name>_embedding_idx}.
+	 */
+	private String indexName;
+
+	/**
+	 * HNSW max number of connections per layer. Zero keeps the pgvector default.
+	 */
+	private int hnswM = 0;
+
+	/**
+	 * HNSW candidate list size used to build the graph. Zero keeps the pgvector default.
+	 */
+	private int hnswEfConstruction = 0;
+
+	/**
+	 * HNSW candidate list size used for searches. Zero keeps the pgvector default.
+	 */
+	private int hnswEfSearch = 0;
+
+	/**
+	 * Number of IVFFlat lists. Zero keeps the pgvector default.
+	 */
+	private int ivfflatLists = 0;
+
+	/**
+	 * Number of IVFFlat lists probed by searches. Zero keeps the pgvector default.
+	 */
+	private int ivfflatProbes = 0;
+
+	private boolean createIndexConcurrently = false;
+
 	public int getDimensions() {
 		return dimensions;
 	}
@@ -68,4 +119,92 @@ public class PgVectorStoreProperties {
 		this.removeExistingVectorStoreTable = removeExistingVectorStoreTable;
 	}
 
+	public boolean isParameterizedFilters() {
+		return parameterizedFilters;
+	}
+
+	public void setParameterizedFilters(boolean parameterizedFilters) {
+		this.parameterizedFilters = parameterizedFilters;
+	}
+
+	public Map<String, PgMetadataColumnType> getMetadataColumns() {
+		return metadataColumns;
+	}
+
+	public void setMetadataColumns(Map<String, PgMetadataColumnType> metadataColumns) {
+		this.metadataColumns = metadataColumns;
+	}
+
+	public String getSchemaName() {
+		return schemaName;
+	}
+
+	public void setSchemaName(String schemaName) {
+		this.schemaName = schemaName;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public void setTableName(String tableName) {
+		this.tableName = tableName;
+	}
+
+	public String getIndexName() {
+		return indexName;
+	}
+
+	public void setIndexName(String indexName) {
+		this.indexName = indexName;
+	}
+
+	public int getHnswM() {
+		return hnswM;
+	}
+
+	public void setHnswM(int hnswM) {
+		this.hnswM = hnswM;
+	}
+
+	public int getHnswEfConstruction() {
+		return hnswEfConstruction;
+	}
+
+	public void setHnswEfConstruction(int hnswEfConstruction) {
+		this.hnswEfConstruction = hnswEfConstruction;
+	}
+
+	public int getHnswEfSearch() {
+		return hnswEfSearch;
+	}
+
+	public void setHnswEfSearch(int hnswEfSearch) {
+		this.hnswEfSearch = hnswEfSearch;
+	}
+
+	public int getIvfflatLists() {
+		return ivfflatLists;
+	}
+
+	public void setIvfflatLists(int ivfflatLists) {
+		this.ivfflatLists = ivfflatLists;
+	}
+
+	public int getIvfflatProbes() {
+		return ivfflatProbes;
+	}
+
+	public void setIvfflatProbes(int ivfflatProbes) {
+		this.ivfflatProbes = ivfflatProbes;
+	}
+
+	public boolean isCreateIndexConcurrently() {
+		return createIndexConcurrently;
+	}
+
+	public void setCreateIndexConcurrently(boolean createIndexConcurrently) {
+		this.createIndexConcurrently = createIndexConcurrently;
+	}
+
 }
@@ -17,6 +17,7 @@ package org.springframework.ai.autoconfigure.ollama;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -40,7 +41,8 @@ public class OllamaEmbeddingAutoConfigurationTests {
 				"spring.ai.ollama.embedding.options.topK=13"
 				// @formatter:on
 		)
-			.withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class, OllamaAutoConfiguration.class))
+			.withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class,
+					SpringAiRetryAutoConfiguration.class, OllamaAutoConfiguration.class))
 			.run(context -> {
 				var embeddingProperties = context.getBean(OllamaEmbeddingProperties.class);
 				var connectionProperties = context.getBean(OllamaConnectionProperties.class);
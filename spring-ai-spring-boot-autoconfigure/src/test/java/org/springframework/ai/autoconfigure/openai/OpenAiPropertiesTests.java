@@ -493,7 +493,8 @@ public class OpenAiPropertiesTests {
 
 				"spring.ai.openai.embedding.options.model=MODEL_XYZ",
 				"spring.ai.openai.embedding.options.encodingFormat=MyEncodingFormat",
-				"spring.ai.openai.embedding.options.user=userXYZ"
+				"spring.ai.openai.embedding.options.user=userXYZ",
+				"spring.ai.openai.embedding.options.dimensions=256"
 				)
 			// @formatter:on
 			.withConfiguration(AutoConfigurations.of(SpringAiRetryAutoConfiguration.class,
@@ -508,6 +509,7 @@ public class OpenAiPropertiesTests {
 				assertThat(embeddingProperties.getOptions().getModel()).isEqualTo("MODEL_XYZ");
 				assertThat(embeddingProperties.getOptions().getEncodingFormat()).isEqualTo("MyEncodingFormat");
 				assertThat(embeddingProperties.getOptions().getUser()).isEqualTo("userXYZ");
+				assertThat(embeddingProperties.getOptions().getDimensions()).isEqualTo(256);
 			});
 	}
 
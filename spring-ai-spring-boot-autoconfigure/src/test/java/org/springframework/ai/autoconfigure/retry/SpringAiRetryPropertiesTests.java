@@ -17,8 +17,14 @@ package org.springframework.ai.autoconfigure.retry;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.RateLimiterRegistry;
+import org.springframework.ai.retry.ReactiveResponseErrorHandler;
+import org.springframework.ai.retry.ReactiveRetry;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,6 +50,10 @@ public class SpringAiRetryPropertiesTests {
 				assertThat(retryProperties.getBackoff().getInitialInterval().toMillis()).isEqualTo(2000);
 				assertThat(retryProperties.getBackoff().getMultiplier()).isEqualTo(5);
 				assertThat(retryProperties.getBackoff().getMaxInterval().toMillis()).isEqualTo(3 * 60000);
+				assertThat(retryProperties.getBackoff().getJitter()).isEqualTo(0.5);
+				assertThat(retryProperties.getRateLimiter().isEnabled()).isFalse();
+				assertThat(retryProperties.getRateLimiter().getMaxWait().toSeconds()).isEqualTo(60);
+				assertThat(context.getBean(RateLimiterRegistry.class)).isSameAs(RateLimiterRegistry.NOOP);
 			});
 	}
 
@@ -57,7 +67,10 @@ public class SpringAiRetryPropertiesTests {
 				"spring.ai.retry.exclude-on-http-codes=404,500",
 				"spring.ai.retry.backoff.initial-interval=1000",
 				"spring.ai.retry.backoff.multiplier=2",
-				"spring.ai.retry.backoff.max-interval=60000" )
+				"spring.ai.retry.backoff.max-interval=60000",
+				"spring.ai.retry.backoff.jitter=0.2",
+				"spring.ai.retry.rate-limiter.enabled=true",
+				"spring.ai.retry.rate-limiter.max-wait=5s" )
 				// @formatter:on
 			.withConfiguration(AutoConfigurations.of(SpringAiRetryAutoConfiguration.class))
 			.run(context -> {
@@ -69,6 +82,14 @@ public class SpringAiRetryPropertiesTests {
 				assertThat(retryProperties.getBackoff().getInitialInterval().toMillis()).isEqualTo(1000);
 				assertThat(retryProperties.getBackoff().getMultiplier()).isEqualTo(2);
 				assertThat(retryProperties.getBackoff().getMaxInterval().toMillis()).isEqualTo(60000);
+				assertThat(retryProperties.getBackoff().getJitter()).isEqualTo(0.2);
+				assertThat(context.getBean(ReactiveRetry.class)).isNotNull();
+				assertThat(context.getBean(ReactiveResponseErrorHandler.class)
+					.apply(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build())
+					.block()).isInstanceOf(NonTransientAiException.class);
+				assertThat(retryProperties.getRateLimiter().isEnabled()).isTrue();
+				assertThat(retryProperties.getRateLimiter().getMaxWait().toSeconds()).isEqualTo(5);
+				assertThat(context.getBean(RateLimiterRegistry.class)).isNotSameAs(RateLimiterRegistry.NOOP);
 			});
 	}
 
@@ -35,6 +35,11 @@ public class PgVectorStorePropertiesTests {
 		assertThat(props.getDistanceType()).isEqualTo(PgDistanceType.COSINE_DISTANCE);
 		assertThat(props.getIndexType()).isEqualTo(PgIndexType.HNSW);
 		assertThat(props.isRemoveExistingVectorStoreTable()).isFalse();
+		assertThat(props.getSchemaName()).isEqualTo(PgVectorStore.DEFAULT_SCHEMA_NAME);
+		assertThat(props.getTableName()).isEqualTo(PgVectorStore.VECTOR_TABLE_NAME);
+		assertThat(props.getHnswEfSearch()).isZero();
+		assertThat(props.getIvfflatProbes()).isZero();
+		assertThat(props.isCreateIndexConcurrently()).isFalse();
 	}
 
 	@Test
@@ -45,11 +50,17 @@ public class PgVectorStorePropertiesTests {
 		props.setDistanceType(PgDistanceType.EUCLIDEAN_DISTANCE);
 		props.setIndexType(PgIndexType.IVFFLAT);
 		props.setRemoveExistingVectorStoreTable(true);
+		props.setSchemaName("ai");
+		props.setTableName("books");
+		props.setHnswEfSearch(100);
 
 		assertThat(props.getDimensions()).isEqualTo(1536);
 		assertThat(props.getDistanceType()).isEqualTo(PgDistanceType.EUCLIDEAN_DISTANCE);
 		assertThat(props.getIndexType()).isEqualTo(PgIndexType.IVFFLAT);
 		assertThat(props.isRemoveExistingVectorStoreTable()).isTrue();
+		assertThat(props.getSchemaName()).isEqualTo("ai");
+		assertThat(props.getTableName()).isEqualTo("books");
+		assertThat(props.getHnswEfSearch()).isEqualTo(100);
 	}
 
 }
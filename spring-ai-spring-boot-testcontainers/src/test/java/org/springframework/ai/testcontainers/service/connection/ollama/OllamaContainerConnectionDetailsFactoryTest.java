@@ -20,6 +20,7 @@ import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.autoconfigure.ollama.OllamaAutoConfiguration;
+import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
 import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.ai.ollama.OllamaEmbeddingClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -74,7 +75,8 @@ class OllamaContainerConnectionDetailsFactoryTest {
 	}
 
 	@Configuration(proxyBeanMethods = false)
-	@ImportAutoConfiguration({ RestClientAutoConfiguration.class, OllamaAutoConfiguration.class })
+	@ImportAutoConfiguration({ RestClientAutoConfiguration.class, SpringAiRetryAutoConfiguration.class,
+			OllamaAutoConfiguration.class })
 	static class Config {
 
 	}
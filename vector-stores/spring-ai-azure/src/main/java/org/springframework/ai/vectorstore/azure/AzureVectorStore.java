@@ -47,7 +47,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.EmbeddingVectorStore;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -64,7 +64,7 @@ import org.springframework.util.StringUtils;
  * @author Xiangyang Yu
  * @author Christian Tzolov
  */
-public class AzureVectorStore implements VectorStore, InitializingBean {
+public class AzureVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	private static final Logger logger = LoggerFactory.getLogger(AzureVectorStore.class);
 
@@ -275,9 +275,21 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
 
+		Assert.notNull(request, "The search request must not be null.");
+		return this.similaritySearch(request, this.embeddingClient.embed(request.getQuery()));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
+
 		Assert.notNull(request, "The search request must not be null.");
 
-		var searchEmbedding = toFloatList(embeddingClient.embed(request.getQuery()));
+		var searchEmbedding = toFloatList(queryEmbedding);
 
 		final var vectorQuery = new VectorizedQuery(searchEmbedding).setKNearestNeighborsCount(request.getTopK())
 			// Set the fields to compare the vector against. This is a comma-delimited
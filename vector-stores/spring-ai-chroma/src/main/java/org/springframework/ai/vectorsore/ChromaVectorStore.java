@@ -24,7 +24,7 @@ import java.util.Optional;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.EmbeddingVectorStore;
 import org.springframework.ai.vectorstore.filter.converter.ChromaFilterExpressionConverter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.beans.factory.InitializingBean;
@@ -43,7 +43,7 @@ import org.springframework.util.StringUtils;
  * for embedding calculations. For more information about how it does this, see the
  * official <a href="https://www.trychroma.com/">Chroma website</a>.
  */
-public class ChromaVectorStore implements VectorStore, InitializingBean {
+public class ChromaVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	public static final String DISTANCE_FIELD_NAME = "distance";
 
@@ -113,14 +113,22 @@ public class ChromaVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		String query = request.getQuery();
+		Assert.notNull(query, "Query string must not be null");
+		return this.similaritySearch(request, this.embeddingClient.embed(query));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> embedding) {
 
 		String nativeFilterExpression = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		String query = request.getQuery();
-		Assert.notNull(query, "Query string must not be null");
-
-		List<Double> embedding = this.embeddingClient.embed(query);
 		Map<String, Object> where = (StringUtils.hasText(nativeFilterExpression))
 				? JsonUtils.jsonToMap(nativeFilterExpression) : Map.of();
 		var queryRequest = new ChromaApi.QueryRequest(JsonUtils.toFloatList(embedding), request.getTopK(), where);
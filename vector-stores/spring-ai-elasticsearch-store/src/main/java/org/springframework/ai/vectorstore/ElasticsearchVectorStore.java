@@ -48,7 +48,7 @@ import java.util.stream.Collectors;
  * @author Jemin Huh
  * @since 1.0.0
  */
-public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
+public class ElasticsearchVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	// divided by 2 to get score in the range [0, 1]
 	public static final String COSINE_SIMILARITY_FUNCTION = "(cosineSimilarity(params.query_vector, 'embedding') + 1.0) / 2";
@@ -123,7 +123,18 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest searchRequest) {
 		Assert.notNull(searchRequest, "The search request must not be null.");
-		return similaritySearch(this.embeddingClient.embed(searchRequest.getQuery()), searchRequest.getTopK(),
+		return similaritySearch(searchRequest, this.embeddingClient.embed(searchRequest.getQuery()));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest searchRequest, List<Double> queryEmbedding) {
+		Assert.notNull(searchRequest, "The search request must not be null.");
+		return similaritySearch(queryEmbedding, searchRequest.getTopK(),
 				Double.valueOf(searchRequest.getSimilarityThreshold()).floatValue(),
 				searchRequest.getFilterExpression());
 	}
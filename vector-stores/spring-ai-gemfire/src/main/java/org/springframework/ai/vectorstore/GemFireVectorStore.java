@@ -40,6 +40,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
 
 /**
@@ -48,7 +50,7 @@ import reactor.util.annotation.NonNull;
  *
  * @author Geet Rawat
  */
-public class GemFireVectorStore implements VectorStore {
+public class GemFireVectorStore implements EmbeddingVectorStore {
 
 	public static final String QUERY = "/query";
 
@@ -415,6 +417,29 @@ public class GemFireVectorStore implements VectorStore {
 
 	@Override
 	public void add(List<Document> documents) {
+		this.addAsync(documents).block();
+	}
+
+	/**
+	 * Adds the documents without blocking on the GemFire REST call. The embedding client
+	 * is blocking, so the embeddings are computed on the bounded elastic scheduler.
+	 * @param documents the list of documents to store.
+	 * @return a {@link Mono} that completes when the documents are stored.
+	 */
+	@Override
+	public Mono<Void> addAsync(List<Document> documents) {
+		return Mono.fromCallable(() -> this.toEmbeddingsJson(documents))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(embeddingsJson -> client.post()
+				.uri("/" + indexName + EMBEDDINGS)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(embeddingsJson)
+				.retrieve()
+				.bodyToMono(Void.class)
+				.onErrorMap(WebClientException.class, this::handleHttpClientException));
+	}
+
+	private String toEmbeddingsJson(List<Document> documents) {
 		UploadRequest upload = new UploadRequest(documents.stream().map(document -> {
 			// Compute and assign an embedding to the document.
 			document.setEmbedding(this.embeddingClient.embed(document));
@@ -424,50 +449,72 @@ public class GemFireVectorStore implements VectorStore {
 		}).toList());
 
 		ObjectMapper objectMapper = new ObjectMapper();
-		String embeddingsJson = null;
 		try {
 			String embeddingString = objectMapper.writeValueAsString(upload);
-			embeddingsJson = embeddingString.substring("{\"embeddings\":".length());
+			return embeddingString.substring("{\"embeddings\":".length());
 		}
 		catch (JsonProcessingException e) {
 			throw new RuntimeException(String.format("Embedding JSON parsing error: %s", e.getMessage()));
 		}
+	}
 
-		client.post()
+	@Override
+	public Optional<Boolean> delete(List<String> idList) {
+		return this.deleteAsync(idList).block();
+	}
+
+	@Override
+	public Mono<Optional<Boolean>> deleteAsync(List<String> idList) {
+		return client.method(HttpMethod.DELETE)
 			.uri("/" + indexName + EMBEDDINGS)
-			.contentType(MediaType.APPLICATION_JSON)
-			.bodyValue(embeddingsJson)
+			.body(BodyInserters.fromValue(idList))
 			.retrieve()
 			.bodyToMono(Void.class)
-			.onErrorMap(WebClientException.class, this::handleHttpClientException)
-			.block();
+			.then(Mono.just(Optional.of(true)))
+			.onErrorResume(e -> {
+				logger.warn("Error removing embedding: " + e);
+				return Mono.just(Optional.of(false));
+			});
 	}
 
 	@Override
-	public Optional<Boolean> delete(List<String> idList) {
-		try {
-			client.method(HttpMethod.DELETE)
-				.uri("/" + indexName + EMBEDDINGS)
-				.body(BodyInserters.fromValue(idList))
-				.retrieve()
-				.bodyToMono(Void.class)
-				.block();
-		}
-		catch (Exception e) {
-			logger.warn("Error removing embedding: " + e);
-			return Optional.of(false);
-		}
-		return Optional.of(true);
+	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearchAsync(request).block();
 	}
 
 	@Override
-	public List<Document> similaritySearch(SearchRequest request) {
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
 		if (request.hasFilterExpression()) {
 			throw new UnsupportedOperationException("Gemfire does not support metadata filter expressions yet.");
 		}
-		List<Double> vector = this.embeddingClient.embed(request.getQuery());
-		List<Float> floatVector = vector.stream().map(Double::floatValue).toList();
+		return this.query(request, queryEmbedding).block();
+	}
 
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	/**
+	 * Searches without blocking on the GemFire REST call. The embedding client is
+	 * blocking, so the query embedding is computed on the bounded elastic scheduler.
+	 * @param request the search request.
+	 * @return a {@link Mono} of the documents that match the request.
+	 */
+	@Override
+	public Mono<List<Document>> similaritySearchAsync(SearchRequest request) {
+		if (request.hasFilterExpression()) {
+			return Mono
+				.error(new UnsupportedOperationException("Gemfire does not support metadata filter expressions yet."));
+		}
+
+		return Mono.fromCallable(() -> this.embeddingClient.embed(request.getQuery()))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(queryEmbedding -> this.query(request, queryEmbedding));
+	}
+
+	private Mono<List<Document>> query(SearchRequest request, List<Double> queryEmbedding) {
+		List<Float> floatVector = queryEmbedding.stream().map(Double::floatValue).toList();
 		return client.post()
 			.uri("/" + indexName + QUERY)
 			.contentType(MediaType.APPLICATION_JSON)
@@ -482,8 +529,7 @@ public class GemFireVectorStore implements VectorStore {
 				return new Document(r.key, content, metadata);
 			})
 			.collectList()
-			.onErrorMap(WebClientException.class, this::handleHttpClientException)
-			.block();
+			.onErrorMap(WebClientException.class, this::handleHttpClientException);
 	}
 
 	public void createIndex(String indexName) throws JsonProcessingException {
@@ -17,7 +17,10 @@ package org.springframework.ai.vectorstore;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -323,20 +326,69 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
 
-		String nativeFilterExpressions = (request.getFilterExpression() != null)
-				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
-
 		Assert.notNull(request.getQuery(), "Query string must not be null");
 
 		List<Double> embedding = this.embeddingClient.embed(request.getQuery());
 
+		return this.search(this.nativeFilterExpression(request), List.of(request), List.of(embedding)).get(0);
+	}
+
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+
+		requests.forEach(request -> Assert.notNull(request.getQuery(), "Query string must not be null"));
+
+		List<List<Double>> embeddings = this.embeddingClient
+			.embed(requests.stream().map(SearchRequest::getQuery).toList());
+
+		// A Milvus search applies the same topK and filter to all of its query vectors,
+		// so the requests are grouped by both and each group is sent as one search.
+		record SearchGroup(int topK, String filter) {
+		}
+
+		Map<SearchGroup, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			SearchRequest request = requests.get(i);
+			groups
+				.computeIfAbsent(new SearchGroup(request.getTopK(), this.nativeFilterExpression(request)),
+						group -> new ArrayList<>())
+				.add(i);
+		}
+
+		List<List<Document>> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+		groups.forEach((group, indexes) -> {
+			List<List<Document>> groupResults = this.search(group.filter(),
+					indexes.stream().map(requests::get).toList(), indexes.stream().map(embeddings::get).toList());
+			for (int i = 0; i < indexes.size(); i++) {
+				results.set(indexes.get(i), groupResults.get(i));
+			}
+		});
+		return results;
+	}
+
+	private String nativeFilterExpression(SearchRequest request) {
+		return (request.getFilterExpression() != null)
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+	}
+
+	/**
+	 * Searches all embeddings in a single Milvus search. The requests must share the same
+	 * topK and filter expression.
+	 */
+	private List<List<Document>> search(String nativeFilterExpressions, List<SearchRequest> requests,
+			List<List<Double>> embeddings) {
+
 		var searchParamBuilder = SearchParam.newBuilder()
 			.withCollectionName(this.config.collectionName)
 			.withConsistencyLevel(ConsistencyLevelEnum.STRONG)
 			.withMetricType(this.config.metricType)
 			.withOutFields(SEARCH_OUTPUT_FIELDS)
-			.withTopK(request.getTopK())
-			.withVectors(List.of(toFloatList(embedding)))
+			.withTopK(requests.get(0).getTopK())
+			.withVectors(embeddings.stream().map(this::toFloatList).toList())
 			.withVectorFieldName(EMBEDDING_FIELD_NAME);
 
 		if (StringUtils.hasText(nativeFilterExpressions)) {
@@ -351,18 +403,23 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 
 		SearchResultsWrapper wrapperSearch = new SearchResultsWrapper(respSearch.getData().getResults());
 
-		return wrapperSearch.getRowRecords(0)
-			.stream()
-			.filter(rowRecord -> getResultSimilarity(rowRecord) >= request.getSimilarityThreshold())
-			.map(rowRecord -> {
-				String docId = (String) rowRecord.get(DOC_ID_FIELD_NAME);
-				String content = (String) rowRecord.get(CONTENT_FIELD_NAME);
-				JSONObject metadata = (JSONObject) rowRecord.get(METADATA_FIELD_NAME);
-				// inject the distance into the metadata.
-				metadata.put(DISTANCE_FIELD_NAME, 1 - getResultSimilarity(rowRecord));
-				return new Document(docId, content, metadata.getInnerMap());
-			})
-			.toList();
+		List<List<Document>> results = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			double similarityThreshold = requests.get(i).getSimilarityThreshold();
+			results.add(wrapperSearch.getRowRecords(i)
+				.stream()
+				.filter(rowRecord -> getResultSimilarity(rowRecord) >= similarityThreshold)
+				.map(rowRecord -> {
+					String docId = (String) rowRecord.get(DOC_ID_FIELD_NAME);
+					String content = (String) rowRecord.get(CONTENT_FIELD_NAME);
+					JSONObject metadata = (JSONObject) rowRecord.get(METADATA_FIELD_NAME);
+					// inject the distance into the metadata.
+					metadata.put(DISTANCE_FIELD_NAME, 1 - getResultSimilarity(rowRecord));
+					return new Document(docId, content, metadata.getInnerMap());
+				})
+				.toList());
+		}
+		return results;
 	}
 
 	private float getResultSimilarity(RowRecord rowRecord) {
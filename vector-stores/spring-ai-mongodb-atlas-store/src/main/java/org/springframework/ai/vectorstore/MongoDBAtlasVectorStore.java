@@ -38,7 +38,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
  * @author Chris Smith
  * @since 1.0.0
  */
-public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
+public class MongoDBAtlasVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	public static final String ID_FIELD_NAME = "_id";
 
@@ -82,8 +82,28 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 		if (!mongoTemplate.collectionExists(this.config.collectionName)) {
 			mongoTemplate.createCollection(this.config.collectionName);
 		}
-		// Create search index, command doesn't do anything if already existing
-		mongoTemplate.executeCommand(createSearchIndex());
+		// Create the search index if it does not exist. Checking first avoids computing
+		// the embedding dimensions, which may require an embedding call, on every start.
+		if (!searchIndexExists()) {
+			mongoTemplate.executeCommand(createSearchIndex());
+		}
+	}
+
+	private boolean searchIndexExists() {
+		try {
+			for (org.bson.Document index : this.mongoTemplate.getCollection(this.config.collectionName)
+				.listSearchIndexes()) {
+				if (this.config.vectorIndexName.equals(index.getString("name"))) {
+					return true;
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			// e.g. the deployment doesn't support listing the search indexes, fall back
+			// to
+			// the create command that doesn't do anything if the index already exists.
+		}
+		return false;
 	}
 
 	/**
@@ -152,11 +172,20 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearch(request, this.embeddingClient.embed(request.getQuery()));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
 
 		String nativeFilterExpressions = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		List<Double> queryEmbedding = this.embeddingClient.embed(request.getQuery());
 		var vectorSearch = new VectorSearchAggregation(queryEmbedding, this.config.pathName, this.config.numCandidates,
 				this.config.vectorIndexName, request.getTopK(), nativeFilterExpressions);
 
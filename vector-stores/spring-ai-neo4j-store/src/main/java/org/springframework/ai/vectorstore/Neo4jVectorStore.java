@@ -19,6 +19,8 @@ import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Values;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.filter.Neo4jVectorFilterExpressionConverter;
@@ -35,7 +37,7 @@ import java.util.function.Predicate;
  * @author Gerrit Meier
  * @author Michael Simons
  */
-public class Neo4jVectorStore implements VectorStore, InitializingBean {
+public class Neo4jVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	/**
 	 * An enum to configure the distance function used in the Neo4j vector index.
@@ -113,7 +115,7 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 			private String databaseName;
 
-			private int embeddingDimension = DEFAULT_EMBEDDING_DIMENSION;
+			private int embeddingDimension = INVALID_EMBEDDING_DIMENSION;
 
 			private Neo4jDistanceType distanceType = Neo4jDistanceType.COSINE;
 
@@ -142,14 +144,17 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 			}
 
 			/**
-			 * Configures the size of the embedding. Defaults to {@literal 1536}, inline
-			 * with OpenAIs embeddings.
+			 * Configures the size of the embedding. If not set (or negative) the
+			 * dimensions are computed from the embedding client, falling back to
+			 * {@literal 1536}, inline with OpenAIs embeddings.
 			 * @param newEmbeddingDimension The dimension of the embedding
 			 * @return this builder
 			 */
 			public Builder withEmbeddingDimension(int newEmbeddingDimension) {
 
-				Assert.isTrue(newEmbeddingDimension >= 1 && newEmbeddingDimension <= 2048,
+				Assert.isTrue(
+						newEmbeddingDimension == INVALID_EMBEDDING_DIMENSION
+								|| (newEmbeddingDimension >= 1 && newEmbeddingDimension <= 2048),
 						"Dimension has to be withing the boundaries 1 and 2048 (inclusively)");
 
 				this.embeddingDimension = newEmbeddingDimension;
@@ -254,8 +259,12 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 	}
 
+	private static final Logger logger = LoggerFactory.getLogger(Neo4jVectorStore.class);
+
 	public static final int DEFAULT_EMBEDDING_DIMENSION = 1536;
 
+	public static final int INVALID_EMBEDDING_DIMENSION = -1;
+
 	public static final String DEFAULT_LABEL = "Document";
 
 	public static final String DEFAULT_INDEX_NAME = "spring-ai-document-index";
@@ -325,11 +334,21 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearch(request, this.embeddingClient.embed(request.getQuery()));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
 		Assert.isTrue(request.getTopK() > 0, "The number of documents to returned must be greater than zero");
 		Assert.isTrue(request.getSimilarityThreshold() >= 0 && request.getSimilarityThreshold() <= 1,
 				"The similarity score is bounded between 0 and 1; least to most similar respectively.");
 
-		var embedding = Values.value(toFloatArray(this.embeddingClient.embed(request.getQuery())));
+		var embedding = Values.value(toFloatArray(queryEmbedding));
 		try (var session = this.driver.session(this.config.sessionConfig)) {
 			StringBuilder condition = new StringBuilder("score >= $threshold");
 			if (request.hasFilterExpression()) {
@@ -366,12 +385,29 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 							 `vector.similarity_function`: '%s'
 							}}
 					""".formatted(this.config.indexName, this.config.label, this.config.embeddingProperty,
-					this.config.embeddingDimension, this.config.distanceType.name);
+					this.embeddingDimensions(), this.config.distanceType.name);
 			session.run(statement).consume();
 			session.run("CALL db.awaitIndexes()").consume();
 		}
 	}
 
+	int embeddingDimensions() {
+		if (this.config.embeddingDimension != INVALID_EMBEDDING_DIMENSION) {
+			return this.config.embeddingDimension;
+		}
+		try {
+			int embeddingDimensions = this.embeddingClient.dimensions();
+			if (embeddingDimensions > 0) {
+				return embeddingDimensions;
+			}
+		}
+		catch (Exception e) {
+			logger.warn("Failed to obtain the embedding dimensions from the embedding client and fall backs to default:"
+					+ DEFAULT_EMBEDDING_DIMENSION, e);
+		}
+		return DEFAULT_EMBEDDING_DIMENSION;
+	}
+
 	private Map<String, Object> documentToRecord(Document document) {
 		var embedding = this.embeddingClient.embed(document);
 		document.setEmbedding(embedding);
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Writes vector store rows in the PostgreSQL binary {@code COPY} format
+ * (https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4). The rows have
+ * the {@code (ordinal int8, id uuid, content text, metadata json, embedding vector)}
+ * layout. The embedding is encoded in the pgvector binary representation: the int16
+ * dimensions, an unused int16 and the float4 components.
+ */
+class PgCopyBinaryWriter {
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+	private static final short FIELD_COUNT = 5;
+
+	private final DataOutputStream out;
+
+	PgCopyBinaryWriter(OutputStream out) {
+		this.out = new DataOutputStream(out);
+	}
+
+	void writeHeader() throws IOException {
+		this.out.write(SIGNATURE);
+		// flags
+		this.out.writeInt(0);
+		// header extension length
+		this.out.writeInt(0);
+	}
+
+	void writeRow(long ordinal, UUID id, String content, String metadata, float[] embedding) throws IOException {
+		this.out.writeShort(FIELD_COUNT);
+
+		this.out.writeInt(8);
+		this.out.writeLong(ordinal);
+
+		this.out.writeInt(16);
+		this.out.writeLong(id.getMostSignificantBits());
+		this.out.writeLong(id.getLeastSignificantBits());
+
+		this.writeText(content);
+		this.writeText(metadata);
+
+		this.out.writeInt(4 + 4 * embedding.length);
+		this.out.writeShort(embedding.length);
+		this.out.writeShort(0);
+		for (float value : embedding) {
+			this.out.writeFloat(value);
+		}
+	}
+
+	void writeTrailer() throws IOException {
+		this.out.writeShort(-1);
+		this.out.flush();
+	}
+
+	private void writeText(String text) throws IOException {
+		if (text == null) {
+			this.out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		this.out.writeInt(bytes.length);
+		this.out.write(bytes);
+	}
+
+}
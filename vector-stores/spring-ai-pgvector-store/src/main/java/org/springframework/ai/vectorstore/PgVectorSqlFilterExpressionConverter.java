@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.ai.vectorstore.PgVectorStore.PgMetadataColumn;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.Filter.Expression;
+import org.springframework.ai.vectorstore.filter.Filter.ExpressionType;
+import org.springframework.ai.vectorstore.filter.FilterHelper;
+import org.springframework.util.Assert;
+
+/**
+ * Converts {@link Expression} into a parameterized SQL predicate for the pgvector table.
+ * Unlike the
+ * {@link org.springframework.ai.vectorstore.filter.converter.PgVectorFilterExpressionConverter}
+ * the filter values are never spliced into the SQL text. Every comparison is rendered
+ * either as a {@code metadata::jsonb @@ ?::jsonpath} predicate, with the jsonpath bound
+ * as a parameter, or, for keys backed by a generated {@link PgMetadataColumn}, as a typed
+ * {@code column <op> ?::<column type>} predicate that can use the column's B-tree index.
+ * The values compared with a numeric or boolean column must be numbers or booleans, the
+ * values compared with a text column are converted to strings. Filters with the same
+ * shape therefore always produce the same SQL and can share a server-side prepared
+ * statement and plan.
+ */
+public class PgVectorSqlFilterExpressionConverter {
+
+	/**
+	 * SQL predicate and the ordered bind parameters it references.
+	 *
+	 * @param sql the SQL predicate with {@code ?} placeholders. Empty if there is no
+	 * filter.
+	 * @param parameters the bind parameters in placeholder order.
+	 */
+	public record SqlFilter(String sql, List<Object> parameters) {
+
+		public static final SqlFilter EMPTY = new SqlFilter("", List.of());
+
+		public boolean isEmpty() {
+			return this.sql.isEmpty();
+		}
+
+	}
+
+	private final Map<String, PgMetadataColumn> metadataColumns;
+
+	public PgVectorSqlFilterExpressionConverter() {
+		this(List.of());
+	}
+
+	public PgVectorSqlFilterExpressionConverter(List<PgMetadataColumn> metadataColumns) {
+		Assert.notNull(metadataColumns, "Metadata columns must not be null");
+		this.metadataColumns = Collections.unmodifiableMap(
+				metadataColumns.stream().collect(Collectors.toMap(PgMetadataColumn::key, Function.identity())));
+	}
+
+	public SqlFilter convertExpression(Expression expression) {
+		if (expression == null) {
+			return SqlFilter.EMPTY;
+		}
+		StringBuilder sql = new StringBuilder();
+		List<Object> parameters = new ArrayList<>();
+		this.convertOperand(expression, sql, parameters);
+		return new SqlFilter(sql.toString(), Collections.unmodifiableList(parameters));
+	}
+
+	private void convertOperand(Filter.Operand operand, StringBuilder sql, List<Object> parameters) {
+		if (operand instanceof Filter.Group group) {
+			sql.append("(");
+			this.convertOperand(group.content(), sql, parameters);
+			sql.append(")");
+		}
+		else if (operand instanceof Filter.Expression expression) {
+			switch (expression.type()) {
+				case NOT -> this.convertOperand(FilterHelper.negate(expression), sql, parameters);
+				case AND, OR -> {
+					this.convertOperand(expression.left(), sql, parameters);
+					sql.append(expression.type() == ExpressionType.AND ? " AND " : " OR ");
+					this.convertOperand(expression.right(), sql, parameters);
+				}
+				default -> this.convertComparison(expression, sql, parameters);
+			}
+		}
+		else {
+			throw new IllegalArgumentException("Unexpected filter operand: " + operand);
+		}
+	}
+
+	private void convertComparison(Expression expression, StringBuilder sql, List<Object> parameters) {
+		if (!(expression.left() instanceof Filter.Key key) || !(expression.right() instanceof Filter.Value value)) {
+			throw new IllegalArgumentException("Comparison expression must have Key left and Value right argument!");
+		}
+
+		PgMetadataColumn column = this.metadataColumns.get(unquote(key.key()));
+		if (column != null) {
+			this.convertColumnComparison(column, expression.type(), value, sql, parameters);
+		}
+		else {
+			sql.append("metadata::jsonb @@ ?::jsonpath");
+			parameters.add(jsonPath(key.key(), expression.type(), value));
+		}
+	}
+
+	private void convertColumnComparison(PgMetadataColumn column, ExpressionType type, Filter.Value value,
+			StringBuilder sql, List<Object> parameters) {
+
+		sql.append(column.columnName());
+		if (type == ExpressionType.IN || type == ExpressionType.NIN) {
+			List<?> values = asList(value);
+			sql.append(type == ExpressionType.IN ? " IN (" : " NOT IN (");
+			for (int i = 0; i < values.size(); i++) {
+				sql.append(i == 0 ? "" : ", ").append(parameter(column));
+				parameters.add(columnValue(column, values.get(i)));
+			}
+			sql.append(")");
+		}
+		else {
+			sql.append(" ").append(sqlOperator(type)).append(" ").append(parameter(column));
+			parameters.add(columnValue(column, value.value()));
+		}
+	}
+
+	/**
+	 * Casts the parameter to the column type, so a comparison never fails with a type
+	 * mismatch such as {@code text = integer}.
+	 */
+	private static String parameter(PgMetadataColumn column) {
+		return "?::" + column.type().sqlType;
+	}
+
+	private static Object columnValue(PgMetadataColumn column, Object value) {
+		return switch (column.type()) {
+			case TEXT -> String.valueOf(value);
+			case NUMERIC -> {
+				Assert.isInstanceOf(Number.class, value,
+						"Numeric metadata column '" + column.key() + "' can only be compared with a number");
+				yield value;
+			}
+			case BOOLEAN -> {
+				Assert.isInstanceOf(Boolean.class, value,
+						"Boolean metadata column '" + column.key() + "' can only be compared with a boolean");
+				yield value;
+			}
+		};
+	}
+
+	/**
+	 * Renders a single comparison as a standalone jsonpath predicate. IN and NIN are
+	 * expanded into disjunctions and conjunctions because jsonpath has no membership
+	 * operator.
+	 */
+	static String jsonPath(String key, ExpressionType type, Filter.Value value) {
+		String path = "$." + key;
+		if (type == ExpressionType.IN || type == ExpressionType.NIN) {
+			String operator = (type == ExpressionType.IN) ? " == " : " != ";
+			String separator = (type == ExpressionType.IN) ? " || " : " && ";
+			return asList(value).stream()
+				.map(v -> path + operator + jsonValue(v))
+				.collect(Collectors.joining(separator));
+		}
+		return path + " " + jsonPathOperator(type) + " " + jsonValue(value.value());
+	}
+
+	private static List<?> asList(Filter.Value value) {
+		if (value.value() instanceof List<?> list) {
+			Assert.notEmpty(list, "IN/NIN filter value must not be empty");
+			return list;
+		}
+		return List.of(value.value());
+	}
+
+	private static String jsonValue(Object value) {
+		if (value instanceof String text) {
+			return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		}
+		return String.valueOf(value);
+	}
+
+	private static String jsonPathOperator(ExpressionType type) {
+		return switch (type) {
+			case EQ -> "==";
+			case NE -> "!=";
+			case LT -> "<";
+			case LTE -> "<=";
+			case GT -> ">";
+			case GTE -> ">=";
+			default -> throw new IllegalArgumentException("Not supported expression type: " + type);
+		};
+	}
+
+	private static String sqlOperator(ExpressionType type) {
+		return switch (type) {
+			case EQ -> "=";
+			case NE -> "<>";
+			case LT -> "<";
+			case LTE -> "<=";
+			case GT -> ">";
+			case GTE -> ">=";
+			default -> throw new IllegalArgumentException("Not supported expression type: " + type);
+		};
+	}
+
+	private static String unquote(String key) {
+		String trimmed = key.trim();
+		if (trimmed.length() > 1 && ((trimmed.startsWith("\"") && trimmed.endsWith("\""))
+				|| (trimmed.startsWith("'") && trimmed.endsWith("'")))) {
+			return trimmed.substring(1, trimmed.length() - 1);
+		}
+		return trimmed;
+	}
+
+}
@@ -15,38 +15,53 @@
  */
 package org.springframework.ai.vectorstore;
 
+import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pgvector.PGvector;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
 import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.PgVectorSqlFilterExpressionConverter.SqlFilter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.filter.converter.PgVectorFilterExpressionConverter;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Uses the "vector_store" table to store the Spring AI vector data. The table and the
- * vector index will be auto-created if not available.
+ * Uses the "vector_store" table, or the table configured with
+ * {@link PgVectorStoreConfig.Builder#withVectorTableName(String)}, to store the Spring AI
+ * vector data. The table and the vector index will be auto-created if not available.
  *
  * @author Christian Tzolov
  */
@@ -60,21 +75,36 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 
 	public static final String VECTOR_TABLE_NAME = "vector_store";
 
+	public static final String DEFAULT_SCHEMA_NAME = "public";
+
+	private static final String UPSERT_CLAUSE = "ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content, "
+			+ "metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding";
+
+	private static final int COPY_BUFFER_SIZE = 65536;
+
+	private static final int BULK_EMBEDDING_BATCH_SIZE = 512;
+
+	private static final int MAX_HNSW_EF_SEARCH = 1000;
+
+	private static final String COLUMN_QUERY_ORDINAL = "query_ordinal";
+
+	private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
 	public final FilterExpressionConverter filterExpressionConverter = new PgVectorFilterExpressionConverter();
 
 	private final JdbcTemplate jdbcTemplate;
 
 	private final EmbeddingClient embeddingClient;
 
-	private int dimensions;
+	private final PgVectorStoreConfig config;
 
-	private PgDistanceType distanceType;
+	private final PgVectorSqlFilterExpressionConverter sqlFilterExpressionConverter;
 
 	private ObjectMapper objectMapper = new ObjectMapper();
 
-	private boolean removeExistingVectorStoreTable;
+	private final PlatformTransactionManager transactionManager;
 
-	private PgIndexType createIndexMethod;
+	private volatile int dimensions = INVALID_EMBEDDING_DIMENSION;
 
 	/**
 	 * By default, pgvector performs exact nearest neighbor search, which provides perfect
@@ -105,6 +135,31 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 
 	}
 
+	/**
+	 * Quantization of the embedding index. The table keeps the full precision
+	 * {@code vector} embeddings, the index is built on a quantized expression of them and
+	 * the similarity search re-ranks the index candidates by their full precision
+	 * distance. Shrinks the index, which has to fit in memory to be fast, at a small cost
+	 * in recall. Requires pgvector 0.7.0 or newer.
+	 */
+	public enum PgQuantization {
+
+		/**
+		 * Indexes the full precision {@code vector} embeddings.
+		 */
+		NONE,
+		/**
+		 * Indexes the embeddings as half precision {@code halfvec}, half the index size.
+		 */
+		HALFVEC,
+		/**
+		 * Indexes the sign bits of the embeddings as {@code bit} with the Hamming
+		 * distance, 1/32 of the index size. Works best with high dimensional embeddings.
+		 */
+		BINARY;
+
+	}
+
 	/**
 	 * Defaults to CosineDistance. But if vectors are normalized to length 1 (like OpenAI
 	 * embeddings), use inner product (NegativeInnerProduct) for best performance.
@@ -142,6 +197,472 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 
 	}
 
+	/**
+	 * Type of a generated metadata column. The numeric and boolean columns are only set
+	 * for metadata values of the matching JSON type, and are null otherwise.
+	 */
+	public enum PgMetadataColumnType {
+
+		TEXT("text", null), NUMERIC("numeric", "number"), BOOLEAN("boolean", "boolean");
+
+		public final String sqlType;
+
+		/**
+		 * The JSON type of the values that can be cast to the SQL type, or null if every
+		 * value can.
+		 */
+		private final String jsonType;
+
+		PgMetadataColumnType(String sqlType, String jsonType) {
+			this.sqlType = sqlType;
+			this.jsonType = jsonType;
+		}
+
+	}
+
+	/**
+	 * Declares a frequently filtered ("hot") metadata key. For every such key a stored
+	 * generated column, extracted from the metadata JSON, and a B-tree index on it are
+	 * created. Filter expressions on the key are then evaluated against the typed column
+	 * instead of the jsonpath predicate, which lets PostgreSQL use the index.
+	 *
+	 * @param key the metadata key. Must be a simple identifier.
+	 * @param type the SQL type of the generated column.
+	 */
+	public record PgMetadataColumn(String key, PgMetadataColumnType type) {
+
+		public PgMetadataColumn {
+			Assert.isTrue(key != null && IDENTIFIER_PATTERN.matcher(key).matches(),
+					"Metadata column key must be a simple identifier: " + key);
+			Assert.notNull(type, "Metadata column type must not be null");
+		}
+
+		public String columnName() {
+			return "metadata_" + this.key;
+		}
+
+	}
+
+	/**
+	 * Query-time recall/latency knobs for the approximate nearest neighbor indexes. They
+	 * are applied with {@code SET LOCAL} inside the search transaction, so they only
+	 * affect the current search. Non-positive values keep the pgvector defaults.
+	 *
+	 * @param hnswEfSearch the size of the dynamic candidate list of the HNSW search
+	 * ({@code hnsw.ef_search}). Higher values improve recall at the cost of speed.
+	 * @param ivfflatProbes the number of IVFFlat lists to probe ({@code ivfflat.probes}).
+	 * Higher values improve recall at the cost of speed.
+	 */
+	public record PgSearchOptions(int hnswEfSearch, int ivfflatProbes) {
+
+		public static final PgSearchOptions DEFAULT = new PgSearchOptions(0, 0);
+
+		public static PgSearchOptions hnsw(int efSearch) {
+			return new PgSearchOptions(efSearch, 0);
+		}
+
+		public static PgSearchOptions ivfflat(int probes) {
+			return new PgSearchOptions(0, probes);
+		}
+
+		boolean isDefault() {
+			return this.hnswEfSearch <= 0 && this.ivfflatProbes <= 0;
+		}
+
+	}
+
+	/**
+	 * Computes the document embeddings inside the database with the
+	 * <a href="https://postgresml.org">PostgresML</a> {@code pgml.embed} function, when
+	 * the vector table lives in a PostgresML enabled database. The documents are then
+	 * embedded and stored by a single statement, and the embeddings never leave the
+	 * database. The settings must match the ones of the embedding client used for the
+	 * query embeddings.
+	 *
+	 * @param transformer the Hugging Face sentence transformer name.
+	 * @param kwargs the {@code pgml.embed} JSON arguments.
+	 * @param metadataMode the metadata included in the embedded document text.
+	 */
+	public record PgMlEmbedding(String transformer, String kwargs, MetadataMode metadataMode) {
+
+		public PgMlEmbedding {
+			Assert.hasText(transformer, "Transformer must not be empty");
+			Assert.notNull(kwargs, "Kwargs must not be null");
+			Assert.notNull(metadataMode, "Metadata mode must not be null");
+		}
+
+		public PgMlEmbedding(String transformer) {
+			this(transformer, "{}", MetadataMode.EMBED);
+		}
+
+	}
+
+	/**
+	 * Configuration for the {@link PgVectorStore}.
+	 */
+	public static final class PgVectorStoreConfig {
+
+		private final int dimensions;
+
+		private final PgDistanceType distanceType;
+
+		private final boolean removeExistingVectorStoreTable;
+
+		private final PgIndexType indexType;
+
+		private final boolean parameterizedFilters;
+
+		private final List<PgMetadataColumn> metadataColumns;
+
+		private final String schemaName;
+
+		private final String vectorTableName;
+
+		private final String indexName;
+
+		private final int hnswM;
+
+		private final int hnswEfConstruction;
+
+		private final int ivfflatLists;
+
+		private final boolean createIndexConcurrently;
+
+		private final PgSearchOptions searchOptions;
+
+		private final PgMlEmbedding pgMlEmbedding;
+
+		private final PgQuantization quantization;
+
+		private final int rescoreFactor;
+
+		private PgVectorStoreConfig(Builder builder) {
+			this.dimensions = builder.dimensions;
+			this.distanceType = builder.distanceType;
+			this.removeExistingVectorStoreTable = builder.removeExistingVectorStoreTable;
+			this.indexType = builder.indexType;
+			this.parameterizedFilters = builder.parameterizedFilters;
+			this.metadataColumns = List.copyOf(builder.metadataColumns);
+			this.schemaName = builder.schemaName;
+			this.vectorTableName = builder.vectorTableName;
+			this.indexName = StringUtils.hasText(builder.indexName) ? builder.indexName
+					: builder.vectorTableName + "_embedding_idx";
+			this.hnswM = builder.hnswM;
+			this.hnswEfConstruction = builder.hnswEfConstruction;
+			this.ivfflatLists = builder.ivfflatLists;
+			this.createIndexConcurrently = builder.createIndexConcurrently;
+			this.searchOptions = builder.searchOptions;
+			this.pgMlEmbedding = builder.pgMlEmbedding;
+			this.quantization = builder.quantization;
+			this.rescoreFactor = builder.rescoreFactor;
+		}
+
+		/**
+		 * Start building a new configuration.
+		 * @return The entry point for creating a new configuration.
+		 */
+		public static Builder builder() {
+			return new Builder();
+		}
+
+		/**
+		 * {@return the default config}
+		 */
+		public static PgVectorStoreConfig defaultConfig() {
+			return builder().build();
+		}
+
+		public int getDimensions() {
+			return this.dimensions;
+		}
+
+		public PgDistanceType getDistanceType() {
+			return this.distanceType;
+		}
+
+		public boolean isRemoveExistingVectorStoreTable() {
+			return this.removeExistingVectorStoreTable;
+		}
+
+		public PgIndexType getIndexType() {
+			return this.indexType;
+		}
+
+		public boolean isParameterizedFilters() {
+			return this.parameterizedFilters;
+		}
+
+		public List<PgMetadataColumn> getMetadataColumns() {
+			return this.metadataColumns;
+		}
+
+		public String getSchemaName() {
+			return this.schemaName;
+		}
+
+		public String getVectorTableName() {
+			return this.vectorTableName;
+		}
+
+		public String getIndexName() {
+			return this.indexName;
+		}
+
+		public int getHnswM() {
+			return this.hnswM;
+		}
+
+		public int getHnswEfConstruction() {
+			return this.hnswEfConstruction;
+		}
+
+		public int getIvfflatLists() {
+			return this.ivfflatLists;
+		}
+
+		public boolean isCreateIndexConcurrently() {
+			return this.createIndexConcurrently;
+		}
+
+		public PgSearchOptions getSearchOptions() {
+			return this.searchOptions;
+		}
+
+		public PgMlEmbedding getPgMlEmbedding() {
+			return this.pgMlEmbedding;
+		}
+
+		public PgQuantization getQuantization() {
+			return this.quantization;
+		}
+
+		public int getRescoreFactor() {
+			return this.rescoreFactor;
+		}
+
+		/**
+		 * {@return the schema qualified vector table name}
+		 */
+		public String getFullyQualifiedTableName() {
+			return this.schemaName + "." + this.vectorTableName;
+		}
+
+		public static class Builder {
+
+			private int dimensions = INVALID_EMBEDDING_DIMENSION;
+
+			private PgDistanceType distanceType = PgDistanceType.COSINE_DISTANCE;
+
+			private boolean removeExistingVectorStoreTable = false;
+
+			private PgIndexType indexType = PgIndexType.NONE;
+
+			private boolean parameterizedFilters = true;
+
+			private List<PgMetadataColumn> metadataColumns = new ArrayList<>();
+
+			private String schemaName = DEFAULT_SCHEMA_NAME;
+
+			private String vectorTableName = VECTOR_TABLE_NAME;
+
+			private String indexName;
+
+			private int hnswM = 0;
+
+			private int hnswEfConstruction = 0;
+
+			private int ivfflatLists = 0;
+
+			private boolean createIndexConcurrently = false;
+
+			private PgSearchOptions searchOptions = PgSearchOptions.DEFAULT;
+
+			private PgMlEmbedding pgMlEmbedding;
+
+			private PgQuantization quantization = PgQuantization.NONE;
+
+			private int rescoreFactor = 4;
+
+			private Builder() {
+			}
+
+			/**
+			 * @param dimensions the embedding dimensions. If not set (or negative) the
+			 * dimensions are computed from the embedding client.
+			 * @return this builder
+			 */
+			public Builder withDimensions(int dimensions) {
+				this.dimensions = dimensions;
+				return this;
+			}
+
+			public Builder withDistanceType(PgDistanceType distanceType) {
+				Assert.notNull(distanceType, "Distance type must not be null");
+				this.distanceType = distanceType;
+				return this;
+			}
+
+			public Builder withRemoveExistingVectorStoreTable(boolean removeExistingVectorStoreTable) {
+				this.removeExistingVectorStoreTable = removeExistingVectorStoreTable;
+				return this;
+			}
+
+			public Builder withIndexType(PgIndexType indexType) {
+				Assert.notNull(indexType, "Index type must not be null");
+				this.indexType = indexType;
+				return this;
+			}
+
+			/**
+			 * @param parameterizedFilters if true (default) the filter values are sent as
+			 * bind parameters so that the similarity search SQL text only depends on the
+			 * shape of the filter. If false the jsonpath filter is inlined in the SQL
+			 * text.
+			 * @return this builder
+			 */
+			public Builder withParameterizedFilters(boolean parameterizedFilters) {
+				this.parameterizedFilters = parameterizedFilters;
+				return this;
+			}
+
+			/**
+			 * @param metadataColumns hot metadata keys to materialize as indexed
+			 * generated columns. Only applied with parameterized filters.
+			 * @return this builder
+			 */
+			public Builder withMetadataColumns(List<PgMetadataColumn> metadataColumns) {
+				Assert.notNull(metadataColumns, "Metadata columns must not be null");
+				this.metadataColumns = new ArrayList<>(metadataColumns);
+				return this;
+			}
+
+			public Builder withMetadataColumn(String key, PgMetadataColumnType type) {
+				this.metadataColumns.add(new PgMetadataColumn(key, type));
+				return this;
+			}
+
+			/**
+			 * @param schemaName the schema of the vector table. Defaults to
+			 * {@code public}.
+			 * @return this builder
+			 */
+			public Builder withSchemaName(String schemaName) {
+				assertIdentifier(schemaName);
+				this.schemaName = schemaName;
+				return this;
+			}
+
+			/**
+			 * @param vectorTableName the vector table name. Defaults to
+			 * {@code vector_store}. Use different tables to keep several collections in
+			 * one database.
+			 * @return this builder
+			 */
+			public Builder withVectorTableName(String vectorTableName) {
+				assertIdentifier(vectorTableName);
+				this.vectorTableName = vectorTableName;
+				return this;
+			}
+
+			/**
+			 * @param indexName the name of the embedding index. Defaults to
+			 * {@code <table name>_embedding_idx}.
+			 * @return this builder
+			 */
+			public Builder withIndexName(String indexName) {
+				assertIdentifier(indexName);
+				this.indexName = indexName;
+				return this;
+			}
+
+			/**
+			 * @param m the max number of connections per layer of the HNSW graph.
+			 * @param efConstruction the size of the dynamic candidate list used to build
+			 * the HNSW graph.
+			 * @return this builder
+			 */
+			public Builder withHnswIndexOptions(int m, int efConstruction) {
+				this.hnswM = m;
+				this.hnswEfConstruction = efConstruction;
+				return this;
+			}
+
+			/**
+			 * @param lists the number of IVFFlat inverted lists. A good starting point is
+			 * rows / 1000 for up to 1M rows and sqrt(rows) for over 1M rows.
+			 * @return this builder
+			 */
+			public Builder withIvfflatLists(int lists) {
+				this.ivfflatLists = lists;
+				return this;
+			}
+
+			/**
+			 * @param createIndexConcurrently build the embedding index with
+			 * {@code CREATE INDEX CONCURRENTLY} to not block writes to an existing table.
+			 * @return this builder
+			 */
+			public Builder withCreateIndexConcurrently(boolean createIndexConcurrently) {
+				this.createIndexConcurrently = createIndexConcurrently;
+				return this;
+			}
+
+			/**
+			 * @param searchOptions the default query-time index tuning, used unless a
+			 * search provides its own.
+			 * @return this builder
+			 */
+			public Builder withSearchOptions(PgSearchOptions searchOptions) {
+				Assert.notNull(searchOptions, "Search options must not be null");
+				this.searchOptions = searchOptions;
+				return this;
+			}
+
+			/**
+			 * @param pgMlEmbedding if set, {@link PgVectorStore#add(List)} computes the
+			 * embeddings in the database with PostgresML instead of the embedding client.
+			 * @return this builder
+			 */
+			public Builder withPgMlEmbedding(PgMlEmbedding pgMlEmbedding) {
+				this.pgMlEmbedding = pgMlEmbedding;
+				return this;
+			}
+
+			/**
+			 * @param quantization the quantization of the embedding index.
+			 * @return this builder
+			 */
+			public Builder withQuantization(PgQuantization quantization) {
+				Assert.notNull(quantization, "Quantization must not be null");
+				this.quantization = quantization;
+				return this;
+			}
+
+			/**
+			 * @param rescoreFactor with a quantized index, the number of candidates
+			 * re-ranked by their full precision distance, as a multiple of the requested
+			 * top k. Defaults to 4.
+			 * @return this builder
+			 */
+			public Builder withRescoreFactor(int rescoreFactor) {
+				Assert.isTrue(rescoreFactor > 0, "Rescore factor must be positive");
+				this.rescoreFactor = rescoreFactor;
+				return this;
+			}
+
+			private static void assertIdentifier(String identifier) {
+				Assert.isTrue(identifier != null && IDENTIFIER_PATTERN.matcher(identifier).matches(),
+						"Not a valid SQL identifier: " + identifier);
+			}
+
+			public PgVectorStoreConfig build() {
+				return new PgVectorStoreConfig(this);
+			}
+
+		}
+
+	}
+
 	private static class DocumentRowMapper implements RowMapper<Document> {
 
 		private static final String COLUMN_EMBEDDING = "embedding";
@@ -207,27 +728,64 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 
 	public PgVectorStore(JdbcTemplate jdbcTemplate, EmbeddingClient embeddingClient, int dimensions,
 			PgDistanceType distanceType, boolean removeExistingVectorStoreTable, PgIndexType createIndexMethod) {
+		this(jdbcTemplate, embeddingClient,
+				PgVectorStoreConfig.builder()
+					.withDimensions(dimensions)
+					.withDistanceType(distanceType)
+					.withRemoveExistingVectorStoreTable(removeExistingVectorStoreTable)
+					.withIndexType(createIndexMethod)
+					.build());
+	}
+
+	public PgVectorStore(JdbcTemplate jdbcTemplate, EmbeddingClient embeddingClient, PgVectorStoreConfig config) {
+		this(jdbcTemplate, embeddingClient, config, null);
+	}
+
+	/**
+	 * @param jdbcTemplate the JdbcTemplate.
+	 * @param embeddingClient the embedding client.
+	 * @param config the vector store configuration.
+	 * @param transactionManager the transaction manager of the writes and of the tuned
+	 * searches, so that they join the application transactions. If null, a
+	 * DataSourceTransactionManager over the JdbcTemplate data source is used.
+	 */
+	public PgVectorStore(JdbcTemplate jdbcTemplate, EmbeddingClient embeddingClient, PgVectorStoreConfig config,
+			@Nullable PlatformTransactionManager transactionManager) {
+		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
+		Assert.notNull(embeddingClient, "EmbeddingClient must not be null");
+		Assert.notNull(config, "Config must not be null");
 
 		this.jdbcTemplate = jdbcTemplate;
 		this.embeddingClient = embeddingClient;
-		this.dimensions = dimensions;
-		this.distanceType = distanceType;
-		this.removeExistingVectorStoreTable = removeExistingVectorStoreTable;
-		this.createIndexMethod = createIndexMethod;
+		this.config = config;
+		this.sqlFilterExpressionConverter = new PgVectorSqlFilterExpressionConverter(config.getMetadataColumns());
+		this.transactionManager = (transactionManager != null) ? transactionManager
+				: defaultTransactionManager(jdbcTemplate);
+	}
+
+	private static PlatformTransactionManager defaultTransactionManager(JdbcTemplate jdbcTemplate) {
+		var transactionManager = new DataSourceTransactionManager();
+		transactionManager.setDataSource(jdbcTemplate.getDataSource());
+		return transactionManager;
 	}
 
 	public PgDistanceType getDistanceType() {
-		return distanceType;
+		return this.config.getDistanceType();
 	}
 
 	@Override
 	public void add(List<Document> documents) {
 
+		if (this.config.getPgMlEmbedding() != null) {
+			this.addWithPgMlEmbedding(documents);
+			return;
+		}
+
 		int size = documents.size();
 
 		this.jdbcTemplate.batchUpdate(
-				"INSERT INTO " + VECTOR_TABLE_NAME + " (id, content, metadata, embedding) VALUES (?, ?, ?::jsonb, ?) "
-						+ "ON CONFLICT (id) DO " + "UPDATE SET content = ? , metadata = ?::jsonb , embedding = ? ",
+				"INSERT INTO " + this.getFullyQualifiedTableName()
+						+ " (id, content, metadata, embedding) VALUES (?, ?, ?::jsonb, ?) " + UPSERT_CLAUSE,
 				new BatchPreparedStatementSetter() {
 					@Override
 					public void setValues(PreparedStatement ps, int i) throws SQLException {
@@ -242,9 +800,6 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 						StatementCreatorUtils.setParameterValue(ps, 2, SqlTypeValue.TYPE_UNKNOWN, content);
 						StatementCreatorUtils.setParameterValue(ps, 3, SqlTypeValue.TYPE_UNKNOWN, json);
 						StatementCreatorUtils.setParameterValue(ps, 4, SqlTypeValue.TYPE_UNKNOWN, pGvector);
-						StatementCreatorUtils.setParameterValue(ps, 5, SqlTypeValue.TYPE_UNKNOWN, content);
-						StatementCreatorUtils.setParameterValue(ps, 6, SqlTypeValue.TYPE_UNKNOWN, json);
-						StatementCreatorUtils.setParameterValue(ps, 7, SqlTypeValue.TYPE_UNKNOWN, pGvector);
 					}
 
 					@Override
@@ -254,6 +809,139 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 				});
 	}
 
+	/**
+	 * Embeds and stores the documents with a single {@code INSERT ... SELECT} over the
+	 * unnested document arrays, calling {@code pgml.embed} for every row. If a document
+	 * id occurs more than once the last occurrence wins.
+	 */
+	private void addWithPgMlEmbedding(List<Document> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
+
+		// A single upsert statement can not update the same row twice.
+		Map<String, Document> uniqueDocuments = new LinkedHashMap<>();
+		for (Document document : documents) {
+			uniqueDocuments.remove(document.getId());
+			uniqueDocuments.put(document.getId(), document);
+		}
+
+		PgMlEmbedding pgMlEmbedding = this.config.getPgMlEmbedding();
+		int size = uniqueDocuments.size();
+		UUID[] ids = new UUID[size];
+		String[] contents = new String[size];
+		String[] metadata = new String[size];
+		String[] embeddingTexts = new String[size];
+		int i = 0;
+		for (Document document : uniqueDocuments.values()) {
+			ids[i] = UUID.fromString(document.getId());
+			contents[i] = document.getContent();
+			metadata[i] = toJson(document.getMetadata());
+			embeddingTexts[i] = document.getFormattedContent(pgMlEmbedding.metadataMode());
+			i++;
+		}
+
+		this.jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(this.pgMlInsertSql());
+			ps.setString(1, pgMlEmbedding.transformer());
+			ps.setString(2, pgMlEmbedding.kwargs());
+			ps.setArray(3, connection.createArrayOf("uuid", ids));
+			ps.setArray(4, connection.createArrayOf("text", contents));
+			ps.setArray(5, connection.createArrayOf("text", metadata));
+			ps.setArray(6, connection.createArrayOf("text", embeddingTexts));
+			return ps;
+		});
+	}
+
+	String pgMlInsertSql() {
+		return "INSERT INTO " + this.getFullyQualifiedTableName() + " (id, content, metadata, embedding) "
+				+ "SELECT id, content, metadata::json, pgml.embed(?, embedding_text, ?::jsonb)::vector "
+				+ "FROM unnest(?::uuid[], ?::text[], ?::text[], ?::text[]) "
+				+ "AS documents(id, content, metadata, embedding_text) " + UPSERT_CLAUSE;
+	}
+
+	/**
+	 * Bulk loads the documents with the PostgreSQL binary {@code COPY} protocol. The rows
+	 * are streamed into a temporary staging table and then merged into the vector table
+	 * with a single upsert, in one transaction. The documents are embedded in batches
+	 * before the transaction is opened, so no embedding call runs while the {@code COPY}
+	 * holds the connection, and the embeddings are sent in the pgvector binary format.
+	 * Considerably faster than {@link #add(List)} for large initial loads. If a document
+	 * id occurs more than once the last occurrence wins. With the {@link PgMlEmbedding}
+	 * configured the documents are embedded and stored in the database, as with
+	 * {@link #add(List)}.
+	 * @param documents the documents to load.
+	 */
+	public void bulkAdd(List<Document> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
+		if (this.config.getPgMlEmbedding() != null) {
+			this.addWithPgMlEmbedding(documents);
+			return;
+		}
+
+		List<float[]> embeddings = this.embedInBatches(documents);
+
+		this.transactionTemplate(false).executeWithoutResult(status -> {
+			this.jdbcTemplate.execute("""
+					CREATE TEMPORARY TABLE IF NOT EXISTS vector_store_staging (
+						ordinal bigint,
+						id uuid,
+						content text,
+						metadata json,
+						embedding vector
+					) ON COMMIT DROP
+					""");
+			// The staging table lives until the end of the transaction, which may span
+			// several bulk loads when the store joins an outer transaction.
+			this.jdbcTemplate.execute("TRUNCATE vector_store_staging");
+
+			this.jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				try (var copyOut = new PGCopyOutputStream(pgConnection,
+						"COPY vector_store_staging (ordinal, id, content, metadata, embedding) FROM STDIN (FORMAT binary)",
+						COPY_BUFFER_SIZE)) {
+
+					var writer = new PgCopyBinaryWriter(copyOut);
+					writer.writeHeader();
+					long ordinal = 0;
+					for (Document document : documents) {
+						writer.writeRow(ordinal, UUID.fromString(document.getId()), document.getContent(),
+								toJson(document.getMetadata()), embeddings.get((int) ordinal));
+						ordinal++;
+					}
+					writer.writeTrailer();
+					copyOut.endCopy();
+					return ordinal;
+				}
+				catch (IOException e) {
+					throw new SQLException("Failed to COPY the documents into the staging table", e);
+				}
+			});
+
+			this.jdbcTemplate
+				.update("INSERT INTO " + this.getFullyQualifiedTableName() + " (id, content, metadata, embedding) "
+						+ "SELECT DISTINCT ON (id) id, content, metadata, embedding FROM vector_store_staging "
+						+ "ORDER BY id, ordinal DESC " + UPSERT_CLAUSE);
+		});
+	}
+
+	private List<float[]> embedInBatches(List<Document> documents) {
+		List<float[]> embeddings = new ArrayList<>(documents.size());
+		for (int from = 0; from < documents.size(); from += BULK_EMBEDDING_BATCH_SIZE) {
+			List<String> texts = documents.subList(from, Math.min(from + BULK_EMBEDDING_BATCH_SIZE, documents.size()))
+				.stream()
+				.map(document -> document.getFormattedContent(MetadataMode.EMBED))
+				.toList();
+			List<List<Double>> batch = this.embeddingClient.embed(texts);
+			Assert.state(batch.size() == texts.size(), () -> "Expected " + texts.size() + " embeddings but received "
+					+ batch.size() + " from the embedding client");
+			batch.forEach(embedding -> embeddings.add(toFloatArray(embedding)));
+		}
+		return embeddings;
+	}
+
 	private String toJson(Map<String, Object> map) {
 		try {
 			return objectMapper.writeValueAsString(map);
@@ -276,7 +964,8 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 	public Optional<Boolean> delete(List<String> idList) {
 		int updateCount = 0;
 		for (String id : idList) {
-			int count = jdbcTemplate.update("DELETE FROM " + VECTOR_TABLE_NAME + " WHERE id = ?", UUID.fromString(id));
+			int count = jdbcTemplate.update("DELETE FROM " + this.getFullyQualifiedTableName() + " WHERE id = ?",
+					UUID.fromString(id));
 			updateCount = updateCount + count;
 		}
 
@@ -285,29 +974,244 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearch(request, this.config.getSearchOptions());
+	}
+
+	/**
+	 * Similarity search with query-time index tuning, overriding the configured default
+	 * search options. Allows trading recall for latency per request.
+	 * @param request the search request.
+	 * @param searchOptions the index tuning applied to this search only.
+	 * @return the most similar documents.
+	 */
+	public List<Document> similaritySearch(SearchRequest request, PgSearchOptions searchOptions) {
+		Assert.notNull(searchOptions, "Search options must not be null");
+		return this.similaritySearch(request, searchOptions, getQueryEmbedding(request.getQuery()));
+	}
+
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		return this.similaritySearch(requests, this.config.getSearchOptions());
+	}
+
+	/**
+	 * Batch similarity search with query-time index tuning. All queries are embedded with
+	 * a single embedding client call, and the requests sharing the same filter are
+	 * searched with a single statement that joins the unnested query embeddings with a
+	 * top-k subquery.
+	 * @param requests the search requests.
+	 * @param searchOptions the index tuning applied to the searches.
+	 * @return the most similar documents for each request, in request order.
+	 */
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests, PgSearchOptions searchOptions) {
+		Assert.notNull(requests, "Search requests must not be null");
+		Assert.notNull(searchOptions, "Search options must not be null");
+
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+
+		List<List<Double>> queryEmbeddings = this.embeddingClient
+			.embed(requests.stream().map(SearchRequest::getQuery).toList());
 
-		String nativeFilterExpression = (request.getFilterExpression() != null)
-				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+		List<List<Document>> results = new ArrayList<>(requests.size());
 
-		String jsonPathFilter = "";
+		if (this.config.getQuantization() != PgQuantization.NONE) {
+			for (int i = 0; i < requests.size(); i++) {
+				results.add(this.similaritySearch(requests.get(i), searchOptions,
+						new PGvector(toFloatArray(queryEmbeddings.get(i)))));
+			}
+			return results;
+		}
 
-		if (StringUtils.hasText(nativeFilterExpression)) {
-			jsonPathFilter = " AND metadata::jsonb @@ '" + nativeFilterExpression + "'::jsonpath ";
+		for (int i = 0; i < requests.size(); i++) {
+			results.add(new ArrayList<>());
 		}
 
+		Map<PgFilter, List<Integer>> requestsByFilter = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			requestsByFilter.computeIfAbsent(this.toPgFilter(requests.get(i)), filter -> new ArrayList<>()).add(i);
+		}
+
+		requestsByFilter.forEach((filter, indexes) -> {
+			String[] embeddings = new String[indexes.size()];
+			double[] distances = new double[indexes.size()];
+			int[] topKs = new int[indexes.size()];
+			for (int i = 0; i < indexes.size(); i++) {
+				SearchRequest request = requests.get(indexes.get(i));
+				embeddings[i] = new PGvector(toFloatArray(queryEmbeddings.get(indexes.get(i)))).getValue();
+				distances[i] = 1 - request.getSimilarityThreshold();
+				topKs[i] = request.getTopK();
+			}
+
+			List<Object> args = new ArrayList<>(filter.parameters().size() + 3);
+			args.add(embeddings);
+			args.add(distances);
+			args.add(topKs);
+			args.addAll(filter.parameters());
+
+			var documentRowMapper = new DocumentRowMapper(this.objectMapper);
+			this.query(searchOptions, this.batchSimilaritySearchSql(filter.sql()), (rs, rowNum) -> {
+				// the query ordinals are 1-based positions in this filter group
+				int index = indexes.get(rs.getInt(COLUMN_QUERY_ORDINAL) - 1);
+				results.get(index).add(documentRowMapper.mapRow(rs, rowNum));
+				return index;
+			}, args.toArray());
+		});
+
+		return results;
+	}
+
+	String batchSimilaritySearchSql(String filter) {
+		String distanceExpression = (this.getDistanceType() == PgDistanceType.NEGATIVE_INNER_PRODUCT)
+				? "(1 + (embedding <#> q.query_embedding))"
+				: "embedding " + this.comparisonOperator() + " q.query_embedding";
+
+		return String.format("SELECT q.ord AS %s, d.* FROM unnest(?::vector[], ?::float8[], ?::int[]) WITH ORDINALITY "
+				+ "AS q(query_embedding, max_distance, top_k, ord) CROSS JOIN LATERAL "
+				+ "(SELECT *, %s AS distance FROM %s WHERE %s < q.max_distance%s ORDER BY distance LIMIT q.top_k) d "
+				+ "ORDER BY q.ord, d.distance", COLUMN_QUERY_ORDINAL, distanceExpression,
+				this.getFullyQualifiedTableName(), distanceExpression, filter.stripTrailing());
+	}
+
+	private List<Document> similaritySearch(SearchRequest request, PgSearchOptions searchOptions,
+			PGvector queryEmbedding) {
+
 		double distance = 1 - request.getSimilarityThreshold();
 
-		PGvector queryEmbedding = getQueryEmbedding(request.getQuery());
+		PgFilter filter = this.toPgFilter(request);
+
+		if (this.config.getQuantization() != PgQuantization.NONE) {
+			return this.quantizedSimilaritySearch(request, searchOptions, queryEmbedding, distance, filter.sql(),
+					filter.parameters());
+		}
+
+		List<Object> args = new ArrayList<>(filter.parameters().size() + 4);
+		args.add(queryEmbedding);
+		args.add(queryEmbedding);
+		args.add(distance);
+		args.addAll(filter.parameters());
+		args.add(request.getTopK());
+
+		return this.query(searchOptions, String.format(this.getDistanceType().similaritySearchSqlTemplate,
+				this.getFullyQualifiedTableName(), filter.sql()), args.toArray());
+	}
+
+	private PgFilter toPgFilter(SearchRequest request) {
+		if (this.config.isParameterizedFilters()) {
+			SqlFilter sqlFilter = this.sqlFilterExpressionConverter.convertExpression(request.getFilterExpression());
+			if (!sqlFilter.isEmpty()) {
+				return new PgFilter(" AND (" + sqlFilter.sql() + ") ", sqlFilter.parameters());
+			}
+		}
+		else {
+			String nativeFilterExpression = (request.getFilterExpression() != null)
+					? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+
+			if (StringUtils.hasText(nativeFilterExpression)) {
+				return new PgFilter(" AND metadata::jsonb @@ '" + nativeFilterExpression + "'::jsonpath ", List.of());
+			}
+		}
+		return new PgFilter("", List.of());
+	}
+
+	/**
+	 * The SQL filter clause of a search request and its positional parameters.
+	 */
+	private record PgFilter(String sql, List<Object> parameters) {
+	}
+
+	/**
+	 * Selects the nearest candidates with the quantized index, and re-ranks them by their
+	 * full precision distance.
+	 */
+	private List<Document> quantizedSimilaritySearch(SearchRequest request, PgSearchOptions searchOptions,
+			PGvector queryEmbedding, double distance, String filter, List<Object> filterParameters) {
+
+		int candidates = request.getTopK() * this.config.getRescoreFactor();
+
+		List<Object> args = new ArrayList<>(filterParameters.size() + 5);
+		args.add(queryEmbedding);
+		args.addAll(filterParameters);
+		args.add(queryEmbedding);
+		args.add(candidates);
+		args.add(distance);
+		args.add(request.getTopK());
+
+		// An HNSW index scan returns at most hnsw.ef_search (40 by default) candidates.
+		if (this.config.getIndexType() == PgIndexType.HNSW && searchOptions.hnswEfSearch() < candidates) {
+			searchOptions = new PgSearchOptions(Math.min(candidates, MAX_HNSW_EF_SEARCH),
+					searchOptions.ivfflatProbes());
+		}
+
+		return this.query(searchOptions, this.quantizedSimilaritySearchSql(filter), args.toArray());
+	}
+
+	String quantizedSimilaritySearchSql(String filter) {
+		String distanceExpression = (this.getDistanceType() == PgDistanceType.NEGATIVE_INNER_PRODUCT)
+				? "(1 + (embedding <#> ?))" : "embedding " + this.comparisonOperator() + " ?";
+
+		return String.format(
+				"SELECT * FROM (SELECT *, %s AS distance FROM %s WHERE TRUE%s ORDER BY %s %s %s LIMIT ?) candidates "
+						+ "WHERE distance < ? ORDER BY distance LIMIT ?",
+				distanceExpression, this.getFullyQualifiedTableName(), filter.stripTrailing(),
+				this.quantizedEmbedding("embedding"), this.quantizedOperator(), this.quantizedEmbedding("?"));
+	}
+
+	private String quantizedEmbedding(String embedding) {
+		return switch (this.config.getQuantization()) {
+			case HALFVEC -> embedding + "::halfvec(" + this.dimensions() + ")";
+			case BINARY -> "binary_quantize(" + embedding + ")::bit(" + this.dimensions() + ")";
+			default -> embedding;
+		};
+	}
+
+	private String quantizedOperator() {
+		return (this.config.getQuantization() == PgQuantization.BINARY) ? "<~>" : this.comparisonOperator();
+	}
+
+	private String quantizedOperatorClass() {
+		return switch (this.config.getQuantization()) {
+			case HALFVEC -> this.getDistanceType().index.replace("vector_", "halfvec_");
+			case BINARY -> "bit_hamming_ops";
+			default -> this.getDistanceType().index;
+		};
+	}
+
+	private List<Document> query(PgSearchOptions searchOptions, String sql, Object[] args) {
+		return this.query(searchOptions, sql, new DocumentRowMapper(this.objectMapper), args);
+	}
+
+	private <T> List<T> query(PgSearchOptions searchOptions, String sql, RowMapper<T> rowMapper, Object[] args) {
+		if (searchOptions.isDefault()) {
+			return this.jdbcTemplate.query(sql, rowMapper, args);
+		}
+
+		// SET LOCAL only lasts until the end of the current transaction.
+		return this.transactionTemplate(true).execute(status -> {
+			if (searchOptions.hnswEfSearch() > 0) {
+				this.jdbcTemplate.execute("SET LOCAL hnsw.ef_search = " + searchOptions.hnswEfSearch());
+			}
+			if (searchOptions.ivfflatProbes() > 0) {
+				this.jdbcTemplate.execute("SET LOCAL ivfflat.probes = " + searchOptions.ivfflatProbes());
+			}
+			return this.jdbcTemplate.query(sql, rowMapper, args);
+		});
+	}
 
-		return this.jdbcTemplate.query(
-				String.format(this.getDistanceType().similaritySearchSqlTemplate, VECTOR_TABLE_NAME, jsonPathFilter),
-				new DocumentRowMapper(this.objectMapper), queryEmbedding, queryEmbedding, distance, request.getTopK());
+	private TransactionTemplate transactionTemplate(boolean readOnly) {
+		var transactionTemplate = new TransactionTemplate(this.transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate;
+	}
+
+	public String getFullyQualifiedTableName() {
+		return this.config.getFullyQualifiedTableName();
 	}
 
 	public List<Double> embeddingDistance(String query) {
-		return this.jdbcTemplate.query(
-				"SELECT embedding " + this.comparisonOperator() + " ? AS distance FROM " + VECTOR_TABLE_NAME,
-				new RowMapper<Double>() {
+		return this.jdbcTemplate.query("SELECT embedding " + this.comparisonOperator() + " ? AS distance FROM "
+				+ this.getFullyQualifiedTableName(), new RowMapper<Double>() {
 					@Override
 					@Nullable
 					public Double mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -335,10 +1239,17 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 		this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS vector");
 		this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS hstore");
 		this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS \"uuid-ossp\"");
+		if (this.config.getPgMlEmbedding() != null) {
+			this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pgml");
+		}
+
+		if (!DEFAULT_SCHEMA_NAME.equals(this.config.getSchemaName())) {
+			this.jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + this.config.getSchemaName());
+		}
 
 		// Remove existing VectorStoreTable
-		if (this.removeExistingVectorStoreTable) {
-			this.jdbcTemplate.execute("DROP TABLE IF EXISTS " + VECTOR_TABLE_NAME);
+		if (this.config.isRemoveExistingVectorStoreTable()) {
+			this.jdbcTemplate.execute("DROP TABLE IF EXISTS " + this.getFullyQualifiedTableName());
 		}
 
 		this.jdbcTemplate.execute(String.format("""
@@ -348,19 +1259,99 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 					metadata json,
 					embedding vector(%d)
 				)
-				""", VECTOR_TABLE_NAME, this.embeddingDimensions()));
+				""", this.getFullyQualifiedTableName(), this.dimensions()));
 
-		if (this.createIndexMethod != PgIndexType.NONE) {
-			this.jdbcTemplate.execute(String.format("""
-					CREATE INDEX ON %s USING %s (embedding %s)
-					""", VECTOR_TABLE_NAME, this.createIndexMethod, this.getDistanceType().index));
+		if (this.config.getIndexType() != PgIndexType.NONE) {
+			this.jdbcTemplate.execute(this.createIndexSql());
+		}
+
+		// Materialize the hot metadata keys as indexed generated columns.
+		if (this.config.isParameterizedFilters()) {
+			for (PgMetadataColumn column : this.config.getMetadataColumns()) {
+				this.jdbcTemplate.execute(this.addMetadataColumnSql(column));
+				this.jdbcTemplate.execute(String.format("CREATE INDEX IF NOT EXISTS %s_%s_idx ON %s (%s)",
+						this.config.getVectorTableName(), column.columnName(), this.getFullyQualifiedTableName(),
+						column.columnName()));
+			}
+		}
+	}
+
+	/**
+	 * A cast of a metadata value of an unexpected JSON type, e.g. a string in a numeric
+	 * column, would fail the insert, so such values are stored as null instead.
+	 */
+	String addMetadataColumnSql(PgMetadataColumn column) {
+		String value = String.format("(metadata ->> '%s')::%s", column.key(), column.type().sqlType);
+		if (column.type().jsonType != null) {
+			value = String.format("CASE WHEN jsonb_typeof(metadata::jsonb -> '%s') = '%s' THEN %s END", column.key(),
+					column.type().jsonType, value);
+		}
+		return String.format("ALTER TABLE %s ADD COLUMN IF NOT EXISTS %s %s GENERATED ALWAYS AS (%s) STORED",
+				this.getFullyQualifiedTableName(), column.columnName(), column.type().sqlType, value);
+	}
+
+	String createIndexSql() {
+		String indexOptions = "";
+		if (this.config.getIndexType() == PgIndexType.HNSW) {
+			List<String> options = new ArrayList<>();
+			if (this.config.getHnswM() > 0) {
+				options.add("m = " + this.config.getHnswM());
+			}
+			if (this.config.getHnswEfConstruction() > 0) {
+				options.add("ef_construction = " + this.config.getHnswEfConstruction());
+			}
+			indexOptions = options.isEmpty() ? "" : " WITH (" + String.join(", ", options) + ")";
+		}
+		else if (this.config.getIndexType() == PgIndexType.IVFFLAT && this.config.getIvfflatLists() > 0) {
+			indexOptions = " WITH (lists = " + this.config.getIvfflatLists() + ")";
+		}
+
+		String indexExpression = (this.config.getQuantization() == PgQuantization.NONE) ? "embedding"
+				: "(" + this.quantizedEmbedding("embedding") + ")";
+
+		return String.format("CREATE INDEX %sIF NOT EXISTS %s ON %s USING %s (%s %s)%s",
+				this.config.isCreateIndexConcurrently() ? "CONCURRENTLY " : "", this.config.getIndexName(),
+				this.getFullyQualifiedTableName(), this.config.getIndexType(), indexExpression,
+				this.quantizedOperatorClass(), indexOptions);
+	}
+
+	/**
+	 * {@return the embedding dimensions, resolved once}
+	 */
+	private int dimensions() {
+		if (this.dimensions <= 0) {
+			this.dimensions = this.embeddingDimensions();
+		}
+		return this.dimensions;
+	}
+
+	/**
+	 * @return the dimensions of the embedding column of the existing vector table, or -1
+	 * if the table does not exist.
+	 */
+	private int tableEmbeddingDimensions() {
+		try {
+			List<Integer> dimensions = this.jdbcTemplate.queryForList(
+					"SELECT atttypmod FROM pg_attribute WHERE attrelid = to_regclass(?) AND attname = 'embedding' AND NOT attisdropped",
+					Integer.class, this.getFullyQualifiedTableName());
+			return (dimensions == null || dimensions.isEmpty()) ? -1 : dimensions.get(0);
+		}
+		catch (DataAccessException e) {
+			logger.debug("Failed to read the embedding dimensions of the existing table", e);
+			return -1;
 		}
 	}
 
 	int embeddingDimensions() {
 		// The manually set dimensions have precedence over the computed one.
-		if (this.dimensions > 0) {
-			return this.dimensions;
+		if (this.config.getDimensions() > 0) {
+			return this.config.getDimensions();
+		}
+
+		// An existing table already defines the dimensions, no need to probe the client.
+		int tableDimensions = this.tableEmbeddingDimensions();
+		if (tableDimensions > 0) {
+			return tableDimensions;
 		}
 
 		try {
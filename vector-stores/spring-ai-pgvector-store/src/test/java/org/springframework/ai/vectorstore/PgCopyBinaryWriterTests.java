@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PgCopyBinaryWriterTests {
+
+	@Test
+	public void binaryCopyFormat() throws IOException {
+		var out = new ByteArrayOutputStream();
+		var writer = new PgCopyBinaryWriter(out);
+		var id = UUID.randomUUID();
+
+		writer.writeHeader();
+		writer.writeRow(7, id, "hi", "{}", new float[] { 1.5f, -2f });
+		writer.writeTrailer();
+
+		ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+
+		byte[] signature = new byte[11];
+		buffer.get(signature);
+		assertThat(new String(signature, 0, 6, StandardCharsets.US_ASCII)).isEqualTo("PGCOPY");
+		assertThat(buffer.getInt()).isZero();
+		assertThat(buffer.getInt()).isZero();
+
+		assertThat(buffer.getShort()).isEqualTo((short) 5);
+
+		assertThat(buffer.getInt()).isEqualTo(8);
+		assertThat(buffer.getLong()).isEqualTo(7);
+
+		assertThat(buffer.getInt()).isEqualTo(16);
+		assertThat(new UUID(buffer.getLong(), buffer.getLong())).isEqualTo(id);
+
+		assertThat(buffer.getInt()).isEqualTo(2);
+		assertThat(new String(new byte[] { buffer.get(), buffer.get() }, StandardCharsets.UTF_8)).isEqualTo("hi");
+
+		assertThat(buffer.getInt()).isEqualTo(2);
+		assertThat(new String(new byte[] { buffer.get(), buffer.get() }, StandardCharsets.UTF_8)).isEqualTo("{}");
+
+		// pgvector binary: dimensions, unused, float4 values
+		assertThat(buffer.getInt()).isEqualTo(12);
+		assertThat(buffer.getShort()).isEqualTo((short) 2);
+		assertThat(buffer.getShort()).isZero();
+		assertThat(buffer.getFloat()).isEqualTo(1.5f);
+		assertThat(buffer.getFloat()).isEqualTo(-2f);
+
+		assertThat(buffer.getShort()).isEqualTo((short) -1);
+		assertThat(buffer.hasRemaining()).isFalse();
+	}
+
+}
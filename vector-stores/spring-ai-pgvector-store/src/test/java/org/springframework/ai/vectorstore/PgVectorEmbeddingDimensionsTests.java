@@ -15,6 +15,8 @@
  */
 package org.springframework.ai.vectorstore;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -24,6 +26,8 @@ import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
@@ -52,6 +56,17 @@ public class PgVectorEmbeddingDimensionsTests {
 		verify(embeddingClient, never()).dimensions();
 	}
 
+	@Test
+	public void existingTableDimensions() {
+		when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq("public.vector_store")))
+			.thenReturn(List.of(768));
+
+		var dim = new PgVectorStore(jdbcTemplate, embeddingClient).embeddingDimensions();
+
+		assertThat(dim).isEqualTo(768);
+		verify(embeddingClient, never()).dimensions();
+	}
+
 	@Test
 	public void embeddingClientDimensions() {
 		when(embeddingClient.dimensions()).thenReturn(969);
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.vectorstore.PgVectorSqlFilterExpressionConverter.SqlFilter;
+import org.springframework.ai.vectorstore.PgVectorStore.PgMetadataColumn;
+import org.springframework.ai.vectorstore.PgVectorStore.PgMetadataColumnType;
+import org.springframework.ai.vectorstore.filter.Filter.Expression;
+import org.springframework.ai.vectorstore.filter.Filter.Group;
+import org.springframework.ai.vectorstore.filter.Filter.Key;
+import org.springframework.ai.vectorstore.filter.Filter.Value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.AND;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.EQ;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.GTE;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.IN;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NIN;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NOT;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.OR;
+
+public class PgVectorSqlFilterExpressionConverterTests {
+
+	PgVectorSqlFilterExpressionConverter converter = new PgVectorSqlFilterExpressionConverter(
+			List.of(new PgMetadataColumn("year", PgMetadataColumnType.NUMERIC),
+					new PgMetadataColumn("code", PgMetadataColumnType.TEXT)));
+
+	@Test
+	public void testNoFilter() {
+		assertThat(converter.convertExpression(null).isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testEqIsParameterized() {
+		SqlFilter bg = converter.convertExpression(new Expression(EQ, new Key("country"), new Value("BG")));
+		SqlFilter nl = converter.convertExpression(new Expression(EQ, new Key("country"), new Value("NL")));
+
+		assertThat(bg.sql()).isEqualTo("metadata::jsonb @@ ?::jsonpath");
+		assertThat(bg.parameters()).containsExactly("$.country == \"BG\"");
+		// Same filter shape, same SQL text.
+		assertThat(nl.sql()).isEqualTo(bg.sql());
+		assertThat(nl.parameters()).containsExactly("$.country == \"NL\"");
+	}
+
+	@Test
+	public void testMetadataColumn() {
+		// (year >= 2020 OR country == "BG") AND city NIN ["Sofia", "Plovdiv"]
+		SqlFilter filter = converter.convertExpression(new Expression(AND,
+				new Group(new Expression(OR, new Expression(GTE, new Key("year"), new Value(2020)),
+						new Expression(EQ, new Key("country"), new Value("BG")))),
+				new Expression(NIN, new Key("city"), new Value(List.of("Sofia", "Plovdiv")))));
+
+		assertThat(filter.sql()).isEqualTo(
+				"(metadata_year >= ?::numeric OR metadata::jsonb @@ ?::jsonpath) AND metadata::jsonb @@ ?::jsonpath");
+		assertThat(filter.parameters()).containsExactly(2020, "$.country == \"BG\"",
+				"$.city != \"Sofia\" && $.city != \"Plovdiv\"");
+	}
+
+	@Test
+	public void testMetadataColumnIn() {
+		SqlFilter filter = converter
+			.convertExpression(new Expression(IN, new Key("year"), new Value(List.of(2020, 2021, 2022))));
+
+		assertThat(filter.sql()).isEqualTo("metadata_year IN (?::numeric, ?::numeric, ?::numeric)");
+		assertThat(filter.parameters()).containsExactly(2020, 2021, 2022);
+	}
+
+	@Test
+	public void testNot() {
+		SqlFilter filter = converter.convertExpression(
+				new Expression(NOT, new Expression(IN, new Key("year"), new Value(List.of(2020))), null));
+
+		assertThat(filter.sql()).isEqualTo("metadata_year NOT IN (?::numeric)");
+		assertThat(filter.parameters()).containsExactly(2020);
+	}
+
+	@Test
+	public void testTextMetadataColumnWithNumber() {
+		SqlFilter filter = converter.convertExpression(new Expression(EQ, new Key("code"), new Value(42)));
+
+		assertThat(filter.sql()).isEqualTo("metadata_code = ?::text");
+		assertThat(filter.parameters()).containsExactly("42");
+	}
+
+	@Test
+	public void testNumericMetadataColumnWithString() {
+		assertThatThrownBy(() -> converter.convertExpression(new Expression(EQ, new Key("year"), new Value("2020"))))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("can only be compared with a number");
+	}
+
+	@Test
+	public void testStringValueEscaping() {
+		SqlFilter filter = converter
+			.convertExpression(new Expression(EQ, new Key("title"), new Value("It's a \"quote\"")));
+
+		assertThat(filter.sql()).isEqualTo("metadata::jsonb @@ ?::jsonpath");
+		assertThat(filter.parameters()).containsExactly("$.title == \"It's a \\\"quote\\\"\"");
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.PgVectorStore.PgDistanceType;
+import org.springframework.ai.vectorstore.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.PgVectorStore.PgMetadataColumn;
+import org.springframework.ai.vectorstore.PgVectorStore.PgMetadataColumnType;
+import org.springframework.ai.vectorstore.PgVectorStore.PgMlEmbedding;
+import org.springframework.ai.vectorstore.PgVectorStore.PgQuantization;
+import org.springframework.ai.vectorstore.PgVectorStore.PgSearchOptions;
+import org.springframework.ai.vectorstore.PgVectorStore.PgVectorStoreConfig;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PgVectorStoreConfigTests {
+
+	@Mock
+	private EmbeddingClient embeddingClient;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	public void defaultIndex() {
+		var config = PgVectorStoreConfig.builder().withIndexType(PgIndexType.HNSW).build();
+
+		var sql = new PgVectorStore(jdbcTemplate, embeddingClient, config).createIndexSql();
+
+		assertThat(sql).isEqualTo(
+				"CREATE INDEX IF NOT EXISTS vector_store_embedding_idx ON public.vector_store USING HNSW (embedding vector_cosine_ops)");
+	}
+
+	@Test
+	public void hnswIndexOptions() {
+		var config = PgVectorStoreConfig.builder()
+			.withIndexType(PgIndexType.HNSW)
+			.withSchemaName("ai")
+			.withVectorTableName("books")
+			.withHnswIndexOptions(24, 100)
+			.withCreateIndexConcurrently(true)
+			.build();
+
+		var sql = new PgVectorStore(jdbcTemplate, embeddingClient, config).createIndexSql();
+
+		assertThat(sql).isEqualTo(
+				"CREATE INDEX CONCURRENTLY IF NOT EXISTS books_embedding_idx ON ai.books USING HNSW (embedding vector_cosine_ops) WITH (m = 24, ef_construction = 100)");
+	}
+
+	@Test
+	public void ivfflatIndexOptions() {
+		var config = PgVectorStoreConfig.builder()
+			.withIndexType(PgIndexType.IVFFLAT)
+			.withDistanceType(PgDistanceType.EUCLIDEAN_DISTANCE)
+			.withIndexName("my_index")
+			.withIvfflatLists(1000)
+			.build();
+
+		var sql = new PgVectorStore(jdbcTemplate, embeddingClient, config).createIndexSql();
+
+		assertThat(sql).isEqualTo(
+				"CREATE INDEX IF NOT EXISTS my_index ON public.vector_store USING IVFFLAT (embedding vector_l2_ops) WITH (lists = 1000)");
+	}
+
+	@Test
+	public void halfvecIndex() {
+		var config = PgVectorStoreConfig.builder()
+			.withIndexType(PgIndexType.HNSW)
+			.withDimensions(1536)
+			.withQuantization(PgQuantization.HALFVEC)
+			.build();
+
+		var sql = new PgVectorStore(jdbcTemplate, embeddingClient, config).createIndexSql();
+
+		assertThat(sql).isEqualTo(
+				"CREATE INDEX IF NOT EXISTS vector_store_embedding_idx ON public.vector_store USING HNSW ((embedding::halfvec(1536)) halfvec_cosine_ops)");
+	}
+
+	@Test
+	public void binaryQuantization() {
+		var config = PgVectorStoreConfig.builder()
+			.withIndexType(PgIndexType.HNSW)
+			.withDimensions(1536)
+			.withQuantization(PgQuantization.BINARY)
+			.build();
+
+		var vectorStore = new PgVectorStore(jdbcTemplate, embeddingClient, config);
+
+		assertThat(vectorStore.createIndexSql()).isEqualTo(
+				"CREATE INDEX IF NOT EXISTS vector_store_embedding_idx ON public.vector_store USING HNSW ((binary_quantize(embedding)::bit(1536)) bit_hamming_ops)");
+
+		assertThat(vectorStore.quantizedSimilaritySearchSql(" AND (country = ?) ")).isEqualTo(
+				"SELECT * FROM (SELECT *, embedding <=> ? AS distance FROM public.vector_store WHERE TRUE AND (country = ?) "
+						+ "ORDER BY binary_quantize(embedding)::bit(1536) <~> binary_quantize(?)::bit(1536) LIMIT ?) candidates "
+						+ "WHERE distance < ? ORDER BY distance LIMIT ?");
+	}
+
+	@Test
+	public void batchSimilaritySearchSql() {
+		var config = PgVectorStoreConfig.builder().withDistanceType(PgDistanceType.NEGATIVE_INNER_PRODUCT).build();
+
+		var vectorStore = new PgVectorStore(jdbcTemplate, embeddingClient, config);
+
+		assertThat(vectorStore.batchSimilaritySearchSql(" AND (country = ?) ")).isEqualTo(
+				"SELECT q.ord AS query_ordinal, d.* FROM unnest(?::vector[], ?::float8[], ?::int[]) WITH ORDINALITY "
+						+ "AS q(query_embedding, max_distance, top_k, ord) CROSS JOIN LATERAL "
+						+ "(SELECT *, (1 + (embedding <#> q.query_embedding)) AS distance FROM public.vector_store "
+						+ "WHERE (1 + (embedding <#> q.query_embedding)) < q.max_distance AND (country = ?) "
+						+ "ORDER BY distance LIMIT q.top_k) d ORDER BY q.ord, d.distance");
+	}
+
+	@Test
+	public void batchSimilaritySearchGroupsRequestsByFilter() {
+		var config = PgVectorStoreConfig.builder().withParameterizedFilters(true).build();
+		var vectorStore = new PgVectorStore(jdbcTemplate, embeddingClient, config);
+
+		when(embeddingClient.embed(anyList())).thenReturn(List.of(List.of(1.0), List.of(2.0), List.of(3.0)));
+
+		var results = vectorStore
+			.similaritySearch(List.of(SearchRequest.query("a").withFilterExpression("country == 'BG'"),
+					SearchRequest.query("b"), SearchRequest.query("c").withFilterExpression("country == 'BG'")));
+
+		assertThat(results).hasSize(3);
+		verify(embeddingClient).embed(List.of("a", "b", "c"));
+		verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), any(Object[].class));
+	}
+
+	@Test
+	public void tunedSearchUsesTheTransactionManager() {
+		var transactionManager = mock(PlatformTransactionManager.class);
+		var vectorStore = new PgVectorStore(jdbcTemplate, embeddingClient, PgVectorStoreConfig.defaultConfig(),
+				transactionManager);
+
+		vectorStore.similaritySearch(SearchRequest.query("query"), new PgSearchOptions(100, 0));
+
+		verify(transactionManager).getTransaction(any());
+		verify(jdbcTemplate).execute("SET LOCAL hnsw.ef_search = 100");
+	}
+
+	@Test
+	public void emptyBatchSimilaritySearch() {
+		var transactionManager = mock(PlatformTransactionManager.class);
+		var vectorStore = new PgVectorStore(jdbcTemplate, embeddingClient, PgVectorStoreConfig.defaultConfig(),
+				transactionManager);
+
+		assertThat(vectorStore.similaritySearch(List.of())).isEmpty();
+		verifyNoInteractions(embeddingClient, jdbcTemplate, transactionManager);
+	}
+
+	@Test
+	public void addMetadataColumnSql() {
+		var vectorStore = new PgVectorStore(jdbcTemplate, embeddingClient, PgVectorStoreConfig.defaultConfig());
+
+		assertThat(vectorStore.addMetadataColumnSql(new PgMetadataColumn("country", PgMetadataColumnType.TEXT)))
+			.isEqualTo("ALTER TABLE public.vector_store ADD COLUMN IF NOT EXISTS metadata_country text "
+					+ "GENERATED ALWAYS AS ((metadata ->> 'country')::text) STORED");
+		assertThat(vectorStore.addMetadataColumnSql(new PgMetadataColumn("year", PgMetadataColumnType.NUMERIC)))
+			.isEqualTo("ALTER TABLE public.vector_store ADD COLUMN IF NOT EXISTS metadata_year numeric "
+					+ "GENERATED ALWAYS AS (CASE WHEN jsonb_typeof(metadata::jsonb -> 'year') = 'number' "
+					+ "THEN (metadata ->> 'year')::numeric END) STORED");
+		assertThat(vectorStore.addMetadataColumnSql(new PgMetadataColumn("active", PgMetadataColumnType.BOOLEAN)))
+			.isEqualTo("ALTER TABLE public.vector_store ADD COLUMN IF NOT EXISTS metadata_active boolean "
+					+ "GENERATED ALWAYS AS (CASE WHEN jsonb_typeof(metadata::jsonb -> 'active') = 'boolean' "
+					+ "THEN (metadata ->> 'active')::boolean END) STORED");
+	}
+
+	@Test
+	public void pgMlInsertSql() {
+		var config = PgVectorStoreConfig.builder()
+			.withVectorTableName("books")
+			.withPgMlEmbedding(new PgMlEmbedding("intfloat/e5-small"))
+			.build();
+
+		var sql = new PgVectorStore(jdbcTemplate, embeddingClient, config).pgMlInsertSql();
+
+		assertThat(sql).isEqualTo("INSERT INTO public.books (id, content, metadata, embedding) "
+				+ "SELECT id, content, metadata::json, pgml.embed(?, embedding_text, ?::jsonb)::vector "
+				+ "FROM unnest(?::uuid[], ?::text[], ?::text[], ?::text[]) "
+				+ "AS documents(id, content, metadata, embedding_text) "
+				+ "ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content, metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding");
+	}
+
+	@Test
+	public void invalidTableName() {
+		assertThatThrownBy(() -> PgVectorStoreConfig.builder().withVectorTableName("books; DROP TABLE x"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -52,6 +52,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -242,6 +244,102 @@ public class PgVectorStoreIT {
 			});
 	}
 
+	@ParameterizedTest(name = "{0} : {displayName} ")
+	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
+	public void bulkAddAndSearch(String distanceType) {
+
+		contextRunner.withPropertyValues("test.spring.ai.vectorstore.pgvector.distanceType=" + distanceType)
+			.run(context -> {
+
+				PgVectorStore vectorStore = context.getBean(PgVectorStore.class);
+
+				vectorStore.bulkAdd(documents);
+
+				List<Document> results = vectorStore
+					.similaritySearch(SearchRequest.query("What is Great Depression").withTopK(1));
+
+				assertThat(results).hasSize(1);
+				Document resultDoc = results.get(0);
+				assertThat(resultDoc.getId()).isEqualTo(documents.get(2).getId());
+				assertThat(resultDoc.getMetadata()).containsKeys("meta2", "distance");
+
+				// Existing documents are updated.
+				Document sameIdDocument = new Document(documents.get(2).getId(), "Spring AI rocks!!",
+						Collections.singletonMap("meta3", "meta3"));
+
+				vectorStore.bulkAdd(List.of(sameIdDocument));
+
+				results = vectorStore.similaritySearch(SearchRequest.query("Spring").withTopK(5));
+
+				assertThat(results).hasSize(3);
+				assertThat(results.get(0).getId()).isEqualTo(sameIdDocument.getId());
+				assertThat(results.get(0).getContent()).isEqualTo("Spring AI rocks!!");
+				assertThat(results.get(0).getMetadata()).containsKeys("meta3", "distance");
+
+				dropTable(context);
+			});
+	}
+
+	@ParameterizedTest(name = "{0} : {displayName} ")
+	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
+	public void batchSearch(String distanceType) {
+
+		contextRunner.withPropertyValues("test.spring.ai.vectorstore.pgvector.distanceType=" + distanceType)
+			.run(context -> {
+
+				VectorStore vectorStore = context.getBean(VectorStore.class);
+
+				vectorStore.add(documents);
+
+				// The unfiltered requests run in one query, the filtered one in another.
+				List<List<Document>> results = vectorStore
+					.similaritySearch(List.of(SearchRequest.query("What is Great Depression").withTopK(1),
+							SearchRequest.query("Spring").withTopK(5).withFilterExpression("meta1 == 'meta1'"),
+							SearchRequest.query("Time Shelter").withTopK(1)));
+
+				assertThat(results).hasSize(3);
+				assertThat(results.get(0)).extracting(Document::getId).containsExactly(documents.get(2).getId());
+				assertThat(results.get(1)).extracting(Document::getId).containsExactly(documents.get(0).getId());
+				assertThat(results.get(2)).extracting(Document::getId).containsExactly(documents.get(1).getId());
+				assertThat(results.get(0).get(0).getMetadata()).containsKeys("meta2", "distance");
+
+				assertThat(vectorStore.similaritySearch(List.of())).isEmpty();
+
+				dropTable(context);
+			});
+	}
+
+	@ParameterizedTest(name = "{0} : {displayName} ")
+	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
+	public void bulkAddTwiceInOneTransaction(String distanceType) {
+
+		contextRunner.withPropertyValues("test.spring.ai.vectorstore.pgvector.distanceType=" + distanceType)
+			.run(context -> {
+
+				PgVectorStore vectorStore = context.getBean(PgVectorStore.class);
+				TransactionTemplate transactionTemplate = new TransactionTemplate(
+						new DataSourceTransactionManager(context.getBean(DataSource.class)));
+
+				Document sameIdDocument = new Document(documents.get(2).getId(), "Spring AI rocks!!",
+						Collections.singletonMap("meta3", "meta3"));
+
+				// Both loads share the staging table of the outer transaction.
+				transactionTemplate.executeWithoutResult(status -> {
+					vectorStore.bulkAdd(documents);
+					vectorStore.bulkAdd(List.of(sameIdDocument));
+				});
+
+				List<Document> results = vectorStore.similaritySearch(SearchRequest.query("Spring").withTopK(5));
+
+				assertThat(results).hasSize(3);
+				assertThat(results.get(0).getId()).isEqualTo(sameIdDocument.getId());
+				assertThat(results.get(0).getContent()).isEqualTo("Spring AI rocks!!");
+				assertThat(results.get(0).getMetadata()).containsKeys("meta3", "distance");
+
+				dropTable(context);
+			});
+	}
+
 	@ParameterizedTest(name = "{0} : {displayName} ")
 	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
 	// @ValueSource(strings = { "COSINE_DISTANCE" })
@@ -49,7 +49,7 @@ import org.springframework.util.StringUtils;
  * @author Christian Tzolov
  * @author Adam Bchouti
  */
-public class PineconeVectorStore implements VectorStore {
+public class PineconeVectorStore implements EmbeddingVectorStore {
 
 	private static final String CONTENT_FIELD_NAME = "document_content";
 
@@ -317,12 +317,14 @@ public class PineconeVectorStore implements VectorStore {
 	}
 
 	public List<Document> similaritySearch(SearchRequest request, String namespace) {
+		return similaritySearch(request, namespace, this.embeddingClient.embed(request.getQuery()));
+	}
+
+	private List<Document> similaritySearch(SearchRequest request, String namespace, List<Double> queryEmbedding) {
 
 		String nativeExpressionFilters = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		List<Double> queryEmbedding = this.embeddingClient.embed(request.getQuery());
-
 		var queryRequestBuilder = QueryRequest.newBuilder()
 			.addAllVector(toFloatList(queryEmbedding))
 			.setTopK(request.getTopK())
@@ -354,6 +356,16 @@ public class PineconeVectorStore implements VectorStore {
 		return similaritySearch(request, this.pineconeNamespace);
 	}
 
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
+		return similaritySearch(request, this.pineconeNamespace, queryEmbedding);
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
 	private Struct metadataFiltersToStruct(String metadataFilters) {
 		try {
 			var structBuilder = Struct.newBuilder();
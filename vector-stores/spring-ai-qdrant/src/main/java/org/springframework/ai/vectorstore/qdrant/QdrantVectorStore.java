@@ -20,6 +20,7 @@ import static io.qdrant.client.ValueFactory.value;
 import static io.qdrant.client.VectorsFactory.vectors;
 import static io.qdrant.client.WithPayloadSelectorFactory.enable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +34,13 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import io.qdrant.client.QdrantClient;
 import io.qdrant.client.QdrantGrpcClient;
 import io.qdrant.client.grpc.Collections.Distance;
@@ -211,24 +219,41 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public void add(List<Document> documents) {
 		try {
-			List<PointStruct> points = documents.stream().map(document -> {
-				// Compute and assign an embedding to the document.
-				document.setEmbedding(this.embeddingClient.embed(document));
-
-				return PointStruct.newBuilder()
-					.setId(id(UUID.fromString(document.getId())))
-					.setVectors(vectors(toFloatList(document.getEmbedding())))
-					.putAllPayload(toPayload(document))
-					.build();
-			}).toList();
-
-			this.qdrantClient.upsertAsync(this.collectionName, points).get();
+			this.qdrantClient.upsertAsync(this.collectionName, this.toPoints(documents)).get();
 		}
 		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Adds a list of documents to the vector store without blocking on the Qdrant upsert.
+	 * The embedding client is blocking, so the embeddings are computed on the bounded
+	 * elastic scheduler.
+	 * @param documents The list of documents to be added.
+	 * @return a {@link Mono} that completes when the documents are stored.
+	 */
+	@Override
+	public Mono<Void> addAsync(List<Document> documents) {
+		return Mono.fromCallable(() -> this.toPoints(documents))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(points -> toMono(this.qdrantClient.upsertAsync(this.collectionName, points)))
+			.then();
+	}
+
+	private List<PointStruct> toPoints(List<Document> documents) {
+		return documents.stream().map(document -> {
+			// Compute and assign an embedding to the document.
+			document.setEmbedding(this.embeddingClient.embed(document));
+
+			return PointStruct.newBuilder()
+				.setId(id(UUID.fromString(document.getId())))
+				.setVectors(vectors(toFloatList(document.getEmbedding())))
+				.putAllPayload(toPayload(document))
+				.build();
+		}).toList();
+	}
+
 	/**
 	 * Deletes a list of documents by their IDs.
 	 * @param documentIds The list of document IDs to be deleted.
@@ -248,6 +273,19 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 		}
 	}
 
+	/**
+	 * Deletes a list of documents by their IDs without blocking.
+	 * @param documentIds The list of document IDs to be deleted.
+	 * @return a {@link Mono} of the deletion status.
+	 */
+	@Override
+	public Mono<Optional<Boolean>> deleteAsync(List<String> documentIds) {
+		return Mono.defer(() -> {
+			List<PointId> ids = documentIds.stream().map(id -> id(UUID.fromString(id))).toList();
+			return toMono(this.qdrantClient.deleteAsync(this.collectionName, ids));
+		}).map(result -> Optional.of(result.getStatus() == UpdateStatus.Completed));
+	}
+
 	/**
 	 * Performs a similarity search on the vector store.
 	 * @param request The {@link SearchRequest} object containing the query and other
@@ -257,20 +295,9 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
 		try {
-			Filter filter = (request.getFilterExpression() != null)
-					? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
-					: Filter.getDefaultInstance();
-
 			List<Double> queryEmbedding = this.embeddingClient.embed(request.getQuery());
 
-			var searchPoints = SearchPoints.newBuilder()
-				.setCollectionName(this.collectionName)
-				.setLimit(request.getTopK())
-				.setWithPayload(enable(true))
-				.addAllVector(toFloatList(queryEmbedding))
-				.setFilter(filter)
-				.setScoreThreshold((float) request.getSimilarityThreshold())
-				.build();
+			var searchPoints = this.toSearchPoints(request, queryEmbedding);
 
 			var queryResponse = this.qdrantClient.searchAsync(searchPoints).get();
 
@@ -284,6 +311,84 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 		}
 	}
 
+	/**
+	 * Embeds all queries with one embedding call and runs the searches with a single
+	 * Qdrant batch search request.
+	 * @param requests the search requests.
+	 * @return the documents matching each request, in request order.
+	 */
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		try {
+			List<List<Double>> queryEmbeddings = this.embeddingClient
+				.embed(requests.stream().map(SearchRequest::getQuery).toList());
+
+			List<SearchPoints> searches = new ArrayList<>(requests.size());
+			for (int i = 0; i < requests.size(); i++) {
+				searches.add(this.toSearchPoints(requests.get(i), queryEmbeddings.get(i)));
+			}
+
+			var batchResponse = this.qdrantClient.searchBatchAsync(this.collectionName, searches, null).get();
+
+			return batchResponse.stream()
+				.map(batchResult -> batchResult.getResultList().stream().map(this::toDocument).toList())
+				.toList();
+		}
+		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Performs a similarity search on the vector store without blocking on the Qdrant
+	 * search. The embedding client is blocking, so the query embedding is computed on the
+	 * bounded elastic scheduler.
+	 * @param request The {@link SearchRequest} object containing the query and other
+	 * search parameters.
+	 * @return a {@link Mono} of the documents that are similar to the query.
+	 */
+	@Override
+	public Mono<List<Document>> similaritySearchAsync(SearchRequest request) {
+		return Mono.fromCallable(() -> this.toSearchPoints(request, this.embeddingClient.embed(request.getQuery())))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(searchPoints -> toMono(this.qdrantClient.searchAsync(searchPoints)))
+			.map(scoredPoints -> scoredPoints.stream().map(this::toDocument).toList());
+	}
+
+	private static <T> Mono<T> toMono(ListenableFuture<T> future) {
+		return Mono.create(sink -> {
+			sink.onCancel(() -> future.cancel(true));
+			Futures.addCallback(future, new FutureCallback<T>() {
+
+				@Override
+				public void onSuccess(T result) {
+					sink.success(result);
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					sink.error(t);
+				}
+
+			}, MoreExecutors.directExecutor());
+		});
+	}
+
+	private SearchPoints toSearchPoints(SearchRequest request, List<Double> queryEmbedding) {
+		Filter filter = (request.getFilterExpression() != null)
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
+				: Filter.getDefaultInstance();
+
+		return SearchPoints.newBuilder()
+			.setCollectionName(this.collectionName)
+			.setLimit(request.getTopK())
+			.setWithPayload(enable(true))
+			.addAllVector(toFloatList(queryEmbedding))
+			.setFilter(filter)
+			.setScoreThreshold((float) request.getSimilarityThreshold())
+			.build();
+	}
+
 	/**
 	 * Extracts metadata from a Protobuf Struct.
 	 * @param metadataStruct The Protobuf Struct containing metadata.
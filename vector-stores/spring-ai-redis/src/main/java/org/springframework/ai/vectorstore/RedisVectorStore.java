@@ -72,7 +72,7 @@ import redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm;
  * @see RedisVectorStoreConfig
  * @see EmbeddingClient
  */
-public class RedisVectorStore implements VectorStore, InitializingBean {
+public class RedisVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	public enum Algorithm {
 
@@ -350,6 +350,16 @@ public class RedisVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearch(request, this.embeddingClient.embed(request.getQuery()));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
 
 		Assert.isTrue(request.getTopK() > 0, "The number of documents to returned must be greater than zero");
 		Assert.isTrue(request.getSimilarityThreshold() >= 0 && request.getSimilarityThreshold() <= 1,
@@ -365,7 +375,7 @@ public class RedisVectorStore implements VectorStore, InitializingBean {
 		returnFields.add(this.config.embeddingFieldName);
 		returnFields.add(this.config.contentFieldName);
 		returnFields.add(DISTANCE_FIELD_NAME);
-		var embedding = toFloatArray(this.embeddingClient.embed(request.getQuery()));
+		var embedding = toFloatArray(queryEmbedding);
 		Query query = new Query(queryString).addParam(EMBEDDING_PARAM_NAME, RediSearchUtil.toByteArray(embedding))
 			.returnFields(returnFields.toArray(new String[0]))
 			.setSortBy(DISTANCE_FIELD_NAME, true)
@@ -64,7 +64,7 @@ import org.springframework.util.StringUtils;
  *
  * @author Christian Tzolov
  */
-public class WeaviateVectorStore implements VectorStore, InitializingBean {
+public class WeaviateVectorStore implements EmbeddingVectorStore, InitializingBean {
 
 	public static final String DOCUMENT_METADATA_DISTANCE_KEY_NAME = "distance";
 
@@ -483,8 +483,18 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearch(request, this.embeddingClient.embed(request.getQuery()));
+	}
+
+	@Override
+	public EmbeddingClient getEmbeddingClient() {
+		return this.embeddingClient;
+	}
+
+	@Override
+	public List<Document> similaritySearch(SearchRequest request, List<Double> queryEmbedding) {
 
-		Float[] embedding = toFloatArray(this.embeddingClient.embed(request.getQuery()));
+		Float[] embedding = toFloatArray(queryEmbedding);
 
 		GetBuilder.GetBuilderBuilder builder = GetBuilder.builder();
 